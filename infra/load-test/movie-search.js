@@ -0,0 +1,43 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// 같은 p99 목표에서 처리량이 어디까지 올라가는지 비교한다.
+// 도착률을 계속 올리다가 p99 가 P99_MS 를 넘으면 중단되며, 중단 직전의 http_reqs rate 가 해당 모드의 처리량이다.
+//
+//   VIRTUAL_THREADS_ENABLED=false ./gradlew :stream-fix-apps:app-api:bootRun
+//   k6 run -e TOKEN=<jwt> infra/load-test/movie-search.js
+//
+//   VIRTUAL_THREADS_ENABLED=true ./gradlew :stream-fix-apps:app-api:bootRun
+//   k6 run -e TOKEN=<jwt> infra/load-test/movie-search.js
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const P99_MS = Number(__ENV.P99_MS || 300);
+const MAX_RATE = Number(__ENV.MAX_RATE || 3000);
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-arrival-rate',
+      startRate: 50,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 4000,
+      stages: [{ target: MAX_RATE, duration: '5m' }],
+    },
+  },
+  thresholds: {
+    http_req_duration: [
+      { threshold: `p(99)<${P99_MS}`, abortOnFail: true, delayAbortEval: '30s' },
+    ],
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export default function () {
+  const page = Math.floor(Math.random() * 50) + 1;
+  const res = http.post(`${BASE_URL}/api/v1/movie/search?page=${page}`, null, {
+    headers: { Authorization: `Bearer ${TOKEN}` },
+  });
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -3,13 +3,26 @@ plugins {
     id("custom.spring-conventions")
     id("custom.library-conventions")
     id("custom.test-conventions")
+    id("me.champeau.jmh")
 }
 
 dependencies {
     implementation(project(":stream-fix-core:core-port"))
     implementation(project(":stream-fix-core:core-domain"))
+    implementation(project(":stream-fix-commons"))
 
     implementation(Spring.boot.web)
+    implementation("org.springframework:spring-webflux")
+    implementation("org.apache.httpcomponents.client5:httpclient5")
+    implementation("io.micrometer:micrometer-core")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
 }
 
 tasks.getByName<Jar>("bootJar") {
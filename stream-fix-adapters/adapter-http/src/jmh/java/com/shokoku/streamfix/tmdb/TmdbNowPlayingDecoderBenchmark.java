@@ -0,0 +1,85 @@
+package com.shokoku.streamfix.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shokoku.streamfix.movie.TmdbMovie;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * TMDB now_playing 한 페이지(20건) 디코딩 비교
+ *
+ * <p>기존 방식(본문을 String 으로 모은 뒤 매번 새 ObjectMapper 로 14개 필드 record 에 매핑)과
+ * {@link TmdbNowPlayingDecoder} 의 스트리밍 방식을 비교한다. gc profiler(-prof gc)로 페이지당 할당량도 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TmdbNowPlayingDecoderBenchmark {
+
+  private byte[] body;
+
+  @Setup
+  public void setUp() throws IOException {
+    try (InputStream fixture = getClass().getResourceAsStream("/tmdb/now-playing.json")) {
+      body = fixture.readAllBytes();
+    }
+  }
+
+  @Benchmark
+  public List<TmdbMovie> stringAndNewObjectMapper() throws IOException {
+    String response = new String(body, StandardCharsets.UTF_8);
+    LegacyResponse legacy = new ObjectMapper().readValue(response, LegacyResponse.class);
+    return legacy.results().stream()
+        .map(
+            movie ->
+                new TmdbMovie(
+                    movie.title(),
+                    movie.adult(),
+                    movie.genreIds(),
+                    movie.overview(),
+                    movie.releaseDate()))
+        .toList();
+  }
+
+  @Benchmark
+  public List<TmdbMovie> streaming() throws IOException {
+    return TmdbNowPlayingDecoder.decode(new ByteArrayInputStream(body)).movies();
+  }
+
+  record LegacyResponse(
+      LegacyDates dates,
+      String page,
+      @JsonProperty("total_pages") int totalPages,
+      @JsonProperty("total_results") int totalResults,
+      List<LegacyMovie> results) {}
+
+  record LegacyDates(String maximum, String minimum) {}
+
+  record LegacyMovie(
+      Boolean adult,
+      @JsonProperty("backdrop_path") String backdropPath,
+      @JsonProperty("genre_ids") List<String> genreIds,
+      Integer id,
+      @JsonProperty("original_language") String originalLanguage,
+      @JsonProperty("original_title") String originalTitle,
+      String overview,
+      String popularity,
+      @JsonProperty("poster_path") String posterPath,
+      @JsonProperty("release_date") String releaseDate,
+      String title,
+      String video,
+      @JsonProperty("vote_average") String voteAverage,
+      @JsonProperty("vote_count") String voteCount) {}
+}
@@ -0,0 +1,241 @@
+package com.shokoku.streamfix.client;
+
+import com.shokoku.streamfix.exception.ExternalServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * 외부 API 한 곳에 대한 bulkhead 와 circuit breaker
+ *
+ * <ul>
+ *   <li>bulkhead: 동시에 maxConcurrentCalls 개까지만 호출한다. maxWait 안에 자리가 나지 않으면 바로 실패한다.
+ *   <li>circuit breaker: 최근 slidingWindowSize 개 호출 중 실패(타임아웃, 5xx, 429, slowCallThreshold 보다 느린
+ *       응답) 비율이 failureRateThreshold 이상이면 openDuration 동안 호출하지 않고 바로 실패한다. 그 뒤에는
+ *       halfOpenProbes 개의 호출만 흘려 보내 모두 성공하면 닫고, 하나라도 실패하면 다시 연다.
+ * </ul>
+ *
+ * <p>바로 실패할 때는 {@link ExternalServiceUnavailableException} 을 던진다.
+ */
+@Slf4j
+public class ExternalCallGuard {
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final String name;
+  private final Semaphore bulkhead;
+  private final long maxWaitNanos;
+  private final int minimumCalls;
+  private final double failureRateThreshold;
+  private final long slowCallThresholdNanos;
+  private final long openDurationNanos;
+  private final int halfOpenProbes;
+  private final LongSupplier nanoClock;
+
+  private final boolean[] window;
+  private int windowIndex;
+  private int windowCount;
+  private int windowFailures;
+  private State state = State.CLOSED;
+  private long openedAtNanos;
+  private int halfOpenPermits;
+  private int halfOpenSuccesses;
+
+  private final Counter bulkheadRejections;
+  private final Counter circuitRejections;
+
+  public ExternalCallGuard(
+      String name,
+      int maxConcurrentCalls,
+      Duration maxWait,
+      int slidingWindowSize,
+      int minimumCalls,
+      double failureRateThreshold,
+      Duration slowCallThreshold,
+      Duration openDuration,
+      int halfOpenProbes,
+      MeterRegistry meterRegistry) {
+    this(
+        name,
+        maxConcurrentCalls,
+        maxWait,
+        slidingWindowSize,
+        minimumCalls,
+        failureRateThreshold,
+        slowCallThreshold,
+        openDuration,
+        halfOpenProbes,
+        meterRegistry,
+        System::nanoTime);
+  }
+
+  ExternalCallGuard(
+      String name,
+      int maxConcurrentCalls,
+      Duration maxWait,
+      int slidingWindowSize,
+      int minimumCalls,
+      double failureRateThreshold,
+      Duration slowCallThreshold,
+      Duration openDuration,
+      int halfOpenProbes,
+      MeterRegistry meterRegistry,
+      LongSupplier nanoClock) {
+    this.name = name;
+    this.bulkhead = new Semaphore(Math.max(1, maxConcurrentCalls));
+    this.maxWaitNanos = maxWait.toNanos();
+    this.window = new boolean[Math.max(1, slidingWindowSize)];
+    this.minimumCalls = Math.clamp(minimumCalls, 1, window.length);
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+    this.openDurationNanos = openDuration.toNanos();
+    this.halfOpenProbes = Math.max(1, halfOpenProbes);
+    this.nanoClock = nanoClock;
+
+    this.bulkheadRejections =
+        Counter.builder("streamfix.external.rejections")
+            .tag("service", name)
+            .tag("reason", "bulkhead-full")
+            .register(meterRegistry);
+    this.circuitRejections =
+        Counter.builder("streamfix.external.rejections")
+            .tag("service", name)
+            .tag("reason", "circuit-open")
+            .register(meterRegistry);
+    Gauge.builder("streamfix.external.circuit.state", this, it -> it.state().ordinal())
+        .tag("service", name)
+        .description("0: closed, 1: open, 2: half-open")
+        .register(meterRegistry);
+    Gauge.builder("streamfix.external.bulkhead.available", bulkhead, Semaphore::availablePermits)
+        .tag("service", name)
+        .register(meterRegistry);
+  }
+
+  public <T> T call(Supplier<T> supplier) {
+    acquireBulkhead();
+    try {
+      boolean probe = acquirePermission();
+      long startedAt = nanoClock.getAsLong();
+      try {
+        T result = supplier.get();
+        onComplete(probe, isSlow(startedAt));
+        return result;
+      } catch (RuntimeException e) {
+        onComplete(probe, isFailure(e) || isSlow(startedAt));
+        throw e;
+      }
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  synchronized State state() {
+    return state;
+  }
+
+  private void acquireBulkhead() {
+    boolean acquired;
+    try {
+      acquired = bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+
+    if (!acquired) {
+      bulkheadRejections.increment();
+      throw new ExternalServiceUnavailableException(name, "bulkhead-full");
+    }
+  }
+
+  // half-open 일 때 흘려 보내는 호출이면 true
+  private synchronized boolean acquirePermission() {
+    if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+      transitionTo(State.HALF_OPEN);
+    }
+
+    if (state == State.CLOSED) {
+      return false;
+    }
+    if (state == State.HALF_OPEN && halfOpenPermits < halfOpenProbes) {
+      halfOpenPermits++;
+      return true;
+    }
+
+    circuitRejections.increment();
+    throw new ExternalServiceUnavailableException(name, "circuit-open");
+  }
+
+  private synchronized void onComplete(boolean probe, boolean failed) {
+    if (probe) {
+      if (state != State.HALF_OPEN) {
+        return;
+      }
+      if (failed) {
+        transitionTo(State.OPEN);
+      } else if (++halfOpenSuccesses >= halfOpenProbes) {
+        transitionTo(State.CLOSED);
+      }
+      return;
+    }
+
+    if (state != State.CLOSED) {
+      return;
+    }
+    if (windowCount == window.length && window[windowIndex]) {
+      windowFailures--;
+    }
+    window[windowIndex] = failed;
+    windowIndex = (windowIndex + 1) % window.length;
+    windowCount = Math.min(windowCount + 1, window.length);
+    if (failed) {
+      windowFailures++;
+    }
+
+    if (windowCount >= minimumCalls
+        && windowFailures * 100.0 / windowCount >= failureRateThreshold) {
+      transitionTo(State.OPEN);
+    }
+  }
+
+  private void transitionTo(State next) {
+    log.warn("{} circuit {} -> {}", name, state, next);
+    state = next;
+    switch (next) {
+      case OPEN -> openedAtNanos = nanoClock.getAsLong();
+      case HALF_OPEN -> {
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+      }
+      case CLOSED -> {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+      }
+    }
+  }
+
+  private boolean isSlow(long startedAt) {
+    return nanoClock.getAsLong() - startedAt > slowCallThresholdNanos;
+  }
+
+  // 4xx 는 요청이 잘못된 것이므로 상대 서비스의 장애로 보지 않는다. 429 는 예외.
+  private static boolean isFailure(RuntimeException e) {
+    return e instanceof ResourceAccessException
+        || e instanceof HttpServerErrorException
+        || e instanceof HttpClientErrorException.TooManyRequests;
+  }
+}
@@ -7,6 +7,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @Component
@@ -26,4 +27,15 @@ public class HttpClient {
             params)
         .getBody();
   }
+
+  /** 응답 본문을 문자열로 모으지 않고 extractor 가 InputStream 에서 바로 읽는다. */
+  public <T> T request(
+      String uri,
+      HttpMethod method,
+      HttpHeaders headers,
+      Map<String, Object> params,
+      ResponseExtractor<T> extractor) {
+    return restTemplate.execute(
+        uri, method, request -> request.getHeaders().addAll(headers), extractor, params);
+  }
 }
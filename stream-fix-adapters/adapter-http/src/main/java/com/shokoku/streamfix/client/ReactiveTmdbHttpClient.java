@@ -0,0 +1,121 @@
+package com.shokoku.streamfix.client;
+
+import com.shokoku.streamfix.movie.TmdbRequestPriority;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * 요청 스레드를 붙잡지 않는 TMDB 호출
+ *
+ * <p>{@link TmdbHttpClient} 와 같은 {@link TmdbRateLimiter} 를 나눠 쓴다. 허가를 기다리는 동안만 boundedElastic 에서
+ * 대기하고, 응답은 JDK HttpClient 의 비동기 I/O 로 받는다. 429 는 Retry-After 만큼 limiter 를 멈춘 뒤 maxRetries 까지 다시
+ * 시도한다. Retry-After 가 최대 대기 시간보다 길면 다시 시도하지 않는다.
+ */
+@Component
+public class ReactiveTmdbHttpClient {
+
+  private final WebClient webClient;
+  private final TmdbRateLimiter tmdbRateLimiter;
+  private final int maxRetries;
+  private final Duration responseTimeout;
+
+  public ReactiveTmdbHttpClient(
+      TmdbRateLimiter tmdbRateLimiter,
+      @Value("${tmdb.auth.access-token}") String accessToken,
+      @Value("${tmdb.rate-limit.max-retries:2}") int maxRetries,
+      @Value("${http.client.connect-timeout-millis:2000}") long connectTimeoutMillis,
+      @Value("${http.client.read-timeout-millis:5000}") long responseTimeoutMillis) {
+    this.tmdbRateLimiter = tmdbRateLimiter;
+    this.maxRetries = maxRetries;
+    this.responseTimeout = Duration.ofMillis(responseTimeoutMillis);
+    this.webClient =
+        WebClient.builder()
+            .clientConnector(
+                new JdkClientHttpConnector(
+                    java.net.http.HttpClient.newBuilder()
+                        .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                        .build()))
+            .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .build();
+  }
+
+  /** 응답 본문을 모아 decoder 로 읽는다. decoder 는 본문을 다 받은 뒤에만 호출되므로 블로킹하지 않는다. */
+  public <T> Mono<T> get(String uri, TmdbResponseDecoder<T> decoder) {
+    return Mono.defer(() -> limited(uri, decoder))
+        .retryWhen(
+            Retry.max(maxRetries)
+                .filter(this::retryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+  }
+
+  // Retry-After 가 최대 대기 시간보다 길면 다시 시도해도 허가를 받지 못한다.
+  private boolean retryable(Throwable e) {
+    return e instanceof WebClientResponseException.TooManyRequests tooManyRequests
+        && TmdbHttpClient.retryAfter(tooManyRequests.getHeaders())
+                .compareTo(tmdbRateLimiter.maxWait(TmdbRequestPriority.INTERACTIVE))
+            <= 0;
+  }
+
+  private <T> Mono<T> limited(String uri, TmdbResponseDecoder<T> decoder) {
+    return Mono.fromCallable(() -> tmdbRateLimiter.acquire(TmdbRequestPriority.INTERACTIVE))
+        .subscribeOn(Schedulers.boundedElastic())
+        // 허가를 받은 직후 취소되어 버려지는 경우에도 허가를 돌려준다.
+        .doOnDiscard(Long.class, tmdbRateLimiter::onSuccess)
+        .flatMap(
+            acquiredAt ->
+                request(uri, decoder)
+                    .doOnSuccess(it -> tmdbRateLimiter.onSuccess(acquiredAt))
+                    .doOnError(e -> release(acquiredAt, e))
+                    .doOnCancel(() -> tmdbRateLimiter.onSuccess(acquiredAt)));
+  }
+
+  private <T> Mono<T> request(String uri, TmdbResponseDecoder<T> decoder) {
+    return DataBufferUtils.join(webClient.get().uri(uri).retrieve().bodyToFlux(DataBuffer.class))
+        .map(
+            body -> {
+              try (InputStream in = body.asInputStream(true)) {
+                return decoder.decode(in);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            })
+        .timeout(responseTimeout);
+  }
+
+  private void release(long acquiredAt, Throwable e) {
+    if (e instanceof WebClientResponseException.TooManyRequests tooManyRequests) {
+      tmdbRateLimiter.onThrottled(
+          acquiredAt, TmdbHttpClient.retryAfter(tooManyRequests.getHeaders()));
+    } else if (e instanceof WebClientRequestException
+        || e instanceof TimeoutException
+        || (e instanceof WebClientResponseException response
+            && response.getStatusCode().is5xxServerError())) {
+      tmdbRateLimiter.onDropped(acquiredAt);
+    } else {
+      tmdbRateLimiter.onSuccess(acquiredAt);
+    }
+  }
+
+  @FunctionalInterface
+  public interface TmdbResponseDecoder<T> {
+
+    T decode(InputStream body) throws IOException;
+  }
+}
@@ -1,6 +1,12 @@
 package com.shokoku.streamfix.client;
 
+import com.shokoku.streamfix.movie.TmdbRequestPriority;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
@@ -8,27 +14,115 @@ import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 
 @Component
 @RequiredArgsConstructor
 public class TmdbHttpClient {
 
+  private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+  private static final Duration MAX_RETRY_AFTER = Duration.ofSeconds(60);
+
   private final HttpClient httpClient;
+  private final TmdbRateLimiter tmdbRateLimiter;
 
   @Value("${tmdb.auth.access-token}")
   private String accessToken;
 
+  @Value("${tmdb.rate-limit.max-retries:2}")
+  private int maxRetries;
+
   public String request(
       String uri,
       HttpMethod method,
       MultiValueMap<String, String> headers,
       Map<String, Object> params) {
+    return limited(
+        TmdbRequestPriority.INTERACTIVE,
+        () -> httpClient.request(uri, method, toHttpHeaders(headers), params));
+  }
+
+  public <T> T request(
+      String uri,
+      HttpMethod method,
+      MultiValueMap<String, String> headers,
+      Map<String, Object> params,
+      ResponseExtractor<T> extractor) {
+    return request(uri, method, headers, params, TmdbRequestPriority.INTERACTIVE, extractor);
+  }
+
+  public <T> T request(
+      String uri,
+      HttpMethod method,
+      MultiValueMap<String, String> headers,
+      Map<String, Object> params,
+      TmdbRequestPriority priority,
+      ResponseExtractor<T> extractor) {
+    return limited(
+        priority,
+        () -> httpClient.request(uri, method, toHttpHeaders(headers), params, extractor));
+  }
+
+  // 429 는 Retry-After 만큼 limiter 를 멈춘 뒤 maxRetries 까지 다시 시도한다. Retry-After 가 lane 의 최대 대기 시간보다
+  // 길면 기다려도 허가를 받지 못하므로 다시 시도하지 않고 429 를 그대로 던진다.
+  private <T> T limited(TmdbRequestPriority priority, Supplier<T> call) {
+    for (int attempt = 0; ; attempt++) {
+      long acquiredAt = tmdbRateLimiter.acquire(priority);
+      try {
+        T result = call.get();
+        tmdbRateLimiter.onSuccess(acquiredAt);
+        return result;
+      } catch (HttpClientErrorException.TooManyRequests e) {
+        Duration retryAfter = retryAfter(e.getResponseHeaders());
+        tmdbRateLimiter.onThrottled(acquiredAt, retryAfter);
+        if (attempt >= maxRetries || retryAfter.compareTo(tmdbRateLimiter.maxWait(priority)) > 0) {
+          throw e;
+        }
+      } catch (ResourceAccessException | HttpServerErrorException e) {
+        tmdbRateLimiter.onDropped(acquiredAt);
+        throw e;
+      } catch (RuntimeException e) {
+        tmdbRateLimiter.onSuccess(acquiredAt);
+        throw e;
+      }
+    }
+  }
+
+  // Retry-After 는 초 단위 숫자이거나 HTTP-date 다.
+  static Duration retryAfter(HttpHeaders headers) {
+    String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+    if (value == null || value.isBlank()) {
+      return DEFAULT_RETRY_AFTER;
+    }
+
+    Duration retryAfter;
+    try {
+      retryAfter = Duration.ofSeconds(Long.parseLong(value.trim()));
+    } catch (NumberFormatException e) {
+      try {
+        ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+        retryAfter = Duration.between(ZonedDateTime.now(at.getZone()), at);
+      } catch (DateTimeParseException ignored) {
+        return DEFAULT_RETRY_AFTER;
+      }
+    }
+
+    if (retryAfter.isNegative()) {
+      return Duration.ZERO;
+    }
+    return retryAfter.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : retryAfter;
+  }
+
+  private HttpHeaders toHttpHeaders(MultiValueMap<String, String> headers) {
     MultiValueMap<String, String> multiValueMap = new LinkedMultiValueMap<>();
     multiValueMap.add(HttpHeaders.ACCEPT, "application/json");
     multiValueMap.add(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
     multiValueMap.addAll(headers);
     HttpHeaders httpHeaders = new HttpHeaders();
     httpHeaders.addAll(multiValueMap);
-    return httpClient.request(uri, method, httpHeaders, params);
+    return httpHeaders;
   }
 }
@@ -0,0 +1,372 @@
+package com.shokoku.streamfix.client;
+
+import com.shokoku.streamfix.exception.TmdbRateLimitExceededException;
+import com.shokoku.streamfix.movie.TmdbRateLimitPort;
+import com.shokoku.streamfix.movie.TmdbRequestPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * TMDB 호출 처리량 제한
+ *
+ * <p>모든 TMDB 호출이 하나의 token bucket 과 동시 호출 한도를 나눠 쓴다.
+ *
+ * <ul>
+ *   <li>BATCH 는 token 과 동시 호출 한도의 batchShare 만큼만 쓸 수 있고, INTERACTIVE 가 기다리는 동안에는 양보한다.
+ *   <li>429 를 받으면 Retry-After 동안 모든 호출을 멈추고 동시 호출 한도를 줄인다.
+ *   <li>동시 호출 한도는 AIMD 로 조절한다. 응답이 latencyThreshold 안에 오면 1씩 늘리고, 느리거나 실패하면 backoffRatio 를 곱해
+ *       줄인다.
+ * </ul>
+ *
+ * <p>위의 token bucket, lane 양보, 429 정지는 이 프로세스 안에서만 보인다. app-api 와 app-batch 처럼 프로세스가 나뉘면 각자
+ * 한도를 따로 세므로, {@link TmdbRateLimitPort} 가 있으면 로컬 허가를 받은 뒤 공유 bucket 에서도 token 을 받고 429 정지도 공유한다.
+ * AIMD 동시 호출 한도는 프로세스마다 따로 조절한다.
+ *
+ * <p>lane 별 최대 대기 시간 안에 허가를 받지 못하면 {@link TmdbRateLimitExceededException} 을 던진다.
+ */
+@Slf4j
+@Component
+public class TmdbRateLimiter {
+
+  private final double permitsPerSecond;
+  private final double burst;
+  private final double batchShare;
+  private final Map<TmdbRequestPriority, Long> maxWaitNanos =
+      new EnumMap<>(TmdbRequestPriority.class);
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private final double backoffRatio;
+  private final TmdbRateLimitPort sharedLimit;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private double tokens;
+  private long refilledAtNanos;
+  private long pausedUntilNanos;
+  private double limit;
+  private int inflight;
+  private int interactiveWaiters;
+
+  private final Map<TmdbRequestPriority, Counter> permits =
+      new EnumMap<>(TmdbRequestPriority.class);
+  private final Map<TmdbRequestPriority, Counter> rejections =
+      new EnumMap<>(TmdbRequestPriority.class);
+  private final Map<TmdbRequestPriority, Timer> waits = new EnumMap<>(TmdbRequestPriority.class);
+  private final Counter throttled;
+
+  @Autowired
+  public TmdbRateLimiter(
+      MeterRegistry meterRegistry,
+      ObjectProvider<TmdbRateLimitPort> sharedLimit,
+      @Value("${tmdb.rate-limit.permits-per-second:40}") double permitsPerSecond,
+      @Value("${tmdb.rate-limit.burst:40}") int burst,
+      @Value("${tmdb.rate-limit.batch-share:0.75}") double batchShare,
+      @Value("${tmdb.rate-limit.interactive-max-wait-millis:500}") long interactiveMaxWaitMillis,
+      @Value("${tmdb.rate-limit.batch-max-wait-millis:30000}") long batchMaxWaitMillis,
+      @Value("${tmdb.concurrency.initial-limit:20}") int initialLimit,
+      @Value("${tmdb.concurrency.min-limit:2}") int minLimit,
+      @Value("${tmdb.concurrency.max-limit:64}") int maxLimit,
+      @Value("${tmdb.concurrency.latency-threshold-millis:1000}") long latencyThresholdMillis,
+      @Value("${tmdb.concurrency.backoff-ratio:0.9}") double backoffRatio) {
+    this(
+        meterRegistry,
+        sharedLimit.getIfAvailable(),
+        permitsPerSecond,
+        burst,
+        batchShare,
+        interactiveMaxWaitMillis,
+        batchMaxWaitMillis,
+        initialLimit,
+        minLimit,
+        maxLimit,
+        latencyThresholdMillis,
+        backoffRatio);
+  }
+
+  /** 공유 한도 없이 프로세스 안에서만 제한한다. */
+  public TmdbRateLimiter(
+      MeterRegistry meterRegistry,
+      double permitsPerSecond,
+      int burst,
+      double batchShare,
+      long interactiveMaxWaitMillis,
+      long batchMaxWaitMillis,
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      long latencyThresholdMillis,
+      double backoffRatio) {
+    this(
+        meterRegistry,
+        (TmdbRateLimitPort) null,
+        permitsPerSecond,
+        burst,
+        batchShare,
+        interactiveMaxWaitMillis,
+        batchMaxWaitMillis,
+        initialLimit,
+        minLimit,
+        maxLimit,
+        latencyThresholdMillis,
+        backoffRatio);
+  }
+
+  TmdbRateLimiter(
+      MeterRegistry meterRegistry,
+      TmdbRateLimitPort sharedLimit,
+      double permitsPerSecond,
+      int burst,
+      double batchShare,
+      long interactiveMaxWaitMillis,
+      long batchMaxWaitMillis,
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      long latencyThresholdMillis,
+      double backoffRatio) {
+    this.sharedLimit = sharedLimit;
+    this.permitsPerSecond = permitsPerSecond;
+    this.burst = Math.max(1, burst);
+    this.batchShare = Math.clamp(batchShare, 0.1, 1.0);
+    this.maxWaitNanos.put(
+        TmdbRequestPriority.INTERACTIVE, TimeUnit.MILLISECONDS.toNanos(interactiveMaxWaitMillis));
+    this.maxWaitNanos.put(
+        TmdbRequestPriority.BATCH, TimeUnit.MILLISECONDS.toNanos(batchMaxWaitMillis));
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+    this.backoffRatio = backoffRatio;
+    this.tokens = this.burst;
+    this.refilledAtNanos = System.nanoTime();
+    this.pausedUntilNanos = refilledAtNanos;
+    this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+
+    for (TmdbRequestPriority priority : TmdbRequestPriority.values()) {
+      String lane = priority.name().toLowerCase();
+      permits.put(
+          priority,
+          Counter.builder("streamfix.tmdb.limiter.permits")
+              .tag("lane", lane)
+              .register(meterRegistry));
+      rejections.put(
+          priority,
+          Counter.builder("streamfix.tmdb.limiter.rejections")
+              .tag("lane", lane)
+              .register(meterRegistry));
+      waits.put(
+          priority,
+          Timer.builder("streamfix.tmdb.limiter.wait").tag("lane", lane).register(meterRegistry));
+    }
+    this.throttled = Counter.builder("streamfix.tmdb.limiter.throttled").register(meterRegistry);
+    Gauge.builder("streamfix.tmdb.limiter.concurrency.limit", this, TmdbRateLimiter::limit)
+        .register(meterRegistry);
+    Gauge.builder("streamfix.tmdb.limiter.inflight", this, TmdbRateLimiter::inflight)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 호출 허가를 받는다. 허가를 받으면 반드시 {@link #onSuccess}, {@link #onDropped}, {@link #onThrottled} 중 하나로
+   * 돌려줘야 한다.
+   *
+   * @return 허가 받은 시각(nanoTime). 응답 지연 측정에 쓴다.
+   */
+  public long acquire(TmdbRequestPriority priority) {
+    long startedAt = System.nanoTime();
+    long deadline = startedAt + maxWaitNanos.get(priority);
+    long acquiredAt = acquireLocal(priority, startedAt, deadline);
+    if (sharedLimit == null) {
+      return acquiredAt;
+    }
+
+    try {
+      return acquireShared(priority, deadline);
+    } catch (TmdbRateLimitExceededException e) {
+      cancel();
+      throw e;
+    }
+  }
+
+  private long acquireLocal(TmdbRequestPriority priority, long startedAt, long deadline) {
+    boolean interactive = priority == TmdbRequestPriority.INTERACTIVE;
+
+    lock.lock();
+    if (interactive) {
+      interactiveWaiters++;
+    }
+    try {
+      while (true) {
+        long now = System.nanoTime();
+        refill(now);
+        long waitNanos = waitNanos(priority, now);
+        if (waitNanos == 0) {
+          tokens -= 1;
+          inflight++;
+          permits.get(priority).increment();
+          waits.get(priority).record(now - startedAt, TimeUnit.NANOSECONDS);
+          return now;
+        }
+
+        long remaining = deadline - now;
+        if (remaining <= 0 || (waitNanos != Long.MAX_VALUE && waitNanos > remaining)) {
+          rejections.get(priority).increment();
+          throw new TmdbRateLimitExceededException(priority.name());
+        }
+        changed.awaitNanos(Math.min(waitNanos, remaining));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      rejections.get(priority).increment();
+      throw new TmdbRateLimitExceededException(priority.name());
+    } finally {
+      if (interactive) {
+        interactiveWaiters--;
+        changed.signalAll();
+      }
+      lock.unlock();
+    }
+  }
+
+  // 로컬 허가를 받은 채로 공유 bucket 의 token 을 기다린다. Redis 호출은 lock 밖에서 한다.
+  private long acquireShared(TmdbRequestPriority priority, long deadline) {
+    try {
+      while (true) {
+        long wait = sharedLimit.tryAcquire(priority).toNanos();
+        long now = System.nanoTime();
+        if (wait <= 0) {
+          return now;
+        }
+        if (now + wait > deadline) {
+          rejections.get(priority).increment();
+          throw new TmdbRateLimitExceededException(priority.name());
+        }
+        TimeUnit.NANOSECONDS.sleep(wait);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      rejections.get(priority).increment();
+      throw new TmdbRateLimitExceededException(priority.name());
+    }
+  }
+
+  /** lane 이 허가를 기다릴 수 있는 최대 시간. 이보다 긴 Retry-After 는 기다려도 허가를 받지 못한다. */
+  public Duration maxWait(TmdbRequestPriority priority) {
+    return Duration.ofNanos(maxWaitNanos.get(priority));
+  }
+
+  /** 정상 응답. 지연이 latencyThreshold 안이면 동시 호출 한도를 늘린다. */
+  public void onSuccess(long acquiredAt) {
+    long latency = System.nanoTime() - acquiredAt;
+    release(latency <= latencyThresholdNanos);
+  }
+
+  /** 타임아웃, 5xx 처럼 TMDB 가 과부하로 보이는 실패. 동시 호출 한도를 줄인다. */
+  public void onDropped(long acquiredAt) {
+    release(false);
+  }
+
+  /** 429. Retry-After 동안 모든 lane 의 호출을 멈춘다. */
+  public void onThrottled(long acquiredAt, Duration retryAfter) {
+    throttled.increment();
+    lock.lock();
+    try {
+      long until = System.nanoTime() + retryAfter.toNanos();
+      pausedUntilNanos = Math.max(pausedUntilNanos, until);
+      tokens = 0;
+    } finally {
+      lock.unlock();
+    }
+    if (sharedLimit != null) {
+      sharedLimit.pause(retryAfter);
+    }
+    log.warn("tmdb responded 429, pausing requests for {}ms", retryAfter.toMillis());
+    release(false);
+  }
+
+  double limit() {
+    lock.lock();
+    try {
+      return limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int inflight() {
+    lock.lock();
+    try {
+      return inflight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // 공유 token 을 받지 못해 호출하지 않은 허가. 동시 호출 한도는 그대로 둔다.
+  private void cancel() {
+    lock.lock();
+    try {
+      inflight--;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void release(boolean healthy) {
+    lock.lock();
+    try {
+      if (healthy) {
+        // 한도 근처까지 쓰고 있을 때만 늘린다. 한가할 때 한도만 커지는 것을 막는다.
+        if (inflight * 2 >= limit) {
+          limit = Math.min(maxLimit, limit + 1);
+        }
+      } else {
+        limit = Math.max(minLimit, limit * backoffRatio);
+      }
+      inflight--;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void refill(long now) {
+    tokens = Math.min(burst, tokens + (now - refilledAtNanos) / 1e9 * permitsPerSecond);
+    refilledAtNanos = now;
+  }
+
+  // 0 이면 바로 허가, Long.MAX_VALUE 면 다른 호출이 끝나 signal 될 때까지 기다린다.
+  private long waitNanos(TmdbRequestPriority priority, long now) {
+    if (now < pausedUntilNanos) {
+      return pausedUntilNanos - now;
+    }
+
+    boolean batch = priority == TmdbRequestPriority.BATCH;
+    if (batch && interactiveWaiters > 0) {
+      return Long.MAX_VALUE;
+    }
+    int concurrency = batch ? Math.max(1, (int) (limit * batchShare)) : (int) limit;
+    if (inflight >= concurrency) {
+      return Long.MAX_VALUE;
+    }
+
+    double floor = batch ? burst * (1 - batchShare) : 0;
+    if (tokens - floor >= 1) {
+      return 0;
+    }
+    return (long) Math.ceil((floor + 1 - tokens) / permitsPerSecond * 1e9);
+  }
+}
@@ -0,0 +1,69 @@
+package com.shokoku.streamfix.config;
+
+import com.shokoku.streamfix.client.ExternalCallGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Kakao OAuth 호출 보호
+ *
+ * <p>토큰 발급(kauth)과 사용자 조회(kapi)는 서로 다른 서버라 bulkhead 와 circuit 을 따로 둔다. Kakao 가 느려져도
+ * 요청 스레드는 maxConcurrentCalls 개까지만 묶이고, 나머지는 바로 실패한다.
+ */
+@Configuration
+public class KakaoResilienceConfig {
+
+  public static final String KAKAO_TOKEN_GUARD = "kakaoTokenCallGuard";
+  public static final String KAKAO_USER_GUARD = "kakaoUserCallGuard";
+
+  @Value("${kakao.resilience.max-concurrent-calls:20}")
+  private int maxConcurrentCalls;
+
+  @Value("${kakao.resilience.max-wait-millis:100}")
+  private long maxWaitMillis;
+
+  @Value("${kakao.resilience.sliding-window-size:20}")
+  private int slidingWindowSize;
+
+  @Value("${kakao.resilience.minimum-calls:10}")
+  private int minimumCalls;
+
+  @Value("${kakao.resilience.failure-rate-threshold:50}")
+  private double failureRateThreshold;
+
+  @Value("${kakao.resilience.slow-call-threshold-millis:2000}")
+  private long slowCallThresholdMillis;
+
+  @Value("${kakao.resilience.open-duration-seconds:30}")
+  private long openDurationSeconds;
+
+  @Value("${kakao.resilience.half-open-probes:3}")
+  private int halfOpenProbes;
+
+  @Bean(name = KAKAO_TOKEN_GUARD)
+  public ExternalCallGuard kakaoTokenCallGuard(MeterRegistry meterRegistry) {
+    return guard("kakao-token", meterRegistry);
+  }
+
+  @Bean(name = KAKAO_USER_GUARD)
+  public ExternalCallGuard kakaoUserCallGuard(MeterRegistry meterRegistry) {
+    return guard("kakao-user", meterRegistry);
+  }
+
+  private ExternalCallGuard guard(String name, MeterRegistry meterRegistry) {
+    return new ExternalCallGuard(
+        name,
+        maxConcurrentCalls,
+        Duration.ofMillis(maxWaitMillis),
+        slidingWindowSize,
+        minimumCalls,
+        failureRateThreshold,
+        Duration.ofMillis(slowCallThresholdMillis),
+        Duration.ofSeconds(openDurationSeconds),
+        halfOpenProbes,
+        meterRegistry);
+  }
+}
@@ -1,15 +1,97 @@
 package com.shokoku.streamfix.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 외부 API(TMDB, Kakao) 호출에 함께 쓰는 HTTP 클라이언트
+ *
+ * <p>route 별 커넥션 풀을 두고 keep-alive 커넥션을 재사용한다. 유휴/만료 커넥션은 백그라운드에서 정리되며, 풀 사용량은
+ * httpcomponents.httpclient.pool.* 메트릭으로 노출된다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
+  @Value("${http.client.max-total:200}")
+  private int maxTotal;
+
+  @Value("${http.client.max-per-route:50}")
+  private int maxPerRoute;
+
+  @Value("${http.client.connect-timeout-millis:2000}")
+  private long connectTimeoutMillis;
+
+  @Value("${http.client.read-timeout-millis:5000}")
+  private long readTimeoutMillis;
+
+  @Value("${http.client.connection-request-timeout-millis:1000}")
+  private long connectionRequestTimeoutMillis;
+
+  @Value("${http.client.idle-evict-seconds:30}")
+  private long idleEvictSeconds;
+
+  @Value("${http.client.time-to-live-minutes:5}")
+  private long timeToLiveMinutes;
+
+  @Value("${http.client.validate-after-inactivity-seconds:2}")
+  private long validateAfterInactivitySeconds;
+
+  @Bean(destroyMethod = "close")
+  public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(maxTotal)
+        .setMaxConnPerRoute(maxPerRoute)
+        .setDefaultConnectionConfig(
+            ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                .setTimeToLive(TimeValue.ofMinutes(timeToLiveMinutes))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(validateAfterInactivitySeconds))
+                .build())
+        .build();
+  }
+
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient closeableHttpClient(
+      PoolingHttpClientConnectionManager httpClientConnectionManager) {
+    return HttpClients.custom()
+        .setConnectionManager(httpClientConnectionManager)
+        .setDefaultRequestConfig(
+            RequestConfig.custom()
+                .setConnectionRequestTimeout(
+                    Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                .build())
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+        .build();
+  }
+
+  @Bean
+  public RestTemplate restTemplate(CloseableHttpClient closeableHttpClient) {
+    return new RestTemplateBuilder()
+        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(closeableHttpClient))
+        .build();
+  }
+
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplateBuilder().build();
+  public MeterBinder httpClientConnectionPoolMetrics(
+      PoolingHttpClientConnectionManager httpClientConnectionManager) {
+    return new PoolingHttpClientConnectionManagerMetricsBinder(
+        httpClientConnectionManager, "streamfix-http");
   }
 }
@@ -1,9 +1,11 @@
 package com.shokoku.streamfix.kakao;
 
+import com.shokoku.streamfix.client.ExternalCallGuard;
+import com.shokoku.streamfix.config.KakaoResilienceConfig;
 import com.shokoku.streamfix.token.KakaoTokenPort;
 import java.util.Map;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -16,7 +18,6 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
 @Component
-@RequiredArgsConstructor
 public class KakaoTokenHttpClient implements KakaoTokenPort {
 
   @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
@@ -28,12 +29,21 @@ public class KakaoTokenHttpClient implements KakaoTokenPort {
   @Value("${spring.security.oauth2.client.registration.kakao.redirect-uri}")
   private String kakaoRedirectUri;
 
-  private final String KAKAO_TOKEN_URL = "https://kauth.kakao.com/oauth/token";
+  @Value("${spring.security.oauth2.client.provider.kakao.token-uri}")
+  private String kakaoTokenUrl;
+
+  private final RestTemplate restTemplate;
+  private final ExternalCallGuard kakaoTokenCallGuard;
+
+  public KakaoTokenHttpClient(
+      RestTemplate restTemplate,
+      @Qualifier(KakaoResilienceConfig.KAKAO_TOKEN_GUARD) ExternalCallGuard kakaoTokenCallGuard) {
+    this.restTemplate = restTemplate;
+    this.kakaoTokenCallGuard = kakaoTokenCallGuard;
+  }
 
   @Override
   public String getAccessTokenByCode(String code) {
-    RestTemplate restTemplate = new RestTemplate();
-
     MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
     params.add("grant_type", "authorization_code");
     params.add("client_id", kakaoClientId);
@@ -47,7 +57,8 @@ public class KakaoTokenHttpClient implements KakaoTokenPort {
     HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
     ResponseEntity<Map> exchange =
-        restTemplate.exchange(KAKAO_TOKEN_URL, HttpMethod.POST, request, Map.class);
+        kakaoTokenCallGuard.call(
+            () -> restTemplate.exchange(kakaoTokenUrl, HttpMethod.POST, request, Map.class));
 
     return Objects.requireNonNull(exchange.getBody()).get("access_token").toString();
   }
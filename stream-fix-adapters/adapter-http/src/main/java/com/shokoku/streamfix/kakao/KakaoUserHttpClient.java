@@ -1,9 +1,12 @@
 package com.shokoku.streamfix.kakao;
 
+import com.shokoku.streamfix.client.ExternalCallGuard;
+import com.shokoku.streamfix.config.KakaoResilienceConfig;
 import com.shokoku.streamfix.user.KakaoUserPort;
 import com.shokoku.streamfix.user.UserPortResponse;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -12,21 +15,31 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 @Component
-@RequiredArgsConstructor
 public class KakaoUserHttpClient implements KakaoUserPort {
 
-  private final String KAKAO_USERINFO_API_URL = "https://kapi.kakao.com/v2/user/me";
+  @Value("${spring.security.oauth2.client.provider.kakao.user-info-uri}")
+  private String kakaoUserInfoUrl;
+
+  private final RestTemplate restTemplate;
+  private final ExternalCallGuard kakaoUserCallGuard;
+
+  public KakaoUserHttpClient(
+      RestTemplate restTemplate,
+      @Qualifier(KakaoResilienceConfig.KAKAO_USER_GUARD) ExternalCallGuard kakaoUserCallGuard) {
+    this.restTemplate = restTemplate;
+    this.kakaoUserCallGuard = kakaoUserCallGuard;
+  }
 
   @Override
   public UserPortResponse findUserFromKakao(String accessToken) {
-    RestTemplate restTemplate = new RestTemplate();
     HttpHeaders headers = new HttpHeaders();
     headers.add("Authorization", "Bearer " + accessToken);
 
     HttpEntity<String> entity = new HttpEntity<>(headers);
 
     ResponseEntity<Map> response =
-        restTemplate.exchange(KAKAO_USERINFO_API_URL, HttpMethod.GET, entity, Map.class);
+        kakaoUserCallGuard.call(
+            () -> restTemplate.exchange(kakaoUserInfoUrl, HttpMethod.GET, entity, Map.class));
 
     Map properties = (Map) response.getBody().get("properties");
     String nickname = (String) properties.get("nickname");
@@ -0,0 +1,171 @@
+package com.shokoku.streamfix.tmdb;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shokoku.streamfix.movie.TmdbCachedPage;
+import com.shokoku.streamfix.movie.TmdbMoviePort;
+import com.shokoku.streamfix.movie.TmdbPageCachePort;
+import com.shokoku.streamfix.movie.TmdbPageableMovies;
+import com.shokoku.streamfix.movie.TmdbRequestPriority;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * TMDB now_playing 페이지 캐시
+ *
+ * <p>프로세스 내 캐시(L1)와 {@link TmdbPageCachePort}(L2) 두 단계로 페이지를 보관한다. 신선도는 TMDB 의 Cache-Control
+ * (max-age, stale-while-revalidate)을 따르고, 응답에 없으면 설정값을 쓴다.
+ *
+ * <ul>
+ *   <li>fresh: 캐시된 페이지를 바로 반환한다.
+ *   <li>stale-while-revalidate 구간: 캐시된 페이지를 반환하고, 백그라운드에서 If-None-Match 로 재검증한다.
+ *   <li>그 이후: 조건부 요청으로 동기 재검증한다. 실패하면 남아 있는 페이지라도 반환한다.
+ * </ul>
+ *
+ * <p>no-cache 응답은 저장하되 매번 재검증하고, no-store 응답은 저장하지 않는다.
+ */
+@Slf4j
+@Component
+public class CachingTmdbMovieClient implements TmdbMoviePort {
+
+  private final TmdbMovieListHttpClient tmdbMovieListHttpClient;
+  private final TmdbPageCachePort tmdbPageCachePort;
+  private final Cache<Integer, TmdbCachedPage> localCache;
+  private final long defaultMaxAgeSeconds;
+  private final long defaultStaleWhileRevalidateSeconds;
+  private final Clock clock;
+  private final Set<Integer> revalidating = ConcurrentHashMap.newKeySet();
+  private final ExecutorService revalidator = Executors.newVirtualThreadPerTaskExecutor();
+
+  @Autowired
+  public CachingTmdbMovieClient(
+      TmdbMovieListHttpClient tmdbMovieListHttpClient,
+      TmdbPageCachePort tmdbPageCachePort,
+      @Value("${tmdb.page-cache.local-maximum-size:500}") long localMaximumSize,
+      @Value("${tmdb.page-cache.default-max-age-seconds:60}") long defaultMaxAgeSeconds,
+      @Value("${tmdb.page-cache.stale-while-revalidate-seconds:300}")
+          long defaultStaleWhileRevalidateSeconds) {
+    this(
+        tmdbMovieListHttpClient,
+        tmdbPageCachePort,
+        localMaximumSize,
+        defaultMaxAgeSeconds,
+        defaultStaleWhileRevalidateSeconds,
+        Clock.systemUTC());
+  }
+
+  CachingTmdbMovieClient(
+      TmdbMovieListHttpClient tmdbMovieListHttpClient,
+      TmdbPageCachePort tmdbPageCachePort,
+      long localMaximumSize,
+      long defaultMaxAgeSeconds,
+      long defaultStaleWhileRevalidateSeconds,
+      Clock clock) {
+    this.tmdbMovieListHttpClient = tmdbMovieListHttpClient;
+    this.tmdbPageCachePort = tmdbPageCachePort;
+    this.localCache =
+        Caffeine.newBuilder()
+            .maximumSize(localMaximumSize)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+    this.defaultMaxAgeSeconds = defaultMaxAgeSeconds;
+    this.defaultStaleWhileRevalidateSeconds = defaultStaleWhileRevalidateSeconds;
+    this.clock = clock;
+  }
+
+  @Override
+  public TmdbPageableMovies fetchPageable(int page, TmdbRequestPriority priority) {
+    long now = clock.millis();
+    TmdbCachedPage cached = lookup(page, now);
+    if (cached != null && cached.isFresh(now)) {
+      return cached.movies();
+    }
+    if (cached != null && cached.isServableStale(now)) {
+      revalidateInBackground(page, cached);
+      return cached.movies();
+    }
+
+    try {
+      return revalidate(page, cached, priority).movies();
+    } catch (RuntimeException e) {
+      if (cached == null) {
+        throw e;
+      }
+      log.warn("tmdb page revalidation failed, serving stale page. page={}", page, e);
+      return cached.movies();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    revalidator.shutdownNow();
+  }
+
+  // L1 이 fresh 가 아니면 다른 인스턴스가 갱신했을 수 있는 L2 를 확인하고 더 최근 것을 쓴다.
+  private TmdbCachedPage lookup(int page, long now) {
+    TmdbCachedPage local = localCache.getIfPresent(page);
+    if (local != null && local.isFresh(now)) {
+      return local;
+    }
+
+    TmdbCachedPage shared = tmdbPageCachePort.find(page).orElse(null);
+    if (shared == null || (local != null && local.fetchedAtMillis() >= shared.fetchedAtMillis())) {
+      return local;
+    }
+    localCache.put(page, shared);
+    return shared;
+  }
+
+  private TmdbCachedPage revalidate(int page, TmdbCachedPage cached, TmdbRequestPriority priority) {
+    TmdbConditionalResponse response =
+        tmdbMovieListHttpClient.fetchConditional(
+            page, cached == null ? null : cached.etag(), priority);
+    long now = clock.millis();
+    if (response.noStore()) {
+      localCache.invalidate(page);
+      return response.notModified() && cached != null
+          ? cached
+          : new TmdbCachedPage(response.movies(), null, now, 0, 0);
+    }
+
+    long maxAge = response.maxAgeSeconds().orElse(defaultMaxAgeSeconds);
+    long staleWhileRevalidate =
+        response.staleWhileRevalidateSeconds().orElse(defaultStaleWhileRevalidateSeconds);
+
+    TmdbCachedPage refreshed =
+        response.notModified() && cached != null
+            ? cached.revalidated(now, maxAge, staleWhileRevalidate)
+            : new TmdbCachedPage(
+                response.movies(), response.etag(), now, maxAge, staleWhileRevalidate);
+    localCache.put(page, refreshed);
+    tmdbPageCachePort.save(page, refreshed);
+    return refreshed;
+  }
+
+  // 같은 페이지의 재검증은 한 번에 하나만 돌린다. 응답을 기다리는 사용자가 없으므로 BATCH 우선순위로 보낸다.
+  private void revalidateInBackground(int page, TmdbCachedPage cached) {
+    if (!revalidating.add(page)) {
+      return;
+    }
+
+    revalidator.execute(
+        () -> {
+          try {
+            revalidate(page, cached, TmdbRequestPriority.BATCH);
+          } catch (RuntimeException e) {
+            log.warn("tmdb page background revalidation failed. page={}", page, e);
+          } finally {
+            revalidating.remove(page);
+          }
+        });
+  }
+}
@@ -0,0 +1,33 @@
+package com.shokoku.streamfix.tmdb;
+
+import com.shokoku.streamfix.client.ReactiveTmdbHttpClient;
+import com.shokoku.streamfix.movie.ReactiveTmdbMoviePort;
+import com.shokoku.streamfix.movie.TmdbPageableMovies;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/** now_playing non-blocking 조회. 페이지 캐시는 호출하는 쪽(ReactiveMovieService)이 확인한다. */
+@Component
+@RequiredArgsConstructor
+public class ReactiveTmdbMovieListClient implements ReactiveTmdbMoviePort {
+
+  @Value("${tmdb.api.movie-lists.now-playing}")
+  private String nowPlayingUrl;
+
+  private final ReactiveTmdbHttpClient reactiveTmdbHttpClient;
+
+  @Override
+  public Mono<TmdbPageableMovies> fetchPageable(int page) {
+    return reactiveTmdbHttpClient
+        .get(nowPlayingUrl + "?language=ko-KR&page=" + page, TmdbNowPlayingDecoder::decode)
+        .map(
+            response ->
+                new TmdbPageableMovies(
+                    response.movies(),
+                    page,
+                    response.hasNext(page),
+                    response.totalPages()));
+  }
+}
@@ -0,0 +1,17 @@
+package com.shokoku.streamfix.tmdb;
+
+import com.shokoku.streamfix.movie.TmdbPageableMovies;
+import java.util.OptionalLong;
+
+/**
+ * TMDB 조건부 요청 결과. 304 이면 movies 는 null 이다.
+ *
+ * <p>noStore 면 캐시에 저장하지 않는다. no-cache 는 max-age, stale-while-revalidate 가 0 으로 들어와 매번 재검증한다.
+ */
+record TmdbConditionalResponse(
+    boolean notModified,
+    boolean noStore,
+    TmdbPageableMovies movies,
+    String etag,
+    OptionalLong maxAgeSeconds,
+    OptionalLong staleWhileRevalidateSeconds) {}
@@ -1,3 +0,0 @@
-package com.shokoku.streamfix.tmdb;
-
-public record TmdbDataResponse(String maximum, String minimum) {}
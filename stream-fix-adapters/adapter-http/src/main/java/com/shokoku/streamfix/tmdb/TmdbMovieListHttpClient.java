@@ -1,52 +1,103 @@
 package com.shokoku.streamfix.tmdb;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shokoku.streamfix.client.TmdbHttpClient;
-import com.shokoku.streamfix.movie.TmdbMovie;
-import com.shokoku.streamfix.movie.TmdbMoviePort;
 import com.shokoku.streamfix.movie.TmdbPageableMovies;
+import com.shokoku.streamfix.movie.TmdbRequestPriority;
 import java.util.Map;
+import java.util.OptionalLong;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 
 @Component
 @RequiredArgsConstructor
-public class TmdbMovieListHttpClient implements TmdbMoviePort {
+public class TmdbMovieListHttpClient {
 
   @Value("${tmdb.api.movie-lists.now-playing}")
   private String nowPlayingUrl;
 
   private final TmdbHttpClient tmdbHttpClient;
 
-  @Override
-  public TmdbPageableMovies fetchPageable(int page) {
+  /** etag 가 있으면 If-None-Match 로 조건부 요청하고, 304 면 본문을 읽지 않는다. */
+  TmdbConditionalResponse fetchConditional(int page, String etag, TmdbRequestPriority priority) {
     String url = nowPlayingUrl + "?language=ko-KR&page=" + page;
-    String request =
-        tmdbHttpClient.request(
-            url, HttpMethod.GET, CollectionUtils.toMultiValueMap(Map.of()), Map.of());
-
-    TmdbMovieNowPlayingResponse response;
-    try {
-      response = new ObjectMapper().readValue(request, TmdbMovieNowPlayingResponse.class);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e);
+    MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
+    if (etag != null) {
+      headers.add(HttpHeaders.IF_NONE_MATCH, etag);
     }
-    return new TmdbPageableMovies(
-        response.results().stream()
-            .map(
-                movie ->
-                    new TmdbMovie(
-                        movie.title(),
-                        movie.adult(),
-                        movie.genreIds(),
-                        movie.overview(),
-                        movie.releaseDate()))
-            .toList(),
-        page,
-        response.totalPages() - page != 0);
+
+    return tmdbHttpClient.request(
+        url,
+        HttpMethod.GET,
+        headers,
+        Map.of(),
+        priority,
+        it -> {
+          HttpHeaders responseHeaders = it.getHeaders();
+          String cacheControl = responseHeaders.getCacheControl();
+          boolean noStore = hasDirective(cacheControl, "no-store");
+          boolean noCache = hasDirective(cacheControl, "no-cache");
+          OptionalLong maxAge = noCache ? OptionalLong.of(0) : directive(cacheControl, "max-age");
+          OptionalLong staleWhileRevalidate =
+              noCache ? OptionalLong.of(0) : directive(cacheControl, "stale-while-revalidate");
+          String responseEtag = responseHeaders.getETag();
+
+          if (it.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return new TmdbConditionalResponse(
+                true, noStore, null, etag, maxAge, staleWhileRevalidate);
+          }
+
+          TmdbNowPlayingDecoder.TmdbNowPlayingPage response =
+              TmdbNowPlayingDecoder.decode(it.getBody());
+          return new TmdbConditionalResponse(
+              false,
+              noStore,
+              new TmdbPageableMovies(
+                  response.movies(),
+                  page,
+                  response.hasNext(page),
+                  response.totalPages()),
+              responseEtag,
+              maxAge,
+              staleWhileRevalidate);
+        });
+  }
+
+  static boolean hasDirective(String cacheControl, String name) {
+    if (cacheControl == null) {
+      return false;
+    }
+
+    for (String token : cacheControl.split(",")) {
+      String directive = token.trim().toLowerCase();
+      if (directive.equals(name) || directive.startsWith(name + "=")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static OptionalLong directive(String cacheControl, String name) {
+    if (cacheControl == null) {
+      return OptionalLong.empty();
+    }
+
+    OptionalLong value = OptionalLong.empty();
+    for (String token : cacheControl.split(",")) {
+      String directive = token.trim().toLowerCase();
+      if (directive.startsWith(name + "=")) {
+        try {
+          value = OptionalLong.of(Long.parseLong(directive.substring(name.length() + 1)));
+        } catch (NumberFormatException e) {
+          value = OptionalLong.empty();
+        }
+      }
+    }
+    return value;
   }
 }
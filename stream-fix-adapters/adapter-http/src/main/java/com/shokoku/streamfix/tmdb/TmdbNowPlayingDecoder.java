@@ -0,0 +1,107 @@
+package com.shokoku.streamfix.tmdb;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.shokoku.streamfix.movie.TmdbMovie;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TMDB now_playing 응답을 토큰 단위로 읽는 decoder
+ *
+ * <p>응답 전체를 문자열이나 트리로 만들지 않고, {@link TmdbMovie} 에 필요한 필드만 읽고 나머지는 건너뛴다.
+ */
+final class TmdbNowPlayingDecoder {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private TmdbNowPlayingDecoder() {}
+
+  static TmdbNowPlayingPage decode(InputStream body) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+      expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+      int totalPages = 0;
+      List<TmdbMovie> movies = List.of();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        switch (field) {
+          case "total_pages" -> totalPages = parser.getValueAsInt();
+          case "results" -> movies = readMovies(parser, value);
+          default -> parser.skipChildren();
+        }
+      }
+      return new TmdbNowPlayingPage(movies, totalPages);
+    }
+  }
+
+  private static List<TmdbMovie> readMovies(JsonParser parser, JsonToken token)
+      throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return List.of();
+    }
+    expect(parser, token, JsonToken.START_ARRAY);
+
+    List<TmdbMovie> movies = new ArrayList<>(20);
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      movies.add(readMovie(parser));
+    }
+    return movies;
+  }
+
+  private static TmdbMovie readMovie(JsonParser parser) throws IOException {
+    String title = null;
+    boolean adult = false;
+    List<String> genreIds = List.of();
+    String overview = null;
+    String releaseDate = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (field) {
+        case "title" -> title = parser.getValueAsString();
+        case "adult" -> adult = parser.getValueAsBoolean();
+        case "genre_ids" -> genreIds = readStrings(parser, value);
+        case "overview" -> overview = parser.getValueAsString();
+        case "release_date" -> releaseDate = parser.getValueAsString();
+        default -> parser.skipChildren();
+      }
+    }
+    return new TmdbMovie(title, adult, genreIds, overview, releaseDate);
+  }
+
+  private static List<String> readStrings(JsonParser parser, JsonToken token) throws IOException {
+    if (token != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return List.of();
+    }
+
+    List<String> values = new ArrayList<>(4);
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      values.add(parser.getValueAsString());
+    }
+    return values;
+  }
+
+  private static void expect(JsonParser parser, JsonToken actual, JsonToken expected)
+      throws JsonParseException {
+    if (actual != expected) {
+      throw new JsonParseException(
+          parser, "expected " + expected + " but was " + actual + " in TMDB response");
+    }
+  }
+
+  record TmdbNowPlayingPage(List<TmdbMovie> movies, int totalPages) {
+
+    // total_pages 가 없으면(0) 빈 페이지가 나올 때까지 다음 페이지가 있다고 본다.
+    boolean hasNext(int page) {
+      return totalPages > 0 ? page < totalPages : !movies.isEmpty();
+    }
+  }
+}
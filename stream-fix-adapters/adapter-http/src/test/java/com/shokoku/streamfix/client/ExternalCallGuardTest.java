@@ -0,0 +1,200 @@
+package com.shokoku.streamfix.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shokoku.streamfix.exception.ExternalServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+class ExternalCallGuardTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger calls = new AtomicInteger();
+  private SimpleMeterRegistry meterRegistry;
+  private ExternalCallGuard sut;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    sut =
+        new ExternalCallGuard(
+            "kakao-test",
+            2,
+            Duration.ZERO,
+            4,
+            4,
+            50,
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(30),
+            2,
+            meterRegistry,
+            nanos::get);
+  }
+
+  @Nested
+  @DisplayName("call: circuit breaker")
+  class CircuitBreaker {
+
+    @DisplayName("실패: 실패율이 임계치를 넘으면 circuit 을 열고 호출하지 않은 채 바로 실패한다")
+    @Test
+    void test1() {
+      // given
+      succeed();
+      succeed();
+      fail();
+      fail();
+
+      // when & then
+      assertEquals(ExternalCallGuard.State.OPEN, sut.state());
+      assertThrows(ExternalServiceUnavailableException.class, ExternalCallGuardTest.this::succeed);
+      assertEquals(4, calls.get());
+      assertEquals(1.0, rejections("circuit-open"));
+    }
+
+    @DisplayName("실패: half-open 에서 흘려 보낸 호출이 실패하면 다시 연다")
+    @Test
+    void test2() {
+      // given
+      openCircuit();
+      nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+
+      // when
+      fail();
+
+      // then
+      assertEquals(ExternalCallGuard.State.OPEN, sut.state());
+      assertThrows(ExternalServiceUnavailableException.class, ExternalCallGuardTest.this::succeed);
+    }
+
+    @DisplayName("실패: 느린 응답도 실패로 센다")
+    @Test
+    void test3() {
+      // when
+      for (int i = 0; i < 4; i++) {
+        sut.call(
+            () -> {
+              nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+              return calls.incrementAndGet();
+            });
+      }
+
+      // then
+      assertEquals(ExternalCallGuard.State.OPEN, sut.state());
+    }
+
+    @DisplayName("성공: 4xx 는 상대 서비스 장애로 보지 않아 circuit 을 열지 않는다")
+    @Test
+    void test1000() {
+      // when
+      for (int i = 0; i < 4; i++) {
+        assertThrows(
+            HttpClientErrorException.class,
+            () ->
+                sut.call(
+                    () -> {
+                      calls.incrementAndGet();
+                      throw new HttpClientErrorException(HttpStatus.UNAUTHORIZED);
+                    }));
+      }
+
+      // then
+      assertEquals(ExternalCallGuard.State.CLOSED, sut.state());
+    }
+
+    @DisplayName("성공: openDuration 이 지나면 half-open 으로 probe 를 흘려 보내고 모두 성공하면 닫는다")
+    @Test
+    void test1001() {
+      // given
+      openCircuit();
+      nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+
+      // when
+      succeed();
+      assertEquals(ExternalCallGuard.State.HALF_OPEN, sut.state());
+      succeed();
+
+      // then
+      assertEquals(ExternalCallGuard.State.CLOSED, sut.state());
+      assertDoesNotThrow(ExternalCallGuardTest.this::succeed);
+    }
+  }
+
+  @Nested
+  @DisplayName("call: bulkhead")
+  class Bulkhead {
+
+    @DisplayName("실패: 동시 호출이 maxConcurrentCalls 를 넘으면 바로 실패한다")
+    @Test
+    void test1() {
+      // when & then
+      sut.call(
+          () ->
+              sut.call(
+                  () -> {
+                    assertThrows(
+                        ExternalServiceUnavailableException.class,
+                        ExternalCallGuardTest.this::succeed);
+                    return null;
+                  }));
+      assertEquals(1.0, rejections("bulkhead-full"));
+    }
+
+    @DisplayName("성공: 호출이 끝나면 자리를 돌려준다")
+    @Test
+    void test1000() {
+      // when
+      for (int i = 0; i < 5; i++) {
+        succeed();
+      }
+
+      // then
+      assertEquals(
+          2.0,
+          meterRegistry
+              .get("streamfix.external.bulkhead.available")
+              .tag("service", "kakao-test")
+              .gauge()
+              .value());
+    }
+  }
+
+  private Integer succeed() {
+    return sut.call(calls::incrementAndGet);
+  }
+
+  private void fail() {
+    assertThrows(
+        HttpServerErrorException.class,
+        () ->
+            sut.call(
+                () -> {
+                  calls.incrementAndGet();
+                  throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+                }));
+  }
+
+  private void openCircuit() {
+    for (int i = 0; i < 4; i++) {
+      fail();
+    }
+    assertEquals(ExternalCallGuard.State.OPEN, sut.state());
+  }
+
+  private double rejections(String reason) {
+    return meterRegistry
+        .get("streamfix.external.rejections")
+        .tag("service", "kakao-test")
+        .tag("reason", reason)
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,161 @@
+package com.shokoku.streamfix.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.movie.TmdbRequestPriority;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+
+@ExtendWith(MockitoExtension.class)
+class TmdbHttpClientTest {
+
+  @Mock private HttpClient httpClient;
+  @Mock private TmdbRateLimiter tmdbRateLimiter;
+  @Mock private ResponseExtractor<String> extractor;
+
+  @InjectMocks private TmdbHttpClient sut;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(sut, "accessToken", "token");
+    ReflectionTestUtils.setField(sut, "maxRetries", 1);
+    lenient().when(tmdbRateLimiter.acquire(any())).thenReturn(1L);
+    lenient().when(tmdbRateLimiter.maxWait(any())).thenReturn(Duration.ofSeconds(30));
+  }
+
+  @Nested
+  @DisplayName("request: limiter 를 거친 TMDB 호출")
+  class Request {
+
+    @DisplayName("실패: 429 가 maxRetries 를 넘어 반복되면 예외를 던진다")
+    @Test
+    void test1() {
+      // given
+      when(httpClient.request(any(), any(), any(), any(), eq(extractor)))
+          .thenThrow(tooManyRequests("3"));
+
+      // when & then
+      assertThrows(HttpClientErrorException.TooManyRequests.class, () -> request());
+      verify(tmdbRateLimiter, times(2)).onThrottled(1L, Duration.ofSeconds(3));
+    }
+
+    @DisplayName("실패: 연결 실패는 동시 호출 한도를 줄이고 다시 시도하지 않는다")
+    @Test
+    void test2() {
+      // given
+      when(httpClient.request(any(), any(), any(), any(), eq(extractor)))
+          .thenThrow(new ResourceAccessException("timeout"));
+
+      // when & then
+      assertThrows(ResourceAccessException.class, () -> request());
+      verify(tmdbRateLimiter).onDropped(1L);
+      verify(tmdbRateLimiter, times(1)).acquire(TmdbRequestPriority.BATCH);
+    }
+
+    @DisplayName("실패: Retry-After 가 lane 의 최대 대기 시간보다 길면 다시 시도하지 않는다")
+    @Test
+    void test3() {
+      // given
+      when(tmdbRateLimiter.maxWait(TmdbRequestPriority.BATCH)).thenReturn(Duration.ofMillis(500));
+      when(httpClient.request(any(), any(), any(), any(), eq(extractor)))
+          .thenThrow(tooManyRequests("1"));
+
+      // when & then
+      assertThrows(HttpClientErrorException.TooManyRequests.class, () -> request());
+      verify(tmdbRateLimiter).onThrottled(1L, Duration.ofSeconds(1));
+      verify(tmdbRateLimiter, times(1)).acquire(TmdbRequestPriority.BATCH);
+    }
+
+    @DisplayName("성공: 429 를 받으면 Retry-After 를 limiter 에 알리고 다시 시도한다")
+    @Test
+    void test1000() {
+      // given
+      when(httpClient.request(any(), any(), any(), any(), eq(extractor)))
+          .thenThrow(tooManyRequests("2"))
+          .thenReturn("ok");
+
+      // when
+      String result = request();
+
+      // then
+      assertEquals("ok", result);
+      verify(tmdbRateLimiter).onThrottled(1L, Duration.ofSeconds(2));
+      verify(tmdbRateLimiter).onSuccess(1L);
+      verify(tmdbRateLimiter, times(2)).acquire(TmdbRequestPriority.BATCH);
+    }
+  }
+
+  @Nested
+  @DisplayName("retryAfter: Retry-After 헤더 해석")
+  class RetryAfter {
+
+    @DisplayName("성공: 헤더가 없거나 해석할 수 없으면 1초를 쓴다")
+    @Test
+    void test1000() {
+      // given
+      HttpHeaders invalid = new HttpHeaders();
+      invalid.add(HttpHeaders.RETRY_AFTER, "soon");
+
+      // when & then
+      assertEquals(Duration.ofSeconds(1), TmdbHttpClient.retryAfter(new HttpHeaders()));
+      assertEquals(Duration.ofSeconds(1), TmdbHttpClient.retryAfter(invalid));
+    }
+
+    @DisplayName("성공: 60초보다 길면 60초로 자른다")
+    @Test
+    void test1001() {
+      // given
+      HttpHeaders headers = new HttpHeaders();
+      headers.add(HttpHeaders.RETRY_AFTER, "3600");
+
+      // when & then
+      assertEquals(Duration.ofSeconds(60), TmdbHttpClient.retryAfter(headers));
+    }
+
+    @DisplayName("성공: 지난 HTTP-date 면 바로 재시도한다")
+    @Test
+    void test1002() {
+      // given
+      HttpHeaders headers = new HttpHeaders();
+      headers.add(HttpHeaders.RETRY_AFTER, "Wed, 21 Oct 2015 07:28:00 GMT");
+
+      // when & then
+      assertEquals(Duration.ZERO, TmdbHttpClient.retryAfter(headers));
+    }
+  }
+
+  private String request() {
+    return sut.request(
+        "https://tmdb.test/now_playing",
+        HttpMethod.GET,
+        new LinkedMultiValueMap<>(),
+        Map.of(),
+        TmdbRequestPriority.BATCH,
+        extractor);
+  }
+
+  private static HttpClientErrorException tooManyRequests(String retryAfter) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.add(HttpHeaders.RETRY_AFTER, retryAfter);
+    return HttpClientErrorException.create(
+        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+  }
+}
@@ -0,0 +1,236 @@
+package com.shokoku.streamfix.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.exception.TmdbRateLimitExceededException;
+import com.shokoku.streamfix.movie.TmdbRateLimitPort;
+import com.shokoku.streamfix.movie.TmdbRequestPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class TmdbRateLimiterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Nested
+  @DisplayName("acquire: TMDB 호출 허가")
+  class Acquire {
+
+    @DisplayName("실패: token 을 다 쓰면 최대 대기 시간 안에 허가를 받지 못하고 예외를 던진다")
+    @Test
+    void test1() {
+      // given
+      TmdbRateLimiter sut = limiter(0.1, 2, 0, 20);
+      sut.acquire(TmdbRequestPriority.INTERACTIVE);
+      sut.acquire(TmdbRequestPriority.INTERACTIVE);
+
+      // when & then
+      assertThrows(
+          TmdbRateLimitExceededException.class,
+          () -> sut.acquire(TmdbRequestPriority.INTERACTIVE));
+      assertEquals(1, rejections("interactive"));
+      assertEquals(2, permits("interactive"));
+    }
+
+    @DisplayName("실패: BATCH 는 INTERACTIVE 몫으로 남겨둔 token 을 쓰지 못한다")
+    @Test
+    void test2() {
+      // given
+      TmdbRateLimiter sut = limiter(0.1, 4, 0, 20);
+      sut.acquire(TmdbRequestPriority.BATCH);
+      sut.acquire(TmdbRequestPriority.BATCH);
+      sut.acquire(TmdbRequestPriority.BATCH);
+
+      // when & then
+      assertThrows(
+          TmdbRateLimitExceededException.class, () -> sut.acquire(TmdbRequestPriority.BATCH));
+      assertDoesNotThrow(() -> sut.acquire(TmdbRequestPriority.INTERACTIVE));
+    }
+
+    @DisplayName("실패: 동시 호출 한도를 넘으면 허가하지 않는다")
+    @Test
+    void test3() {
+      // given
+      TmdbRateLimiter sut = limiter(100, 100, 0, 2);
+      sut.acquire(TmdbRequestPriority.INTERACTIVE);
+      sut.acquire(TmdbRequestPriority.INTERACTIVE);
+
+      // when & then
+      assertThrows(
+          TmdbRateLimitExceededException.class,
+          () -> sut.acquire(TmdbRequestPriority.INTERACTIVE));
+      assertEquals(2, sut.inflight());
+    }
+
+    @DisplayName("실패: 429 로 멈춘 동안에는 Retry-After 가 끝날 때까지 허가하지 않는다")
+    @Test
+    void test4() {
+      // given
+      TmdbRateLimiter sut = limiter(100, 100, 50, 20);
+      long acquiredAt = sut.acquire(TmdbRequestPriority.INTERACTIVE);
+      sut.onThrottled(acquiredAt, Duration.ofSeconds(10));
+
+      // when & then
+      assertThrows(
+          TmdbRateLimitExceededException.class,
+          () -> sut.acquire(TmdbRequestPriority.INTERACTIVE));
+      assertEquals(1.0, meterRegistry.get("streamfix.tmdb.limiter.throttled").counter().count());
+    }
+
+    @DisplayName("성공: token 이 다시 차면 대기 후 허가한다")
+    @Test
+    void test1000() {
+      // given
+      TmdbRateLimiter sut = limiter(50, 1, 500, 20);
+      sut.acquire(TmdbRequestPriority.INTERACTIVE);
+
+      // when & then
+      assertDoesNotThrow(() -> sut.acquire(TmdbRequestPriority.INTERACTIVE));
+      assertEquals(2, permits("interactive"));
+    }
+  }
+
+  @Nested
+  @DisplayName("release: 응답 결과에 따른 동시 호출 한도 조절")
+  class Release {
+
+    @DisplayName("성공: 실패하면 한도를 backoffRatio 만큼 줄이고 최소 한도 아래로는 내리지 않는다")
+    @Test
+    void test1000() {
+      // given
+      TmdbRateLimiter sut = limiter(100, 100, 0, 4);
+
+      // when
+      for (int i = 0; i < 20; i++) {
+        sut.onDropped(sut.acquire(TmdbRequestPriority.BATCH));
+      }
+
+      // then
+      assertEquals(2, sut.limit());
+      assertEquals(0, sut.inflight());
+    }
+
+    @DisplayName("성공: 한도 가까이 쓰면서 응답이 빠르면 한도를 1씩 늘린다")
+    @Test
+    void test1001() {
+      // given
+      TmdbRateLimiter sut = limiter(100, 100, 0, 4);
+      long first = sut.acquire(TmdbRequestPriority.INTERACTIVE);
+      long second = sut.acquire(TmdbRequestPriority.INTERACTIVE);
+
+      // when
+      sut.onSuccess(first);
+      sut.onSuccess(second);
+
+      // then
+      assertEquals(5, sut.limit());
+    }
+  }
+
+  @Nested
+  @DisplayName("shared: 프로세스 간 공유 한도")
+  class Shared {
+
+    TmdbRateLimitPort sharedLimit = mock(TmdbRateLimitPort.class);
+
+    @DisplayName("실패: 공유 bucket 대기가 최대 대기 시간보다 길면 예외를 던지고 동시 호출 자리를 돌려준다")
+    @Test
+    void test1() {
+      // given
+      when(sharedLimit.tryAcquire(TmdbRequestPriority.BATCH)).thenReturn(Duration.ofSeconds(5));
+      TmdbRateLimiter sut = sharedLimiter(sharedLimit, 100);
+
+      // when & then
+      assertThrows(
+          TmdbRateLimitExceededException.class, () -> sut.acquire(TmdbRequestPriority.BATCH));
+      assertEquals(0, sut.inflight());
+      assertEquals(20, sut.limit());
+      assertEquals(1, rejections("batch"));
+    }
+
+    @DisplayName("성공: 공유 bucket 이 잠깐 기다리라고 하면 기다린 뒤 다시 받아 허가한다")
+    @Test
+    void test1000() {
+      // given
+      when(sharedLimit.tryAcquire(TmdbRequestPriority.INTERACTIVE))
+          .thenReturn(Duration.ofMillis(20), Duration.ZERO);
+      TmdbRateLimiter sut = sharedLimiter(sharedLimit, 500);
+
+      // when
+      sut.acquire(TmdbRequestPriority.INTERACTIVE);
+
+      // then
+      verify(sharedLimit, times(2)).tryAcquire(TmdbRequestPriority.INTERACTIVE);
+      assertEquals(1, sut.inflight());
+    }
+
+    @DisplayName("성공: 429 를 받으면 다른 프로세스도 멈추도록 공유 한도에 알린다")
+    @Test
+    void test1001() {
+      // given
+      when(sharedLimit.tryAcquire(TmdbRequestPriority.INTERACTIVE)).thenReturn(Duration.ZERO);
+      TmdbRateLimiter sut = sharedLimiter(sharedLimit, 500);
+      long acquiredAt = sut.acquire(TmdbRequestPriority.INTERACTIVE);
+
+      // when
+      sut.onThrottled(acquiredAt, Duration.ofSeconds(3));
+
+      // then
+      verify(sharedLimit).pause(Duration.ofSeconds(3));
+    }
+  }
+
+  private TmdbRateLimiter sharedLimiter(TmdbRateLimitPort sharedLimit, long maxWaitMillis) {
+    return new TmdbRateLimiter(
+        meterRegistry,
+        sharedLimit,
+        100,
+        100,
+        0.75,
+        maxWaitMillis,
+        maxWaitMillis,
+        20,
+        2,
+        64,
+        1000,
+        0.5);
+  }
+
+  private TmdbRateLimiter limiter(
+      double permitsPerSecond, int burst, long maxWaitMillis, int initialLimit) {
+    return new TmdbRateLimiter(
+        meterRegistry,
+        permitsPerSecond,
+        burst,
+        0.75,
+        maxWaitMillis,
+        maxWaitMillis,
+        initialLimit,
+        2,
+        64,
+        1000,
+        0.5);
+  }
+
+  private double permits(String lane) {
+    return meterRegistry.get("streamfix.tmdb.limiter.permits").tag("lane", lane).counter().count();
+  }
+
+  private double rejections(String lane) {
+    return meterRegistry
+        .get("streamfix.tmdb.limiter.rejections")
+        .tag("lane", lane)
+        .counter()
+        .count();
+  }
+}
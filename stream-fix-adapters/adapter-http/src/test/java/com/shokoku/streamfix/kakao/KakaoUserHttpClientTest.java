@@ -0,0 +1,174 @@
+package com.shokoku.streamfix.kakao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shokoku.streamfix.client.ExternalCallGuard;
+import com.shokoku.streamfix.exception.ExternalServiceUnavailableException;
+import com.shokoku.streamfix.user.UserPortResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+/** 장애를 흉내 내는 로컬 stub 서버로 bulkhead 와 circuit breaker 동작을 확인한다. */
+class KakaoUserHttpClientTest {
+
+  private static final String BODY =
+      """
+      {"id": 4000000001, "properties": {"nickname": "카카오"}}
+      """;
+
+  private HttpServer server;
+  private final AtomicInteger requests = new AtomicInteger();
+  private final AtomicInteger status = new AtomicInteger(200);
+  private final AtomicLong delayMillis = new AtomicLong();
+  private KakaoUserHttpClient sut;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.createContext("/v2/user/me", this::handle);
+    server.start();
+
+    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+    requestFactory.setReadTimeout(Duration.ofMillis(300));
+    ExternalCallGuard guard =
+        new ExternalCallGuard(
+            "kakao-user",
+            2,
+            Duration.ZERO,
+            4,
+            4,
+            50,
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(30),
+            1,
+            new SimpleMeterRegistry());
+    sut = new KakaoUserHttpClient(new RestTemplate(requestFactory), guard);
+    ReflectionTestUtils.setField(
+        sut,
+        "kakaoUserInfoUrl",
+        "http://127.0.0.1:" + server.getAddress().getPort() + "/v2/user/me");
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Nested
+  @DisplayName("findUserFromKakao: Kakao 사용자 조회")
+  class FindUserFromKakao {
+
+    @DisplayName("실패: Kakao 가 계속 5xx 를 주면 circuit 이 열려 더 이상 요청하지 않고 바로 실패한다")
+    @Test
+    void test1() {
+      // given
+      status.set(503);
+      for (int i = 0; i < 4; i++) {
+        assertThrows(HttpServerErrorException.class, () -> sut.findUserFromKakao("token"));
+      }
+
+      // when & then
+      assertThrows(ExternalServiceUnavailableException.class, () -> sut.findUserFromKakao("token"));
+      assertEquals(4, requests.get());
+    }
+
+    @DisplayName("실패: 응답이 read timeout 을 넘으면 실패로 세어 circuit 을 연다")
+    @Test
+    void test2() {
+      // given
+      delayMillis.set(1_000);
+      for (int i = 0; i < 4; i++) {
+        assertThrows(ResourceAccessException.class, () -> sut.findUserFromKakao("token"));
+      }
+
+      // when & then
+      assertThrows(ExternalServiceUnavailableException.class, () -> sut.findUserFromKakao("token"));
+    }
+
+    @DisplayName("실패: Kakao 가 느려져 동시 호출이 가득 차면 나머지 호출은 기다리지 않고 바로 실패한다")
+    @Test
+    void test3() throws Exception {
+      // given
+      delayMillis.set(200);
+
+      // when
+      List<Future<UserPortResponse>> results = new ArrayList<>();
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (int i = 0; i < 6; i++) {
+          results.add(executor.submit(() -> sut.findUserFromKakao("token")));
+        }
+      }
+
+      // then
+      int rejected = 0;
+      for (Future<UserPortResponse> result : results) {
+        try {
+          result.get();
+        } catch (Exception e) {
+          assertInstanceOf(ExternalServiceUnavailableException.class, e.getCause());
+          rejected++;
+        }
+      }
+      assertTrue(rejected >= 4);
+      assertTrue(requests.get() <= 2);
+    }
+
+    @DisplayName("성공: 사용자 정보를 UserPortResponse 로 변환한다")
+    @Test
+    void test1000() {
+      // when
+      UserPortResponse result = sut.findUserFromKakao("token");
+
+      // then
+      assertEquals("카카오", result.username());
+      assertEquals("4000000001", result.providerId());
+      assertEquals("kakao", result.provider());
+    }
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    try {
+      Thread.sleep(delayMillis.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (status.get() != 200) {
+      exchange.sendResponseHeaders(status.get(), -1);
+      exchange.close();
+      return;
+    }
+
+    byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}
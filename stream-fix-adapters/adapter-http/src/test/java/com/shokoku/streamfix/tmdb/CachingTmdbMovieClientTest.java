@@ -0,0 +1,301 @@
+package com.shokoku.streamfix.tmdb;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shokoku.streamfix.client.HttpClient;
+import com.shokoku.streamfix.client.TmdbHttpClient;
+import com.shokoku.streamfix.client.TmdbRateLimiter;
+import com.shokoku.streamfix.movie.TmdbCachedPage;
+import com.shokoku.streamfix.movie.TmdbPageCachePort;
+import com.shokoku.streamfix.movie.TmdbPageableMovies;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+class CachingTmdbMovieClientTest {
+
+  private static final String ETAG = "\"v1\"";
+  private static final String BODY =
+      """
+      {"page": 1, "results": [{"title": "영화", "genre_ids": [28]}], "total_pages": 3}
+      """;
+
+  private HttpServer server;
+  private final List<String> ifNoneMatches = new CopyOnWriteArrayList<>();
+  private final AtomicInteger status = new AtomicInteger(200);
+  private final AtomicReference<String> cacheControl =
+      new AtomicReference<>("max-age=60, stale-while-revalidate=300");
+  private final MutableClock clock = new MutableClock();
+  private final InMemoryPageCache pageCache = new InMemoryPageCache();
+  private TmdbMovieListHttpClient tmdbMovieListHttpClient;
+  private CachingTmdbMovieClient sut;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/now_playing", this::handle);
+    server.start();
+
+    TmdbRateLimiter tmdbRateLimiter =
+        new TmdbRateLimiter(
+            new SimpleMeterRegistry(), 1000, 100, 0.75, 500, 500, 20, 2, 64, 1000, 0.9);
+    TmdbHttpClient tmdbHttpClient =
+        new TmdbHttpClient(new HttpClient(new RestTemplate()), tmdbRateLimiter);
+    ReflectionTestUtils.setField(tmdbHttpClient, "accessToken", "token");
+    tmdbMovieListHttpClient = new TmdbMovieListHttpClient(tmdbHttpClient);
+    ReflectionTestUtils.setField(
+        tmdbMovieListHttpClient,
+        "nowPlayingUrl",
+        "http://127.0.0.1:" + server.getAddress().getPort() + "/now_playing");
+    sut = newClient();
+  }
+
+  @AfterEach
+  void tearDown() {
+    sut.shutdown();
+    server.stop(0);
+  }
+
+  @Nested
+  @DisplayName("fetchPageable: 캐시를 거쳐 TMDB now_playing 페이지 조회")
+  class FetchPageable {
+
+    @DisplayName("실패: 캐시가 없는데 TMDB 가 실패하면 예외를 그대로 던진다")
+    @Test
+    void test1() {
+      // given
+      status.set(500);
+
+      // when & then
+      assertThrows(HttpServerErrorException.class, () -> sut.fetchPageable(1));
+    }
+
+    @DisplayName("성공: max-age 안에서는 TMDB 를 다시 호출하지 않는다")
+    @Test
+    void test1000() {
+      // given
+      sut.fetchPageable(1);
+      clock.advanceSeconds(30);
+
+      // when
+      TmdbPageableMovies result = sut.fetchPageable(1);
+
+      // then
+      assertEquals(1, ifNoneMatches.size());
+      assertEquals("영화", result.tmdbMovies().get(0).movieName());
+      assertEquals(3, result.totalPages());
+    }
+
+    @DisplayName("성공: stale-while-revalidate 구간이면 캐시를 반환하고 백그라운드에서 조건부 요청한다")
+    @Test
+    void test1001() throws InterruptedException {
+      // given
+      sut.fetchPageable(1);
+      clock.advanceSeconds(120);
+
+      // when
+      TmdbPageableMovies result = sut.fetchPageable(1);
+
+      // then
+      assertEquals("영화", result.tmdbMovies().get(0).movieName());
+      awaitRequests(2);
+      assertEquals(ETAG, ifNoneMatches.get(1));
+      awaitFetchedAt(clock.millis());
+    }
+
+    @DisplayName("성공: stale-while-revalidate 도 지나면 If-None-Match 로 동기 재검증하고 304 면 캐시를 갱신한다")
+    @Test
+    void test1002() {
+      // given
+      sut.fetchPageable(1);
+      clock.advanceSeconds(600);
+
+      // when
+      TmdbPageableMovies result = sut.fetchPageable(1);
+
+      // then
+      assertEquals(2, ifNoneMatches.size());
+      assertEquals(ETAG, ifNoneMatches.get(1));
+      assertEquals("영화", result.tmdbMovies().get(0).movieName());
+      assertEquals(clock.millis(), pageCache.pages.get(1).fetchedAtMillis());
+    }
+
+    @DisplayName("성공: 다른 인스턴스가 저장한 공유 캐시가 fresh 면 TMDB 를 호출하지 않는다")
+    @Test
+    void test1003() {
+      // given
+      sut.fetchPageable(1);
+      CachingTmdbMovieClient other = newClient();
+
+      // when
+      TmdbPageableMovies result = other.fetchPageable(1);
+
+      // then
+      other.shutdown();
+      assertEquals(1, ifNoneMatches.size());
+      assertEquals("영화", result.tmdbMovies().get(0).movieName());
+    }
+
+    @DisplayName("성공: 재검증이 실패해도 캐시된 페이지가 있으면 그대로 반환한다")
+    @Test
+    void test1004() {
+      // given
+      sut.fetchPageable(1);
+      clock.advanceSeconds(600);
+      status.set(500);
+
+      // when
+      TmdbPageableMovies result = sut.fetchPageable(1);
+
+      // then
+      assertEquals(2, ifNoneMatches.size());
+      assertEquals("영화", result.tmdbMovies().get(0).movieName());
+    }
+
+    @DisplayName("성공: no-cache 응답은 저장하되 다음 조회마다 If-None-Match 로 동기 재검증한다")
+    @Test
+    void test1005() {
+      // given
+      cacheControl.set("no-cache, stale-while-revalidate=300");
+      sut.fetchPageable(1);
+      clock.advanceSeconds(1);
+
+      // when
+      TmdbPageableMovies result = sut.fetchPageable(1);
+
+      // then
+      assertEquals(2, ifNoneMatches.size());
+      assertEquals(ETAG, ifNoneMatches.get(1));
+      assertEquals("영화", result.tmdbMovies().get(0).movieName());
+      assertEquals(clock.millis(), pageCache.pages.get(1).fetchedAtMillis());
+    }
+
+    @DisplayName("성공: no-store 응답은 캐시에 저장하지 않아 다음 조회에서 다시 전체 요청한다")
+    @Test
+    void test1006() {
+      // given
+      cacheControl.set("no-store");
+      sut.fetchPageable(1);
+
+      // when
+      TmdbPageableMovies result = sut.fetchPageable(1);
+
+      // then
+      assertEquals(List.of("", ""), ifNoneMatches);
+      assertEquals("영화", result.tmdbMovies().get(0).movieName());
+      assertTrue(pageCache.pages.isEmpty());
+    }
+  }
+
+  private CachingTmdbMovieClient newClient() {
+    return new CachingTmdbMovieClient(tmdbMovieListHttpClient, pageCache, 100, 60, 300, clock);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+    ifNoneMatches.add(ifNoneMatch == null ? "" : ifNoneMatch);
+
+    if (status.get() != 200) {
+      exchange.sendResponseHeaders(status.get(), -1);
+      exchange.close();
+      return;
+    }
+
+    exchange.getResponseHeaders().add("ETag", ETAG);
+    exchange.getResponseHeaders().add("Cache-Control", cacheControl.get());
+    if (ETAG.equals(ifNoneMatch)) {
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+
+    byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private void awaitRequests(int count) throws InterruptedException {
+    for (int i = 0; i < 100 && ifNoneMatches.size() < count; i++) {
+      Thread.sleep(20);
+    }
+    assertEquals(count, ifNoneMatches.size());
+  }
+
+  private void awaitFetchedAt(long fetchedAtMillis) throws InterruptedException {
+    for (int i = 0; i < 100 && pageCache.pages.get(1).fetchedAtMillis() != fetchedAtMillis; i++) {
+      Thread.sleep(20);
+    }
+    assertEquals(fetchedAtMillis, pageCache.pages.get(1).fetchedAtMillis());
+  }
+
+  private static class InMemoryPageCache implements TmdbPageCachePort {
+
+    private final Map<Integer, TmdbCachedPage> pages = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<TmdbCachedPage> find(int page) {
+      return Optional.ofNullable(pages.get(page));
+    }
+
+    @Override
+    public void save(int page, TmdbCachedPage cachedPage) {
+      pages.put(page, cachedPage);
+    }
+  }
+
+  private static class MutableClock extends Clock {
+
+    private final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+
+    void advanceSeconds(long seconds) {
+      millis.addAndGet(seconds * 1000);
+    }
+
+    @Override
+    public long millis() {
+      return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package com.shokoku.streamfix.tmdb;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shokoku.streamfix.client.ReactiveTmdbHttpClient;
+import com.shokoku.streamfix.client.TmdbRateLimiter;
+import com.shokoku.streamfix.movie.TmdbPageableMovies;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+class ReactiveTmdbMovieListClientTest {
+
+  private static final String BODY =
+      """
+      {"page": 1, "results": [{"title": "영화", "genre_ids": [28]}], "total_pages": 3}
+      """;
+
+  private HttpServer server;
+  private final List<Integer> statuses = new CopyOnWriteArrayList<>();
+  private final List<String> authorizations = new CopyOnWriteArrayList<>();
+  private final AtomicInteger requests = new AtomicInteger();
+  private final AtomicReference<String> retryAfter = new AtomicReference<>("0");
+  private SimpleMeterRegistry meterRegistry;
+  private ReactiveTmdbMovieListClient sut;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.createContext("/now_playing", this::handle);
+    server.start();
+
+    meterRegistry = new SimpleMeterRegistry();
+    TmdbRateLimiter tmdbRateLimiter =
+        new TmdbRateLimiter(meterRegistry, 1000, 100, 0.75, 500, 500, 20, 2, 64, 1000, 0.9);
+    sut =
+        new ReactiveTmdbMovieListClient(
+            new ReactiveTmdbHttpClient(tmdbRateLimiter, "token", 1, 1000, 1000));
+    ReflectionTestUtils.setField(
+        sut, "nowPlayingUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/now_playing");
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Nested
+  @DisplayName("fetchPageable: now_playing non-blocking 조회")
+  class FetchPageable {
+
+    @DisplayName("실패: 5xx 는 에러로 전달하고 동시 호출 한도를 줄인다")
+    @Test
+    void test1() {
+      // given
+      statuses.add(503);
+
+      // when & then
+      assertThrows(WebClientResponseException.class, () -> sut.fetchPageable(1).block());
+      assertTrue(concurrencyLimit() < 20);
+    }
+
+    @DisplayName("실패: 429 가 maxRetries 를 넘어 반복되면 에러로 전달한다")
+    @Test
+    void test2() {
+      // given
+      statuses.addAll(List.of(429, 429));
+
+      // when & then
+      assertThrows(
+          WebClientResponseException.TooManyRequests.class, () -> sut.fetchPageable(1).block());
+      assertEquals(2, requests.get());
+    }
+
+    @DisplayName("실패: Retry-After 가 최대 대기 시간(500ms)보다 길면 다시 시도하지 않고 에러로 전달한다")
+    @Test
+    void test3() {
+      // given
+      statuses.add(429);
+      retryAfter.set("1");
+
+      // when & then
+      assertThrows(
+          WebClientResponseException.TooManyRequests.class, () -> sut.fetchPageable(1).block());
+      assertEquals(1, requests.get());
+    }
+
+    @DisplayName("성공: 응답을 TmdbPageableMovies 로 읽고 access token 을 실어 보낸다")
+    @Test
+    void test1000() {
+      // when
+      TmdbPageableMovies result = sut.fetchPageable(1).block();
+
+      // then
+      assertNotNull(result);
+      assertEquals("영화", result.tmdbMovies().get(0).movieName());
+      assertEquals(List.of("28"), result.tmdbMovies().get(0).genre());
+      assertTrue(result.hasNext());
+      assertEquals(3, result.totalPages());
+      assertEquals(List.of("Bearer token"), authorizations);
+    }
+
+    @DisplayName("성공: 429 를 받으면 Retry-After 를 limiter 에 알리고 다시 시도한다")
+    @Test
+    void test1001() {
+      // given
+      statuses.add(429);
+
+      // when
+      TmdbPageableMovies result = sut.fetchPageable(1).block();
+
+      // then
+      assertNotNull(result);
+      assertEquals(2, requests.get());
+      assertEquals(1.0, meterRegistry.get("streamfix.tmdb.limiter.throttled").counter().count());
+      assertEquals(0.0, meterRegistry.get("streamfix.tmdb.limiter.inflight").gauge().value());
+    }
+  }
+
+  private double concurrencyLimit() {
+    return meterRegistry.get("streamfix.tmdb.limiter.concurrency.limit").gauge().value();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+
+    int status = statuses.isEmpty() ? 200 : statuses.remove(0);
+    if (status != 200) {
+      if (status == 429) {
+        exchange.getResponseHeaders().add("Retry-After", retryAfter.get());
+      }
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+      return;
+    }
+
+    byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}
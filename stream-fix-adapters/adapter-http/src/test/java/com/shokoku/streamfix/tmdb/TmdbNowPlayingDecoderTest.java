@@ -0,0 +1,122 @@
+package com.shokoku.streamfix.tmdb;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.shokoku.streamfix.movie.TmdbMovie;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class TmdbNowPlayingDecoderTest {
+
+  @Nested
+  @DisplayName("decode: TMDB now_playing 응답 디코딩")
+  class Decode {
+
+    @DisplayName("실패: 최상위가 객체가 아니면 JsonParseException을 던진다")
+    @Test
+    void test1() {
+      assertThrows(JsonParseException.class, () -> TmdbNowPlayingDecoder.decode(body("[]")));
+    }
+
+    @DisplayName("성공: 필요한 필드만 읽어 TmdbMovie 로 변환하고 나머지 필드는 건너뛴다")
+    @Test
+    void test1000() throws IOException {
+      // given
+      String json =
+          """
+          {
+            "dates": {"maximum": "2025-07-02", "minimum": "2025-05-21"},
+            "page": 1,
+            "results": [
+              {
+                "adult": false,
+                "backdrop_path": "/backdrop.jpg",
+                "genre_ids": [28, 12],
+                "id": 1001,
+                "overview": "설명",
+                "popularity": 123.45,
+                "release_date": "2025-06-01",
+                "title": "영화",
+                "vote_average": 7.5
+              }
+            ],
+            "total_pages": 227,
+            "total_results": 4527
+          }
+          """;
+
+      // when
+      TmdbNowPlayingDecoder.TmdbNowPlayingPage result = TmdbNowPlayingDecoder.decode(body(json));
+
+      // then
+      assertEquals(227, result.totalPages());
+      assertEquals(
+          List.of(new TmdbMovie("영화", false, List.of("28", "12"), "설명", "2025-06-01")),
+          result.movies());
+    }
+
+    @DisplayName("성공: 누락되거나 null 인 필드는 기본값으로 채운다")
+    @Test
+    void test1001() throws IOException {
+      // when
+      TmdbNowPlayingDecoder.TmdbNowPlayingPage result =
+          TmdbNowPlayingDecoder.decode(body("{\"results\": [{\"genre_ids\": null}]}"));
+
+      // then
+      assertEquals(0, result.totalPages());
+      assertEquals(List.of(new TmdbMovie(null, false, List.of(), null, null)), result.movies());
+    }
+
+    @DisplayName("성공: results 가 없으면 빈 목록을 반환한다")
+    @Test
+    void test1002() throws IOException {
+      // when
+      TmdbNowPlayingDecoder.TmdbNowPlayingPage result =
+          TmdbNowPlayingDecoder.decode(body("{\"page\": 3, \"total_pages\": 2}"));
+
+      // then
+      assertTrue(result.movies().isEmpty());
+      assertEquals(2, result.totalPages());
+    }
+  }
+
+  @Nested
+  @DisplayName("hasNext: 다음 페이지 존재 여부")
+  class HasNext {
+
+    @DisplayName("성공: total_pages 가 있으면 마지막 페이지와 그 뒤에서 false 를 반환한다")
+    @Test
+    void test1000() {
+      // given
+      TmdbNowPlayingDecoder.TmdbNowPlayingPage page =
+          new TmdbNowPlayingDecoder.TmdbNowPlayingPage(List.of(), 3);
+
+      // when & then
+      assertTrue(page.hasNext(2));
+      assertFalse(page.hasNext(3));
+      assertFalse(page.hasNext(4));
+    }
+
+    @DisplayName("성공: total_pages 가 없으면 결과가 있는 동안만 다음 페이지가 있다고 본다")
+    @Test
+    void test1001() {
+      // given
+      TmdbMovie movie = new TmdbMovie("영화", false, List.of(), null, null);
+
+      // when & then
+      assertTrue(new TmdbNowPlayingDecoder.TmdbNowPlayingPage(List.of(movie), 0).hasNext(1));
+      assertFalse(new TmdbNowPlayingDecoder.TmdbNowPlayingPage(List.of(), 0).hasNext(1));
+    }
+  }
+
+  private static InputStream body(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -3,13 +3,20 @@ plugins {
     id("custom.spring-conventions")
     id("custom.library-conventions")
     id("custom.test-conventions")
+    id("me.champeau.jmh")
 }
 
 dependencies {
     implementation(project(":stream-fix-core:core-port"))
     implementation(project(":stream-fix-core:core-domain"))
+    implementation(project(":stream-fix-commons"))
 
     implementation(Spring.boot.data.jpa)
+    implementation("io.micrometer:micrometer-core")
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.roaringbitmap:RoaringBitmap:_")
 
     implementation("org.flywaydb:flyway-core")
     implementation("org.flywaydb:flyway-mysql")
@@ -31,7 +38,20 @@ dependencies {
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.testcontainers:mysql")
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
+
+    // jmh
+    jmh(platform("org.testcontainers:testcontainers-bom:_"))
+    jmh("org.testcontainers:mysql")
+    jmh("com.mysql:mysql-connector-j")
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
 }
+
 tasks.getByName<Jar>("bootJar") {
     enabled = false
 }
@@ -0,0 +1,147 @@
+package com.shokoku.streamfix.repository.movie;
+
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
+import com.shokoku.streamfix.id.TimeOrderedId;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * user_movie_downloads insert 처리량 비교
+ *
+ * <p>MySQL 컨테이너에 flyway 마이그레이션을 적용해 실제 테이블에 넣는다. before 는 V7 까지의 스키마로
+ * VARCHAR(255) 컬럼에 UUIDv4 PK 를, after 는 마지막 버전의 스키마로 BINARY(16) 컬럼에 UUIDv7 PK 를 넣는다. 미리 넣어 둔
+ * 행 위에 MovieService 와 같이 한 건씩 커밋한다. 결과는 초당 insert 건수다.
+ *
+ * <pre>./gradlew :stream-fix-adapters:adapter-persistence:jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserMovieDownloadInsertBenchmark {
+
+  private static final int INSERTS_PER_INVOCATION = 100;
+  private static final int PRELOAD_BATCH_SIZE = 1_000;
+  private static final int USERS = 10_000;
+  private static final int MOVIES = 5_000;
+
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO user_movie_downloads
+          (USER_MOVIE_DOWNLOAD_ID, USER_ID, MOVIE_ID,
+           CREATED_AT, CREATED_BY, MODIFIED_AT, MODIFIED_BY)
+      VALUES (?, ?, ?, ?, 'benchmark', ?, 'benchmark')
+      """;
+
+  @Param({"before", "after"})
+  public String schema;
+
+  @Param({"200000"})
+  public int preloadRows;
+
+  private MySQLContainer<?> mysql;
+  private Connection connection;
+  private PreparedStatement insert;
+  private String[] userIds;
+  private String[] movieIds;
+
+  @Setup
+  public void setUp() throws SQLException {
+    mysql =
+        new MySQLContainer<>("mysql:8.0.33")
+            .withDatabaseName("streamfix")
+            .withUsername("root")
+            .withPassword("admin")
+            .withUrlParam("rewriteBatchedStatements", "true");
+    mysql.start();
+
+    Flyway.configure()
+        .dataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())
+        .locations("classpath:flyway")
+        .target("before".equals(schema) ? "7" : "latest")
+        .load()
+        .migrate();
+
+    userIds = randomIds(USERS);
+    movieIds = randomIds(MOVIES);
+    connection =
+        DriverManager.getConnection(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+    insert = connection.prepareStatement(INSERT_SQL);
+    preload();
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    connection.close();
+    mysql.stop();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(INSERTS_PER_INVOCATION)
+  public void insert() throws SQLException {
+    for (int i = 0; i < INSERTS_PER_INVOCATION; i++) {
+      bind();
+      insert.executeUpdate();
+    }
+  }
+
+  private void preload() throws SQLException {
+    connection.setAutoCommit(false);
+    for (int row = 1; row <= preloadRows; row++) {
+      bind();
+      insert.addBatch();
+      if (row % PRELOAD_BATCH_SIZE == 0) {
+        insert.executeBatch();
+        connection.commit();
+      }
+    }
+    insert.executeBatch();
+    connection.commit();
+    connection.setAutoCommit(true);
+  }
+
+  // before 는 변경 전처럼 UUIDv4 문자열, after 는 UserMovieDownload.newDownload 와 같이 UUIDv7 을 쓴다.
+  private void bind() throws SQLException {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    String userId = userIds[random.nextInt(USERS)];
+    String movieId = movieIds[random.nextInt(MOVIES)];
+    if ("before".equals(schema)) {
+      insert.setString(1, UUID.randomUUID().toString());
+      insert.setString(2, userId);
+      insert.setString(3, movieId);
+    } else {
+      insert.setBytes(1, UuidBinaryConverter.toBytes(TimeOrderedId.next()));
+      insert.setBytes(2, UuidBinaryConverter.toBytes(userId));
+      insert.setBytes(3, UuidBinaryConverter.toBytes(movieId));
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    insert.setTimestamp(4, now);
+    insert.setTimestamp(5, now);
+  }
+
+  private static String[] randomIds(int size) {
+    String[] ids = new String[size];
+    for (int i = 0; i < size; i++) {
+      ids[i] = TimeOrderedId.next();
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,120 @@
+package com.shokoku.streamfix.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 2차 캐시는 pod 마다 로컬이라 한 pod 의 변경이 다른 pod 의 캐시에는 반영되지 않는다.
+ *
+ * <p>캐시 대상 엔티티가 커밋되면 {@link EntityCacheInvalidationPort} 로 다른 pod 에 알리고, 받은 쪽은 해당 엔티티와 쿼리
+ * 캐시를 비운다. 쿼리 캐시는 어떤 결과에 그 엔티티가 들어 있는지 알 수 없어 region 통째로 비운다.
+ */
+@Slf4j
+@Component
+public class SecondLevelCacheInvalidator
+    implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+  private final SessionFactoryImplementor sessionFactory;
+  private final ObjectProvider<EntityCacheInvalidationPort> invalidationPort;
+
+  public SecondLevelCacheInvalidator(
+      EntityManagerFactory entityManagerFactory,
+      ObjectProvider<EntityCacheInvalidationPort> invalidationPort) {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    this.invalidationPort = invalidationPort;
+
+    EventListenerRegistry registry =
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+    registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  /**
+   * JPA 를 거치지 않고 JDBC 로 쓴 경우 Hibernate 가 쿼리 캐시를 무효화하지 못한다. 커밋 뒤에 로컬 쿼리 캐시를 비우고 다른 pod
+   * 에도 알린다.
+   */
+  public void evictQueries(Class<?> entityClass) {
+    String entityName = entityClass.getName();
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evictQueriesNow(entityName);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            evictQueriesNow(entityName);
+          }
+        });
+  }
+
+  @EventListener
+  public void onRemoteInvalidation(EntityCacheInvalidation invalidation) {
+    if (invalidation.id() != null) {
+      sessionFactory.getCache().evictEntityData(invalidation.entityName(), invalidation.id());
+    }
+    sessionFactory.getCache().evictQueryRegions();
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {}
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {}
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {}
+
+  // 캐시 대상 엔티티에만 커밋 후 이벤트를 받는다.
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return persister.canWriteToCache();
+  }
+
+  private void evictQueriesNow(String entityName) {
+    sessionFactory.getCache().evictQueryRegions();
+    invalidationPort.ifAvailable(it -> it.publish(new EntityCacheInvalidation(entityName, null)));
+  }
+
+  private void publish(EntityPersister persister, Object id) {
+    if (!persister.canWriteToCache()) {
+      return;
+    }
+    invalidationPort.ifAvailable(
+        it -> it.publish(new EntityCacheInvalidation(persister.getEntityName(), id.toString())));
+  }
+}
@@ -0,0 +1,56 @@
+package com.shokoku.streamfix.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.ToLongFunction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/** 2차 캐시 region 별 hit/miss/put 을 streamfix.jpa.cache.* 로 내보낸다. */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+  private final SessionFactoryImplementor sessionFactory;
+
+  public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Statistics statistics = sessionFactory.getStatistics();
+    for (String region : sessionFactory.getCache().getCacheRegionNames()) {
+      requests(registry, statistics, region, "hit", CacheRegionStatistics::getHitCount);
+      requests(registry, statistics, region, "miss", CacheRegionStatistics::getMissCount);
+      FunctionCounter.builder(
+              "streamfix.jpa.cache.puts",
+              statistics,
+              it -> count(it, region, CacheRegionStatistics::getPutCount))
+          .tag("region", region)
+          .register(registry);
+    }
+  }
+
+  private static void requests(
+      MeterRegistry registry,
+      Statistics statistics,
+      String region,
+      String result,
+      ToLongFunction<CacheRegionStatistics> counter) {
+    FunctionCounter.builder(
+            "streamfix.jpa.cache.requests", statistics, it -> count(it, region, counter))
+        .tag("region", region)
+        .tag("result", result)
+        .register(registry);
+  }
+
+  private static double count(
+      Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> counter) {
+    CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+    return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+  }
+}
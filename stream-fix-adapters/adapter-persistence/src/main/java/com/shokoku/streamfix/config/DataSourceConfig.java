@@ -1,17 +1,93 @@
 package com.shokoku.streamfix.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
+/**
+ * spring.datasource.replicas.pools 에 replica 를 하나 이상 설정하면 읽기 전용 트랜잭션을 replica 로 보낸다. 설정하지 않으면
+ * primary 하나만 쓴다.
+ *
+ * <p>replica pool 은 jdbc-url 외에 설정하지 않은 값(계정, 드라이버, pool 크기 등)을 primary 에서 물려받는다.
+ */
+@Slf4j
 @Configuration
 public class DataSourceConfig {
 
+  static final String REPLICAS_PREFIX = "spring.datasource.replicas.pools";
+
   @Bean
   @ConfigurationProperties(prefix = "spring.datasource.hikari")
-  public DataSource dataSource() {
-    return DataSourceBuilder.create().build();
+  public HikariDataSource primaryDataSource() {
+    return DataSourceBuilder.create().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      HikariDataSource primaryDataSource,
+      Environment environment,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${spring.datasource.replicas.load-balance:ROUND_ROBIN}")
+          ReplicaLoadBalance loadBalance,
+      @Value("${spring.datasource.replicas.read-after-write-millis:1000}")
+          long readAfterWriteMillis) {
+    MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    List<DataSource> replicas = replicas(primaryDataSource, environment, registry);
+    if (replicas.isEmpty()) {
+      return primaryDataSource;
+    }
+
+    log.info("routing read-only transactions to {} replica(s), {}", replicas.size(), loadBalance);
+    LazyConnectionDataSourceProxy dataSource =
+        new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                loadBalance,
+                Duration.ofMillis(readAfterWriteMillis),
+                registry));
+    // 기본값을 알아내려고 커넥션을 미리 얻지 않도록 MySQL 기본값을 알려 준다.
+    dataSource.setDefaultAutoCommit(true);
+    dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+    return dataSource;
+  }
+
+  private static List<DataSource> replicas(
+      HikariDataSource primary, Environment environment, MeterRegistry meterRegistry) {
+    Binder binder = Binder.get(environment);
+    List<DataSource> replicas = new ArrayList<>();
+    for (int i = 0; binder.bind(pool(i) + ".jdbc-url", String.class).isBound(); i++) {
+      HikariDataSource replica = new HikariDataSource();
+      primary.copyStateTo(replica);
+      replica.setPoolName("streamfix-replica-" + i);
+      replica.setReadOnly(true);
+      binder.bind(pool(i), Bindable.ofInstance(replica));
+      replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+      replicas.add(replica);
+    }
+    return replicas;
+  }
+
+  private static String pool(int index) {
+    return REPLICAS_PREFIX + "[" + index + "]";
   }
 }
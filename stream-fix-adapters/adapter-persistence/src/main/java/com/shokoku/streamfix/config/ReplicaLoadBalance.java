@@ -0,0 +1,9 @@
+package com.shokoku.streamfix.config;
+
+/** 읽기 전용 트랜잭션을 어느 replica 로 보낼지 */
+public enum ReplicaLoadBalance {
+  /** 차례대로 돌아가며 보낸다. */
+  ROUND_ROBIN,
+  /** 사용 중인 커넥션이 가장 적은 replica 로 보낸다. */
+  LEAST_CONNECTIONS
+}
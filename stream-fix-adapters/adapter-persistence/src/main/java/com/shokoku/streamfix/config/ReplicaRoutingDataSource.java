@@ -0,0 +1,181 @@
+package com.shokoku.streamfix.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 로 보내는 DataSource
+ *
+ * <ul>
+ *   <li>{@code @Transactional(readOnly = true)} 안에서 얻는 커넥션만 replica 로 보낸다. 트랜잭션 밖의 조회와 쓰기는
+ *       primary 를 쓴다.
+ *   <li>같은 스레드에서 쓰기 트랜잭션을 연 뒤 readAfterWrite 동안은 읽기도 primary 로 보낸다. 방금 쓴 값을 복제 지연 때문에 못 읽는 일을
+ *       막는다.
+ *   <li>replica 커넥션을 얻지 못하면 primary 로 대신 읽는다.
+ * </ul>
+ *
+ * <p>쓰기 시각은 스레드에 남으므로 요청이 끝나면 {@link #clearReadAfterWrite()} 로 지워야 다음 요청으로 넘어가지 않는다.
+ *
+ * <p>트랜잭션이 시작될 때는 아직 읽기 전용 여부가 정해지지 않았으므로 {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸 첫 쿼리에서 커넥션을 얻도록 해야 한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+  private static final ThreadLocal<Long> lastWriteAt = new ThreadLocal<>();
+
+  private final DataSource primary;
+  private final List<DataSource> replicas;
+  private final ReplicaLoadBalance loadBalance;
+  private final long readAfterWriteNanos;
+  private final LongSupplier nanoClock;
+
+  private final AtomicInteger next = new AtomicInteger();
+
+  private final Counter primaryRoutes;
+  private final Counter readAfterWriteRoutes;
+  private final List<Counter> replicaRoutes;
+  private final Counter fallbacks;
+
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      List<DataSource> replicas,
+      ReplicaLoadBalance loadBalance,
+      Duration readAfterWrite,
+      MeterRegistry meterRegistry) {
+    this(primary, replicas, loadBalance, readAfterWrite, meterRegistry, System::nanoTime);
+  }
+
+  ReplicaRoutingDataSource(
+      DataSource primary,
+      List<DataSource> replicas,
+      ReplicaLoadBalance loadBalance,
+      Duration readAfterWrite,
+      MeterRegistry meterRegistry,
+      LongSupplier nanoClock) {
+    if (replicas.isEmpty()) {
+      throw new IllegalArgumentException("replicas must not be empty");
+    }
+    this.primary = primary;
+    this.replicas = List.copyOf(replicas);
+    this.loadBalance = loadBalance;
+    this.readAfterWriteNanos = readAfterWrite.toNanos();
+    this.nanoClock = nanoClock;
+
+    this.primaryRoutes = routes(meterRegistry, "primary", "write");
+    this.readAfterWriteRoutes = routes(meterRegistry, "primary", "read-after-write");
+    this.replicaRoutes =
+        this.replicas.stream().map(it -> routes(meterRegistry, poolName(it), "read")).toList();
+    this.fallbacks =
+        Counter.builder("streamfix.datasource.replica.fallbacks").register(meterRegistry);
+  }
+
+  /** 현재 스레드의 read-after-write 구간을 끝낸다. 요청을 마칠 때 부른다. */
+  public static void clearReadAfterWrite() {
+    lastWriteAt.remove();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return getConnection(DataSource::getConnection);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return getConnection(it -> it.getConnection(username, password));
+  }
+
+  private Connection getConnection(ConnectionSource source) throws SQLException {
+    int replica = route();
+    if (replica < 0) {
+      return source.from(primary);
+    }
+
+    try {
+      return source.from(replicas.get(replica));
+    } catch (SQLException e) {
+      log.warn("replica {} unavailable, reading from primary", poolName(replicas.get(replica)), e);
+      fallbacks.increment();
+      return source.from(primary);
+    }
+  }
+
+  // replica 의 순번, primary 로 보낼 때는 -1
+  int route() {
+    long now = nanoClock.getAsLong();
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (TransactionSynchronizationManager.isActualTransactionActive()) {
+        lastWriteAt.set(now);
+      }
+      primaryRoutes.increment();
+      return -1;
+    }
+
+    Long wroteAt = lastWriteAt.get();
+    if (wroteAt != null && now - wroteAt < readAfterWriteNanos) {
+      readAfterWriteRoutes.increment();
+      return -1;
+    }
+
+    int replica =
+        switch (loadBalance) {
+          case ROUND_ROBIN -> Math.floorMod(next.getAndIncrement(), replicas.size());
+          case LEAST_CONNECTIONS -> leastConnections();
+        };
+    replicaRoutes.get(replica).increment();
+    return replica;
+  }
+
+  private int leastConnections() {
+    int least = 0;
+    int leastActive = Integer.MAX_VALUE;
+    for (int i = 0; i < replicas.size(); i++) {
+      int active = activeConnections(replicas.get(i));
+      if (active < leastActive) {
+        least = i;
+        leastActive = active;
+      }
+    }
+    return least;
+  }
+
+  // 아직 한 번도 커넥션을 얻지 않은 pool 은 시작 전이라 MXBean 이 없다.
+  private static int activeConnections(DataSource dataSource) {
+    if (dataSource instanceof HikariDataSource hikari) {
+      HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+      return pool == null ? 0 : pool.getActiveConnections();
+    }
+    return 0;
+  }
+
+  private static String poolName(DataSource dataSource) {
+    if (dataSource instanceof HikariDataSource hikari && hikari.getPoolName() != null) {
+      return hikari.getPoolName();
+    }
+    return dataSource.toString();
+  }
+
+  private static Counter routes(MeterRegistry meterRegistry, String pool, String reason) {
+    return Counter.builder("streamfix.datasource.routes")
+        .tag("pool", pool)
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSource {
+    Connection from(DataSource dataSource) throws SQLException;
+  }
+}
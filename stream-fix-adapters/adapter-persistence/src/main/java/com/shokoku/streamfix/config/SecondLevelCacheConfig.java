@@ -0,0 +1,108 @@
+package com.shokoku.streamfix.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.shokoku.streamfix.entity.CacheRegions;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 자주 읽고 드물게 바뀌는 엔티티(영화, 구독)를 Hibernate 2차 캐시와 쿼리 캐시로 서빙한다.
+ *
+ * <p>저장소는 JCache(Caffeine) 로 pod 마다 로컬이다. region 별 크기와 TTL 은
+ * persistence.second-level-cache.regions.&lt;region&gt;.maximum-size / expire-after-write 로 바꾼다. 다른
+ * pod 의 변경은 {@link com.shokoku.streamfix.cache.SecondLevelCacheInvalidator} 가 전달한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(
+    name = "persistence.second-level-cache.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+  static final String REGIONS_PREFIX = "persistence.second-level-cache.regions";
+
+  static final Map<String, Region> DEFAULT_REGIONS =
+      Map.of(
+          CacheRegions.MOVIE, new Region(10_000L, Duration.ofMinutes(10)),
+          CacheRegions.USER_SUBSCRIPTION, new Region(50_000L, Duration.ofMinutes(5)),
+          CacheRegions.QUERY_RESULTS, new Region(10_000L, Duration.ofMinutes(5)),
+          // update timestamps 가 먼저 사라지면 오래된 쿼리 결과를 돌려줄 수 있어 만료시키지 않는다.
+          CacheRegions.UPDATE_TIMESTAMPS, new Region(10_000L, null));
+
+  @Bean(destroyMethod = "close")
+  public CacheManager secondLevelCacheManager(Environment environment) {
+    CacheManager cacheManager =
+        Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+    Binder binder = Binder.get(environment);
+    for (Map.Entry<String, Region> it : regions(binder).entrySet()) {
+      Region region = it.getValue();
+      CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+      configuration.setStoreByValue(false);
+      configuration.setStatisticsEnabled(true);
+      configuration.setMaximumSize(
+          region.maximumSize() == null
+              ? OptionalLong.empty()
+              : OptionalLong.of(region.maximumSize()));
+      configuration.setExpireAfterWrite(
+          region.expireAfterWrite() == null
+              ? OptionalLong.empty()
+              : OptionalLong.of(region.expireAfterWrite().toNanos()));
+      cacheManager.createCache(it.getKey(), configuration);
+      log.info("second level cache region {}: {}", it.getKey(), region);
+    }
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager cacheManager) {
+    return properties -> {
+      properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+      properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+      properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+      properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+      // 설정하지 않은 region 을 만들지 않고 기동을 실패시킨다.
+      properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+      properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+    };
+  }
+
+  static Map<String, Region> regions(Binder binder) {
+    Map<String, Region> regions = new LinkedHashMap<>();
+    DEFAULT_REGIONS.forEach(
+        (name, defaults) -> {
+          String prefix = REGIONS_PREFIX + "." + name;
+          regions.put(
+              name,
+              new Region(
+                  binder
+                      .bind(prefix + ".maximum-size", Long.class)
+                      .orElse(defaults.maximumSize()),
+                  binder
+                      .bind(prefix + ".expire-after-write", Duration.class)
+                      .orElse(defaults.expireAfterWrite())));
+        });
+    return regions;
+  }
+
+  /**
+   * @param maximumSize null 이면 크기 제한 없음
+   * @param expireAfterWrite null 이면 만료 없음
+   */
+  record Region(Long maximumSize, Duration expireAfterWrite) {}
+}
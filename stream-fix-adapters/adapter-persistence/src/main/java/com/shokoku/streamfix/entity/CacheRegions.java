@@ -0,0 +1,12 @@
+package com.shokoku.streamfix.entity;
+
+/** 2차 캐시 region 이름. region 별 크기/TTL 은 SecondLevelCacheConfig 에서 정한다. */
+public final class CacheRegions {
+
+  public static final String MOVIE = "movie";
+  public static final String USER_SUBSCRIPTION = "user-subscription";
+  public static final String QUERY_RESULTS = "default-query-results-region";
+  public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+  private CacheRegions() {}
+}
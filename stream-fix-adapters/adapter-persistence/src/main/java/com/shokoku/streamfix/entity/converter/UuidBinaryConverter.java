@@ -0,0 +1,39 @@
+package com.shokoku.streamfix.entity.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * 문자열 UUID 를 BINARY(16) 컬럼에 저장한다.
+ *
+ * <p>도메인과 API 는 지금처럼 36자 문자열을 쓰고, DB 에는 MySQL UUID_TO_BIN(uuid) 과 같은 바이트 순서로 저장한다.
+ * 바이트 순서가 문자열 순서와 같으므로 keyset 조건(MOVIE_ID &gt; ?)의 결과도 바뀌지 않는다.
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+  @Override
+  public byte[] convertToDatabaseColumn(String attribute) {
+    return attribute == null ? null : toBytes(attribute);
+  }
+
+  @Override
+  public String convertToEntityAttribute(byte[] dbData) {
+    return dbData == null ? null : fromBytes(dbData);
+  }
+
+  public static byte[] toBytes(String uuid) {
+    UUID parsed = UUID.fromString(uuid);
+    return ByteBuffer.allocate(16)
+        .putLong(parsed.getMostSignificantBits())
+        .putLong(parsed.getLeastSignificantBits())
+        .array();
+  }
+
+  public static String fromBytes(byte[] bytes) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong()).toString();
+  }
+}
@@ -1,20 +1,28 @@
 package com.shokoku.streamfix.entity.movie;
 
 import com.shokoku.streamfix.audit.MutableBaseEntity;
+import com.shokoku.streamfix.entity.CacheRegions;
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
+import com.shokoku.streamfix.id.TimeOrderedId;
 import com.shokoku.streamfix.movie.StreamFixMovie;
 import io.micrometer.common.util.StringUtils;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
-import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MOVIE)
 @Table(name = "movies")
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -22,6 +30,7 @@ public class MovieEntity extends MutableBaseEntity {
 
   @Id
   @Column(name = "MOVIE_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String movieId;
 
   @Column(name = "MOVIE_NAME")
@@ -41,6 +50,7 @@ public class MovieEntity extends MutableBaseEntity {
 
   public StreamFixMovie toDomain() {
     return StreamFixMovie.builder()
+        .movieId(this.movieId)
         .movieName(this.movieName)
         .isAdult(this.isAdult)
         .genre(this.genre)
@@ -52,7 +62,7 @@ public class MovieEntity extends MutableBaseEntity {
   public static MovieEntity newEntity(
       String movieName, Boolean isAdult, String genre, String overview, String releasedAt) {
     return new MovieEntity(
-        UUID.randomUUID().toString(),
+        TimeOrderedId.next(),
         movieName,
         isAdult,
         genre,
@@ -1,8 +1,10 @@
 package com.shokoku.streamfix.entity.movie;
 
 import com.shokoku.streamfix.audit.MutableBaseEntity;
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
 import com.shokoku.streamfix.movie.UserMovieDownload;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -20,12 +22,15 @@ public class UserMovieDownloadEntity extends MutableBaseEntity {
 
   @Id
   @Column(name = "USER_MOVIE_DOWNLOAD_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String userMovieDownloadId;
 
   @Column(name = "USER_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String userId;
 
   @Column(name = "MOVIE_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String movieId;
 
   public UserMovieDownload toDomain() {
@@ -1,8 +1,10 @@
 package com.shokoku.streamfix.entity.movie;
 
 import com.shokoku.streamfix.audit.MutableBaseEntity;
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
 import com.shokoku.streamfix.movie.UserMovieLike;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -20,12 +22,15 @@ public class UserMovieLikeEntity extends MutableBaseEntity {
 
   @Id
   @Column(name = "USER_MOVIE_LIKE_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String userMovieLikeId;
 
   @Column(name = "USER_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String userId;
 
   @Column(name = "MOVIE_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String movieId;
 
   @Column(name = "LIKE_YN")
@@ -1,23 +1,31 @@
 package com.shokoku.streamfix.entity.subscription;
 
 import com.shokoku.streamfix.audit.MutableBaseEntity;
+import com.shokoku.streamfix.entity.CacheRegions;
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
+import com.shokoku.streamfix.id.TimeOrderedId;
 import com.shokoku.streamfix.subscription.SubscriptionType;
 import com.shokoku.streamfix.subscription.UserSubscription;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
-import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER_SUBSCRIPTION)
 @Table(name = "user_subscriptions")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -25,9 +33,11 @@ public class UserSubscriptionEntity extends MutableBaseEntity {
 
   @Id
   @Column(name = "USER_SUBSCRIPTION_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String userSubscriptionId;
 
   @Column(name = "USER_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String userId;
 
   @Enumerated(value = EnumType.STRING)
@@ -53,9 +63,16 @@ public class UserSubscriptionEntity extends MutableBaseEntity {
         .build();
   }
 
+  public void update(UserSubscription userSubscription) {
+    this.subscriptionType = userSubscription.getSubscriptionType();
+    this.subscriptionStartAt = userSubscription.getStartAt();
+    this.subscriptionEndAt = userSubscription.getEndAt();
+    this.validYn = userSubscription.getValidYn();
+  }
+
   public static UserSubscriptionEntity toEntity(UserSubscription userSubscription) {
     return new UserSubscriptionEntity(
-        UUID.randomUUID().toString(),
+        TimeOrderedId.next(),
         userSubscription.getUserId(),
         userSubscription.getSubscriptionType(),
         userSubscription.getStartAt(),
@@ -1,12 +1,14 @@
 package com.shokoku.streamfix.entity.token;
 
 import com.shokoku.streamfix.audit.MutableBaseEntity;
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
+import com.shokoku.streamfix.id.TimeOrderedId;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
-import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ public class TokenEntity extends MutableBaseEntity {
 
   @Id
   @Column(name = "TOKEN_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String tokenId;
 
   @Column(name = "USER_ID")
@@ -42,7 +45,7 @@ public class TokenEntity extends MutableBaseEntity {
       String refreshToken,
       LocalDateTime accessTokenExpiresAt,
       LocalDateTime refreshTokenExpiresAt) {
-    this.tokenId = UUID.randomUUID().toString();
+    this.tokenId = TimeOrderedId.next();
     this.userId = userId;
     this.accessToken = accessToken;
     this.refreshToken = refreshToken;
@@ -1,11 +1,13 @@
 package com.shokoku.streamfix.entity.user;
 
 import com.shokoku.streamfix.audit.MutableBaseEntity;
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
+import com.shokoku.streamfix.id.TimeOrderedId;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
-import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +20,7 @@ public class SocialUserEntity extends MutableBaseEntity {
 
   @Id
   @Column(name = "SOCIAL_USER_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String socialUserId;
 
   @Column(name = "USER_NAME")
@@ -30,7 +33,7 @@ public class SocialUserEntity extends MutableBaseEntity {
   private String providerId;
 
   public SocialUserEntity(String userName, String provider, String providerId) {
-    this.socialUserId = UUID.randomUUID().toString();
+    this.socialUserId = TimeOrderedId.next();
     this.userName = userName;
     this.provider = provider;
     this.providerId = providerId;
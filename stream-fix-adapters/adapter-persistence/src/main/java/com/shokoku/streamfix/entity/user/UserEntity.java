@@ -1,11 +1,13 @@
 package com.shokoku.streamfix.entity.user;
 
 import com.shokoku.streamfix.audit.MutableBaseEntity;
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
+import com.shokoku.streamfix.id.TimeOrderedId;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
-import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +20,7 @@ public class UserEntity extends MutableBaseEntity {
 
   @Id
   @Column(name = "USER_ID")
+  @Convert(converter = UuidBinaryConverter.class)
   private String userId;
 
   @Column(name = "USER_NAME")
@@ -33,7 +36,7 @@ public class UserEntity extends MutableBaseEntity {
   private String phone;
 
   public UserEntity(String userName, String password, String email, String phone) {
-    this.userId = UUID.randomUUID().toString();
+    this.userId = TimeOrderedId.next();
     this.userName = userName;
     this.password = password;
     this.email = email;
@@ -1,6 +1,9 @@
 package com.shokoku.streamfix.repository.movie;
 
 import com.shokoku.streamfix.entity.movie.MovieEntity;
+import com.shokoku.streamfix.movie.MovieCursor;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,5 +12,13 @@ public interface MovieCustomRepository {
 
   Optional<MovieEntity> findByMovieName(String name);
 
+  List<String> findMovieNamesIn(Collection<String> names);
+
   Page<MovieEntity> search(Pageable pageable);
+
+  List<MovieEntity> searchSlice(long offset, int limit);
+
+  List<MovieEntity> searchAfter(MovieCursor cursor, int limit);
+
+  long countAll();
 }
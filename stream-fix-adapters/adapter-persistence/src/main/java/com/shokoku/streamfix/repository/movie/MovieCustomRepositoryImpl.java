@@ -2,14 +2,18 @@ package com.shokoku.streamfix.repository.movie;
 
 import static com.shokoku.streamfix.entity.movie.QMovieEntity.*;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.shokoku.streamfix.entity.movie.MovieEntity;
+import com.shokoku.streamfix.movie.MovieCursor;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -23,11 +27,21 @@ public class MovieCustomRepositoryImpl implements MovieCustomRepository {
     return jpaQueryFactory
         .selectFrom(movieEntity)
         .where(movieEntity.movieName.eq(name))
+        .setHint(HibernateHints.HINT_CACHEABLE, true)
         .fetch()
         .stream()
         .findFirst();
   }
 
+  @Override
+  public List<String> findMovieNamesIn(Collection<String> names) {
+    return jpaQueryFactory
+        .select(movieEntity.movieName)
+        .from(movieEntity)
+        .where(movieEntity.movieName.in(names))
+        .fetch();
+  }
+
   @Override
   public Page<MovieEntity> search(Pageable pageable) {
     List<MovieEntity> fetch =
@@ -37,8 +51,54 @@ public class MovieCustomRepositoryImpl implements MovieCustomRepository {
             .limit(pageable.getPageSize())
             .fetch();
 
-    long count = jpaQueryFactory.selectFrom(movieEntity).fetch().size();
+    return PageableExecutionUtils.getPage(fetch, pageable, this::countAll);
+  }
+
+  @Override
+  public List<MovieEntity> searchSlice(long offset, int limit) {
+    return jpaQueryFactory
+        .selectFrom(movieEntity)
+        .orderBy(movieEntity.releasedAt.asc(), movieEntity.movieId.asc())
+        .offset(offset)
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public List<MovieEntity> searchAfter(MovieCursor cursor, int limit) {
+    return jpaQueryFactory
+        .selectFrom(movieEntity)
+        .where(after(cursor))
+        .orderBy(movieEntity.releasedAt.asc(), movieEntity.movieId.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public long countAll() {
+    Long count = jpaQueryFactory.select(movieEntity.count()).from(movieEntity).fetchOne();
+    return count == null ? 0L : count;
+  }
 
-    return new PageImpl<>(fetch, pageable, count);
+  // MySQL 은 오름차순 정렬 시 RELEASED_AT 이 NULL 인 행을 먼저 내보낸다.
+  private static BooleanExpression after(MovieCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    if (cursor.releasedAt() == null) {
+      return movieEntity
+          .releasedAt
+          .isNull()
+          .and(movieEntity.movieId.gt(cursor.movieId()))
+          .or(movieEntity.releasedAt.isNotNull());
+    }
+    return movieEntity
+        .releasedAt
+        .gt(cursor.releasedAt())
+        .or(
+            movieEntity
+                .releasedAt
+                .eq(cursor.releasedAt())
+                .and(movieEntity.movieId.gt(cursor.movieId())));
   }
 }
@@ -0,0 +1,122 @@
+package com.shokoku.streamfix.repository.movie;
+
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 영화 ID 에 촘촘한 정수 번호(movie_ordinals)를 붙인다.
+ *
+ * <p>번호는 한 번 붙으면 바뀌지 않아 읽은 매핑을 메모리에 계속 들고 있는다. 새 영화는 저장할 때, 번호가 없는 영화는 좋아요를 저장할 때
+ * 번호를 받는다. 번호가 없는 영화는 아무도 좋아요하지 않은 영화다.
+ */
+@Slf4j
+@Component
+public class MovieOrdinalRegistry {
+
+  private static final int ASSIGN_ATTEMPTS = 3;
+
+  private static final String SELECT_SQL =
+      "SELECT MOVIE_ID, MOVIE_ORDINAL FROM movie_ordinals WHERE MOVIE_ID IN (%s)";
+
+  private static final String ASSIGN_SQL =
+      """
+      INSERT INTO movie_ordinals (MOVIE_ID)
+      SELECT ? FROM DUAL
+      WHERE NOT EXISTS (SELECT 1 FROM movie_ordinals WHERE MOVIE_ID = ?)
+      """;
+
+  // INSERT IGNORE 로 무시된 영화에는 번호를 붙이지 않는다.
+  private static final String ASSIGN_NEW_MOVIE_SQL =
+      """
+      INSERT INTO movie_ordinals (MOVIE_ID)
+      SELECT MOVIE_ID FROM movies WHERE MOVIE_ID = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate requiresNew;
+  private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+
+  public MovieOrdinalRegistry(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /** 번호가 있는 영화만 담아 돌려준다. */
+  public Map<String, Integer> ordinalsOf(Collection<String> movieIds) {
+    Map<String, Integer> found = new HashMap<>();
+    List<String> missing = new ArrayList<>();
+    for (String movieId : new LinkedHashSet<>(movieIds)) {
+      Integer ordinal = ordinals.get(movieId);
+      if (ordinal == null) {
+        missing.add(movieId);
+      } else {
+        found.put(movieId, ordinal);
+      }
+    }
+    if (missing.isEmpty()) {
+      return found;
+    }
+
+    jdbcTemplate.query(
+        SELECT_SQL.formatted(String.join(",", Collections.nCopies(missing.size(), "?"))),
+        rs -> {
+          String movieId = UuidBinaryConverter.fromBytes(rs.getBytes(1));
+          int ordinal = rs.getInt(2);
+          ordinals.put(movieId, ordinal);
+          found.put(movieId, ordinal);
+        },
+        missing.stream().map(UuidBinaryConverter::toBytes).toArray());
+    return found;
+  }
+
+  /**
+   * 번호가 없으면 새로 붙인다. 동시에 같은 영화에 번호를 붙이면 먼저 붙인 번호를 쓴다.
+   *
+   * <p>NOT EXISTS 조회의 gap lock 끼리 deadlock 이 날 수 있어 좋아요 트랜잭션과 따로 커밋하고 몇 번 다시 시도한다. 끝내 붙이지 못해도
+   * 좋아요는 실패시키지 않는다. 이 영화의 다음 좋아요가 번호를 붙일 때까지 bitmap 에서만 빠진다.
+   */
+  public void assign(String movieId) {
+    if (ordinals.containsKey(movieId)) {
+      return;
+    }
+    byte[] id = UuidBinaryConverter.toBytes(movieId);
+    for (int attempt = 1; ; attempt++) {
+      try {
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(ASSIGN_SQL, id, id));
+        return;
+      } catch (DuplicateKeyException e) {
+        // 다른 요청이 먼저 번호를 붙였다.
+        return;
+      } catch (PessimisticLockingFailureException e) {
+        if (attempt >= ASSIGN_ATTEMPTS) {
+          log.warn("movie ordinal assign failed. movieId={}", movieId, e);
+          return;
+        }
+      }
+    }
+  }
+
+  /** 방금 저장한 영화들에 번호를 붙인다. */
+  public void assignNewMovies(List<String> movieIds) {
+    jdbcTemplate.batchUpdate(
+        ASSIGN_NEW_MOVIE_SQL,
+        movieIds,
+        movieIds.size(),
+        (ps, it) -> ps.setBytes(1, UuidBinaryConverter.toBytes(it)));
+  }
+}
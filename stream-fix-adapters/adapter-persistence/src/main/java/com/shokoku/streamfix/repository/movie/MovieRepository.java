@@ -1,23 +1,57 @@
 package com.shokoku.streamfix.repository.movie;
 
+import com.shokoku.streamfix.cache.SecondLevelCacheInvalidator;
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
 import com.shokoku.streamfix.entity.movie.MovieEntity;
+import com.shokoku.streamfix.movie.MovieCursor;
+import com.shokoku.streamfix.movie.MovieInsertResult;
+import com.shokoku.streamfix.movie.MovieSlice;
 import com.shokoku.streamfix.movie.PersistenceMoviePort;
 import com.shokoku.streamfix.movie.StreamFixMovie;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class MovieRepository implements PersistenceMoviePort {
 
+  // MOVIE_NAME 유니크 인덱스로 다른 writer 와 동시에 들어온 같은 이름은 무시된다.
+  // ON DUPLICATE KEY 의 no-op 은 드라이버 기본값(found rows)에서 1 로 집계되어, 무시된 행이 0 으로 남는 IGNORE 를 쓴다.
+  private static final String INSERT_SQL =
+      """
+      INSERT IGNORE INTO movies
+          (MOVIE_ID, MOVIE_NAME, IS_ADULT, GENRE, OVERVIEW, RELEASED_AT,
+           CREATED_AT, CREATED_BY, MODIFIED_AT, MODIFIED_BY)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String SELECT_EXISTING_IDS_SQL =
+      "SELECT BIN_TO_UUID(MOVIE_ID) FROM movies WHERE MOVIE_ID IN (%s)";
+
+  private static final String SYSTEM = "system";
+
   private final MovieJpaRepository movieJpaRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+  private final MovieOrdinalRegistry movieOrdinalRegistry;
 
   @Override
-  @Transactional
+  @Transactional(readOnly = true)
   public List<StreamFixMovie> fetchBy(int page, int size) {
     return movieJpaRepository.search(PageRequest.of(page, size)).stream()
         .map(MovieEntity::toDomain)
@@ -25,7 +59,39 @@ public class MovieRepository implements PersistenceMoviePort {
   }
 
   @Override
-  @Transactional
+  @Transactional(readOnly = true)
+  public MovieSlice fetchSlice(int page, int size) {
+    return toSlice(movieJpaRepository.searchSlice((long) page * size, size + 1), size);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public MovieSlice fetchAfter(MovieCursor cursor, int size) {
+    return toSlice(movieJpaRepository.searchAfter(cursor, size + 1), size);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long count() {
+    return movieJpaRepository.countAll();
+  }
+
+  // size + 1 건을 조회해 초과분이 있으면 다음 페이지가 있다고 판단한다.
+  private static MovieSlice toSlice(List<MovieEntity> rows, int size) {
+    if (rows.size() <= size) {
+      return new MovieSlice(rows.stream().map(MovieEntity::toDomain).toList(), null);
+    }
+
+    List<MovieEntity> content = rows.subList(0, size);
+    MovieEntity last = content.get(size - 1);
+    return new MovieSlice(
+        content.stream().map(MovieEntity::toDomain).toList(),
+        new MovieCursor(last.getReleasedAt(), last.getMovieId()));
+  }
+
+  // 쿼리 캐시에 담길 결과라 replica 대신 트랜잭션 없이 primary 에서 읽는다. (UserSubscriptionRepository 참고)
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public StreamFixMovie findBy(String movieName) {
     return movieJpaRepository.findByMovieName(movieName).map(MovieEntity::toDomain).orElseThrow();
   }
@@ -49,4 +115,79 @@ public class MovieRepository implements PersistenceMoviePort {
             streamFixMovie.releasedAt());
     movieJpaRepository.save(movieEntity);
   }
+
+  @Override
+  @Transactional
+  public MovieInsertResult insertAll(List<StreamFixMovie> movies) {
+    Map<String, StreamFixMovie> byName = new LinkedHashMap<>();
+    movies.forEach(it -> byName.putIfAbsent(it.movieName(), it));
+    if (byName.isEmpty()) {
+      return new MovieInsertResult(0, movies.size());
+    }
+
+    Set<String> existingNames =
+        new HashSet<>(movieJpaRepository.findMovieNamesIn(byName.keySet()));
+    List<MovieEntity> newEntities =
+        byName.values().stream()
+            .filter(it -> !existingNames.contains(it.movieName()))
+            .map(
+                it ->
+                    MovieEntity.newEntity(
+                        it.movieName(), it.isAdult(), it.genre(), it.overview(), it.releasedAt()))
+            .toList();
+
+    if (newEntities.isEmpty()) {
+      return new MovieInsertResult(0, movies.size());
+    }
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    int[][] counts =
+        jdbcTemplate.batchUpdate(
+            INSERT_SQL,
+            newEntities,
+            newEntities.size(),
+            (ps, entity) -> {
+              ps.setBytes(1, UuidBinaryConverter.toBytes(entity.getMovieId()));
+              ps.setString(2, entity.getMovieName());
+              ps.setObject(3, entity.getIsAdult());
+              ps.setString(4, entity.getGenre());
+              ps.setString(5, entity.getOverview());
+              ps.setString(6, entity.getReleasedAt());
+              ps.setTimestamp(7, now);
+              ps.setString(8, SYSTEM);
+              ps.setTimestamp(9, now);
+              ps.setString(10, SYSTEM);
+            });
+    List<String> insertedIds = insertedIds(newEntities, counts);
+    if (!insertedIds.isEmpty()) {
+      movieOrdinalRegistry.assignNewMovies(insertedIds);
+      secondLevelCacheInvalidator.evictQueries(MovieEntity.class);
+    }
+    return new MovieInsertResult(insertedIds.size(), movies.size() - insertedIds.size());
+  }
+
+  /**
+   * 행마다 영향받은 행 수로 실제로 들어간 영화를 고른다.
+   *
+   * <p>rewriteBatchedStatements 로 multi-row INSERT 가 되면 드라이버는 행별 결과 대신 SUCCESS_NO_INFO 를 돌려준다. 그때는
+   * 방금 만든 ID 중 테이블에 있는 것을 다시 읽는다. 새로 만든 ID 라 있으면 이번 배치가 넣은 행이다.
+   */
+  private List<String> insertedIds(List<MovieEntity> entities, int[][] counts) {
+    int[] flat = Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+    if (Arrays.stream(flat).allMatch(it -> it >= 0)) {
+      List<String> inserted = new ArrayList<>();
+      for (int i = 0; i < flat.length; i++) {
+        if (flat[i] > 0) {
+          inserted.add(entities.get(i).getMovieId());
+        }
+      }
+      return inserted;
+    }
+
+    return jdbcTemplate.queryForList(
+        SELECT_EXISTING_IDS_SQL.formatted(
+            String.join(",", Collections.nCopies(entities.size(), "?"))),
+        String.class,
+        entities.stream().map(it -> UuidBinaryConverter.toBytes(it.getMovieId())).toArray());
+  }
 }
@@ -20,15 +20,17 @@ public class UserMovieDownloadCustomRepositoryImpl implements UserMovieDownloadC
     LocalDateTime startTime = now.truncatedTo(ChronoUnit.DAYS);
     LocalDateTime endTime = now.plusDays(1).truncatedTo(ChronoUnit.DAYS);
 
-    return jpaQueryFactory
-        .selectFrom(userMovieDownloadEntity)
-        .where(
-            userMovieDownloadEntity
-                .userId
-                .eq(userId)
-                .and(userMovieDownloadEntity.createdAt.goe(startTime))
-                .and(userMovieDownloadEntity.createdAt.lt(endTime)))
-        .fetch()
-        .size();
+    Long count =
+        jpaQueryFactory
+            .select(userMovieDownloadEntity.count())
+            .from(userMovieDownloadEntity)
+            .where(
+                userMovieDownloadEntity
+                    .userId
+                    .eq(userId)
+                    .and(userMovieDownloadEntity.createdAt.goe(startTime))
+                    .and(userMovieDownloadEntity.createdAt.lt(endTime)))
+            .fetchOne();
+    return count == null ? 0L : count;
   }
 }
@@ -1,21 +1,77 @@
 package com.shokoku.streamfix.repository.movie;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
 import com.shokoku.streamfix.entity.movie.UserMovieLikeEntity;
 import com.shokoku.streamfix.movie.LikeMoviePort;
+import com.shokoku.streamfix.movie.LikedMovieBitmapCachePort;
 import com.shokoku.streamfix.movie.UserMovieLike;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * 좋아요 저장과 조회
+ *
+ * <p>사용자별 좋아요 영화 집합을 영화 번호({@link MovieOrdinalRegistry}) 의 Roaring bitmap 으로 들고 있어 목록 한 페이지의
+ * 좋아요 여부를 쿼리 없이 답한다. bitmap 은 pod 로컬 캐시, Redis, DB 순으로 찾고, 좋아요가 바뀌면 로컬과 Redis 에서 지워 다음
+ * 조회 때 다시 만든다. 다른 pod 의 로컬 캐시는 local-ttl 이 지나야 바뀐 값을 본다.
+ */
+@Slf4j
 @Repository
-@RequiredArgsConstructor
 public class UserMovieLikeRepository implements LikeMoviePort {
 
+  // replica 에서 다시 만들면 복제 지연만큼 오래된 집합이 Redis 에 남는다. 트랜잭션 없이 primary 에서 읽는다.
+  private static final String LIKED_ORDINALS_SQL =
+      """
+      SELECT ordinals.MOVIE_ORDINAL
+      FROM user_movie_likes likes
+               JOIN movie_ordinals ordinals ON ordinals.MOVIE_ID = likes.MOVIE_ID
+      WHERE likes.USER_ID = ?
+        AND likes.LIKE_YN = TRUE
+      """;
+
   private final UserMovieLikeJpaRepository userMovieLikeJpaRepository;
+  private final MovieOrdinalRegistry movieOrdinalRegistry;
+  private final LikedMovieBitmapCachePort likedMovieBitmapCachePort;
+  private final JdbcTemplate jdbcTemplate;
+  private final Cache<String, RoaringBitmap> localBitmaps;
+
+  public UserMovieLikeRepository(
+      UserMovieLikeJpaRepository userMovieLikeJpaRepository,
+      MovieOrdinalRegistry movieOrdinalRegistry,
+      LikedMovieBitmapCachePort likedMovieBitmapCachePort,
+      JdbcTemplate jdbcTemplate,
+      @Value("${movie.like-bitmap.local-ttl-millis:5000}") long localTtlMillis,
+      @Value("${movie.like-bitmap.local-maximum-size:10000}") long localMaximumSize) {
+    this.userMovieLikeJpaRepository = userMovieLikeJpaRepository;
+    this.movieOrdinalRegistry = movieOrdinalRegistry;
+    this.likedMovieBitmapCachePort = likedMovieBitmapCachePort;
+    this.jdbcTemplate = jdbcTemplate;
+    this.localBitmaps =
+        Caffeine.newBuilder()
+            .maximumSize(localMaximumSize)
+            .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+            .build();
+  }
 
   @Override
   public void save(UserMovieLike domain) {
     userMovieLikeJpaRepository.save(UserMovieLikeEntity.toEntity(domain));
+    movieOrdinalRegistry.assign(domain.getMovieId());
+    evictAfterCommit(domain.getUserId());
   }
 
   @Override
@@ -24,4 +80,76 @@ public class UserMovieLikeRepository implements LikeMoviePort {
         .findByUserIdAndMovieId(userId, movieId)
         .map(UserMovieLikeEntity::toDomain);
   }
+
+  @Override
+  public Map<String, Boolean> findLikeStatus(String userId, Collection<String> movieIds) {
+    Map<String, Integer> ordinals = movieOrdinalRegistry.ordinalsOf(movieIds);
+    RoaringBitmap liked = ordinals.isEmpty() ? new RoaringBitmap() : likedOrdinals(userId);
+
+    Map<String, Boolean> status = new LinkedHashMap<>();
+    for (String movieId : movieIds) {
+      Integer ordinal = ordinals.get(movieId);
+      status.put(movieId, ordinal != null && liked.contains(ordinal));
+    }
+    return status;
+  }
+
+  private RoaringBitmap likedOrdinals(String userId) {
+    return localBitmaps.get(
+        userId,
+        it ->
+            likedMovieBitmapCachePort
+                .find(it)
+                .map(UserMovieLikeRepository::deserialize)
+                .orElseGet(() -> load(it)));
+  }
+
+  // 읽는 동안 좋아요가 바뀌어 지워졌다면 세대가 달라져 Redis 에 저장되지 않는다.
+  private RoaringBitmap load(String userId) {
+    long generation = likedMovieBitmapCachePort.generation(userId);
+    RoaringBitmap bitmap = new RoaringBitmap();
+    jdbcTemplate.query(
+        LIKED_ORDINALS_SQL, rs -> bitmap.add(rs.getInt(1)), UuidBinaryConverter.toBytes(userId));
+    bitmap.runOptimize();
+    likedMovieBitmapCachePort.save(userId, serialize(bitmap), generation);
+    return bitmap;
+  }
+
+  private void evictAfterCommit(String userId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict(userId);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            evict(userId);
+          }
+        });
+  }
+
+  private void evict(String userId) {
+    localBitmaps.invalidate(userId);
+    likedMovieBitmapCachePort.evict(userId);
+  }
+
+  static byte[] serialize(RoaringBitmap bitmap) {
+    ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+    bitmap.serialize(buffer);
+    return buffer.array();
+  }
+
+  // 읽을 수 없는 값이면 null 을 돌려 DB 에서 다시 만든다.
+  private static RoaringBitmap deserialize(byte[] bytes) {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    try {
+      bitmap.deserialize(ByteBuffer.wrap(bytes));
+      return bitmap;
+    } catch (IOException | RuntimeException e) {
+      log.warn("liked movie bitmap is unreadable, rebuilding from db", e);
+      return null;
+    }
+  }
 }
@@ -1,11 +1,15 @@
 package com.shokoku.streamfix.repository.subscription;
 
 import com.shokoku.streamfix.entity.subscription.UserSubscriptionEntity;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface UserSubscriptionJpaRepository
     extends JpaRepository<UserSubscriptionEntity, String> {
 
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<UserSubscriptionEntity> findByUserId(String userId);
 }
@@ -4,10 +4,13 @@ import com.shokoku.streamfix.entity.subscription.UserSubscriptionEntity;
 import com.shokoku.streamfix.subscription.FetchUserSubscriptionPort;
 import com.shokoku.streamfix.subscription.InsertUserSubscriptionPort;
 import com.shokoku.streamfix.subscription.UpdateUserSubscriptionPort;
+import com.shokoku.streamfix.subscription.UserSubscriptionChangedEvent;
 import com.shokoku.streamfix.subscription.UserSubscription;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
@@ -16,9 +19,12 @@ public class UserSubscriptionRepository
     implements FetchUserSubscriptionPort, UpdateUserSubscriptionPort, InsertUserSubscriptionPort {
 
   private final UserSubscriptionJpaRepository userSubscriptionJpaRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
+  // 쿼리 캐시에 담길 결과라 replica 에서 읽으면 복제 지연만큼 오래된 구독이 TTL 동안 남는다.
+  // 트랜잭션 없이 primary 에서 읽는다. 캐시에 없을 때만 DB 까지 간다.
   @Override
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public Optional<UserSubscription> findByUserId(String userId) {
     return userSubscriptionJpaRepository.findByUserId(userId).map(UserSubscriptionEntity::toDomain);
   }
@@ -33,6 +39,17 @@ public class UserSubscriptionRepository
   @Override
   @Transactional
   public void update(UserSubscription userSubscription) {
-    userSubscriptionJpaRepository.save(UserSubscriptionEntity.toEntity(userSubscription));
+    // USER_ID 는 유니크하다. 새 행을 만들지 않고 기존 행을 고친다.
+    UserSubscriptionEntity entity =
+        userSubscriptionJpaRepository
+            .findByUserId(userSubscription.getUserId())
+            .map(
+                it -> {
+                  it.update(userSubscription);
+                  return it;
+                })
+            .orElseGet(() -> UserSubscriptionEntity.toEntity(userSubscription));
+    userSubscriptionJpaRepository.save(entity);
+    eventPublisher.publishEvent(new UserSubscriptionChangedEvent(userSubscription.getUserId()));
   }
 }
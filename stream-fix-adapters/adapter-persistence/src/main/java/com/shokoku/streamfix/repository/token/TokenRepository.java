@@ -7,10 +7,12 @@ import com.shokoku.streamfix.token.TokenPortResponse;
 import com.shokoku.streamfix.token.UpdateTokenPort;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
+@Profile("!redis-token")
 @RequiredArgsConstructor
 public class TokenRepository implements SearchTokenPort, InsertTokenPort, UpdateTokenPort {
 
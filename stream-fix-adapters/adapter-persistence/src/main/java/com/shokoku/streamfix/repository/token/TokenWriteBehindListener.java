@@ -0,0 +1,76 @@
+package com.shokoku.streamfix.repository.token;
+
+import com.shokoku.streamfix.entity.token.TokenEntity;
+import com.shokoku.streamfix.token.TokenIssuedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis 토큰 저장소 사용 시 발급된 토큰을 MySQL tokens 테이블에 비동기로 반영한다.
+ *
+ * <p>요청 스레드는 Redis 쓰기까지만 기다리고, DB 반영은 단일 스레드에서 순서대로 처리한다. 큐가 가득 차면 가장 오래된 작업을 버린다.
+ */
+@Slf4j
+@Component
+@Profile("redis-token")
+@ConditionalOnProperty(name = "token.store.write-behind", havingValue = "true")
+public class TokenWriteBehindListener {
+
+  private final TokenJpaRepository tokenJpaRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolExecutor executor;
+
+  public TokenWriteBehindListener(
+      TokenJpaRepository tokenJpaRepository,
+      TransactionTemplate transactionTemplate,
+      @Value("${token.store.write-behind-queue-size:10000}") int queueSize) {
+    this.tokenJpaRepository = tokenJpaRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            Thread.ofPlatform().name("token-write-behind").daemon(true).factory(),
+            new ThreadPoolExecutor.DiscardOldestPolicy());
+  }
+
+  @EventListener
+  public void onTokenIssued(TokenIssuedEvent event) {
+    executor.execute(() -> write(event));
+  }
+
+  private void write(TokenIssuedEvent event) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status ->
+              tokenJpaRepository
+                  .findByUserId(event.userId())
+                  .ifPresentOrElse(
+                      it -> it.updateToken(event.accessToken(), event.refreshToken()),
+                      () ->
+                          tokenJpaRepository.save(
+                              TokenEntity.newTokenEntity(
+                                  event.userId(), event.accessToken(), event.refreshToken()))));
+    } catch (Exception e) {
+      log.error("token write-behind failed. userId={}", event.userId(), e);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(5, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,8 @@
+package com.shokoku.streamfix.repository.user;
+
+import java.util.Optional;
+
+public interface SocialUserCustomRepository {
+
+  Optional<SocialUserWithSubscription> findWithSubscriptionByProviderId(String providerId);
+}
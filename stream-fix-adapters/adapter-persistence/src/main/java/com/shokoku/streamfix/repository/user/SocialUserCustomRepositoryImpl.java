@@ -0,0 +1,39 @@
+package com.shokoku.streamfix.repository.user;
+
+import static com.shokoku.streamfix.entity.subscription.QUserSubscriptionEntity.userSubscriptionEntity;
+import static com.shokoku.streamfix.entity.user.QSocialUserEntity.socialUserEntity;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class SocialUserCustomRepositoryImpl implements SocialUserCustomRepository {
+
+  private final JPAQueryFactory jpaQueryFactory;
+
+  // 인증된 요청마다 불린다. 필요한 컬럼만 한 번의 조회로 가져온다.
+  @Override
+  public Optional<SocialUserWithSubscription> findWithSubscriptionByProviderId(
+      String providerId) {
+    return Optional.ofNullable(
+        jpaQueryFactory
+            .select(
+                Projections.constructor(
+                    SocialUserWithSubscription.class,
+                    socialUserEntity.socialUserId,
+                    socialUserEntity.providerId,
+                    socialUserEntity.provider,
+                    socialUserEntity.userName,
+                    userSubscriptionEntity.subscriptionType))
+            .from(socialUserEntity)
+            .leftJoin(userSubscriptionEntity)
+            // 두 컬럼 모두 BINARY(16) 이라 UK_USER_SUBSCRIPTIONS_USER_ID 로 바로 찾는다.
+            .on(userSubscriptionEntity.userId.eq(socialUserEntity.socialUserId))
+            .where(socialUserEntity.providerId.eq(providerId))
+            .fetchOne());
+  }
+}
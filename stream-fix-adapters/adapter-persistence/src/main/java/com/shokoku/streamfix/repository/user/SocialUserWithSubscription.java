@@ -0,0 +1,17 @@
+package com.shokoku.streamfix.repository.user;
+
+import com.shokoku.streamfix.subscription.SubscriptionType;
+
+/** 소셜 사용자와 구독 등급. 구독이 없으면 subscriptionType 은 null 이다. */
+public record SocialUserWithSubscription(
+    String socialUserId,
+    String providerId,
+    String provider,
+    String userName,
+    SubscriptionType subscriptionType) {
+
+  // 구독이 없으면 기본 구독(FREE)으로 본다.
+  public String role() {
+    return (subscriptionType == null ? SubscriptionType.FREE : subscriptionType).toRole();
+  }
+}
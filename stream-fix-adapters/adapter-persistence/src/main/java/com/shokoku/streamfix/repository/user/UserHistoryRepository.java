@@ -1,8 +1,11 @@
 package com.shokoku.streamfix.repository.user;
 
-import com.shokoku.streamfix.entity.user.UserHistoryEntity;
+import com.shokoku.streamfix.user.UserAuditHistory;
 import com.shokoku.streamfix.user.UserHistoryPort;
+import java.sql.Timestamp;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,21 +13,53 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserHistoryRepository implements UserHistoryPort {
 
-  private final UserHistoryJpaRepository userHistoryJpaRepository;
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO user_histories
+          (USER_ID, USER_ROLE, REQ_IP, REQ_METHOD, REQ_URL, REQ_HEADER, REQ_PAYLOAD,
+           CREATED_AT, CREATED_BY, MODIFIED_AT, MODIFIED_BY)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
 
+  private static final String SYSTEM = "system";
+  private static final int AUDITOR_MAX_LENGTH = 50;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // rewriteBatchedStatements=true 설정 시 드라이버가 multi-row INSERT 로 재작성한다.
   @Override
   @Transactional
-  public void create(
-      String userId,
-      String userRole,
-      String clientIp,
-      String reqMethod,
-      String reqUrl,
-      String reqHeader,
-      String reqPayload) {
-
-    userHistoryJpaRepository.save(
-        new UserHistoryEntity(
-            userId, userRole, clientIp, reqMethod, reqUrl, reqHeader, reqPayload));
+  public void createAll(List<UserAuditHistory> histories) {
+    if (histories.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        histories,
+        histories.size(),
+        (ps, history) -> {
+          Timestamp requestedAt = Timestamp.valueOf(history.requestedAt());
+          ps.setString(1, history.userId());
+          ps.setString(2, history.userRole());
+          ps.setString(3, history.clientIp());
+          ps.setString(4, history.reqMethod());
+          ps.setString(5, history.reqUrl());
+          ps.setString(6, history.reqHeader());
+          ps.setString(7, history.reqPayload());
+          ps.setTimestamp(8, requestedAt);
+          ps.setString(9, auditor(history));
+          ps.setTimestamp(10, requestedAt);
+          ps.setString(11, auditor(history));
+        });
+  }
+
+  // 요청한 인증 주체를 생성자로 남긴다. writer 스레드에서는 요청 컨텍스트가 없으므로 이력에 담긴 값을 쓴다.
+  private static String auditor(UserAuditHistory history) {
+    String userId = history.userId();
+    if (userId == null || userId.isBlank()) {
+      return SYSTEM;
+    }
+    return userId.length() > AUDITOR_MAX_LENGTH ? userId.substring(0, AUDITOR_MAX_LENGTH) : userId;
   }
 }
@@ -3,7 +3,6 @@ package com.shokoku.streamfix.repository.user;
 import com.shokoku.streamfix.entity.user.SocialUserEntity;
 import com.shokoku.streamfix.entity.user.UserEntity;
 import com.shokoku.streamfix.repository.subscription.UserSubscriptionRepository;
-import com.shokoku.streamfix.subscription.UserSubscription;
 import com.shokoku.streamfix.user.CreateUser;
 import com.shokoku.streamfix.user.FetchUserPort;
 import com.shokoku.streamfix.user.InsertUserPort;
@@ -22,7 +21,7 @@ public class UserRepository implements FetchUserPort, InsertUserPort {
   private final UserSubscriptionRepository userSubscriptionRepository;
 
   @Override
-  @Transactional
+  @Transactional(readOnly = true)
   public Optional<UserPortResponse> findByEmail(String email) {
     Optional<UserEntity> byEmail = userJpaRepository.findByEmail(email);
 
@@ -38,29 +37,19 @@ public class UserRepository implements FetchUserPort, InsertUserPort {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Optional<UserPortResponse> findByProviderId(String providerId) {
-    Optional<SocialUserEntity> byProviderId = socialUserJpaRepository.findByProviderId(providerId);
-    if (byProviderId.isEmpty()) {
-      return Optional.empty();
-    }
-
-    SocialUserEntity socialUserEntity = byProviderId.get();
-
-    Optional<UserSubscription> byUserId =
-        userSubscriptionRepository.findByUserId(socialUserEntity.getSocialUserId());
-
-    return Optional.of(
-        UserPortResponse.builder()
-            .userId(socialUserEntity.getSocialUserId())
-            .providerId(socialUserEntity.getProviderId())
-            .provider(socialUserEntity.getProvider())
-            .username(socialUserEntity.getUserName())
-            .role(
-                byUserId
-                    .orElse(UserSubscription.newSubscription(socialUserEntity.getSocialUserId()))
-                    .getSubscriptionType()
-                    .toRole())
-            .build());
+    return socialUserJpaRepository
+        .findWithSubscriptionByProviderId(providerId)
+        .map(
+            it ->
+                UserPortResponse.builder()
+                    .userId(it.socialUserId())
+                    .providerId(it.providerId())
+                    .provider(it.provider())
+                    .username(it.userName())
+                    .role(it.role())
+                    .build());
   }
 
   @Override
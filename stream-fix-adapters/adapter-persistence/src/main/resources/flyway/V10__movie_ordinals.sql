@@ -0,0 +1,27 @@
+-- 사용자별 좋아요 집합을 bitmap 으로 들고 있기 위해 영화마다 촘촘한 정수 번호를 붙인다.
+-- MOVIE_ID 는 user_movie_likes.MOVIE_ID 와 같은 UUID 문자열이다.
+CREATE TABLE `streamfix`.`movie_ordinals`
+(
+    MOVIE_ORDINAL INT          NOT NULL AUTO_INCREMENT COMMENT '영화 번호',
+    MOVIE_ID      VARCHAR(255) NOT NULL COMMENT '영화 ID',
+
+    PRIMARY KEY (MOVIE_ORDINAL),
+    UNIQUE KEY UK_MOVIE_ORDINALS_MOVIE_ID (MOVIE_ID)
+);
+
+INSERT INTO `streamfix`.`movie_ordinals` (MOVIE_ID)
+SELECT BIN_TO_UUID(MOVIE_ID)
+FROM `streamfix`.`movies`
+ORDER BY MOVIE_ID;
+
+-- movies 에 없는 영화에 남은 좋아요도 번호를 받아야 bitmap 에 들어간다.
+INSERT INTO `streamfix`.`movie_ordinals` (MOVIE_ID)
+SELECT DISTINCT likes.MOVIE_ID
+FROM `streamfix`.`user_movie_likes` likes
+WHERE NOT EXISTS (SELECT 1
+                  FROM `streamfix`.`movie_ordinals` ordinals
+                  WHERE ordinals.MOVIE_ID = likes.MOVIE_ID);
+
+-- bitmap 을 다시 만들 때 사용자의 좋아요를 한 번에 읽는다.
+CREATE INDEX IDX_USER_MOVIE_LIKES_USER_ID_MOVIE_ID
+    ON `streamfix`.`user_movie_likes` (USER_ID, MOVIE_ID);
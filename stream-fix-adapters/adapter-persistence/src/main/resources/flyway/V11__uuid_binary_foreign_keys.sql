@@ -0,0 +1,53 @@
+-- V8 헤더에 적어 둔 후속 작업이다. UUID 를 가리키는 USER_ID, MOVIE_ID 컬럼도 V8 과 같은 방식으로 BINARY(16) 으로 바꾼다.
+-- tokens.USER_ID 는 카카오 providerId, user_histories.USER_ID 는 인증 주체 이름이라 UUID 가 아니므로 그대로 둔다.
+-- 테이블을 다시 만드는 ALTER 이므로 큰 테이블은 점검 시간에 실행한다.
+
+-- UUID 가 아닌 값은 앱이 만든 적이 없고 어느 사용자, 영화와도 이어지지 않는다.
+DELETE FROM `streamfix`.`user_subscriptions` WHERE NOT IS_UUID(USER_ID);
+DELETE FROM `streamfix`.`user_movie_likes` WHERE NOT IS_UUID(USER_ID) OR NOT IS_UUID(MOVIE_ID);
+DELETE FROM `streamfix`.`user_movie_downloads` WHERE NOT IS_UUID(USER_ID) OR NOT IS_UUID(MOVIE_ID);
+DELETE FROM `streamfix`.`movie_ordinals` WHERE NOT IS_UUID(MOVIE_ID);
+
+ALTER TABLE `streamfix`.`user_subscriptions` ADD COLUMN USER_ID_BIN BINARY(16) NULL AFTER USER_ID;
+UPDATE `streamfix`.`user_subscriptions` SET USER_ID_BIN = UUID_TO_BIN(USER_ID);
+DROP INDEX UK_USER_SUBSCRIPTIONS_USER_ID ON `streamfix`.`user_subscriptions`;
+ALTER TABLE `streamfix`.`user_subscriptions` DROP COLUMN USER_ID;
+ALTER TABLE `streamfix`.`user_subscriptions`
+    CHANGE COLUMN USER_ID_BIN USER_ID BINARY(16) NOT NULL COMMENT '사용자 ID (UUID)';
+CREATE UNIQUE INDEX UK_USER_SUBSCRIPTIONS_USER_ID ON `streamfix`.`user_subscriptions` (USER_ID);
+
+ALTER TABLE `streamfix`.`user_movie_likes`
+    ADD COLUMN USER_ID_BIN  BINARY(16) NULL AFTER USER_ID,
+    ADD COLUMN MOVIE_ID_BIN BINARY(16) NULL AFTER MOVIE_ID;
+UPDATE `streamfix`.`user_movie_likes`
+SET USER_ID_BIN  = UUID_TO_BIN(USER_ID),
+    MOVIE_ID_BIN = UUID_TO_BIN(MOVIE_ID);
+DROP INDEX IDX_USER_MOVIE_LIKES_USER_ID_MOVIE_ID ON `streamfix`.`user_movie_likes`;
+ALTER TABLE `streamfix`.`user_movie_likes` DROP COLUMN USER_ID, DROP COLUMN MOVIE_ID;
+ALTER TABLE `streamfix`.`user_movie_likes`
+    CHANGE COLUMN USER_ID_BIN USER_ID BINARY(16) NOT NULL COMMENT '사용자 ID (UUID)',
+    CHANGE COLUMN MOVIE_ID_BIN MOVIE_ID BINARY(16) NOT NULL COMMENT '영화 ID (UUID)';
+CREATE INDEX IDX_USER_MOVIE_LIKES_USER_ID_MOVIE_ID
+    ON `streamfix`.`user_movie_likes` (USER_ID, MOVIE_ID);
+
+ALTER TABLE `streamfix`.`user_movie_downloads`
+    ADD COLUMN USER_ID_BIN  BINARY(16) NULL AFTER USER_ID,
+    ADD COLUMN MOVIE_ID_BIN BINARY(16) NULL AFTER MOVIE_ID;
+UPDATE `streamfix`.`user_movie_downloads`
+SET USER_ID_BIN  = UUID_TO_BIN(USER_ID),
+    MOVIE_ID_BIN = UUID_TO_BIN(MOVIE_ID);
+DROP INDEX IDX_USER_MOVIE_DOWNLOADS_USER_ID_CREATED_AT ON `streamfix`.`user_movie_downloads`;
+ALTER TABLE `streamfix`.`user_movie_downloads` DROP COLUMN USER_ID, DROP COLUMN MOVIE_ID;
+ALTER TABLE `streamfix`.`user_movie_downloads`
+    CHANGE COLUMN USER_ID_BIN USER_ID BINARY(16) NOT NULL COMMENT '사용자 ID (UUID)',
+    CHANGE COLUMN MOVIE_ID_BIN MOVIE_ID BINARY(16) NOT NULL COMMENT '영화 ID (UUID)';
+CREATE INDEX IDX_USER_MOVIE_DOWNLOADS_USER_ID_CREATED_AT
+    ON `streamfix`.`user_movie_downloads` (USER_ID, CREATED_AT);
+
+ALTER TABLE `streamfix`.`movie_ordinals` ADD COLUMN MOVIE_ID_BIN BINARY(16) NULL AFTER MOVIE_ID;
+UPDATE `streamfix`.`movie_ordinals` SET MOVIE_ID_BIN = UUID_TO_BIN(MOVIE_ID);
+DROP INDEX UK_MOVIE_ORDINALS_MOVIE_ID ON `streamfix`.`movie_ordinals`;
+ALTER TABLE `streamfix`.`movie_ordinals` DROP COLUMN MOVIE_ID;
+ALTER TABLE `streamfix`.`movie_ordinals`
+    CHANGE COLUMN MOVIE_ID_BIN MOVIE_ID BINARY(16) NOT NULL COMMENT '영화 ID (UUID)';
+CREATE UNIQUE INDEX UK_MOVIE_ORDINALS_MOVIE_ID ON `streamfix`.`movie_ordinals` (MOVIE_ID);
@@ -0,0 +1 @@
+CREATE INDEX IDX_TOKENS_USER_ID ON `streamfix`.`tokens` (USER_ID);
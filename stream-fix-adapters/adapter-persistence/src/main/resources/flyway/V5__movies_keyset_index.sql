@@ -0,0 +1 @@
+CREATE INDEX IDX_MOVIES_RELEASED_AT_MOVIE_ID ON `streamfix`.`movies` (RELEASED_AT, MOVIE_ID);
@@ -0,0 +1,2 @@
+CREATE INDEX IDX_USER_MOVIE_DOWNLOADS_USER_ID_CREATED_AT
+    ON `streamfix`.`user_movie_downloads` (USER_ID, CREATED_AT);
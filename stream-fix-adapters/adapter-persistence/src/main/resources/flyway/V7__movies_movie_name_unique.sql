@@ -0,0 +1,48 @@
+-- 유니크 인덱스 전에 같은 이름으로 여러 번 저장된 영화를 정리한다. 가장 먼저 저장된 행만 남긴다.
+-- 좋아요와 다운로드는 지워질 행 대신 남는 행을 가리키게 바꾼다.
+UPDATE `streamfix`.`user_movie_likes` likes
+    JOIN `streamfix`.`movies` dup ON dup.MOVIE_ID = likes.MOVIE_ID
+    JOIN `streamfix`.`movies` kept
+         ON kept.MOVIE_NAME = dup.MOVIE_NAME
+             AND (kept.CREATED_AT < dup.CREATED_AT
+                 OR (kept.CREATED_AT = dup.CREATED_AT AND kept.MOVIE_ID < dup.MOVIE_ID))
+    LEFT JOIN `streamfix`.`movies` older
+              ON older.MOVIE_NAME = kept.MOVIE_NAME
+                  AND (older.CREATED_AT < kept.CREATED_AT
+                      OR (older.CREATED_AT = kept.CREATED_AT AND older.MOVIE_ID < kept.MOVIE_ID))
+SET likes.MOVIE_ID = kept.MOVIE_ID
+WHERE older.MOVIE_ID IS NULL;
+
+-- 같은 사용자가 이름이 같은 영화 여러 개에 좋아요를 남겼으면 남는 행으로 모이면서 (USER_ID, MOVIE_ID) 가 겹친다.
+-- findByUserIdAndMovieId 가 한 건만 찾도록 가장 최근에 바뀐 행만 남긴다.
+DELETE older
+FROM `streamfix`.`user_movie_likes` older
+         JOIN `streamfix`.`user_movie_likes` newer
+              ON newer.USER_ID = older.USER_ID
+                  AND newer.MOVIE_ID = older.MOVIE_ID
+                  AND (newer.MODIFIED_AT > older.MODIFIED_AT
+                      OR (newer.MODIFIED_AT = older.MODIFIED_AT
+                          AND newer.USER_MOVIE_LIKE_ID > older.USER_MOVIE_LIKE_ID));
+
+UPDATE `streamfix`.`user_movie_downloads` downloads
+    JOIN `streamfix`.`movies` dup ON dup.MOVIE_ID = downloads.MOVIE_ID
+    JOIN `streamfix`.`movies` kept
+         ON kept.MOVIE_NAME = dup.MOVIE_NAME
+             AND (kept.CREATED_AT < dup.CREATED_AT
+                 OR (kept.CREATED_AT = dup.CREATED_AT AND kept.MOVIE_ID < dup.MOVIE_ID))
+    LEFT JOIN `streamfix`.`movies` older
+              ON older.MOVIE_NAME = kept.MOVIE_NAME
+                  AND (older.CREATED_AT < kept.CREATED_AT
+                      OR (older.CREATED_AT = kept.CREATED_AT AND older.MOVIE_ID < kept.MOVIE_ID))
+SET downloads.MOVIE_ID = kept.MOVIE_ID
+WHERE older.MOVIE_ID IS NULL;
+
+DELETE newer
+FROM `streamfix`.`movies` newer
+         JOIN `streamfix`.`movies` older
+              ON older.MOVIE_NAME = newer.MOVIE_NAME
+                  AND (older.CREATED_AT < newer.CREATED_AT
+                      OR (older.CREATED_AT = newer.CREATED_AT
+                          AND older.MOVIE_ID < newer.MOVIE_ID));
+
+CREATE UNIQUE INDEX UK_MOVIES_MOVIE_NAME ON `streamfix`.`movies` (MOVIE_NAME);
@@ -0,0 +1,61 @@
+-- UUID 문자열 PK 를 BINARY(16) 으로 바꾼다. 새 ID 는 시간 순 UUIDv7 이라 clustered index 의 끝에 붙는다.
+-- UUID_TO_BIN 은 swap 없이 써서 바이트 순서와 문자열 순서를 같게 유지한다. (UuidBinaryConverter 참고)
+-- 테이블을 다시 만드는 ALTER 이므로 큰 테이블은 점검 시간에 실행한다.
+-- 다른 테이블에서 이 ID 를 가리키는 USER_ID, MOVIE_ID 컬럼은 이번에는 VARCHAR(255) 그대로 둔다.
+-- 후속 마이그레이션에서 아래 순서로 바꾼다.
+--   1. tokens, user_subscriptions, user_movie_likes, user_movie_downloads, user_histories, movie_ordinals 의
+--      USER_ID, MOVIE_ID 중 IS_UUID() 가 아닌 값을 먼저 찾아 정리한다.
+--   2. 이 파일과 같은 방식(*_BIN 컬럼 추가 -> UUID_TO_BIN 으로 채움 -> 교체)으로 BINARY(16) 으로 바꾸고 인덱스를 다시 만든다.
+--   3. 같은 배포에서 엔티티의 USER_ID, MOVIE_ID 에 UuidBinaryConverter 를 붙이고,
+--      문자열로 비교하는 native SQL(좋아요 bitmap, movie_ordinals, 소셜 사용자 - 구독 조인)을 바이트 비교로 바꾼다.
+
+ALTER TABLE `streamfix`.`users` ADD COLUMN USER_ID_BIN BINARY(16) NULL FIRST;
+UPDATE `streamfix`.`users` SET USER_ID_BIN = UUID_TO_BIN(USER_ID);
+ALTER TABLE `streamfix`.`users` DROP PRIMARY KEY, DROP COLUMN USER_ID;
+ALTER TABLE `streamfix`.`users`
+    CHANGE COLUMN USER_ID_BIN USER_ID BINARY(16) NOT NULL COMMENT '사용자 ID (UUID)',
+    ADD PRIMARY KEY (USER_ID);
+
+ALTER TABLE `streamfix`.`social_users` ADD COLUMN SOCIAL_USER_ID_BIN BINARY(16) NULL FIRST;
+UPDATE `streamfix`.`social_users` SET SOCIAL_USER_ID_BIN = UUID_TO_BIN(SOCIAL_USER_ID);
+ALTER TABLE `streamfix`.`social_users` DROP PRIMARY KEY, DROP COLUMN SOCIAL_USER_ID;
+ALTER TABLE `streamfix`.`social_users`
+    CHANGE COLUMN SOCIAL_USER_ID_BIN SOCIAL_USER_ID BINARY(16) NOT NULL COMMENT '소셜 사용자 ID (UUID)',
+    ADD PRIMARY KEY (SOCIAL_USER_ID);
+
+ALTER TABLE `streamfix`.`user_subscriptions` ADD COLUMN USER_SUBSCRIPTION_ID_BIN BINARY(16) NULL FIRST;
+UPDATE `streamfix`.`user_subscriptions` SET USER_SUBSCRIPTION_ID_BIN = UUID_TO_BIN(USER_SUBSCRIPTION_ID);
+ALTER TABLE `streamfix`.`user_subscriptions` DROP PRIMARY KEY, DROP COLUMN USER_SUBSCRIPTION_ID;
+ALTER TABLE `streamfix`.`user_subscriptions`
+    CHANGE COLUMN USER_SUBSCRIPTION_ID_BIN USER_SUBSCRIPTION_ID BINARY(16) NOT NULL COMMENT '사용자 구독 ID (UUID)',
+    ADD PRIMARY KEY (USER_SUBSCRIPTION_ID);
+
+ALTER TABLE `streamfix`.`tokens` ADD COLUMN TOKEN_ID_BIN BINARY(16) NULL FIRST;
+UPDATE `streamfix`.`tokens` SET TOKEN_ID_BIN = UUID_TO_BIN(TOKEN_ID);
+ALTER TABLE `streamfix`.`tokens` DROP PRIMARY KEY, DROP COLUMN TOKEN_ID;
+ALTER TABLE `streamfix`.`tokens`
+    CHANGE COLUMN TOKEN_ID_BIN TOKEN_ID BINARY(16) NOT NULL COMMENT '토큰 PK (UUID)',
+    ADD PRIMARY KEY (TOKEN_ID);
+
+ALTER TABLE `streamfix`.`movies` ADD COLUMN MOVIE_ID_BIN BINARY(16) NULL FIRST;
+UPDATE `streamfix`.`movies` SET MOVIE_ID_BIN = UUID_TO_BIN(MOVIE_ID);
+DROP INDEX IDX_MOVIES_RELEASED_AT_MOVIE_ID ON `streamfix`.`movies`;
+ALTER TABLE `streamfix`.`movies` DROP PRIMARY KEY, DROP COLUMN MOVIE_ID;
+ALTER TABLE `streamfix`.`movies`
+    CHANGE COLUMN MOVIE_ID_BIN MOVIE_ID BINARY(16) NOT NULL COMMENT '영화 ID (UUID)',
+    ADD PRIMARY KEY (MOVIE_ID);
+CREATE INDEX IDX_MOVIES_RELEASED_AT_MOVIE_ID ON `streamfix`.`movies` (RELEASED_AT, MOVIE_ID);
+
+ALTER TABLE `streamfix`.`user_movie_likes` ADD COLUMN USER_MOVIE_LIKE_ID_BIN BINARY(16) NULL FIRST;
+UPDATE `streamfix`.`user_movie_likes` SET USER_MOVIE_LIKE_ID_BIN = UUID_TO_BIN(USER_MOVIE_LIKE_ID);
+ALTER TABLE `streamfix`.`user_movie_likes` DROP PRIMARY KEY, DROP COLUMN USER_MOVIE_LIKE_ID;
+ALTER TABLE `streamfix`.`user_movie_likes`
+    CHANGE COLUMN USER_MOVIE_LIKE_ID_BIN USER_MOVIE_LIKE_ID BINARY(16) NOT NULL COMMENT 'PK (UUID)',
+    ADD PRIMARY KEY (USER_MOVIE_LIKE_ID);
+
+ALTER TABLE `streamfix`.`user_movie_downloads` ADD COLUMN USER_MOVIE_DOWNLOAD_ID_BIN BINARY(16) NULL FIRST;
+UPDATE `streamfix`.`user_movie_downloads` SET USER_MOVIE_DOWNLOAD_ID_BIN = UUID_TO_BIN(USER_MOVIE_DOWNLOAD_ID);
+ALTER TABLE `streamfix`.`user_movie_downloads` DROP PRIMARY KEY, DROP COLUMN USER_MOVIE_DOWNLOAD_ID;
+ALTER TABLE `streamfix`.`user_movie_downloads`
+    CHANGE COLUMN USER_MOVIE_DOWNLOAD_ID_BIN USER_MOVIE_DOWNLOAD_ID BINARY(16) NOT NULL COMMENT 'PK (UUID)',
+    ADD PRIMARY KEY (USER_MOVIE_DOWNLOAD_ID);
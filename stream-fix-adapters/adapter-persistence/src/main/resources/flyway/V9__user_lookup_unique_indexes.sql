@@ -0,0 +1,13 @@
+-- 구독을 바꿀 때마다 user_subscriptions 에 행이 새로 쌓였다. 사용자별로 가장 최근 행만 남긴다.
+DELETE older
+FROM `streamfix`.`user_subscriptions` older
+         JOIN `streamfix`.`user_subscriptions` newer
+              ON newer.USER_ID = older.USER_ID
+                  AND (newer.MODIFIED_AT > older.MODIFIED_AT
+                      OR (newer.MODIFIED_AT = older.MODIFIED_AT
+                          AND newer.USER_SUBSCRIPTION_ID > older.USER_SUBSCRIPTION_ID));
+
+-- 인증된 요청마다 PROVIDER_ID 로 소셜 사용자와 구독을 함께 조회한다.
+CREATE UNIQUE INDEX UK_SOCIAL_USERS_PROVIDER_ID ON `streamfix`.`social_users` (PROVIDER_ID);
+CREATE UNIQUE INDEX UK_USER_SUBSCRIPTIONS_USER_ID ON `streamfix`.`user_subscriptions` (USER_ID);
+CREATE UNIQUE INDEX UK_USERS_EMAIL ON `streamfix`.`users` (EMAIL);
@@ -0,0 +1,170 @@
+package com.shokoku.streamfix.cache;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.entity.movie.MovieEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheInvalidatorTest {
+
+  static final String ENTITY_NAME = MovieEntity.class.getName();
+
+  @Mock EntityManagerFactory entityManagerFactory;
+  @Mock SessionFactoryImplementor sessionFactory;
+  @Mock ServiceRegistryImplementor serviceRegistry;
+  @Mock EventListenerRegistry eventListenerRegistry;
+  @Mock CacheImplementor cache;
+  @Mock EntityCacheInvalidationPort invalidationPort;
+
+  SecondLevelCacheInvalidator sut;
+
+  @BeforeEach
+  void setUp() {
+    when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+    when(sessionFactory.getServiceRegistry()).thenReturn(serviceRegistry);
+    when(serviceRegistry.getService(EventListenerRegistry.class))
+        .thenReturn(eventListenerRegistry);
+    lenient().when(sessionFactory.getCache()).thenReturn(cache);
+
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("entityCacheInvalidationPort", invalidationPort);
+    sut =
+        new SecondLevelCacheInvalidator(
+            entityManagerFactory, beanFactory.getBeanProvider(EntityCacheInvalidationPort.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Nested
+  @DisplayName("onRemoteInvalidation: 다른 pod 의 변경 반영")
+  class OnRemoteInvalidation {
+
+    @DisplayName("성공: ID 가 있으면 해당 엔티티와 쿼리 캐시를 비운다")
+    @Test
+    void test1000() {
+      // when
+      sut.onRemoteInvalidation(new EntityCacheInvalidation(ENTITY_NAME, "movie-1"));
+
+      // then
+      verify(cache).evictEntityData(ENTITY_NAME, "movie-1");
+      verify(cache).evictQueryRegions();
+      verifyNoInteractions(invalidationPort);
+    }
+
+    @DisplayName("성공: ID 가 없으면 엔티티는 그대로 두고 쿼리 캐시만 비운다")
+    @Test
+    void test1001() {
+      // when
+      sut.onRemoteInvalidation(new EntityCacheInvalidation(ENTITY_NAME, null));
+
+      // then
+      verify(cache, never()).evictEntityData(anyString(), any());
+      verify(cache).evictQueryRegions();
+    }
+  }
+
+  @Nested
+  @DisplayName("evictQueries: JDBC 로 쓴 뒤 쿼리 캐시 비우기")
+  class EvictQueries {
+
+    @DisplayName("성공: 트랜잭션 안에서는 커밋 뒤에 비우고 다른 pod 에 알린다")
+    @Test
+    void test1000() {
+      // given
+      TransactionSynchronizationManager.initSynchronization();
+
+      // when
+      sut.evictQueries(MovieEntity.class);
+
+      // then
+      verifyNoInteractions(cache, invalidationPort);
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+      verify(cache).evictQueryRegions();
+      verify(invalidationPort).publish(new EntityCacheInvalidation(ENTITY_NAME, null));
+    }
+
+    @DisplayName("성공: 트랜잭션 밖에서는 바로 비우고 다른 pod 에 알린다")
+    @Test
+    void test1001() {
+      // when
+      sut.evictQueries(MovieEntity.class);
+
+      // then
+      verify(cache).evictQueryRegions();
+      verify(invalidationPort).publish(new EntityCacheInvalidation(ENTITY_NAME, null));
+    }
+  }
+
+  @Nested
+  @DisplayName("onPostUpdate: 커밋된 변경 전파")
+  class OnPostUpdate {
+
+    @DisplayName("성공: 생성 시 커밋 후 리스너로 등록된다")
+    @Test
+    void test1000() {
+      // then
+      verify(eventListenerRegistry).appendListeners(EventType.POST_COMMIT_INSERT, sut);
+      verify(eventListenerRegistry).appendListeners(EventType.POST_COMMIT_UPDATE, sut);
+      verify(eventListenerRegistry).appendListeners(EventType.POST_COMMIT_DELETE, sut);
+    }
+
+    @DisplayName("성공: 캐시 대상 엔티티의 변경을 ID 와 함께 다른 pod 에 알린다")
+    @Test
+    void test1001() {
+      // given
+      EntityPersister persister = mock(EntityPersister.class);
+      when(persister.canWriteToCache()).thenReturn(true);
+      when(persister.getEntityName()).thenReturn(ENTITY_NAME);
+      PostUpdateEvent event = mock(PostUpdateEvent.class);
+      when(event.getPersister()).thenReturn(persister);
+      when(event.getId()).thenReturn("movie-1");
+
+      // when
+      sut.onPostUpdate(event);
+
+      // then
+      verify(invalidationPort).publish(new EntityCacheInvalidation(ENTITY_NAME, "movie-1"));
+    }
+
+    @DisplayName("성공: 캐시 대상이 아닌 엔티티의 변경은 알리지 않는다")
+    @Test
+    void test1002() {
+      // given
+      EntityPersister persister = mock(EntityPersister.class);
+      PostUpdateEvent event = mock(PostUpdateEvent.class);
+      when(event.getPersister()).thenReturn(persister);
+
+      // when
+      sut.onPostUpdate(event);
+
+      // then
+      verifyNoInteractions(invalidationPort);
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.shokoku.streamfix.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final DataSource primary = mock(DataSource.class);
+  private final DataSource replica1 = mock(DataSource.class);
+  private final DataSource replica2 = mock(DataSource.class);
+  private SimpleMeterRegistry meterRegistry;
+  private ReplicaRoutingDataSource sut;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    sut = routing(List.of(replica1, replica2), ReplicaLoadBalance.ROUND_ROBIN);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clear();
+    ReplicaRoutingDataSource.clearReadAfterWrite();
+  }
+
+  @Nested
+  @DisplayName("getConnection: 커넥션을 얻을 DataSource 선택")
+  class GetConnection {
+
+    @DisplayName("실패: replica 커넥션을 얻지 못하면 primary 로 대신 읽는다")
+    @Test
+    void test1() throws SQLException {
+      // given
+      readOnlyTransaction();
+      Connection connection = mock(Connection.class);
+      when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+      when(primary.getConnection()).thenReturn(connection);
+
+      // when
+      Connection result = sut.getConnection();
+
+      // then
+      assertSame(connection, result);
+      assertEquals(
+          1.0, meterRegistry.get("streamfix.datasource.replica.fallbacks").counter().count());
+    }
+
+    @DisplayName("성공: 쓰기 트랜잭션은 primary 를 쓴다")
+    @Test
+    void test1000() throws SQLException {
+      // given
+      TransactionSynchronizationManager.setActualTransactionActive(true);
+
+      // when
+      sut.getConnection();
+
+      // then
+      verify(primary).getConnection();
+      verifyNoInteractions(replica1, replica2);
+    }
+
+    @DisplayName("성공: 트랜잭션 밖의 조회는 primary 를 쓴다")
+    @Test
+    void test1001() throws SQLException {
+      // when
+      sut.getConnection();
+
+      // then
+      verify(primary).getConnection();
+      verifyNoInteractions(replica1, replica2);
+    }
+
+    @DisplayName("성공: 읽기 전용 트랜잭션은 replica 를 돌아가며 쓴다")
+    @Test
+    void test1002() throws SQLException {
+      // given
+      readOnlyTransaction();
+
+      // when
+      for (int i = 0; i < 4; i++) {
+        sut.getConnection();
+      }
+
+      // then
+      verify(replica1, times(2)).getConnection();
+      verify(replica2, times(2)).getConnection();
+      verifyNoInteractions(primary);
+    }
+
+    @DisplayName("성공: 같은 스레드에서 쓴 직후의 읽기는 readAfterWrite 동안 primary 를 쓴다")
+    @Test
+    void test1003() throws SQLException {
+      // given
+      TransactionSynchronizationManager.setActualTransactionActive(true);
+      sut.getConnection();
+      readOnlyTransaction();
+
+      // when
+      sut.getConnection();
+      nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+      sut.getConnection();
+
+      // then
+      verify(primary, times(2)).getConnection();
+      verify(replica1).getConnection();
+    }
+
+    @DisplayName("성공: 요청이 끝나 read-after-write 구간을 지우면 다음 읽기는 바로 replica 를 쓴다")
+    @Test
+    void test1005() throws SQLException {
+      // given
+      TransactionSynchronizationManager.setActualTransactionActive(true);
+      sut.getConnection();
+      ReplicaRoutingDataSource.clearReadAfterWrite();
+      readOnlyTransaction();
+
+      // when
+      sut.getConnection();
+
+      // then
+      verify(primary).getConnection();
+      verify(replica1).getConnection();
+    }
+
+    @DisplayName("성공: 계정을 넘겨 얻는 커넥션도 같은 규칙으로 고른다")
+    @Test
+    void test1006() throws SQLException {
+      // given
+      readOnlyTransaction();
+
+      // when
+      sut.getConnection("reader", "secret");
+
+      // then
+      verify(replica1).getConnection("reader", "secret");
+      verifyNoInteractions(primary);
+    }
+
+    @DisplayName("성공: LEAST_CONNECTIONS 는 사용 중인 커넥션이 가장 적은 replica 를 쓴다")
+    @Test
+    void test1004() throws SQLException {
+      // given
+      HikariDataSource busy = replicaWithActiveConnections(5);
+      HikariDataSource idle = replicaWithActiveConnections(1);
+      sut = routing(List.of(busy, idle), ReplicaLoadBalance.LEAST_CONNECTIONS);
+      readOnlyTransaction();
+
+      // when
+      sut.getConnection();
+
+      // then
+      verify(idle).getConnection();
+      verify(busy, never()).getConnection();
+    }
+  }
+
+  private ReplicaRoutingDataSource routing(
+      List<DataSource> replicas, ReplicaLoadBalance loadBalance) {
+    return new ReplicaRoutingDataSource(
+        primary, replicas, loadBalance, Duration.ofSeconds(1), meterRegistry, nanos::get);
+  }
+
+  private static void readOnlyTransaction() {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+  }
+
+  private static HikariDataSource replicaWithActiveConnections(int active) {
+    HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+    when(pool.getActiveConnections()).thenReturn(active);
+    HikariDataSource dataSource = mock(HikariDataSource.class);
+    when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+    return dataSource;
+  }
+}
@@ -0,0 +1,79 @@
+package com.shokoku.streamfix.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shokoku.streamfix.config.SecondLevelCacheConfig.Region;
+import com.shokoku.streamfix.entity.CacheRegions;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+class SecondLevelCacheConfigTest {
+
+  @Nested
+  @DisplayName("regions: region 별 크기와 TTL 바인딩")
+  class Regions {
+
+    @DisplayName("실패: 잘못된 TTL 값이면 기동을 실패시킨다")
+    @Test
+    void test1() {
+      // given
+      Binder binder =
+          binder(Map.of("persistence.second-level-cache.regions.movie.expire-after-write", "x"));
+
+      // when & then
+      assertThrows(BindException.class, () -> SecondLevelCacheConfig.regions(binder));
+    }
+
+    @DisplayName("성공: 설정이 없으면 기본값을 쓴다")
+    @Test
+    void test1000() {
+      // when
+      Map<String, Region> result = SecondLevelCacheConfig.regions(binder(Map.of()));
+
+      // then
+      assertEquals(SecondLevelCacheConfig.DEFAULT_REGIONS, result);
+    }
+
+    @DisplayName("성공: 설정한 region 의 값만 바꾸고 나머지는 기본값을 유지한다")
+    @Test
+    void test1001() {
+      // given
+      Binder binder =
+          binder(
+              Map.of(
+                  "persistence.second-level-cache.regions.user-subscription.maximum-size", "100",
+                  "persistence.second-level-cache.regions.movie.expire-after-write", "30s"));
+
+      // when
+      Map<String, Region> result = SecondLevelCacheConfig.regions(binder);
+
+      // then
+      assertEquals(
+          new Region(100L, Duration.ofMinutes(5)), result.get(CacheRegions.USER_SUBSCRIPTION));
+      assertEquals(new Region(10_000L, Duration.ofSeconds(30)), result.get(CacheRegions.MOVIE));
+      assertEquals(
+          SecondLevelCacheConfig.DEFAULT_REGIONS.get(CacheRegions.QUERY_RESULTS),
+          result.get(CacheRegions.QUERY_RESULTS));
+    }
+
+    @DisplayName("성공: update timestamps region 은 기본으로 만료되지 않는다")
+    @Test
+    void test1002() {
+      // when
+      Map<String, Region> result = SecondLevelCacheConfig.regions(binder(Map.of()));
+
+      // then
+      assertNull(result.get(CacheRegions.UPDATE_TIMESTAMPS).expireAfterWrite());
+    }
+  }
+
+  private static Binder binder(Map<String, String> properties) {
+    return new Binder(new MapConfigurationPropertySource(properties));
+  }
+}
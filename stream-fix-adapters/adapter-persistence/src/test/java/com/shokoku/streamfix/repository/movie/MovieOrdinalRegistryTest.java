@@ -0,0 +1,152 @@
+package com.shokoku.streamfix.repository.movie;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MovieOrdinalRegistryTest {
+
+  static final String MOVIE_ID = "0190a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2b";
+  static final byte[] MOVIE_ID_BYTES = UuidBinaryConverter.toBytes(MOVIE_ID);
+  static final String UNKNOWN_MOVIE_ID = "0190a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2c";
+
+  @Mock JdbcTemplate jdbcTemplate;
+  @Mock PlatformTransactionManager transactionManager;
+
+  MovieOrdinalRegistry sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new MovieOrdinalRegistry(jdbcTemplate, new TransactionTemplate(transactionManager));
+  }
+
+  @Nested
+  @DisplayName("assign: 좋아요한 영화에 번호 붙이기")
+  class Assign {
+
+    @DisplayName("실패: deadlock 이 반복되면 세 번까지 시도하고 좋아요를 실패시키지 않는다")
+    @Test
+    void test1() {
+      // given
+      when(jdbcTemplate.update(anyString(), aryEq(MOVIE_ID_BYTES), aryEq(MOVIE_ID_BYTES)))
+          .thenThrow(new CannotAcquireLockException("Deadlock found"));
+
+      // when & then
+      assertDoesNotThrow(() -> sut.assign(MOVIE_ID));
+      verify(jdbcTemplate, times(3))
+          .update(anyString(), aryEq(MOVIE_ID_BYTES), aryEq(MOVIE_ID_BYTES));
+      verify(transactionManager, times(3)).rollback(any());
+    }
+
+    @DisplayName("성공: 다른 요청이 먼저 번호를 붙였으면 다시 시도하지 않는다")
+    @Test
+    void test1000() {
+      // given
+      when(jdbcTemplate.update(anyString(), aryEq(MOVIE_ID_BYTES), aryEq(MOVIE_ID_BYTES)))
+          .thenThrow(new DuplicateKeyException("Duplicate entry"));
+
+      // when & then
+      assertDoesNotThrow(() -> sut.assign(MOVIE_ID));
+      verify(jdbcTemplate, times(1))
+          .update(anyString(), aryEq(MOVIE_ID_BYTES), aryEq(MOVIE_ID_BYTES));
+    }
+
+    @DisplayName("성공: deadlock 뒤 다시 시도해 번호를 붙이고, 좋아요 트랜잭션과 따로 커밋한다")
+    @Test
+    void test1001() {
+      // given
+      when(jdbcTemplate.update(anyString(), aryEq(MOVIE_ID_BYTES), aryEq(MOVIE_ID_BYTES)))
+          .thenThrow(new CannotAcquireLockException("Deadlock found"))
+          .thenReturn(1);
+
+      // when
+      sut.assign(MOVIE_ID);
+
+      // then
+      verify(jdbcTemplate, times(2))
+          .update(anyString(), aryEq(MOVIE_ID_BYTES), aryEq(MOVIE_ID_BYTES));
+      verify(transactionManager, times(2))
+          .getTransaction(
+              argThat(
+                  definition ->
+                      definition.getPropagationBehavior()
+                          == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+      verify(transactionManager).commit(any());
+    }
+
+    @DisplayName("성공: 이미 번호를 읽은 영화면 쿼리하지 않는다")
+    @Test
+    void test1002() throws Exception {
+      // given
+      ResultSet rs = mock(ResultSet.class);
+      when(rs.getBytes(1)).thenReturn(MOVIE_ID_BYTES);
+      when(rs.getInt(2)).thenReturn(7);
+      doAnswer(
+              invocation -> {
+                invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+                return null;
+              })
+          .when(jdbcTemplate)
+          .query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+      sut.ordinalsOf(List.of(MOVIE_ID));
+
+      // when
+      sut.assign(MOVIE_ID);
+
+      // then
+      verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+      verifyNoInteractions(transactionManager);
+    }
+  }
+
+  @Nested
+  @DisplayName("ordinalsOf: 영화 번호 조회")
+  class OrdinalsOf {
+
+    @DisplayName("성공: 번호가 있는 영화만 돌려주고, 읽은 번호는 다시 쿼리하지 않는다")
+    @Test
+    void test1000() throws Exception {
+      // given
+      ResultSet rs = mock(ResultSet.class);
+      when(rs.getBytes(1)).thenReturn(MOVIE_ID_BYTES);
+      when(rs.getInt(2)).thenReturn(7);
+      doAnswer(
+              invocation -> {
+                invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+                return null;
+              })
+          .when(jdbcTemplate)
+          .query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+      // when
+      Map<String, Integer> first = sut.ordinalsOf(List.of(MOVIE_ID, UNKNOWN_MOVIE_ID));
+      Map<String, Integer> second = sut.ordinalsOf(List.of(MOVIE_ID));
+
+      // then
+      assertEquals(Map.of(MOVIE_ID, 7), first);
+      assertEquals(Map.of(MOVIE_ID, 7), second);
+      verify(jdbcTemplate, times(1))
+          .query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+  }
+}
@@ -5,8 +5,14 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.shokoku.streamfix.cache.SecondLevelCacheInvalidator;
 import com.shokoku.streamfix.entity.movie.MovieEntity;
+import com.shokoku.streamfix.movie.MovieCursor;
+import com.shokoku.streamfix.movie.MovieInsertResult;
+import com.shokoku.streamfix.movie.MovieSlice;
 import com.shokoku.streamfix.movie.StreamFixMovie;
+import java.sql.Statement;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +26,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
 @ExtendWith(MockitoExtension.class)
 class MovieRepositoryTest {
@@ -27,6 +35,9 @@ class MovieRepositoryTest {
   @InjectMocks MovieRepository sut;
 
   @Mock MovieJpaRepository movieJpaRepository;
+  @Mock JdbcTemplate jdbcTemplate;
+  @Mock SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+  @Mock MovieOrdinalRegistry movieOrdinalRegistry;
 
   @Nested
   @DisplayName("fetchBy: 페이지네이션을 이용한 영화 조회")
@@ -87,6 +98,55 @@ class MovieRepositoryTest {
     }
   }
 
+  @Nested
+  @DisplayName("fetchSlice/fetchAfter: limit + 1 조회로 다음 페이지 여부 판단")
+  class FetchSlice {
+
+    @DisplayName("성공: size 이하로 조회되면 다음 커서가 없다")
+    @Test
+    void test1000() {
+      // given
+      when(movieJpaRepository.searchSlice(20L, 11)).thenReturn(List.of(aMovieEntity()));
+
+      // when
+      MovieSlice result = sut.fetchSlice(2, 10);
+
+      // then
+      assertEquals(1, result.movies().size());
+      assertFalse(result.hasNext());
+      assertNull(result.nextCursor());
+    }
+
+    @DisplayName("성공: size 보다 많이 조회되면 초과분을 잘라내고 마지막 행으로 다음 커서를 만든다")
+    @Test
+    void test1001() {
+      // given
+      MovieEntity first = new MovieEntity("movie-1", "A", false, "Drama", null, "2024-01-01");
+      MovieEntity second = new MovieEntity("movie-2", "B", false, "Drama", null, "2024-01-02");
+      MovieEntity extra = new MovieEntity("movie-3", "C", false, "Drama", null, "2024-01-03");
+      MovieCursor cursor = new MovieCursor("2023-12-31", "movie-0");
+      when(movieJpaRepository.searchAfter(cursor, 3)).thenReturn(List.of(first, second, extra));
+
+      // when
+      MovieSlice result = sut.fetchAfter(cursor, 2);
+
+      // then
+      assertEquals(2, result.movies().size());
+      assertEquals("movie-1", result.movies().get(0).movieId());
+      assertEquals(new MovieCursor("2024-01-02", "movie-2"), result.nextCursor());
+    }
+
+    @DisplayName("성공: 전체 건수는 COUNT 쿼리 결과를 그대로 반환한다")
+    @Test
+    void test1002() {
+      // given
+      when(movieJpaRepository.countAll()).thenReturn(42L);
+
+      // when & then
+      assertEquals(42L, sut.count());
+    }
+  }
+
   @Nested
   @DisplayName("findBy: 영화 이름으로 단일 영화 조회")
   class FindBy {
@@ -206,6 +266,169 @@ class MovieRepositoryTest {
     }
   }
 
+  @Nested
+  @DisplayName("insertAll: 영화 일괄 삽입")
+  class InsertAll {
+
+    @DisplayName("실패: 배치 저장 중 데이터베이스 오류가 발생하면 관련 Exception을 던진다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void test1() {
+      // given
+      when(movieJpaRepository.findMovieNamesIn(anyCollection())).thenReturn(List.of());
+      when(jdbcTemplate.batchUpdate(
+              anyString(),
+              anyList(),
+              anyInt(),
+              any(ParameterizedPreparedStatementSetter.class)))
+          .thenThrow(new RuntimeException("Database batch error"));
+
+      // when & then
+      assertThrows(
+          RuntimeException.class,
+          () -> sut.insertAll(List.of(aStreamFixMovieWithName("Movie 1"))));
+    }
+
+    @DisplayName("성공: chunk 안의 중복과 이미 저장된 이름을 제외하고 한 번의 배치로 저장한다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void test1000() {
+      // given
+      List<StreamFixMovie> movies =
+          List.of(
+              aStreamFixMovieWithName("Movie 1"),
+              aStreamFixMovieWithName("Movie 2"),
+              aStreamFixMovieWithName("Movie 1"),
+              aStreamFixMovieWithName("Movie 3"));
+      when(movieJpaRepository.findMovieNamesIn(anyCollection())).thenReturn(List.of("Movie 2"));
+      when(jdbcTemplate.batchUpdate(
+              anyString(),
+              anyList(),
+              anyInt(),
+              any(ParameterizedPreparedStatementSetter.class)))
+          .thenReturn(new int[][] {{1, 1}});
+
+      // when
+      MovieInsertResult result = sut.insertAll(movies);
+
+      // then
+      assertEquals(2, result.inserted());
+      assertEquals(2, result.skipped());
+      verify(movieJpaRepository)
+          .findMovieNamesIn(
+              argThat(
+                  (Collection<String> names) ->
+                      names.size() == 3 && names.containsAll(List.of("Movie 1", "Movie 2"))));
+      verify(jdbcTemplate)
+          .batchUpdate(
+              anyString(),
+              argThat((List<MovieEntity> entities) -> entities.size() == 2),
+              eq(2),
+              any(ParameterizedPreparedStatementSetter.class));
+      verify(movieJpaRepository, never()).save(any(MovieEntity.class));
+      verify(movieOrdinalRegistry).assignNewMovies(argThat((List<String> ids) -> ids.size() == 2));
+      verify(secondLevelCacheInvalidator).evictQueries(MovieEntity.class);
+    }
+
+    @DisplayName("성공: 모두 이미 저장된 영화면 배치를 실행하지 않는다")
+    @Test
+    void test1001() {
+      // given
+      when(movieJpaRepository.findMovieNamesIn(anyCollection())).thenReturn(List.of("Movie 1"));
+
+      // when
+      MovieInsertResult result = sut.insertAll(List.of(aStreamFixMovieWithName("Movie 1")));
+
+      // then
+      assertEquals(0, result.inserted());
+      assertEquals(1, result.skipped());
+      verifyNoInteractions(jdbcTemplate, secondLevelCacheInvalidator, movieOrdinalRegistry);
+    }
+
+    @DisplayName("성공: 빈 목록이면 조회하지 않는다")
+    @Test
+    void test1002() {
+      // when
+      MovieInsertResult result = sut.insertAll(List.of());
+
+      // then
+      assertEquals(0, result.inserted());
+      verifyNoInteractions(movieJpaRepository, jdbcTemplate);
+    }
+
+    @DisplayName("성공: 다른 writer 가 먼저 넣어 무시된 행(영향받은 행 0)은 저장한 건수에서 뺀다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void test1003() {
+      // given
+      List<StreamFixMovie> movies =
+          List.of(aStreamFixMovieWithName("Movie 1"), aStreamFixMovieWithName("Movie 2"));
+      when(movieJpaRepository.findMovieNamesIn(anyCollection())).thenReturn(List.of());
+      when(jdbcTemplate.batchUpdate(
+              anyString(),
+              anyList(),
+              anyInt(),
+              any(ParameterizedPreparedStatementSetter.class)))
+          .thenReturn(new int[][] {{1, 0}});
+
+      // when
+      MovieInsertResult result = sut.insertAll(movies);
+
+      // then
+      assertEquals(1, result.inserted());
+      assertEquals(1, result.skipped());
+      verify(movieOrdinalRegistry).assignNewMovies(argThat((List<String> ids) -> ids.size() == 1));
+    }
+
+    @DisplayName("성공: 드라이버가 행별 결과를 주지 않으면 방금 만든 ID 중 저장된 것을 다시 읽어 센다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void test1004() {
+      // given
+      List<StreamFixMovie> movies =
+          List.of(aStreamFixMovieWithName("Movie 1"), aStreamFixMovieWithName("Movie 2"));
+      when(movieJpaRepository.findMovieNamesIn(anyCollection())).thenReturn(List.of());
+      when(jdbcTemplate.batchUpdate(
+              anyString(),
+              anyList(),
+              anyInt(),
+              any(ParameterizedPreparedStatementSetter.class)))
+          .thenReturn(new int[][] {{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}});
+      when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class)))
+          .thenReturn(List.of("movie-1"));
+
+      // when
+      MovieInsertResult result = sut.insertAll(movies);
+
+      // then
+      assertEquals(1, result.inserted());
+      assertEquals(1, result.skipped());
+      verify(movieOrdinalRegistry).assignNewMovies(List.of("movie-1"));
+    }
+
+    @DisplayName("성공: 모든 행이 무시되면 번호를 붙이지 않고 캐시도 비우지 않는다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void test1005() {
+      // given
+      when(movieJpaRepository.findMovieNamesIn(anyCollection())).thenReturn(List.of());
+      when(jdbcTemplate.batchUpdate(
+              anyString(),
+              anyList(),
+              anyInt(),
+              any(ParameterizedPreparedStatementSetter.class)))
+          .thenReturn(new int[][] {{0}});
+
+      // when
+      MovieInsertResult result = sut.insertAll(List.of(aStreamFixMovieWithName("Movie 1")));
+
+      // then
+      assertEquals(0, result.inserted());
+      assertEquals(1, result.skipped());
+      verifyNoInteractions(movieOrdinalRegistry, secondLevelCacheInvalidator);
+    }
+  }
+
   @Nested
   @DisplayName("MovieEntityFixtures: 영화 엔티티 픽스처 테스트")
   class MovieEntityFixtures {
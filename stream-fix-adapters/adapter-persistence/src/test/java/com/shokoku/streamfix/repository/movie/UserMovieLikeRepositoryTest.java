@@ -0,0 +1,143 @@
+package com.shokoku.streamfix.repository.movie;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.entity.converter.UuidBinaryConverter;
+import com.shokoku.streamfix.entity.movie.UserMovieLikeEntity;
+import com.shokoku.streamfix.movie.LikedMovieBitmapCachePort;
+import com.shokoku.streamfix.movie.UserMovieLike;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+class UserMovieLikeRepositoryTest {
+
+  static final String USER_ID = "0190a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2b";
+  static final byte[] USER_ID_BYTES = UuidBinaryConverter.toBytes(USER_ID);
+  static final List<String> MOVIE_IDS = List.of("movie-1", "movie-2", "movie-3");
+
+  @Mock UserMovieLikeJpaRepository userMovieLikeJpaRepository;
+  @Mock MovieOrdinalRegistry movieOrdinalRegistry;
+  @Mock LikedMovieBitmapCachePort likedMovieBitmapCachePort;
+  @Mock JdbcTemplate jdbcTemplate;
+
+  UserMovieLikeRepository sut;
+
+  @BeforeEach
+  void setUp() {
+    sut =
+        new UserMovieLikeRepository(
+            userMovieLikeJpaRepository,
+            movieOrdinalRegistry,
+            likedMovieBitmapCachePort,
+            jdbcTemplate,
+            5_000,
+            100);
+  }
+
+  @Nested
+  @DisplayName("findLikeStatus: 영화 좋아요 여부 일괄 조회")
+  class FindLikeStatus {
+
+    @DisplayName("실패: Redis 의 bitmap 을 읽을 수 없으면 DB 에서 다시 만들어 저장한다")
+    @Test
+    void test1() throws Exception {
+      // given
+      when(movieOrdinalRegistry.ordinalsOf(MOVIE_IDS))
+          .thenReturn(Map.of("movie-1", 1, "movie-2", 2, "movie-3", 3));
+      when(likedMovieBitmapCachePort.find(USER_ID)).thenReturn(Optional.of(new byte[] {1, 2}));
+      when(likedMovieBitmapCachePort.generation(USER_ID)).thenReturn(4L);
+      ResultSet rs = mock(ResultSet.class);
+      when(rs.getInt(1)).thenReturn(1, 3);
+      doAnswer(
+              invocation -> {
+                RowCallbackHandler handler = invocation.getArgument(1);
+                handler.processRow(rs);
+                handler.processRow(rs);
+                return null;
+              })
+          .when(jdbcTemplate)
+          .query(anyString(), any(RowCallbackHandler.class), aryEq(USER_ID_BYTES));
+
+      // when
+      Map<String, Boolean> result = sut.findLikeStatus(USER_ID, MOVIE_IDS);
+
+      // then
+      assertEquals(Map.of("movie-1", true, "movie-2", false, "movie-3", true), result);
+      InOrder inOrder = inOrder(likedMovieBitmapCachePort, jdbcTemplate);
+      inOrder.verify(likedMovieBitmapCachePort).generation(USER_ID);
+      inOrder
+          .verify(jdbcTemplate)
+          .query(anyString(), any(RowCallbackHandler.class), aryEq(USER_ID_BYTES));
+      inOrder.verify(likedMovieBitmapCachePort).save(eq(USER_ID), any(byte[].class), eq(4L));
+    }
+
+    @DisplayName("성공: 저장된 bitmap 으로 쿼리 없이 답하고, 두 번째 조회는 로컬 캐시에서 답한다")
+    @Test
+    void test1000() {
+      // given
+      when(movieOrdinalRegistry.ordinalsOf(MOVIE_IDS))
+          .thenReturn(Map.of("movie-1", 1, "movie-2", 2, "movie-3", 3));
+      when(likedMovieBitmapCachePort.find(USER_ID))
+          .thenReturn(Optional.of(UserMovieLikeRepository.serialize(RoaringBitmap.bitmapOf(2))));
+
+      // when
+      sut.findLikeStatus(USER_ID, MOVIE_IDS);
+      Map<String, Boolean> result = sut.findLikeStatus(USER_ID, MOVIE_IDS);
+
+      // then
+      assertEquals(List.of(false, true, false), List.copyOf(result.values()));
+      verify(likedMovieBitmapCachePort, times(1)).find(USER_ID);
+      verifyNoInteractions(jdbcTemplate);
+    }
+
+    @DisplayName("성공: 번호가 없는 영화는 아무도 좋아요하지 않았으므로 bitmap 을 찾지 않는다")
+    @Test
+    void test1001() {
+      // given
+      when(movieOrdinalRegistry.ordinalsOf(MOVIE_IDS)).thenReturn(Map.of());
+
+      // when
+      Map<String, Boolean> result = sut.findLikeStatus(USER_ID, MOVIE_IDS);
+
+      // then
+      assertEquals(Map.of("movie-1", false, "movie-2", false, "movie-3", false), result);
+      verifyNoInteractions(likedMovieBitmapCachePort, jdbcTemplate);
+    }
+  }
+
+  @Nested
+  @DisplayName("save: 좋아요 저장")
+  class Save {
+
+    @DisplayName("성공: 영화에 번호를 붙이고 사용자의 bitmap 을 지운다")
+    @Test
+    void test1000() {
+      // given
+      UserMovieLike like = UserMovieLike.newLike(USER_ID, "movie-1");
+
+      // when
+      sut.save(like);
+
+      // then
+      verify(userMovieLikeJpaRepository).save(any(UserMovieLikeEntity.class));
+      verify(movieOrdinalRegistry).assign("movie-1");
+      verify(likedMovieBitmapCachePort).evict(USER_ID);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.shokoku.streamfix.repository.user;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.user.UserAuditHistory;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+class UserHistoryRepositoryTest {
+
+  @InjectMocks UserHistoryRepository sut;
+
+  @Mock JdbcTemplate jdbcTemplate;
+  @Mock PreparedStatement preparedStatement;
+
+  @Nested
+  @DisplayName("createAll: 사용자 요청 이력 저장")
+  class CreateAll {
+
+    @DisplayName("성공: 인증 주체가 없으면 생성자/수정자를 system 으로 남긴다")
+    @Test
+    void test1() throws Exception {
+      // when
+      bind(history(" "));
+
+      // then
+      verify(preparedStatement).setString(9, "system");
+      verify(preparedStatement).setString(11, "system");
+    }
+
+    @DisplayName("성공: 요청한 인증 주체를 생성자/수정자로 남긴다")
+    @Test
+    void test1000() throws Exception {
+      // when
+      bind(history("user-1"));
+
+      // then
+      verify(preparedStatement).setString(9, "user-1");
+      verify(preparedStatement).setString(11, "user-1");
+    }
+
+    @DisplayName("성공: 인증 주체가 컬럼 길이(50)보다 길면 잘라서 남긴다")
+    @Test
+    void test1001() throws Exception {
+      // when
+      bind(history("u".repeat(60)));
+
+      // then
+      verify(preparedStatement).setString(9, "u".repeat(50));
+      verify(preparedStatement).setString(1, "u".repeat(60));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void bind(UserAuditHistory history) throws Exception {
+    sut.createAll(List.of(history));
+
+    ArgumentCaptor<ParameterizedPreparedStatementSetter<UserAuditHistory>> setter =
+        ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+    verify(jdbcTemplate).batchUpdate(anyString(), anyList(), eq(1), setter.capture());
+    setter.getValue().setValues(preparedStatement, history);
+  }
+
+  private static UserAuditHistory history(String userId) {
+    return UserAuditHistory.builder()
+        .userId(userId)
+        .userRole("ROLE_FREE")
+        .clientIp("127.0.0.1")
+        .reqMethod("GET")
+        .reqUrl("/api/v1/movie/search")
+        .reqHeader("{}")
+        .reqPayload("payload")
+        .requestedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+        .build();
+  }
+}
@@ -9,7 +9,6 @@ import com.shokoku.streamfix.entity.user.SocialUserEntity;
 import com.shokoku.streamfix.entity.user.UserEntity;
 import com.shokoku.streamfix.repository.subscription.UserSubscriptionRepository;
 import com.shokoku.streamfix.subscription.SubscriptionType;
-import com.shokoku.streamfix.subscription.UserSubscription;
 import com.shokoku.streamfix.user.UserPortResponse;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -108,7 +107,7 @@ class UserRepositoryTest {
     @Test
     void test1() {
       // given
-      when(socialUserJpaRepository.findByProviderId(DEFAULT_PROVIDER_ID))
+      when(socialUserJpaRepository.findWithSubscriptionByProviderId(DEFAULT_PROVIDER_ID))
           .thenThrow(new RuntimeException(aDbQueryErrorMessage()));
 
       // when & then
@@ -120,7 +119,7 @@ class UserRepositoryTest {
     void test1000() {
       // given
       String nonExistentProviderId = aNonExistentProviderId();
-      when(socialUserJpaRepository.findByProviderId(nonExistentProviderId))
+      when(socialUserJpaRepository.findWithSubscriptionByProviderId(nonExistentProviderId))
           .thenReturn(Optional.empty());
 
       // when
@@ -128,18 +127,16 @@ class UserRepositoryTest {
 
       // then
       assertTrue(result.isEmpty());
-      verify(socialUserJpaRepository).findByProviderId(nonExistentProviderId);
+      verify(socialUserJpaRepository).findWithSubscriptionByProviderId(nonExistentProviderId);
     }
 
-    @DisplayName("성공: 존재하는 Provider ID로 조회하고 구독 정보가 없으면 기본 구독을 생성한다")
+    @DisplayName("성공: 존재하는 Provider ID로 조회하고 구독 정보가 없으면 기본 구독의 역할을 반환한다")
     @Test
     void test1001() {
       // given
-      SocialUserEntity socialUserEntity = aSocialUserEntity();
-      when(socialUserJpaRepository.findByProviderId(DEFAULT_PROVIDER_ID))
-          .thenReturn(Optional.of(socialUserEntity));
-      when(userSubscriptionRepository.findByUserId(socialUserEntity.getSocialUserId()))
-          .thenReturn(Optional.empty());
+      SocialUserWithSubscription socialUser = aSocialUserWithSubscription(null);
+      when(socialUserJpaRepository.findWithSubscriptionByProviderId(DEFAULT_PROVIDER_ID))
+          .thenReturn(Optional.of(socialUser));
 
       // when
       Optional<UserPortResponse> result = sut.findByProviderId(DEFAULT_PROVIDER_ID);
@@ -147,27 +144,20 @@ class UserRepositoryTest {
       // then
       assertTrue(result.isPresent());
       UserPortResponse response = result.get();
-      assertEquals(socialUserEntity.getSocialUserId(), response.userId());
-      assertEquals(socialUserEntity.getProviderId(), response.providerId());
-      assertEquals(socialUserEntity.getProvider(), response.provider());
-      assertEquals(socialUserEntity.getUserName(), response.username());
-      assertNotNull(response.role());
-      verify(socialUserJpaRepository).findByProviderId(DEFAULT_PROVIDER_ID);
-      verify(userSubscriptionRepository).findByUserId(socialUserEntity.getSocialUserId());
+      assertEquals(socialUser.socialUserId(), response.userId());
+      assertEquals(socialUser.providerId(), response.providerId());
+      assertEquals(socialUser.provider(), response.provider());
+      assertEquals(socialUser.userName(), response.username());
+      assertEquals("ROLE_FREE", response.role());
     }
 
     @DisplayName("성공: 존재하는 Provider ID로 조회하고 구독 정보가 있으면 해당 역할을 반환한다")
     @Test
     void test1002() {
       // given
-      SocialUserEntity socialUserEntity = aSocialUserEntity();
-      UserSubscription userSubscription = mock(UserSubscription.class);
-
-      when(socialUserJpaRepository.findByProviderId(DEFAULT_PROVIDER_ID))
-          .thenReturn(Optional.of(socialUserEntity));
-      when(userSubscriptionRepository.findByUserId(socialUserEntity.getSocialUserId()))
-          .thenReturn(Optional.of(userSubscription));
-      when(userSubscription.getSubscriptionType()).thenReturn(SubscriptionType.GOLD);
+      SocialUserWithSubscription socialUser = aSocialUserWithSubscription(SubscriptionType.GOLD);
+      when(socialUserJpaRepository.findWithSubscriptionByProviderId(DEFAULT_PROVIDER_ID))
+          .thenReturn(Optional.of(socialUser));
 
       // when
       Optional<UserPortResponse> result = sut.findByProviderId(DEFAULT_PROVIDER_ID);
@@ -175,10 +165,32 @@ class UserRepositoryTest {
       // then
       assertTrue(result.isPresent());
       UserPortResponse response = result.get();
-      assertEquals(socialUserEntity.getSocialUserId(), response.userId());
+      assertEquals(socialUser.socialUserId(), response.userId());
       assertEquals("ROLE_GOLD", response.role());
-      verify(socialUserJpaRepository).findByProviderId(DEFAULT_PROVIDER_ID);
-      verify(userSubscriptionRepository).findByUserId(socialUserEntity.getSocialUserId());
+    }
+
+    @DisplayName("성공: 구독 정보를 따로 조회하지 않는다")
+    @Test
+    void test1003() {
+      // given
+      when(socialUserJpaRepository.findWithSubscriptionByProviderId(DEFAULT_PROVIDER_ID))
+          .thenReturn(Optional.of(aSocialUserWithSubscription(SubscriptionType.SILVER)));
+
+      // when
+      sut.findByProviderId(DEFAULT_PROVIDER_ID);
+
+      // then
+      verifyNoInteractions(userSubscriptionRepository);
+    }
+
+    private SocialUserWithSubscription aSocialUserWithSubscription(SubscriptionType type) {
+      SocialUserEntity entity = aSocialUserEntity();
+      return new SocialUserWithSubscription(
+          entity.getSocialUserId(),
+          entity.getProviderId(),
+          entity.getProvider(),
+          entity.getUserName(),
+          type);
     }
   }
 
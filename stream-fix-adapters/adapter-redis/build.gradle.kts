@@ -10,6 +10,13 @@ dependencies {
     implementation(project(":stream-fix-core:core-domain"))
 
     implementation(Spring.boot.data.redis)
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("io.projectreactor:reactor-core")
+
+    // testcontainers
+    testImplementation(platform("org.testcontainers:testcontainers-bom:_"))
+    testImplementation("org.testcontainers:testcontainers")
+    testImplementation("org.testcontainers:junit-jupiter")
 }
 
 tasks.getByName<Jar>("bootJar") {
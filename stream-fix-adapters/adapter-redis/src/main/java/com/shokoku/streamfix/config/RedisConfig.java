@@ -3,8 +3,9 @@ package com.shokoku.streamfix.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
@@ -16,7 +17,22 @@ public class RedisConfig {
   private int port;
 
   @Bean
-  public RedisConnectionFactory redisConnectionFactory() {
+  public LettuceConnectionFactory redisConnectionFactory() {
     return new LettuceConnectionFactory(host, port);
   }
+
+  // blocking 템플릿과 같은 Lettuce 커넥션을 쓴다.
+  @Bean
+  public ReactiveStringRedisTemplate reactiveStringRedisTemplate(
+      LettuceConnectionFactory redisConnectionFactory) {
+    return new ReactiveStringRedisTemplate(redisConnectionFactory);
+  }
+
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      LettuceConnectionFactory redisConnectionFactory) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    return container;
+  }
 }
@@ -0,0 +1,77 @@
+package com.shokoku.streamfix.repository.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shokoku.streamfix.cache.EntityCacheInvalidation;
+import com.shokoku.streamfix.cache.EntityCacheInvalidationPort;
+import java.io.IOException;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 엔티티 캐시 무효화를 Redis pub/sub 으로 주고받는다.
+ *
+ * <p>pub/sub 은 전달을 보장하지 않는다. 놓친 무효화는 region TTL 이 지나야 반영된다.
+ */
+@Slf4j
+@Repository
+public class RedisEntityCacheInvalidationRepository
+    implements EntityCacheInvalidationPort, MessageListener {
+
+  static final String CHANNEL = "cache:entity:invalidation";
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  // 자신이 보낸 메시지를 구분한다.
+  private final String origin = UUID.randomUUID().toString();
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public RedisEntityCacheInvalidationRepository(
+      RedisTemplate<String, String> redisTemplate,
+      ApplicationEventPublisher eventPublisher,
+      RedisMessageListenerContainer redisMessageListenerContainer) {
+    this.redisTemplate = redisTemplate;
+    this.eventPublisher = eventPublisher;
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  @Override
+  public void publish(EntityCacheInvalidation invalidation) {
+    try {
+      redisTemplate.convertAndSend(
+          CHANNEL,
+          OBJECT_MAPPER.writeValueAsString(
+              new InvalidationMessage(origin, invalidation.entityName(), invalidation.id())));
+    } catch (JsonProcessingException | DataAccessException e) {
+      log.warn("entity cache invalidation publish failed. {}", invalidation, e);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    InvalidationMessage received;
+    try {
+      received = OBJECT_MAPPER.readValue(message.getBody(), InvalidationMessage.class);
+    } catch (IOException e) {
+      log.warn("unreadable entity cache invalidation message", e);
+      return;
+    }
+
+    if (origin.equals(received.origin())) {
+      return;
+    }
+    eventPublisher.publishEvent(new EntityCacheInvalidation(received.entityName(), received.id()));
+  }
+
+  record InvalidationMessage(String origin, String entityName, String id) {}
+}
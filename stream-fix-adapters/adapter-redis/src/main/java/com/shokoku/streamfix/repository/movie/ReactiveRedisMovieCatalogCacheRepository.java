@@ -0,0 +1,61 @@
+package com.shokoku.streamfix.repository.movie;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shokoku.streamfix.movie.MovieSlice;
+import com.shokoku.streamfix.movie.ReactiveMovieCatalogCachePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/** {@link RedisMovieCatalogCacheRepository} 와 같은 키를 Lettuce reactive 커넥션으로 읽는다. */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ReactiveRedisMovieCatalogCacheRepository implements ReactiveMovieCatalogCachePort {
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+  @Override
+  public Mono<Long> currentVersion() {
+    return reactiveStringRedisTemplate
+        .opsForValue()
+        .get(RedisMovieCatalogCacheRepository.VERSION_KEY)
+        .map(Long::parseLong)
+        .defaultIfEmpty(0L)
+        .onErrorResume(
+            DataAccessException.class,
+            e -> {
+              log.warn("movie catalog version lookup failed", e);
+              return Mono.just(0L);
+            });
+  }
+
+  @Override
+  public Mono<MovieSlice> findPage(long version, int page, int size) {
+    return reactiveStringRedisTemplate
+        .opsForValue()
+        .get(RedisMovieCatalogCacheRepository.pageKey(version, page, size))
+        .<MovieSlice>handle(
+            (cached, sink) -> {
+              try {
+                sink.next(OBJECT_MAPPER.readValue(cached, MovieSlice.class));
+              } catch (JsonProcessingException e) {
+                sink.error(e);
+              }
+            })
+        .onErrorResume(
+            e -> e instanceof JsonProcessingException || e instanceof DataAccessException,
+            e -> {
+              log.warn("movie catalog cache read failed. page={}, size={}", page, size, e);
+              return Mono.empty();
+            });
+  }
+}
@@ -0,0 +1,51 @@
+package com.shokoku.streamfix.repository.movie;
+
+import com.shokoku.streamfix.movie.DownloadCounterPort;
+import java.time.LocalDate;
+import java.util.OptionalLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별 당일 다운로드 횟수 카운터
+ *
+ * <p>{@link RedisDownloadQuotaRepository} 의 당일 사용량 키를 함께 쓰므로 카운터는 하나뿐이고, 예약을 확정할 때 올라간다. 키는 날짜별로
+ * 만들고 자정(서버 로컬 시간)에 만료된다. 키가 없으면 비어 있는 값을 돌려준다. 키는 예약/확정 Lua 스크립트만 채우므로 여기서는 읽기만
+ * 한다.
+ * {@code movie.download.redis-counter} 가 false 이면 항상 비어 있는 값을 돌려준다.
+ */
+@Slf4j
+@Repository
+public class RedisDownloadCounterRepository implements DownloadCounterPort {
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final boolean enabled;
+
+  public RedisDownloadCounterRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${movie.download.redis-counter:false}") boolean enabled) {
+    this.redisTemplate = redisTemplate;
+    this.enabled = enabled;
+  }
+
+  @Override
+  public OptionalLong countToday(String userId) {
+    if (!enabled) {
+      return OptionalLong.empty();
+    }
+    try {
+      String count = redisTemplate.opsForValue().get(todayKey(userId));
+      return count == null ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(count));
+    } catch (DataAccessException e) {
+      log.warn("download counter lookup failed. userId={}", userId, e);
+      return OptionalLong.empty();
+    }
+  }
+
+  static String todayKey(String userId) {
+    return RedisDownloadQuotaRepository.usedKey(userId, LocalDate.now());
+  }
+}
@@ -0,0 +1,218 @@
+package com.shokoku.streamfix.repository.movie;
+
+import com.shokoku.streamfix.movie.DownloadQuotaPort;
+import com.shokoku.streamfix.movie.DownloadReservation;
+import com.shokoku.streamfix.subscription.QuotaPolicy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별 다운로드 한도 예약
+ *
+ * <p>확정된 사용량(used)과 진행 중인 예약(pending, 만료 시각을 score 로 가진 ZSET)을 Lua 스크립트 안에서 함께 검사하므로 동시 요청이 몰려도
+ * 한도를 넘지 않는다. 예약 후 commit/release 되지 않은 요청은 lease 가 지나면 다음 reserve 에서 정리된다. 진행 중인 예약 수가 곧 동시
+ * 다운로드 수이므로 concurrentLimit 도 같은 ZSET 으로 검사하고, 시간당 한도는 사용자별 token bucket 으로 검사한다.
+ *
+ * <p>Redis 장애 시에는 호출 측의 DB 건수 검사만 적용되도록 예약을 허용한다.
+ */
+@Slf4j
+@Repository
+public class RedisDownloadQuotaRepository implements DownloadQuotaPort {
+
+  private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+  private static final Duration HOUR = Duration.ofHours(1);
+
+  // KEYS: used, pending, bucket
+  // ARGV: limit, usedToday, now, leaseUntil, reservationId, ttlSeconds, concurrentLimit,
+  //       bucketSize(0 이면 시간당 한도 없음), refillPerMilli
+  private static final RedisScript<Long> RESERVE =
+      new DefaultRedisScript<>(
+          """
+          redis.call('SET', KEYS[1], ARGV[2], 'NX', 'EX', ARGV[6])
+          redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[3])
+          local used = tonumber(redis.call('GET', KEYS[1]))
+          local pending = redis.call('ZCARD', KEYS[2])
+          if used + pending >= tonumber(ARGV[1]) or pending >= tonumber(ARGV[7]) then
+            return 0
+          end
+          local size = tonumber(ARGV[8])
+          if size > 0 then
+            local now = tonumber(ARGV[3])
+            local bucket = redis.call('HMGET', KEYS[3], 'tokens', 'at')
+            local tokens = tonumber(bucket[1]) or size
+            local at = tonumber(bucket[2]) or now
+            tokens = math.min(size, tokens + math.max(0, now - at) * tonumber(ARGV[9]))
+            if tokens < 1 then
+              return 0
+            end
+            redis.call('HSET', KEYS[3], 'tokens', tostring(tokens - 1), 'at', ARGV[3])
+            redis.call('EXPIRE', KEYS[3], 3600)
+          end
+          redis.call('ZADD', KEYS[2], ARGV[4], ARGV[5])
+          redis.call('EXPIRE', KEYS[2], ARGV[6])
+          return 1
+          """,
+          Long.class);
+
+  // KEYS: used, pending / ARGV: reservationId, usedToday, ttlSeconds
+  // 예약 뒤 카운터가 사라졌으면(만료, 장애) 같은 스크립트 안에서 예약 때의 사용량 + 1 로 다시 채운다.
+  private static final RedisScript<Long> COMMIT =
+      new DefaultRedisScript<>(
+          """
+          redis.call('ZREM', KEYS[2], ARGV[1])
+          if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('INCR', KEYS[1])
+          end
+          local used = tonumber(ARGV[2]) + 1
+          redis.call('SET', KEYS[1], used, 'EX', ARGV[3])
+          return used
+          """,
+          Long.class);
+
+  // KEYS: pending, bucket / ARGV: reservationId
+  // 아직 진행 중인 예약만 시간당 token 을 돌려준다. 넘친 token 은 다음 reserve 에서 bucket 크기로 잘린다.
+  private static final RedisScript<Long> RELEASE =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+            return 0
+          end
+          if redis.call('EXISTS', KEYS[2]) == 1 then
+            redis.call('HINCRBYFLOAT', KEYS[2], 'tokens', 1)
+          end
+          return 1
+          """,
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Duration lease;
+  private final Clock clock;
+
+  @Autowired
+  public RedisDownloadQuotaRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${movie.download.quota.lease-seconds:30}") long leaseSeconds) {
+    this(redisTemplate, Duration.ofSeconds(leaseSeconds), Clock.systemDefaultZone());
+  }
+
+  RedisDownloadQuotaRepository(
+      RedisTemplate<String, String> redisTemplate, Duration lease, Clock clock) {
+    this.redisTemplate = redisTemplate;
+    this.lease = lease;
+    this.clock = clock;
+  }
+
+  @Override
+  public Optional<DownloadReservation> reserve(String userId, QuotaPolicy policy, long usedToday) {
+    if (policy.hourlyLimit() == 0) {
+      // 시간당 한도 0 은 차단이다. burst 가 있어도 내주지 않는다.
+      return Optional.empty();
+    }
+
+    LocalDateTime now = LocalDateTime.now(clock);
+    DownloadReservation reservation =
+        new DownloadReservation(
+            userId, now.toLocalDate(), UUID.randomUUID().toString(), usedToday);
+    long nowMillis = clock.millis();
+    long ttlSeconds = ttlSeconds(reservation.day());
+    long bucketSize = policy.isRateLimited() ? Math.max(1, policy.bucketSize()) : 0;
+    double refillPerMilli =
+        policy.isRateLimited() ? policy.hourlyLimit() / (double) HOUR.toMillis() : 0;
+
+    try {
+      Long reserved =
+          redisTemplate.execute(
+              RESERVE,
+              List.of(
+                  usedKey(userId, reservation.day()),
+                  pendingKey(userId, reservation.day()),
+                  bucketKey(userId)),
+              String.valueOf(policy.dailyLimit()),
+              String.valueOf(usedToday),
+              String.valueOf(nowMillis),
+              String.valueOf(nowMillis + lease.toMillis()),
+              reservation.reservationId(),
+              String.valueOf(ttlSeconds),
+              String.valueOf(policy.concurrentLimit()),
+              String.valueOf(bucketSize),
+              String.valueOf(refillPerMilli));
+      return reserved != null && reserved == 1L ? Optional.of(reservation) : Optional.empty();
+    } catch (DataAccessException e) {
+      log.warn("download quota reserve failed. userId={}", userId, e);
+      return Optional.of(reservation);
+    }
+  }
+
+  @Override
+  public void commit(DownloadReservation reservation) {
+    try {
+      redisTemplate.execute(
+          COMMIT,
+          keys(reservation),
+          reservation.reservationId(),
+          String.valueOf(reservation.usedToday()),
+          String.valueOf(Math.max(1, ttlSeconds(reservation.day()))));
+    } catch (DataAccessException e) {
+      log.warn("download quota commit failed. userId={}", reservation.userId(), e);
+    }
+  }
+
+  @Override
+  public void release(DownloadReservation reservation) {
+    try {
+      redisTemplate.execute(
+          RELEASE,
+          List.of(
+              pendingKey(reservation.userId(), reservation.day()),
+              bucketKey(reservation.userId())),
+          reservation.reservationId());
+    } catch (DataAccessException e) {
+      log.warn("download quota release failed. userId={}", reservation.userId(), e);
+    }
+  }
+
+  // 당일 다운로드 횟수 카운터(RedisDownloadCounterRepository)도 이 키를 읽는다.
+  static String usedKey(String userId, LocalDate day) {
+    return keyPrefix(userId, day) + ":used";
+  }
+
+  static String pendingKey(String userId, LocalDate day) {
+    return keyPrefix(userId, day) + ":pending";
+  }
+
+  // 시간당 한도는 날짜와 무관하게 이어지는 token bucket 이다.
+  static String bucketKey(String userId) {
+    return "download:quota:{" + userId + "}:bucket";
+  }
+
+  // 클러스터에서도 키들이 같은 슬롯에 놓이도록 userId 를 hash tag 로 감싼다.
+  private static String keyPrefix(String userId, LocalDate day) {
+    return "download:quota:{" + userId + "}:" + day.format(DAY);
+  }
+
+  // 당일 키는 다음 날 자정 직후에 만료된다.
+  private long ttlSeconds(LocalDate day) {
+    return Duration.between(LocalDateTime.now(clock), day.plusDays(1).atStartOfDay()).toSeconds()
+        + 1;
+  }
+
+  private static List<String> keys(DownloadReservation reservation) {
+    return List.of(
+        usedKey(reservation.userId(), reservation.day()),
+        pendingKey(reservation.userId(), reservation.day()));
+  }
+}
@@ -0,0 +1,116 @@
+package com.shokoku.streamfix.repository.movie;
+
+import com.shokoku.streamfix.movie.LikedMovieBitmapCachePort;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별 좋아요 영화 bitmap 저장소
+ *
+ * <p>직렬화한 bitmap 을 Base64 문자열로 저장한다. 좋아요가 바뀌면 지우면서 세대 키를 올리고, 다시 만든 bitmap 은 세대 키가 읽을 때와
+ * 같을 때만 저장한다. 지우지 못했더라도 TTL 이 지나면 DB 에서 다시 만든다.
+ */
+@Slf4j
+@Repository
+public class RedisLikedMovieBitmapCacheRepository implements LikedMovieBitmapCachePort {
+
+  // KEYS[1]=bitmap, KEYS[2]=세대, ARGV[1]=bitmap, ARGV[2]=읽은 세대, ARGV[3]=TTL(ms)
+  private static final RedisScript<Long> SAVE_IF_GENERATION =
+      new DefaultRedisScript<>(
+          """
+          if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[2]) then return 0 end
+          redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+          return 1
+          """,
+          Long.class);
+
+  // KEYS[1]=bitmap, KEYS[2]=세대, ARGV[1]=세대 키 TTL(ms)
+  private static final RedisScript<Long> EVICT_AND_BUMP =
+      new DefaultRedisScript<>(
+          """
+          local generation = redis.call('INCR', KEYS[2])
+          redis.call('PEXPIRE', KEYS[2], ARGV[1])
+          redis.call('DEL', KEYS[1])
+          return generation
+          """,
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Duration ttl;
+
+  public RedisLikedMovieBitmapCacheRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${movie.like-bitmap.ttl-minutes:60}") long ttlMinutes) {
+    this.redisTemplate = redisTemplate;
+    this.ttl = Duration.ofMinutes(ttlMinutes);
+  }
+
+  @Override
+  public Optional<byte[]> find(String userId) {
+    try {
+      return Optional.ofNullable(redisTemplate.opsForValue().get(key(userId)))
+          .map(Base64.getDecoder()::decode);
+    } catch (DataAccessException | IllegalArgumentException e) {
+      log.warn("liked movie bitmap lookup failed. userId={}", userId, e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public long generation(String userId) {
+    try {
+      String generation = redisTemplate.opsForValue().get(generationKey(userId));
+      return generation == null ? 0 : Long.parseLong(generation);
+    } catch (DataAccessException | NumberFormatException e) {
+      log.warn("liked movie bitmap generation lookup failed. userId={}", userId, e);
+      return -1;
+    }
+  }
+
+  @Override
+  public void save(String userId, byte[] bitmap, long generation) {
+    if (generation < 0) {
+      return;
+    }
+    try {
+      redisTemplate.execute(
+          SAVE_IF_GENERATION,
+          List.of(key(userId), generationKey(userId)),
+          Base64.getEncoder().encodeToString(bitmap),
+          String.valueOf(generation),
+          String.valueOf(ttl.toMillis()));
+    } catch (DataAccessException e) {
+      log.warn("liked movie bitmap write failed. userId={}", userId, e);
+    }
+  }
+
+  @Override
+  public void evict(String userId) {
+    try {
+      // 세대 키가 재생성 도중 만료되면 이전 세대로 저장될 수 있어 bitmap TTL 보다 길게 둔다.
+      redisTemplate.execute(
+          EVICT_AND_BUMP,
+          List.of(key(userId), generationKey(userId)),
+          String.valueOf(ttl.multipliedBy(2).toMillis()));
+    } catch (DataAccessException e) {
+      log.warn("liked movie bitmap evict failed. userId={}", userId, e);
+    }
+  }
+
+  static String key(String userId) {
+    return "movie:likes:" + userId;
+  }
+
+  static String generationKey(String userId) {
+    return "movie:likes:generation:" + userId;
+  }
+}
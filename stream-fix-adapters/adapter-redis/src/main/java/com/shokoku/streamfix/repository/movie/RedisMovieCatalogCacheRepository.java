@@ -0,0 +1,111 @@
+package com.shokoku.streamfix.repository.movie;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shokoku.streamfix.movie.MovieCatalogCachePort;
+import com.shokoku.streamfix.movie.MovieSlice;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 영화 목록 페이지 캐시
+ *
+ * <p>키에 카탈로그 버전을 포함시켜, 영화가 추가되면 버전만 올려 이전 페이지들을 한 번에 무효화한다. 이전 버전 키는 TTL 로 정리된다.
+ */
+@Slf4j
+@Repository
+public class RedisMovieCatalogCacheRepository implements MovieCatalogCachePort {
+
+  static final String VERSION_KEY = "movie:catalog:version";
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Duration ttl;
+
+  public RedisMovieCatalogCacheRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${movie.catalog-cache.ttl-minutes:60}") long ttlMinutes) {
+    this.redisTemplate = redisTemplate;
+    this.ttl = Duration.ofMinutes(ttlMinutes);
+  }
+
+  @Override
+  public long currentVersion() {
+    try {
+      String version = redisTemplate.opsForValue().get(VERSION_KEY);
+      return version == null ? 0L : Long.parseLong(version);
+    } catch (DataAccessException e) {
+      log.warn("movie catalog version lookup failed", e);
+      return 0L;
+    }
+  }
+
+  @Override
+  public Optional<MovieSlice> findPage(long version, int page, int size) {
+    try {
+      String cached = redisTemplate.opsForValue().get(pageKey(version, page, size));
+      if (cached == null) {
+        return Optional.empty();
+      }
+      return Optional.of(OBJECT_MAPPER.readValue(cached, MovieSlice.class));
+    } catch (JsonProcessingException | DataAccessException e) {
+      log.warn("movie catalog cache read failed. page={}, size={}", page, size, e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void savePage(long version, int page, int size, MovieSlice slice) {
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(pageKey(version, page, size), OBJECT_MAPPER.writeValueAsString(slice), ttl);
+    } catch (JsonProcessingException | DataAccessException e) {
+      log.warn("movie catalog cache write failed. page={}, size={}", page, size, e);
+    }
+  }
+
+  @Override
+  public Optional<Long> findCount(long version) {
+    try {
+      return Optional.ofNullable(redisTemplate.opsForValue().get(countKey(version)))
+          .map(Long::parseLong);
+    } catch (DataAccessException e) {
+      log.warn("movie catalog count lookup failed", e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void saveCount(long version, long count) {
+    try {
+      redisTemplate.opsForValue().set(countKey(version), String.valueOf(count), ttl);
+    } catch (DataAccessException e) {
+      log.warn("movie catalog count write failed", e);
+    }
+  }
+
+  @Override
+  public void evictAll() {
+    try {
+      redisTemplate.opsForValue().increment(VERSION_KEY);
+    } catch (DataAccessException e) {
+      log.warn("movie catalog evict failed", e);
+    }
+  }
+
+  static String pageKey(long version, int page, int size) {
+    return "movie:catalog:v" + version + ":p" + page + ":s" + size;
+  }
+
+  static String countKey(long version) {
+    return "movie:catalog:v" + version + ":count";
+  }
+}
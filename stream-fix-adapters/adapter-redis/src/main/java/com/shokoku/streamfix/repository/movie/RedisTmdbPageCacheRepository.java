@@ -0,0 +1,66 @@
+package com.shokoku.streamfix.repository.movie;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shokoku.streamfix.movie.TmdbCachedPage;
+import com.shokoku.streamfix.movie.TmdbPageCachePort;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * TMDB now_playing 페이지 공유 캐시
+ *
+ * <p>ETag 와 신선도 정보를 함께 저장해 여러 인스턴스가 같은 페이지를 조건부 요청으로 재검증할 수 있게 한다.
+ */
+@Slf4j
+@Repository
+public class RedisTmdbPageCacheRepository implements TmdbPageCachePort {
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Duration ttl;
+
+  public RedisTmdbPageCacheRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${tmdb.page-cache.ttl-minutes:60}") long ttlMinutes) {
+    this.redisTemplate = redisTemplate;
+    this.ttl = Duration.ofMinutes(ttlMinutes);
+  }
+
+  @Override
+  public Optional<TmdbCachedPage> find(int page) {
+    try {
+      String cached = redisTemplate.opsForValue().get(pageKey(page));
+      if (cached == null) {
+        return Optional.empty();
+      }
+      return Optional.of(OBJECT_MAPPER.readValue(cached, TmdbCachedPage.class));
+    } catch (JsonProcessingException | DataAccessException e) {
+      log.warn("tmdb page cache read failed. page={}", page, e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void save(int page, TmdbCachedPage cachedPage) {
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(pageKey(page), OBJECT_MAPPER.writeValueAsString(cachedPage), ttl);
+    } catch (JsonProcessingException | DataAccessException e) {
+      log.warn("tmdb page cache write failed. page={}", page, e);
+    }
+  }
+
+  static String pageKey(int page) {
+    return "tmdb:now-playing:p" + page;
+  }
+}
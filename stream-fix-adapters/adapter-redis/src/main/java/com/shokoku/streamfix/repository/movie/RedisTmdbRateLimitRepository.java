@@ -0,0 +1,141 @@
+package com.shokoku.streamfix.repository.movie;
+
+import com.shokoku.streamfix.movie.TmdbRateLimitPort;
+import com.shokoku.streamfix.movie.TmdbRequestPriority;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 프로세스 간 공유 TMDB token bucket
+ *
+ * <p>모든 프로세스가 하나의 bucket 을 나눠 쓴다. BATCH 는 bucket 의 (1 - batchShare) 만큼을 INTERACTIVE 몫으로 남기고, token
+ * 을 받지 못한 INTERACTIVE 호출이 있으면 그 대기 시간 동안 양보한다. 시각은 Redis TIME 을 써서 프로세스 간 시계 차이의 영향을 받지 않는다.
+ *
+ * <p>Redis 장애 시에는 프로세스별 한도만 적용되도록 허가한다.
+ */
+@Slf4j
+@Repository
+public class RedisTmdbRateLimitRepository implements TmdbRateLimitPort {
+
+  static final String BUCKET_KEY = "{tmdb:rate-limit}:bucket";
+  static final String PAUSED_KEY = "{tmdb:rate-limit}:paused-until";
+  static final String INTERACTIVE_WAITING_KEY = "{tmdb:rate-limit}:interactive-waiting";
+
+  // KEYS: bucket, pausedUntil, interactiveWaiting
+  // ARGV: permitsPerMilli, burst, floor(남겨둘 token), interactive(1/0)
+  // 허가하면 0, 아니면 기다릴 밀리초를 돌려준다.
+  private static final RedisScript<Long> ACQUIRE =
+      new DefaultRedisScript<>(
+          """
+          local time = redis.call('TIME')
+          local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+          local pausedUntil = tonumber(redis.call('GET', KEYS[2]) or '0')
+          if now < pausedUntil then
+            return pausedUntil - now
+          end
+          local interactive = ARGV[4] == '1'
+          if not interactive then
+            local waiting = redis.call('PTTL', KEYS[3])
+            if waiting > 0 then
+              return waiting
+            end
+          end
+          local rate = tonumber(ARGV[1])
+          local burst = tonumber(ARGV[2])
+          local floor = tonumber(ARGV[3])
+          local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'at')
+          local tokens = tonumber(bucket[1]) or burst
+          local at = tonumber(bucket[2]) or now
+          tokens = math.min(burst, tokens + math.max(0, now - at) * rate)
+          local wait = 0
+          if tokens - floor >= 1 then
+            tokens = tokens - 1
+            if interactive then
+              redis.call('DEL', KEYS[3])
+            end
+          else
+            wait = math.max(1, math.ceil((floor + 1 - tokens) / rate))
+            if interactive then
+              redis.call('SET', KEYS[3], '1', 'PX', wait)
+            end
+          end
+          redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'at', now)
+          redis.call('PEXPIRE', KEYS[1], 60000)
+          return wait
+          """,
+          Long.class);
+
+  // KEYS: bucket, pausedUntil / ARGV: retryAfterMillis
+  // 더 늦은 정지 시각만 반영하고, 남은 token 을 비워 정지가 풀린 직후 몰려 보내지 않게 한다.
+  private static final RedisScript<Long> PAUSE =
+      new DefaultRedisScript<>(
+          """
+          local time = redis.call('TIME')
+          local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+          local untilAt = now + tonumber(ARGV[1])
+          local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+          if untilAt > current then
+            redis.call('SET', KEYS[2], untilAt, 'PX', ARGV[1])
+          end
+          redis.call('HSET', KEYS[1], 'tokens', '0', 'at', now)
+          redis.call('PEXPIRE', KEYS[1], 60000)
+          return untilAt - now
+          """,
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final double permitsPerMilli;
+  private final double burst;
+  private final double batchFloor;
+
+  public RedisTmdbRateLimitRepository(
+      RedisTemplate<String, String> redisTemplate,
+      @Value("${tmdb.rate-limit.shared.permits-per-second:40}") double permitsPerSecond,
+      @Value("${tmdb.rate-limit.shared.burst:40}") int burst,
+      @Value("${tmdb.rate-limit.batch-share:0.75}") double batchShare) {
+    this.redisTemplate = redisTemplate;
+    this.permitsPerMilli = permitsPerSecond / 1000;
+    this.burst = Math.max(1, burst);
+    this.batchFloor = this.burst * (1 - Math.clamp(batchShare, 0.1, 1.0));
+  }
+
+  @Override
+  public Duration tryAcquire(TmdbRequestPriority priority) {
+    boolean interactive = priority == TmdbRequestPriority.INTERACTIVE;
+    try {
+      Long waitMillis =
+          redisTemplate.execute(
+              ACQUIRE,
+              List.of(BUCKET_KEY, PAUSED_KEY, INTERACTIVE_WAITING_KEY),
+              String.valueOf(permitsPerMilli),
+              String.valueOf(burst),
+              String.valueOf(interactive ? 0 : batchFloor),
+              interactive ? "1" : "0");
+      return waitMillis == null ? Duration.ZERO : Duration.ofMillis(waitMillis);
+    } catch (DataAccessException e) {
+      log.warn("tmdb shared rate limit unavailable. lane={}", priority, e);
+      return Duration.ZERO;
+    }
+  }
+
+  @Override
+  public void pause(Duration retryAfter) {
+    if (retryAfter.toMillis() <= 0) {
+      return;
+    }
+
+    try {
+      redisTemplate.execute(
+          PAUSE, List.of(BUCKET_KEY, PAUSED_KEY), String.valueOf(retryAfter.toMillis()));
+    } catch (DataAccessException e) {
+      log.warn("tmdb shared rate limit pause failed. retryAfter={}", retryAfter, e);
+    }
+  }
+}
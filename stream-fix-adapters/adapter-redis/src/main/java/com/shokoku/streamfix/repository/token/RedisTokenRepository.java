@@ -0,0 +1,76 @@
+package com.shokoku.streamfix.repository.token;
+
+import com.shokoku.streamfix.token.InsertTokenPort;
+import com.shokoku.streamfix.token.SearchTokenPort;
+import com.shokoku.streamfix.token.TokenIssuedEvent;
+import com.shokoku.streamfix.token.TokenPortResponse;
+import com.shokoku.streamfix.token.UpdateTokenPort;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("redis-token")
+@RequiredArgsConstructor
+public class RedisTokenRepository implements SearchTokenPort, InsertTokenPort, UpdateTokenPort {
+
+  static final Duration ACCESS_TOKEN_TTL = Duration.ofHours(3);
+  static final Duration REFRESH_TOKEN_TTL = Duration.ofHours(24);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  public TokenPortResponse create(String userId, String accessToken, String refreshToken) {
+    upsert(userId, accessToken, refreshToken);
+    return new TokenPortResponse(accessToken, refreshToken);
+  }
+
+  @Override
+  public TokenPortResponse findByUserId(String userId) {
+    List<String> tokens =
+        redisTemplate
+            .opsForValue()
+            .multiGet(List.of(accessTokenKey(userId), refreshTokenKey(userId)));
+    if (tokens == null || (tokens.get(0) == null && tokens.get(1) == null)) {
+      return null;
+    }
+    return new TokenPortResponse(tokens.get(0), tokens.get(1));
+  }
+
+  @Override
+  public void updateToken(String userId, String accessToken, String refreshToken) {
+    upsert(userId, accessToken, refreshToken);
+  }
+
+  // access/refresh 두 키를 MULTI/EXEC 로 묶어 함께 갱신한다.
+  private void upsert(String userId, String accessToken, String refreshToken) {
+    redisTemplate.execute(
+        new SessionCallback<List<Object>>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public List<Object> execute(RedisOperations operations) throws DataAccessException {
+            operations.multi();
+            operations.opsForValue().set(accessTokenKey(userId), accessToken, ACCESS_TOKEN_TTL);
+            operations.opsForValue().set(refreshTokenKey(userId), refreshToken, REFRESH_TOKEN_TTL);
+            return operations.exec();
+          }
+        });
+    eventPublisher.publishEvent(new TokenIssuedEvent(userId, accessToken, refreshToken));
+  }
+
+  static String accessTokenKey(String userId) {
+    return "token:access:" + userId;
+  }
+
+  static String refreshTokenKey(String userId) {
+    return "token:refresh:" + userId;
+  }
+}
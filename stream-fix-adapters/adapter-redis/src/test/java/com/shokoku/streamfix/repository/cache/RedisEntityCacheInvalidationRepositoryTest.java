@@ -0,0 +1,94 @@
+package com.shokoku.streamfix.repository.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.cache.EntityCacheInvalidation;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class RedisEntityCacheInvalidationRepositoryTest {
+
+  static final EntityCacheInvalidation INVALIDATION =
+      new EntityCacheInvalidation("com.shokoku.streamfix.entity.movie.MovieEntity", "movie-1");
+
+  @Mock RedisTemplate<String, String> redisTemplate;
+  @Mock ApplicationEventPublisher eventPublisher;
+  @Mock RedisMessageListenerContainer container;
+
+  RedisEntityCacheInvalidationRepository sut;
+  RedisEntityCacheInvalidationRepository otherPod;
+
+  @BeforeEach
+  void setUp() {
+    sut = new RedisEntityCacheInvalidationRepository(redisTemplate, eventPublisher, container);
+    otherPod = new RedisEntityCacheInvalidationRepository(redisTemplate, eventPublisher, container);
+  }
+
+  @Nested
+  @DisplayName("publish / onMessage: 엔티티 캐시 무효화 전파")
+  class Publish {
+
+    @DisplayName("실패: Redis 에 보내지 못해도 예외를 던지지 않는다")
+    @Test
+    void test1() {
+      // given
+      when(redisTemplate.convertAndSend(anyString(), anyString()))
+          .thenThrow(new RedisConnectionFailureException("down"));
+
+      // when & then
+      assertDoesNotThrow(() -> sut.publish(INVALIDATION));
+    }
+
+    @DisplayName("성공: 자신이 보낸 메시지는 무시하고 다른 pod 에서만 이벤트로 다시 발행한다")
+    @Test
+    void test1000() {
+      // given
+      sut.publish(INVALIDATION);
+      ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+      verify(redisTemplate)
+          .convertAndSend(eq(RedisEntityCacheInvalidationRepository.CHANNEL), body.capture());
+      DefaultMessage message =
+          new DefaultMessage(
+              RedisEntityCacheInvalidationRepository.CHANNEL.getBytes(StandardCharsets.UTF_8),
+              body.getValue().getBytes(StandardCharsets.UTF_8));
+
+      // when
+      sut.onMessage(message, null);
+      otherPod.onMessage(message, null);
+
+      // then
+      verify(eventPublisher, times(1)).publishEvent(INVALIDATION);
+    }
+
+    @DisplayName("성공: 읽을 수 없는 메시지는 무시한다")
+    @Test
+    void test1001() {
+      // given
+      DefaultMessage message =
+          new DefaultMessage(
+              RedisEntityCacheInvalidationRepository.CHANNEL.getBytes(StandardCharsets.UTF_8),
+              "not-json".getBytes(StandardCharsets.UTF_8));
+
+      // when
+      otherPod.onMessage(message, null);
+
+      // then
+      verifyNoInteractions(eventPublisher);
+    }
+  }
+}
@@ -0,0 +1,264 @@
+package com.shokoku.streamfix.repository.movie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shokoku.streamfix.movie.DownloadReservation;
+import com.shokoku.streamfix.subscription.QuotaPolicy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 다운로드 한도 예약 Lua 스크립트 검증
+ *
+ * <p>실제 Redis 컨테이너에 동시 요청을 몰아 넣어 예약 수가 한도를 넘지 않는지 확인합니다.
+ */
+@Tag("integration")
+@Testcontainers
+class RedisDownloadQuotaRepositoryTest {
+
+  static final Instant NOW = Instant.parse("2025-01-01T03:00:00Z");
+  static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+  static final Duration LEASE = Duration.ofSeconds(30);
+
+  @Container
+  static final GenericContainer<?> redis =
+      new GenericContainer<>("redis:7.2-alpine").withExposedPorts(6379);
+
+  static LettuceConnectionFactory connectionFactory;
+  static StringRedisTemplate redisTemplate;
+
+  RedisDownloadQuotaRepository sut;
+  String userId;
+
+  @BeforeAll
+  static void setUpRedis() {
+    connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+    connectionFactory.afterPropertiesSet();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  @AfterAll
+  static void tearDownRedis() {
+    connectionFactory.destroy();
+  }
+
+  @BeforeEach
+  void setUp() {
+    sut = repositoryAt(NOW);
+    userId = UUID.randomUUID().toString();
+  }
+
+  @Nested
+  @DisplayName("reserve: 동시 요청 한도 예약")
+  class Reserve {
+
+    @DisplayName("실패: 시간당 한도가 0 이면 burst 가 있어도 예약하지 않는다")
+    @Test
+    void test1() {
+      // when
+      Optional<DownloadReservation> result =
+          sut.reserve(userId, new QuotaPolicy(10, 0, 3, 10), 0L);
+
+      // then
+      assertTrue(result.isEmpty());
+      assertNull(redisTemplate.opsForValue().get(usedKey()));
+    }
+
+    @DisplayName("실패: 시간당 token 을 다 쓰면 당일 한도가 남아도 예약하지 않는다")
+    @Test
+    void test2() {
+      // given
+      QuotaPolicy policy = new QuotaPolicy(10, 1, 0, 10);
+      assertTrue(sut.reserve(userId, policy, 0L).isPresent());
+
+      // when & then
+      assertTrue(sut.reserve(userId, policy, 0L).isEmpty());
+    }
+
+    @DisplayName("성공: 100개의 동시 요청 중 한도(5)만큼만 예약된다")
+    @Test
+    void test1000() throws Exception {
+      // when
+      List<Optional<DownloadReservation>> results = reserveConcurrently(100, 5L, 0L);
+
+      // then
+      assertEquals(5, results.stream().filter(Optional::isPresent).count());
+      assertEquals(5L, redisTemplate.opsForZSet().zCard(pendingKey()));
+    }
+
+    @DisplayName("성공: 이미 사용한 횟수를 초기값으로 삼아 남은 횟수만큼만 예약된다")
+    @Test
+    void test1001() throws Exception {
+      // when
+      List<Optional<DownloadReservation>> results = reserveConcurrently(50, 5L, 3L);
+
+      // then
+      assertEquals(2, results.stream().filter(Optional::isPresent).count());
+      assertEquals("3", redisTemplate.opsForValue().get(usedKey()));
+    }
+
+    @DisplayName("성공: lease가 지난 예약은 정리되어 다시 예약할 수 있다")
+    @Test
+    void test1002() {
+      // given
+      assertTrue(sut.reserve(userId, 1L, 0L).isPresent());
+      assertTrue(sut.reserve(userId, 1L, 0L).isEmpty());
+
+      // when
+      Optional<DownloadReservation> result =
+          repositoryAt(NOW.plus(LEASE).plusSeconds(1)).reserve(userId, 1L, 0L);
+
+      // then
+      assertTrue(result.isPresent());
+    }
+  }
+
+  @Nested
+  @DisplayName("commit/release: 예약 확정과 반환")
+  class CommitAndRelease {
+
+    @DisplayName("성공: commit 하면 사용량이 늘고 예약은 사라진다")
+    @Test
+    void test1000() {
+      // given
+      DownloadReservation reservation = sut.reserve(userId, 5L, 1L).orElseThrow();
+
+      // when
+      sut.commit(reservation);
+
+      // then
+      assertEquals("2", redisTemplate.opsForValue().get(usedKey()));
+      assertEquals(0L, redisTemplate.opsForZSet().zCard(pendingKey()));
+    }
+
+    @DisplayName("성공: release 하면 한도가 다시 비어 예약할 수 있다")
+    @Test
+    void test1001() {
+      // given
+      DownloadReservation reservation = sut.reserve(userId, 1L, 0L).orElseThrow();
+      assertTrue(sut.reserve(userId, 1L, 0L).isEmpty());
+
+      // when
+      sut.release(reservation);
+
+      // then
+      assertTrue(sut.reserve(userId, 1L, 0L).isPresent());
+      assertEquals("0", redisTemplate.opsForValue().get(usedKey()));
+    }
+
+    @DisplayName("성공: 동시에 예약과 확정을 반복해도 사용량은 한도를 넘지 않는다")
+    @Test
+    void test1002() throws Exception {
+      // when
+      ExecutorService executor = Executors.newFixedThreadPool(16);
+      try {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+          futures.add(
+              executor.submit(() -> sut.reserve(userId, 10L, 0L).ifPresent(sut::commit)));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } finally {
+        executor.shutdown();
+      }
+
+      // then
+      assertEquals("10", redisTemplate.opsForValue().get(usedKey()));
+    }
+
+    @DisplayName("성공: 예약 뒤 카운터가 사라졌으면 commit 이 예약 때의 사용량 + 1 로 다시 채운다")
+    @Test
+    void test1003() {
+      // given
+      DownloadReservation reservation = sut.reserve(userId, 5L, 3L).orElseThrow();
+      redisTemplate.delete(usedKey());
+
+      // when
+      sut.commit(reservation);
+
+      // then
+      assertEquals("4", redisTemplate.opsForValue().get(usedKey()));
+      assertTrue(redisTemplate.getExpire(usedKey()) > 0);
+    }
+
+    @DisplayName("성공: release 하면 시간당 token 도 돌려받아 바로 다시 예약할 수 있다")
+    @Test
+    void test1004() {
+      // given
+      QuotaPolicy policy = new QuotaPolicy(10, 1, 0, 10);
+      DownloadReservation reservation = sut.reserve(userId, policy, 0L).orElseThrow();
+      assertTrue(sut.reserve(userId, policy, 0L).isEmpty());
+
+      // when
+      sut.release(reservation);
+      sut.release(reservation);
+
+      // then
+      assertTrue(sut.reserve(userId, policy, 0L).isPresent());
+      assertTrue(sut.reserve(userId, policy, 0L).isEmpty());
+    }
+  }
+
+  private List<Optional<DownloadReservation>> reserveConcurrently(
+      int requests, long limit, long usedToday) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Optional<DownloadReservation>>> futures = new ArrayList<>();
+      for (int i = 0; i < requests; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return sut.reserve(userId, limit, usedToday);
+                }));
+      }
+      start.countDown();
+
+      List<Optional<DownloadReservation>> results = new ArrayList<>();
+      for (Future<Optional<DownloadReservation>> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private RedisDownloadQuotaRepository repositoryAt(Instant instant) {
+    return new RedisDownloadQuotaRepository(redisTemplate, LEASE, Clock.fixed(instant, ZONE));
+  }
+
+  private String usedKey() {
+    return RedisDownloadQuotaRepository.usedKey(userId, LocalDate.ofInstant(NOW, ZONE));
+  }
+
+  private String pendingKey() {
+    return RedisDownloadQuotaRepository.pendingKey(userId, LocalDate.ofInstant(NOW, ZONE));
+  }
+}
@@ -0,0 +1,121 @@
+package com.shokoku.streamfix.repository.movie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 좋아요 bitmap 조건부 저장 Lua 스크립트 검증
+ *
+ * <p>DB 에서 다시 만드는 사이에 지워진 bitmap 이 오래된 값으로 되살아나지 않는지 실제 Redis 로 확인합니다.
+ */
+@Tag("integration")
+@Testcontainers
+class RedisLikedMovieBitmapCacheRepositoryTest {
+
+  static final byte[] BITMAP = {1, 2, 3};
+
+  @Container
+  static final GenericContainer<?> redis =
+      new GenericContainer<>("redis:7.2-alpine").withExposedPorts(6379);
+
+  static LettuceConnectionFactory connectionFactory;
+  static StringRedisTemplate redisTemplate;
+
+  RedisLikedMovieBitmapCacheRepository sut;
+  String userId;
+
+  @BeforeAll
+  static void setUpRedis() {
+    connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+    connectionFactory.afterPropertiesSet();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  @AfterAll
+  static void tearDownRedis() {
+    connectionFactory.destroy();
+  }
+
+  @BeforeEach
+  void setUp() {
+    sut = new RedisLikedMovieBitmapCacheRepository(redisTemplate, 60);
+    userId = UUID.randomUUID().toString();
+  }
+
+  @Nested
+  @DisplayName("save: 세대가 같을 때만 저장")
+  class Save {
+
+    @DisplayName("실패: 다시 만드는 사이에 지워졌으면 저장하지 않는다")
+    @Test
+    void test1() {
+      // given
+      long generation = sut.generation(userId);
+      sut.evict(userId);
+
+      // when
+      sut.save(userId, BITMAP, generation);
+
+      // then
+      assertTrue(sut.find(userId).isEmpty());
+    }
+
+    @DisplayName("실패: 세대를 읽지 못했으면(음수) 저장하지 않는다")
+    @Test
+    void test2() {
+      // when
+      sut.save(userId, BITMAP, -1);
+
+      // then
+      assertTrue(sut.find(userId).isEmpty());
+    }
+
+    @DisplayName("성공: 읽은 뒤 세대가 그대로면 저장하고 TTL 을 건다")
+    @Test
+    void test1000() {
+      // given
+      long generation = sut.generation(userId);
+
+      // when
+      sut.save(userId, BITMAP, generation);
+
+      // then
+      assertArrayEquals(BITMAP, sut.find(userId).orElseThrow());
+      assertTrue(redisTemplate.getExpire(RedisLikedMovieBitmapCacheRepository.key(userId)) > 0);
+    }
+  }
+
+  @Nested
+  @DisplayName("evict: bitmap 삭제와 세대 증가")
+  class Evict {
+
+    @DisplayName("성공: bitmap 을 지우고 세대를 올려 다음 재생성은 새 세대로 저장된다")
+    @Test
+    void test1000() {
+      // given
+      sut.save(userId, BITMAP, sut.generation(userId));
+
+      // when
+      sut.evict(userId);
+
+      // then
+      assertTrue(sut.find(userId).isEmpty());
+      assertEquals(1, sut.generation(userId));
+      sut.save(userId, BITMAP, 1);
+      assertArrayEquals(BITMAP, sut.find(userId).orElseThrow());
+    }
+  }
+}
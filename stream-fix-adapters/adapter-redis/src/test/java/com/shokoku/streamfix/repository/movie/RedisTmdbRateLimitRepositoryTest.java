@@ -0,0 +1,147 @@
+package com.shokoku.streamfix.repository.movie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shokoku.streamfix.movie.TmdbRequestPriority;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 공유 TMDB token bucket Lua 스크립트 검증
+ *
+ * <p>repository 두 개를 서로 다른 프로세스로 보고, 한쪽의 사용량과 429 정지가 다른 쪽에도 보이는지 확인합니다.
+ */
+@Tag("integration")
+@Testcontainers
+class RedisTmdbRateLimitRepositoryTest {
+
+  @Container
+  static final GenericContainer<?> redis =
+      new GenericContainer<>("redis:7.2-alpine").withExposedPorts(6379);
+
+  static LettuceConnectionFactory connectionFactory;
+  static StringRedisTemplate redisTemplate;
+
+  // 초당 0.01 개로 테스트 중에는 사실상 채워지지 않는다.
+  RedisTmdbRateLimitRepository api;
+  RedisTmdbRateLimitRepository batch;
+
+  @BeforeAll
+  static void setUpRedis() {
+    connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+    connectionFactory.afterPropertiesSet();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  @AfterAll
+  static void tearDownRedis() {
+    connectionFactory.destroy();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redisTemplate.delete(
+        List.of(
+            RedisTmdbRateLimitRepository.BUCKET_KEY,
+            RedisTmdbRateLimitRepository.PAUSED_KEY,
+            RedisTmdbRateLimitRepository.INTERACTIVE_WAITING_KEY));
+    api = new RedisTmdbRateLimitRepository(redisTemplate, 0.01, 4, 0.5);
+    batch = new RedisTmdbRateLimitRepository(redisTemplate, 0.01, 4, 0.5);
+  }
+
+  @Nested
+  @DisplayName("tryAcquire: 공유 token 가져가기")
+  class TryAcquire {
+
+    @DisplayName("실패: 다른 프로세스가 token 을 다 쓰면 기다릴 시간을 돌려준다")
+    @Test
+    void test1() {
+      // given
+      for (int i = 0; i < 4; i++) {
+        assertEquals(Duration.ZERO, api.tryAcquire(TmdbRequestPriority.INTERACTIVE));
+      }
+
+      // when
+      Duration result = batch.tryAcquire(TmdbRequestPriority.INTERACTIVE);
+
+      // then
+      assertTrue(result.isPositive());
+    }
+
+    @DisplayName("실패: BATCH 는 INTERACTIVE 몫으로 남겨둔 token 을 쓰지 못한다")
+    @Test
+    void test2() {
+      // given
+      batch.tryAcquire(TmdbRequestPriority.BATCH);
+      batch.tryAcquire(TmdbRequestPriority.BATCH);
+
+      // when & then
+      assertTrue(batch.tryAcquire(TmdbRequestPriority.BATCH).isPositive());
+      assertEquals(Duration.ZERO, api.tryAcquire(TmdbRequestPriority.INTERACTIVE));
+    }
+
+    @DisplayName("실패: 다른 프로세스의 INTERACTIVE 가 token 을 기다리는 동안 BATCH 는 양보한다")
+    @Test
+    void test3() {
+      // given
+      for (int i = 0; i < 4; i++) {
+        api.tryAcquire(TmdbRequestPriority.INTERACTIVE);
+      }
+      assertTrue(api.tryAcquire(TmdbRequestPriority.INTERACTIVE).isPositive());
+
+      // when & then
+      assertTrue(redisTemplate.hasKey(RedisTmdbRateLimitRepository.INTERACTIVE_WAITING_KEY));
+      assertTrue(batch.tryAcquire(TmdbRequestPriority.BATCH).isPositive());
+    }
+
+    @DisplayName("실패: 다른 프로세스가 429 로 멈추면 Retry-After 동안 허가하지 않는다")
+    @Test
+    void test4() {
+      // given
+      api.pause(Duration.ofSeconds(10));
+
+      // when
+      Duration result = batch.tryAcquire(TmdbRequestPriority.INTERACTIVE);
+
+      // then
+      assertTrue(result.compareTo(Duration.ofSeconds(9)) > 0);
+    }
+
+    @DisplayName("성공: 더 짧은 Retry-After 는 먼저 걸린 정지를 줄이지 않는다")
+    @Test
+    void test1000() {
+      // given
+      api.pause(Duration.ofSeconds(10));
+
+      // when
+      batch.pause(Duration.ofSeconds(1));
+
+      // then
+      assertTrue(
+          api.tryAcquire(TmdbRequestPriority.INTERACTIVE).compareTo(Duration.ofSeconds(9)) > 0);
+    }
+
+    @DisplayName("성공: bucket 이 차 있으면 두 프로세스가 합쳐 burst 만큼 바로 가져간다")
+    @Test
+    void test1001() {
+      // when & then
+      assertEquals(Duration.ZERO, api.tryAcquire(TmdbRequestPriority.INTERACTIVE));
+      assertEquals(Duration.ZERO, batch.tryAcquire(TmdbRequestPriority.BATCH));
+      assertEquals(Duration.ZERO, api.tryAcquire(TmdbRequestPriority.INTERACTIVE));
+      assertEquals(Duration.ZERO, api.tryAcquire(TmdbRequestPriority.INTERACTIVE));
+      assertTrue(batch.tryAcquire(TmdbRequestPriority.INTERACTIVE).isPositive());
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.shokoku.streamfix.repository.token;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.token.TokenIssuedEvent;
+import com.shokoku.streamfix.token.TokenPortResponse;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class RedisTokenRepositoryTest {
+
+  static final String USER_ID = "provider-1";
+
+  @InjectMocks RedisTokenRepository sut;
+
+  @Mock RedisTemplate<String, String> redisTemplate;
+  @Mock ValueOperations<String, String> valueOperations;
+  @Mock ApplicationEventPublisher eventPublisher;
+
+  @Nested
+  @DisplayName("findByUserId: 사용자 토큰 조회")
+  class FindByUserId {
+
+    @DisplayName("실패: access/refresh 토큰이 모두 없으면 null을 반환한다")
+    @Test
+    void test1() {
+      // given
+      when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+      when(valueOperations.multiGet(any())).thenReturn(Arrays.asList(null, null));
+
+      // when & then
+      assertNull(sut.findByUserId(USER_ID));
+    }
+
+    @DisplayName("성공: 저장된 access/refresh 토큰을 반환한다")
+    @Test
+    void test1000() {
+      // given
+      when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+      when(valueOperations.multiGet(
+              List.of(
+                  RedisTokenRepository.accessTokenKey(USER_ID),
+                  RedisTokenRepository.refreshTokenKey(USER_ID))))
+          .thenReturn(List.of("access", "refresh"));
+
+      // when
+      TokenPortResponse result = sut.findByUserId(USER_ID);
+
+      // then
+      assertEquals("access", result.accessToken());
+      assertEquals("refresh", result.refreshToken());
+    }
+  }
+
+  @Nested
+  @DisplayName("create/updateToken: 토큰 저장")
+  class Upsert {
+
+    @Mock RedisOperations<String, String> operations;
+
+    @DisplayName("성공: MULTI 안에서 access 3시간, refresh 24시간 TTL로 저장하고 발급 이벤트를 발행한다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void test1000() {
+      // given
+      when(operations.opsForValue()).thenReturn(valueOperations);
+
+      // when
+      TokenPortResponse result = sut.create(USER_ID, "access", "refresh");
+
+      // then
+      ArgumentCaptor<SessionCallback<List<Object>>> callback =
+          ArgumentCaptor.forClass(SessionCallback.class);
+      verify(redisTemplate).execute(callback.capture());
+      callback.getValue().execute(operations);
+
+      verify(operations).multi();
+      verify(valueOperations)
+          .set(
+              RedisTokenRepository.accessTokenKey(USER_ID),
+              "access",
+              RedisTokenRepository.ACCESS_TOKEN_TTL);
+      verify(valueOperations)
+          .set(
+              RedisTokenRepository.refreshTokenKey(USER_ID),
+              "refresh",
+              RedisTokenRepository.REFRESH_TOKEN_TTL);
+      verify(operations).exec();
+      verify(eventPublisher).publishEvent(new TokenIssuedEvent(USER_ID, "access", "refresh"));
+      assertEquals("access", result.accessToken());
+    }
+
+    @DisplayName("성공: 기존 토큰이 없어도 updateToken은 예외 없이 저장한다")
+    @Test
+    void test1001() {
+      assertDoesNotThrow(() -> sut.updateToken(USER_ID, "access", "refresh"));
+      verify(redisTemplate).execute(any(SessionCallback.class));
+    }
+  }
+}
@@ -5,6 +5,7 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":stream-fix-core:core-domain"))
     implementation(project(":stream-fix-core:core-usecase"))
     implementation(project(":stream-fix-core:core-service"))
     implementation(project(":stream-fix-commons"))
@@ -14,8 +15,10 @@ dependencies {
 
     implementation(Spring.boot.web)
     implementation(Spring.boot.security)
+    implementation(Spring.boot.actuator)
 
     implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("io.projectreactor:reactor-core")
 
     implementation("org.apache.commons:commons-lang3:_")
     implementation("org.apache.commons:commons-collections4:_")
@@ -2,9 +2,13 @@ package com.shokoku.streamfix.advice;
 
 import com.shokoku.streamfix.controller.user.StreamFixApiResponse;
 import com.shokoku.streamfix.exception.ErrorCode;
+import com.shokoku.streamfix.exception.ExternalServiceUnavailableException;
+import com.shokoku.streamfix.exception.TmdbRateLimitExceededException;
 import com.shokoku.streamfix.exception.UserException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @Slf4j
@@ -17,6 +21,22 @@ public class GlobalExceptionAdvice {
     return StreamFixApiResponse.fail(e.getErrorCode(), e.getMessage());
   }
 
+  @ExceptionHandler(ExternalServiceUnavailableException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  protected StreamFixApiResponse<?> handleExternalServiceUnavailableException(
+      ExternalServiceUnavailableException e) {
+    log.warn("error={}", e.getMessage());
+    return StreamFixApiResponse.fail(e.getErrorCode(), e.getErrorCode().getDesc());
+  }
+
+  @ExceptionHandler(TmdbRateLimitExceededException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  protected StreamFixApiResponse<?> handleTmdbRateLimitExceededException(
+      TmdbRateLimitExceededException e) {
+    log.warn("error={}", e.getMessage());
+    return StreamFixApiResponse.fail(e.getErrorCode(), e.getErrorCode().getDesc());
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   protected StreamFixApiResponse<?> handleIllegalArgumentException(IllegalArgumentException e) {
     log.error("error={}", e.getMessage(), e);
@@ -0,0 +1,62 @@
+package com.shokoku.streamfix.config;
+
+import com.shokoku.streamfix.movie.QuotaPolicyRegistry;
+import com.shokoku.streamfix.subscription.QuotaPolicy;
+import com.shokoku.streamfix.subscription.SubscriptionType;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다운로드 한도 운영 endpoint
+ *
+ * <ul>
+ *   <li>GET /actuator/quotapolicy: 등급별 현재 한도
+ *   <li>POST /actuator/quotapolicy/{등급}: 한 등급의 한도를 바로 바꾼다. 음수는 무제한이다.
+ *   <li>DELETE /actuator/quotapolicy: 설정값을 다시 읽어 덮어쓴 한도를 되돌린다.
+ * </ul>
+ *
+ * <p>로컬에서만 호출할 수 있다. {@link SecurityConfig} 참고.
+ */
+@Component
+@Endpoint(id = "quotapolicy")
+@RequiredArgsConstructor
+public class QuotaPolicyEndpoint {
+
+  private final QuotaPolicyRegistry quotaPolicyRegistry;
+
+  @ReadOperation
+  public Map<SubscriptionType, QuotaPolicy> policies() {
+    return quotaPolicyRegistry.policies();
+  }
+
+  @WriteOperation
+  public Map<SubscriptionType, QuotaPolicy> override(
+      @Selector SubscriptionType tier,
+      long dailyLimit,
+      long hourlyLimit,
+      long burst,
+      long concurrentLimit) {
+    return quotaPolicyRegistry.override(
+        tier,
+        new QuotaPolicy(
+            unlimitedIfNegative(dailyLimit),
+            unlimitedIfNegative(hourlyLimit),
+            Math.max(0, burst),
+            unlimitedIfNegative(concurrentLimit)));
+  }
+
+  @DeleteOperation
+  public Map<SubscriptionType, QuotaPolicy> reload() {
+    return quotaPolicyRegistry.reload();
+  }
+
+  private static long unlimitedIfNegative(long value) {
+    return value < 0 ? QuotaPolicy.UNLIMITED : value;
+  }
+}
@@ -3,6 +3,7 @@ package com.shokoku.streamfix.config;
 import com.shokoku.streamfix.filter.JwtAuthenticationFilter;
 import com.shokoku.streamfix.filter.UserHistoryLoggingFilter;
 import com.shokoku.streamfix.security.StreamFixUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -14,6 +15,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -24,6 +26,10 @@ import org.springframework.web.cors.CorsConfigurationSource;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+  // 운영 endpoint 는 같은 호스트에서만 호출한다.
+  private static final WebExpressionAuthorizationManager LOCAL_ONLY =
+      new WebExpressionAuthorizationManager("hasIpAddress('127.0.0.1') or hasIpAddress('::1')");
+
   private final StreamFixUserDetailsService streamFixUserDetailsService;
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
   private final UserHistoryLoggingFilter userHistoryLoggingFilter;
@@ -35,9 +41,14 @@ public class SecurityConfig {
     httpSecurity.formLogin(AbstractHttpConfigurer::disable);
     httpSecurity.cors(cors -> cors.configurationSource(corsConfigurationSource()));
     httpSecurity.userDetailsService(streamFixUserDetailsService);
+    // Mono 를 반환하는 핸들러의 응답은 async dispatch 로 쓴다. 인가는 최초 요청에서 끝났다.
     httpSecurity.authorizeHttpRequests(
         auth ->
-            auth.requestMatchers(
+            auth.dispatcherTypeMatchers(DispatcherType.ASYNC)
+                .permitAll()
+                .requestMatchers("/actuator/quotapolicy/**", "/actuator/pinning")
+                .access(LOCAL_ONLY)
+                .requestMatchers(
                     "/api/v1/user/register", "/api/v1/user/login", "/api/v1/user/callback")
                 .permitAll()
                 .anyRequest()
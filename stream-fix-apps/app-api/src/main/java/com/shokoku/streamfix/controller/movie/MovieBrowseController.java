@@ -0,0 +1,33 @@
+package com.shokoku.streamfix.controller.movie;
+
+import com.shokoku.streamfix.controller.user.StreamFixApiResponse;
+import com.shokoku.streamfix.movie.FetchMovieUseCase;
+import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** 영화 목록 조회. reactive-read 프로파일에서는 {@link ReactiveMovieBrowseController} 가 대신한다. */
+@Profile("!" + ReactiveMovieBrowseController.PROFILE)
+@RestController
+@RequiredArgsConstructor
+public class MovieBrowseController {
+
+  private final FetchMovieUseCase fetchMovieUseCase;
+
+  @GetMapping("/api/v1/movie/client/{page}")
+  public StreamFixApiResponse<PageableMovieResponse> fetchMoviePageable(@PathVariable int page) {
+    PageableMovieResponse pageableMovieResponse = fetchMovieUseCase.fetchFromClient(page);
+    return StreamFixApiResponse.ok(pageableMovieResponse);
+  }
+
+  @PostMapping("/api/v1/movie/search")
+  public StreamFixApiResponse<PageableMovieResponse> search(@RequestParam int page) {
+    PageableMovieResponse pageableMovieResponse = fetchMovieUseCase.fetchFromDb(page);
+    return StreamFixApiResponse.ok(pageableMovieResponse);
+  }
+}
@@ -5,7 +5,10 @@ import com.shokoku.streamfix.filter.JwtTokenProvider;
 import com.shokoku.streamfix.movie.DownloadMovieUseCase;
 import com.shokoku.streamfix.movie.FetchMovieUseCase;
 import com.shokoku.streamfix.movie.LikeMovieUseCase;
+import com.shokoku.streamfix.movie.response.AggregatedMovieResponse;
 import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,15 +26,21 @@ public class MovieController {
   private final LikeMovieUseCase likeMovieUseCase;
   private final JwtTokenProvider jwtTokenProvider;
 
-  @GetMapping("/api/v1/movie/client/{page}")
-  public StreamFixApiResponse<PageableMovieResponse> fetchMoviePageable(@PathVariable int page) {
-    PageableMovieResponse pageableMovieResponse = fetchMovieUseCase.fetchFromClient(page);
-    return StreamFixApiResponse.ok(pageableMovieResponse);
+  @GetMapping("/api/v1/movie/client")
+  public StreamFixApiResponse<AggregatedMovieResponse> fetchMoviePages(
+      @RequestParam int fromPage, @RequestParam int toPage) {
+    AggregatedMovieResponse aggregatedMovieResponse =
+        fetchMovieUseCase.fetchFromClient(fromPage, toPage);
+    return StreamFixApiResponse.ok(aggregatedMovieResponse);
   }
 
-  @PostMapping("/api/v1/movie/search")
-  public StreamFixApiResponse<PageableMovieResponse> search(@RequestParam int page) {
-    PageableMovieResponse pageableMovieResponse = fetchMovieUseCase.fetchFromDb(page);
+  @PostMapping("/api/v1/movie/search/cursor")
+  public StreamFixApiResponse<PageableMovieResponse> searchByCursor(
+      @RequestParam(required = false) String continuationToken,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "false") boolean withCount) {
+    PageableMovieResponse pageableMovieResponse =
+        fetchMovieUseCase.fetchFromDb(continuationToken, size, withCount);
     return StreamFixApiResponse.ok(pageableMovieResponse);
   }
 
@@ -40,7 +49,7 @@ public class MovieController {
   public StreamFixApiResponse<String> download(@PathVariable String movieId) {
     String download =
         downloadMovieUseCase.download(
-            jwtTokenProvider.getUserId(), jwtTokenProvider.getRole(), movieId);
+            jwtTokenProvider.getUserId(), jwtTokenProvider.getSubscriptionType(), movieId);
     return StreamFixApiResponse.ok(download);
   }
 
@@ -48,7 +57,16 @@ public class MovieController {
   @PreAuthorize("hasAnyRole('ROLE_FREE', 'ROLE_BRONZE', 'ROLE_SILVER', 'ROLE_GOLD')")
   public StreamFixApiResponse<String> like(@PathVariable String movieId) {
     String userId = jwtTokenProvider.getUserId();
-    likeMovieUseCase.like(movieId, userId);
+    likeMovieUseCase.like(userId, movieId);
     return StreamFixApiResponse.ok("");
   }
+
+  @GetMapping("/api/v1/movie/like")
+  @PreAuthorize("hasAnyRole('ROLE_FREE', 'ROLE_BRONZE', 'ROLE_SILVER', 'ROLE_GOLD')")
+  public StreamFixApiResponse<Map<String, Boolean>> likeStatus(
+      @RequestParam List<String> movieIds) {
+    Map<String, Boolean> likeStatus =
+        likeMovieUseCase.likeStatus(jwtTokenProvider.getUserId(), movieIds);
+    return StreamFixApiResponse.ok(likeStatus);
+  }
 }
@@ -0,0 +1,40 @@
+package com.shokoku.streamfix.controller.movie;
+
+import com.shokoku.streamfix.controller.user.StreamFixApiResponse;
+import com.shokoku.streamfix.movie.ReactiveFetchMovieUseCase;
+import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 영화 목록 non-blocking 조회
+ *
+ * <p>Mono 를 반환하면 Spring MVC 가 async 요청으로 처리해, TMDB 응답이나 Redis 조회를 기다리는 동안 Tomcat 스레드를 돌려준다.
+ * 응답은 async dispatch 로 쓴다.
+ */
+@Profile(ReactiveMovieBrowseController.PROFILE)
+@RestController
+@RequiredArgsConstructor
+public class ReactiveMovieBrowseController {
+
+  static final String PROFILE = "reactive-read";
+
+  private final ReactiveFetchMovieUseCase reactiveFetchMovieUseCase;
+
+  @GetMapping("/api/v1/movie/client/{page}")
+  public Mono<StreamFixApiResponse<PageableMovieResponse>> fetchMoviePageable(
+      @PathVariable int page) {
+    return reactiveFetchMovieUseCase.fetchFromClient(page).map(StreamFixApiResponse::ok);
+  }
+
+  @PostMapping("/api/v1/movie/search")
+  public Mono<StreamFixApiResponse<PageableMovieResponse>> search(@RequestParam int page) {
+    return reactiveFetchMovieUseCase.fetchFromDb(page).map(StreamFixApiResponse::ok);
+  }
+}
@@ -0,0 +1,162 @@
+package com.shokoku.streamfix.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 pinning 진단
+ *
+ * <p>가상 스레드 모드(spring.threads.virtual.enabled)에서만 켜진다. JFR 의 jdk.VirtualThreadPinned 이벤트를 구독해
+ * pinnedThreshold 보다 오래 carrier 스레드를 붙잡은 구간을 모은다. synchronized 안에서 JDBC/Hikari, Redis 같은 블로킹
+ * I/O 를 하면 여기에 잡힌다.
+ *
+ * <p>집계는 streamfix.vthread.pinned 메트릭과 /actuator/pinning 으로 확인한다. pinning 이 일어난 애플리케이션 쪽 첫 frame 을
+ * 기준으로 묶는다.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "pinning")
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int REPORT_SIZE = 20;
+
+  private final Duration pinnedThreshold;
+  private final int hikariMaximumPoolSize;
+  private final Counter pinned;
+  private final Timer pinnedDuration;
+  private final Map<String, LongAdder> pinnedFrames = new ConcurrentHashMap<>();
+
+  private volatile RecordingStream recording;
+
+  public VirtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${diagnostics.virtual-thread.pinned-threshold-millis:20}") long thresholdMillis,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int hikariMaximumPoolSize) {
+    this.pinnedThreshold = Duration.ofMillis(thresholdMillis);
+    this.hikariMaximumPoolSize = hikariMaximumPoolSize;
+    this.pinned = Counter.builder("streamfix.vthread.pinned").register(meterRegistry);
+    this.pinnedDuration =
+        Timer.builder("streamfix.vthread.pinned.duration").register(meterRegistry);
+  }
+
+  @Override
+  public void start() {
+    RecordingStream stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(pinnedThreshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::onPinned);
+    stream.startAsync();
+    recording = stream;
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream stream = recording;
+    recording = null;
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return recording != null;
+  }
+
+  // 가상 스레드에서는 요청 수가 아니라 커넥션 풀이 DB 동시성을 결정한다.
+  @EventListener(ApplicationReadyEvent.class)
+  public void logStartupReport() {
+    log.info(
+        "virtual thread mode enabled. tomcat requests, @Async tasks and the audit history "
+            + "writer run on virtual threads. concurrent DB work is bounded by hikari "
+            + "maximum-pool-size={}. pinning over {}ms is reported at /actuator/pinning",
+        hikariMaximumPoolSize,
+        pinnedThreshold.toMillis());
+  }
+
+  @ReadOperation
+  public Map<String, Object> report() {
+    List<Map<String, Object>> topFrames =
+        pinnedFrames.entrySet().stream()
+            .sorted(
+                Comparator.comparingLong(
+                        (Map.Entry<String, LongAdder> it) -> it.getValue().sum())
+                    .reversed())
+            .limit(REPORT_SIZE)
+            .map(it -> Map.<String, Object>of("frame", it.getKey(), "count", it.getValue().sum()))
+            .toList();
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("thresholdMillis", pinnedThreshold.toMillis());
+    report.put("pinnedEvents", (long) pinned.count());
+    report.put("pinnedTotalMillis", (long) pinnedDuration.totalTime(TimeUnit.MILLISECONDS));
+    report.put("topFrames", topFrames);
+    return report;
+  }
+
+  private void onPinned(RecordedEvent event) {
+    record(event.getDuration(), topFrame(frames(event)));
+  }
+
+  void record(Duration duration, String frame) {
+    pinned.increment();
+    pinnedDuration.record(duration);
+    pinnedFrames.computeIfAbsent(frame, it -> new LongAdder()).increment();
+  }
+
+  // JDK 내부 frame 은 건너뛰고 pinning 을 일으킨 애플리케이션/라이브러리 쪽 첫 frame 을 찾는다.
+  static String topFrame(List<StackTraceElement> frames) {
+    if (frames.isEmpty()) {
+      return "unknown";
+    }
+
+    StackTraceElement top =
+        frames.stream()
+            .filter(it -> !isJdkFrame(it.getClassName()))
+            .findFirst()
+            .orElse(frames.get(0));
+    return top.getClassName() + "." + top.getMethodName() + ":" + top.getLineNumber();
+  }
+
+  private static List<StackTraceElement> frames(RecordedEvent event) {
+    if (event.getStackTrace() == null) {
+      return List.of();
+    }
+    return event.getStackTrace().getFrames().stream()
+        .map(
+            it ->
+                new StackTraceElement(
+                    it.getMethod().getType().getName(),
+                    it.getMethod().getName(),
+                    null,
+                    it.getLineNumber()))
+        .toList();
+  }
+
+  private static boolean isJdkFrame(String className) {
+    return className.startsWith("java.")
+        || className.startsWith("jdk.")
+        || className.startsWith("sun.");
+  }
+}
@@ -1,6 +1,7 @@
 package com.shokoku.streamfix.filter;
 
 import com.shokoku.streamfix.token.FetchTokenUseCase;
+import com.shokoku.streamfix.user.response.UserResponse;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,9 +26,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
     String token = resolveToken(request);
-    if (token != null && fetchTokenUseCase.validateToken(token)) {
-      Authentication authentication = jwtTokenProvider.getAuthentication(token);
-      SecurityContextHolder.getContext().setAuthentication(authentication);
+    if (token != null) {
+      UserResponse user = fetchTokenUseCase.authenticate(token);
+      if (user != null) {
+        Authentication authentication = jwtTokenProvider.getAuthentication(user);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+      }
     }
 
     filterChain.doFilter(request, response);
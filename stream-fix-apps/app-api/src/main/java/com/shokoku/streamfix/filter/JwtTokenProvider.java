@@ -1,5 +1,7 @@
 package com.shokoku.streamfix.filter;
 
+import com.shokoku.streamfix.security.StreamFixPrincipal;
+import com.shokoku.streamfix.subscription.SubscriptionType;
 import com.shokoku.streamfix.token.FetchTokenUseCase;
 import com.shokoku.streamfix.user.response.UserResponse;
 import java.util.List;
@@ -9,7 +11,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
@@ -20,12 +21,16 @@ public class JwtTokenProvider {
   private final FetchTokenUseCase fetchTokenUseCase;
 
   public Authentication getAuthentication(String accessToken) {
-    UserResponse user = fetchTokenUseCase.findUserByAccessToken(accessToken);
+    return getAuthentication(fetchTokenUseCase.findUserByAccessToken(accessToken));
+  }
+
+  public Authentication getAuthentication(UserResponse user) {
     List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(user.role()));
     UserDetails principal =
-        new User(
+        new StreamFixPrincipal(
             user.username(),
             StringUtils.isBlank(user.password()) ? "password" : user.password(),
+            SubscriptionType.fromRole(user.role()).orElse(null),
             authorities);
     return new UsernamePasswordAuthenticationToken(principal, user.userId(), authorities);
   }
@@ -39,4 +44,12 @@ public class JwtTokenProvider {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     return authentication.getAuthorities().stream().findAny().orElseThrow().getAuthority();
   }
+
+  public SubscriptionType getSubscriptionType() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication.getPrincipal() instanceof StreamFixPrincipal principal) {
+      return principal.getSubscriptionType();
+    }
+    return SubscriptionType.fromRole(getRole()).orElse(null);
+  }
 }
@@ -0,0 +1,30 @@
+package com.shokoku.streamfix.filter;
+
+import com.shokoku.streamfix.config.ReplicaRoutingDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/** 요청이 끝나면 read-after-write 구간을 지워, 같은 Tomcat 스레드를 받은 다음 요청이 primary 로 읽지 않게 한다. */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadAfterWriteResetFilter extends OncePerRequestFilter {
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ReplicaRoutingDataSource.clearReadAfterWrite();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ReplicaRoutingDataSource.clearReadAfterWrite();
+    }
+  }
+}
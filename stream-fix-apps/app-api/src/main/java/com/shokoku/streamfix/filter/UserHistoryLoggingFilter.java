@@ -10,7 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -23,6 +22,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class UserHistoryLoggingFilter extends OncePerRequestFilter {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private final LogUserAuditHistoryCase logUserAuditHistoryCase;
 
   @Override
@@ -32,7 +33,9 @@ public class UserHistoryLoggingFilter extends OncePerRequestFilter {
 
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-    CompletableFuture.runAsync(() -> log(authentication, request));
+    if (authentication != null) {
+      log(authentication, request);
+    }
 
     filterChain.doFilter(request, response);
   }
@@ -61,9 +64,8 @@ public class UserHistoryLoggingFilter extends OncePerRequestFilter {
         headersMap.put(headerName, headerValue);
       }
     }
-    ObjectMapper objectMapper = new ObjectMapper();
     try {
-      return objectMapper.writeValueAsString(headersMap);
+      return OBJECT_MAPPER.writeValueAsString(headersMap);
     } catch (JsonProcessingException e) {
       return "{}";
     }
@@ -0,0 +1,23 @@
+package com.shokoku.streamfix.security;
+
+import com.shokoku.streamfix.subscription.SubscriptionType;
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/** 토큰으로 인증한 사용자. 역할 문자열을 인증 시점에 구독 등급으로 바꿔 둔다. */
+@Getter
+public class StreamFixPrincipal extends User {
+
+  private final SubscriptionType subscriptionType;
+
+  public StreamFixPrincipal(
+      String username,
+      String password,
+      SubscriptionType subscriptionType,
+      Collection<? extends GrantedAuthority> authorities) {
+    super(username, password, authorities);
+    this.subscriptionType = subscriptionType;
+  }
+}
@@ -0,0 +1,98 @@
+package com.shokoku.streamfix.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+  VirtualThreadPinningMonitor sut;
+
+  @BeforeEach
+  void setUp() {
+    sut = new VirtualThreadPinningMonitor(new SimpleMeterRegistry(), 20, 10);
+  }
+
+  @Nested
+  @DisplayName("topFrame: pinning 을 일으킨 frame 찾기")
+  class TopFrame {
+
+    @DisplayName("실패: stack trace 가 없으면 unknown 으로 묶는다")
+    @Test
+    void test1() {
+      // when & then
+      assertEquals("unknown", VirtualThreadPinningMonitor.topFrame(List.of()));
+    }
+
+    @DisplayName("성공: JDK 내부 frame 을 건너뛰고 애플리케이션 쪽 첫 frame 을 반환한다")
+    @Test
+    void test1000() {
+      // given
+      List<StackTraceElement> frames =
+          List.of(
+              frame("java.lang.VirtualThread", "parkOnCarrierThread", 600),
+              frame("jdk.internal.misc.Unsafe", "park", -1),
+              frame("com.zaxxer.hikari.pool.HikariPool", "getConnection", 181),
+              frame("com.shokoku.streamfix.movie.MovieService", "fetchFromDb", 120));
+
+      // when
+      String result = VirtualThreadPinningMonitor.topFrame(frames);
+
+      // then
+      assertEquals("com.zaxxer.hikari.pool.HikariPool.getConnection:181", result);
+    }
+
+    @DisplayName("성공: 모두 JDK frame 이면 맨 위 frame 을 반환한다")
+    @Test
+    void test1001() {
+      // given
+      List<StackTraceElement> frames =
+          List.of(frame("java.lang.VirtualThread", "parkOnCarrierThread", 600));
+
+      // when & then
+      assertEquals(
+          "java.lang.VirtualThread.parkOnCarrierThread:600",
+          VirtualThreadPinningMonitor.topFrame(frames));
+    }
+  }
+
+  @Nested
+  @DisplayName("report: pinning 집계 조회")
+  class Report {
+
+    @DisplayName("성공: 횟수, 누적 시간과 frame 별 횟수를 많은 순으로 보여준다")
+    @Test
+    @SuppressWarnings("unchecked")
+    void test1000() {
+      // given
+      sut.record(Duration.ofMillis(30), "com.example.Repository.save:10");
+      sut.record(Duration.ofMillis(40), "com.example.Cache.get:20");
+      sut.record(Duration.ofMillis(50), "com.example.Cache.get:20");
+
+      // when
+      Map<String, Object> result = sut.report();
+
+      // then
+      assertEquals(20L, result.get("thresholdMillis"));
+      assertEquals(3L, result.get("pinnedEvents"));
+      assertEquals(120L, result.get("pinnedTotalMillis"));
+      List<Map<String, Object>> topFrames = (List<Map<String, Object>>) result.get("topFrames");
+      assertEquals(
+          List.of(
+              Map.of("frame", "com.example.Cache.get:20", "count", 2L),
+              Map.of("frame", "com.example.Repository.save:10", "count", 1L)),
+          topFrames);
+    }
+  }
+
+  private static StackTraceElement frame(String className, String methodName, int lineNumber) {
+    return new StackTraceElement(className, methodName, null, lineNumber);
+  }
+}
@@ -8,10 +8,12 @@ dependencies {
     implementation(project(":stream-fix-core:core-usecase"))
     implementation(project(":stream-fix-core:core-domain"))
     implementation(project(":stream-fix-commons"))
+    implementation(project(":stream-fix-adapters:adapter-http"))
     implementation(project(":stream-fix-adapters:adapter-persistence"))
     implementation(project(":stream-fix-adapters:adapter-redis"))
 
     implementation(Spring.boot.batch)
+    implementation(Spring.boot.actuator)
 
     runtimeOnly(project(":stream-fix-core:core-service"))
 }
@@ -3,48 +3,158 @@ package com.shokoku.streamfix.batch;
 import com.shokoku.streamfix.movie.FetchMovieUseCase;
 import com.shokoku.streamfix.movie.response.MovieResponse;
 import com.shokoku.streamfix.movie.response.PageableMovieResponse;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
-import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemStreamItemReader;
 
-public class HttpPageItemReader extends AbstractItemCountingItemStreamItemReader<MovieResponse> {
+/**
+ * TMDB 페이지를 prefetchPages 만큼 앞서 가상 스레드로 받아 오는 reader
+ *
+ * <p>요청은 동시에 나가지만 페이지 순서대로 소비하므로 item 순서는 항상 같다. 첫 응답의 totalPages 를 알기 전에는 한 페이지만 요청하고, 이후에는
+ * totalPages 를 넘는 페이지는 요청하지 않는다.
+ *
+ * <p>lastPage 가 주어지면 해당 페이지까지만 읽는다. 파티션마다 서로 다른 구간을 맡길 때 쓴다.
+ *
+ * <p>다음에 읽을 위치(page, offset)를 ExecutionContext 에 저장해 재시작 시 마지막으로 commit 된 위치부터 이어서 읽는다.
+ */
+public class HttpPageItemReader extends AbstractItemStreamItemReader<MovieResponse> {
+
+  private static final String PAGE_KEY = "page";
+  private static final String OFFSET_KEY = "offset";
 
-  private int page;
-  private final List<MovieResponse> contents = new LinkedList<>();
   private final FetchMovieUseCase fetchMovieUseCase;
+  private final int prefetchPages;
+  private final Deque<PendingPage> pendingPages = new ArrayDeque<>();
+
+  private ExecutorService executor;
+  private int page;
+  private int offset;
+  private int nextPageToFetch;
+  private final int lastPage;
+  private int totalPages;
+  private List<MovieResponse> contents;
 
-  public HttpPageItemReader(int page, FetchMovieUseCase fetchMovieUseCase) {
+  public HttpPageItemReader(int page, int prefetchPages, FetchMovieUseCase fetchMovieUseCase) {
+    this(page, Integer.MAX_VALUE, prefetchPages, fetchMovieUseCase);
+  }
+
+  public HttpPageItemReader(
+      int page, int lastPage, int prefetchPages, FetchMovieUseCase fetchMovieUseCase) {
     this.page = page;
+    this.lastPage = lastPage;
+    this.totalPages = lastPage;
+    this.prefetchPages = Math.max(1, prefetchPages);
     this.fetchMovieUseCase = fetchMovieUseCase;
+    setName(HttpPageItemReader.class.getSimpleName());
   }
 
   @Override
-  protected MovieResponse doRead() throws Exception {
-    if (this.contents.isEmpty()) {
-      readRow();
+  public void open(ExecutionContext executionContext) {
+    super.open(executionContext);
+    String pageKey = getExecutionContextKey(PAGE_KEY);
+    if (executionContext.containsKey(pageKey)) {
+      page = executionContext.getInt(pageKey);
+      offset = executionContext.getInt(getExecutionContextKey(OFFSET_KEY));
     }
+    nextPageToFetch = page;
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+  }
 
-    int size = contents.size();
-    int index = size - 1;
+  @Override
+  public MovieResponse read() throws Exception {
+    while (true) {
+      if (contents == null) {
+        if (page > totalPages) {
+          return null;
+        }
+        contents = fetch(page);
+      }
 
-    if (index < 0) {
-      return null;
-    }
+      if (offset < contents.size()) {
+        return contents.get(offset++);
+      }
 
-    return contents.remove(contents.size() - 1);
+      page++;
+      offset = 0;
+      contents = null;
+    }
   }
 
   @Override
-  protected void doOpen() throws Exception {
-    setName(HttpPageItemReader.class.getSimpleName());
+  public void update(ExecutionContext executionContext) {
+    super.update(executionContext);
+    executionContext.putInt(getExecutionContextKey(PAGE_KEY), page);
+    executionContext.putInt(getExecutionContextKey(OFFSET_KEY), offset);
   }
 
   @Override
-  protected void doClose() throws Exception {}
+  public void close() {
+    super.close();
+    pendingPages.forEach(it -> it.response().cancel(true));
+    pendingPages.clear();
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  private List<MovieResponse> fetch(int target) throws Exception {
+    prefetch();
+    PendingPage head = pendingPages.poll();
+    if (head == null || head.page() != target) {
+      throw new ItemStreamException("unexpected prefetch order. expected page " + target);
+    }
 
-  private void readRow() {
-    PageableMovieResponse pageableMovieResponse = fetchMovieUseCase.fetchFromClient(page);
-    contents.addAll(pageableMovieResponse.movieResponses());
-    page++;
+    PageableMovieResponse response;
+    try {
+      response = head.response().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw e;
+    }
+
+    updateTotalPages(target, response);
+    prefetch();
+    return response.movieResponses();
   }
+
+  // totalPages 를 모르면 한 페이지만, 알게 되면 prefetchPages 만큼 요청해 둔다.
+  private void prefetch() {
+    int window = totalPages == Integer.MAX_VALUE ? 1 : prefetchPages;
+    while (pendingPages.size() < window && nextPageToFetch <= totalPages) {
+      int target = nextPageToFetch++;
+      pendingPages.add(
+          new PendingPage(
+              target,
+              CompletableFuture.supplyAsync(
+                  () -> fetchMovieUseCase.fetchFromClientForBatch(target), executor)));
+    }
+  }
+
+  private void updateTotalPages(int target, PageableMovieResponse response) {
+    if (response.totalPages() != null) {
+      totalPages = Math.min(response.totalPages(), lastPage);
+    } else if (!response.hasNext()) {
+      totalPages = target;
+    }
+
+    pendingPages.removeIf(
+        it -> {
+          boolean outOfRange = it.page() > totalPages;
+          if (outOfRange) {
+            it.response().cancel(true);
+          }
+          return outOfRange;
+        });
+  }
+
+  private record PendingPage(int page, CompletableFuture<PageableMovieResponse> response) {}
 }
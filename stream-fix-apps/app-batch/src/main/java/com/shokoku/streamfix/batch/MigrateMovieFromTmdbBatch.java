@@ -3,47 +3,96 @@ package com.shokoku.streamfix.batch;
 import com.shokoku.streamfix.movie.FetchMovieUseCase;
 import com.shokoku.streamfix.movie.InsertMovieUseCase;
 import com.shokoku.streamfix.movie.response.MovieResponse;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+/**
+ * TMDB 영화 목록을 DB 로 옮기는 배치
+ *
+ * <p>TMDB 페이지 범위를 gridSize 개 파티션으로 나눠 worker step 들이 동시에 처리한다.
+ * gridSize, chunkSize 는 job parameter 로 받는다.
+ */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class MigrateMovieFromTmdbBatch {
 
+  private static final String WORKER_STEP_NAME = "MigrateMovieFromTmdbBatchWorkerStep";
+
   private final FetchMovieUseCase fetchMovieUseCase;
   private final InsertMovieUseCase insertMovieUseCase;
 
+  @Value("${tmdb.migration.prefetch-pages:4}")
+  private int prefetchPages;
+
   @Bean(name = "MigrateMovieFromTmdbBatch")
-  public Job job(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+  public Job job(
+      JobRepository jobRepository, @Qualifier("MigrateMovieFromTmdbBatchStep") Step step) {
 
     return new JobBuilder("MigrateMovieFromTmdbBatch", jobRepository)
-        .preventRestart()
-        .start(step(jobRepository, transactionManager))
+        .start(step)
         .incrementer(new RunIdIncrementer())
         .build();
   }
 
   @Bean(name = "MigrateMovieFromTmdbBatchStep")
-  public Step step(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+  @JobScope
+  public Step step(
+      JobRepository jobRepository,
+      @Qualifier(WORKER_STEP_NAME) Step workerStep,
+      @Value("#{jobParameters['gridSize'] ?: 4}") int gridSize) {
+    SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("tmdb-migration-");
+    taskExecutor.setVirtualThreads(true);
+    taskExecutor.setConcurrencyLimit(gridSize);
+
     return new StepBuilder("MigrateMovieFromTmdbBatchStep", jobRepository)
-        .chunk(10, transactionManager)
-        .reader(new HttpPageItemReader(1, fetchMovieUseCase))
-        .writer(
-            chunk -> {
-              List<MovieResponse> items = (List<MovieResponse>) chunk.getItems();
-              insertMovieUseCase.insert(items);
-            })
+        .partitioner(WORKER_STEP_NAME, new TmdbPagePartitioner(fetchMovieUseCase))
+        .step(workerStep)
+        .gridSize(gridSize)
+        .taskExecutor(taskExecutor)
+        .build();
+  }
+
+  @Bean(name = WORKER_STEP_NAME)
+  @JobScope
+  public Step workerStep(
+      JobRepository jobRepository,
+      PlatformTransactionManager transactionManager,
+      HttpPageItemReader reader,
+      MovieBulkInsertWriter writer,
+      @Value("#{jobParameters['chunkSize'] ?: 10}") int chunkSize) {
+    return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+        .<MovieResponse, MovieResponse>chunk(chunkSize, transactionManager)
+        .reader(reader)
+        .writer(writer)
         .build();
   }
+
+  @Bean
+  @StepScope
+  public HttpPageItemReader reader(
+      @Value("#{stepExecutionContext['startPage']}") int startPage,
+      @Value("#{stepExecutionContext['endPage']}") int endPage) {
+    return new HttpPageItemReader(startPage, endPage, prefetchPages, fetchMovieUseCase);
+  }
+
+  @Bean
+  @StepScope
+  public MovieBulkInsertWriter writer() {
+    return new MovieBulkInsertWriter(insertMovieUseCase);
+  }
 }
@@ -0,0 +1,69 @@
+package com.shokoku.streamfix.batch;
+
+import com.shokoku.streamfix.movie.InsertMovieUseCase;
+import com.shokoku.streamfix.movie.response.InsertMovieResponse;
+import com.shokoku.streamfix.movie.response.MovieResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * chunk 단위로 영화를 한 번에 저장하고, 저장/중복 건수와 step 처리량을 step ExecutionContext 에 남긴다.
+ *
+ * <p>writer 로 등록하면 StepExecutionListener 로도 자동 등록된다.
+ */
+@Slf4j
+public class MovieBulkInsertWriter implements ItemWriter<MovieResponse>, StepExecutionListener {
+
+  static final String INSERTED_COUNT = "movie.inserted.count";
+  static final String SKIPPED_COUNT = "movie.skipped.count";
+  static final String ITEMS_PER_SECOND = "movie.throughput.items-per-second";
+  static final String ELAPSED_MILLIS = "movie.elapsed-millis";
+
+  private final InsertMovieUseCase insertMovieUseCase;
+  private StepExecution stepExecution;
+
+  public MovieBulkInsertWriter(InsertMovieUseCase insertMovieUseCase) {
+    this.insertMovieUseCase = insertMovieUseCase;
+  }
+
+  @Override
+  public void beforeStep(StepExecution stepExecution) {
+    this.stepExecution = stepExecution;
+  }
+
+  @Override
+  public void write(Chunk<? extends MovieResponse> chunk) {
+    InsertMovieResponse response = insertMovieUseCase.insertAll(List.copyOf(chunk.getItems()));
+
+    ExecutionContext context = stepExecution.getExecutionContext();
+    context.putLong(INSERTED_COUNT, context.getLong(INSERTED_COUNT, 0L) + response.inserted());
+    context.putLong(SKIPPED_COUNT, context.getLong(SKIPPED_COUNT, 0L) + response.skipped());
+  }
+
+  @Override
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    ExecutionContext context = stepExecution.getExecutionContext();
+    long elapsedMillis =
+        Math.max(
+            1L, Duration.between(stepExecution.getStartTime(), LocalDateTime.now()).toMillis());
+    double itemsPerSecond = stepExecution.getWriteCount() * 1000.0 / elapsedMillis;
+    context.putDouble(ITEMS_PER_SECOND, itemsPerSecond);
+    context.putLong(ELAPSED_MILLIS, elapsedMillis);
+
+    log.info(
+        "movie migration finished. step={}, inserted={}, skipped={}, itemsPerSecond={}",
+        stepExecution.getStepName(),
+        context.getLong(INSERTED_COUNT, 0L),
+        context.getLong(SKIPPED_COUNT, 0L),
+        String.format("%.1f", itemsPerSecond));
+    return stepExecution.getExitStatus();
+  }
+}
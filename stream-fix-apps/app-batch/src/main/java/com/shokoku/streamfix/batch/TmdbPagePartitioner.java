@@ -0,0 +1,63 @@
+package com.shokoku.streamfix.batch;
+
+import com.shokoku.streamfix.movie.FetchMovieUseCase;
+import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * TMDB 페이지 범위를 gridSize 개의 연속된 구간으로 나눈다.
+ *
+ * <p>첫 페이지를 한 번 조회해 전체 페이지 수를 알아내고, TMDB 가 허용하는 최대 페이지(500)를 넘지 않도록 자른다.
+ *
+ * <p>응답에 전체 페이지 수가 없으면 구간을 나눌 수 없으므로 파티션 하나가 hasNext 가 끝날 때까지 읽는다.
+ */
+@Slf4j
+public class TmdbPagePartitioner implements Partitioner {
+
+  static final String START_PAGE = "startPage";
+  static final String END_PAGE = "endPage";
+  static final int MAX_TMDB_PAGE = 500;
+
+  private final FetchMovieUseCase fetchMovieUseCase;
+
+  public TmdbPagePartitioner(FetchMovieUseCase fetchMovieUseCase) {
+    this.fetchMovieUseCase = fetchMovieUseCase;
+  }
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    PageableMovieResponse firstPage = fetchMovieUseCase.fetchFromClientForBatch(1);
+    if (firstPage.totalPages() == null) {
+      log.warn(
+          "tmdb totalPages is missing. falling back to a single partition. hasNext={}",
+          firstPage.hasNext());
+      return Map.of("partition0", partition(1, MAX_TMDB_PAGE));
+    }
+
+    int totalPages = Math.clamp(firstPage.totalPages(), 1, MAX_TMDB_PAGE);
+    int pagesPerPartition = Math.ceilDiv(totalPages, Math.max(1, gridSize));
+
+    Map<String, ExecutionContext> partitions = new HashMap<>();
+    for (int startPage = 1, index = 0;
+        startPage <= totalPages;
+        startPage += pagesPerPartition, index++) {
+      partitions.put(
+          "partition" + index,
+          partition(startPage, Math.min(startPage + pagesPerPartition - 1, totalPages)));
+    }
+
+    log.info("tmdb pages partitioned. totalPages={}, partitions={}", totalPages, partitions.size());
+    return partitions;
+  }
+
+  private static ExecutionContext partition(int startPage, int endPage) {
+    ExecutionContext context = new ExecutionContext();
+    context.putInt(START_PAGE, startPage);
+    context.putInt(END_PAGE, endPage);
+    return context;
+  }
+}
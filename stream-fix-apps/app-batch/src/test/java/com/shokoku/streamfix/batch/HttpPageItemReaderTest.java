@@ -0,0 +1,177 @@
+package com.shokoku.streamfix.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.movie.FetchMovieUseCase;
+import com.shokoku.streamfix.movie.response.MovieResponse;
+import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class HttpPageItemReaderTest {
+
+  private static final int TOTAL_PAGES = 5;
+  private static final int ITEMS_PER_PAGE = 2;
+  private static final int PREFETCH_PAGES = 4;
+
+  @Mock FetchMovieUseCase fetchMovieUseCase;
+
+  @Nested
+  @DisplayName("read: 페이지를 미리 받아 순서대로 읽기")
+  class Read {
+
+    @DisplayName("성공: 앞 페이지 응답이 늦게 와도 item 은 페이지 순서대로 나온다")
+    @Test
+    void test1000() throws Exception {
+      // given
+      // 앞 페이지일수록 늦게 응답해 뒤 페이지가 먼저 도착하게 만든다.
+      stubPages(20L);
+      HttpPageItemReader sut = new HttpPageItemReader(1, PREFETCH_PAGES, fetchMovieUseCase);
+      sut.open(new ExecutionContext());
+
+      // when
+      List<String> result = readAll(sut);
+
+      // then
+      assertEquals(expectedNames(1, 0), result);
+    }
+
+    @DisplayName("성공: totalPages 를 넘는 페이지는 요청하지 않는다")
+    @Test
+    void test1001() throws Exception {
+      // given
+      stubPages(0L);
+      HttpPageItemReader sut = new HttpPageItemReader(1, 10, fetchMovieUseCase);
+      sut.open(new ExecutionContext());
+
+      // when
+      readAll(sut);
+
+      // then
+      verify(fetchMovieUseCase, times(TOTAL_PAGES)).fetchFromClientForBatch(anyInt());
+      verify(fetchMovieUseCase, never()).fetchFromClientForBatch(TOTAL_PAGES + 1);
+    }
+
+    @DisplayName("성공: lastPage 까지만 읽는다")
+    @Test
+    void test1002() throws Exception {
+      // given
+      stubPages(0L);
+      HttpPageItemReader sut = new HttpPageItemReader(2, 3, PREFETCH_PAGES, fetchMovieUseCase);
+      sut.open(new ExecutionContext());
+
+      // when
+      List<String> result = readAll(sut);
+
+      // then
+      assertEquals(List.of("2-0", "2-1", "3-0", "3-1"), result);
+      verify(fetchMovieUseCase, never()).fetchFromClientForBatch(4);
+    }
+  }
+
+  @Nested
+  @DisplayName("open: 재시작")
+  class Restart {
+
+    @DisplayName("성공: prefetch 중에 멈춰도 다시 열면 마지막으로 저장한 위치부터 이어 읽는다")
+    @Test
+    void test1000() throws Exception {
+      // given
+      stubPages(0L);
+      ExecutionContext executionContext = new ExecutionContext();
+      HttpPageItemReader first = new HttpPageItemReader(1, PREFETCH_PAGES, fetchMovieUseCase);
+      first.open(executionContext);
+      // 1페이지 전부와 2페이지 첫 item 까지 읽으면 3~5페이지가 요청된 상태다.
+      for (int i = 0; i < ITEMS_PER_PAGE + 1; i++) {
+        first.read();
+      }
+      first.update(executionContext);
+      first.close();
+      clearInvocations(fetchMovieUseCase);
+
+      // when
+      HttpPageItemReader second = new HttpPageItemReader(1, PREFETCH_PAGES, fetchMovieUseCase);
+      second.open(executionContext);
+      List<String> result = readAll(second);
+
+      // then
+      assertEquals(expectedNames(2, 1), result);
+      verify(fetchMovieUseCase, never()).fetchFromClientForBatch(1);
+    }
+
+    @DisplayName("성공: 페이지 끝에서 저장했으면 다음 페이지 처음부터 읽는다")
+    @Test
+    void test1001() throws Exception {
+      // given
+      stubPages(0L);
+      ExecutionContext executionContext = new ExecutionContext();
+      HttpPageItemReader first = new HttpPageItemReader(1, PREFETCH_PAGES, fetchMovieUseCase);
+      first.open(executionContext);
+      for (int i = 0; i < ITEMS_PER_PAGE * 2; i++) {
+        first.read();
+      }
+      first.update(executionContext);
+      first.close();
+
+      // when
+      HttpPageItemReader second = new HttpPageItemReader(1, PREFETCH_PAGES, fetchMovieUseCase);
+      second.open(executionContext);
+      List<String> result = readAll(second);
+
+      // then
+      assertEquals(expectedNames(3, 0), result);
+    }
+  }
+
+  // page 번째 페이지는 (TOTAL_PAGES - page + 1) * delayUnit 뒤에 응답한다.
+  private void stubPages(long delayUnit) {
+    when(fetchMovieUseCase.fetchFromClientForBatch(anyInt()))
+        .thenAnswer(
+            invocation -> {
+              int page = invocation.getArgument(0);
+              Thread.sleep(delayUnit * (TOTAL_PAGES - page + 1));
+              return page(page);
+            });
+  }
+
+  private static PageableMovieResponse page(int page) {
+    List<MovieResponse> movies = new ArrayList<>();
+    for (int i = 0; i < ITEMS_PER_PAGE; i++) {
+      movies.add(new MovieResponse(page + "-" + i, false, List.of(), "", ""));
+    }
+    return new PageableMovieResponse(movies, page, page < TOTAL_PAGES, null, null, TOTAL_PAGES);
+  }
+
+  private static List<String> readAll(HttpPageItemReader reader) throws Exception {
+    List<String> names = new ArrayList<>();
+    try {
+      MovieResponse item;
+      while ((item = reader.read()) != null) {
+        names.add(item.movieName());
+      }
+    } finally {
+      reader.close();
+    }
+    return names;
+  }
+
+  private static List<String> expectedNames(int fromPage, int fromOffset) {
+    List<String> names = new ArrayList<>();
+    for (int page = fromPage; page <= TOTAL_PAGES; page++) {
+      for (int i = page == fromPage ? fromOffset : 0; i < ITEMS_PER_PAGE; i++) {
+        names.add(page + "-" + i);
+      }
+    }
+    return names;
+  }
+}
@@ -0,0 +1,139 @@
+package com.shokoku.streamfix.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.movie.FetchMovieUseCase;
+import com.shokoku.streamfix.movie.InsertMovieUseCase;
+import com.shokoku.streamfix.movie.response.MovieResponse;
+import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MigrateMovieFromTmdbBatchTest {
+
+  private static final int TOTAL_PAGES = 10;
+
+  @InjectMocks MigrateMovieFromTmdbBatch sut;
+
+  @Mock FetchMovieUseCase fetchMovieUseCase;
+  @Mock InsertMovieUseCase insertMovieUseCase;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(sut, "prefetchPages", 2);
+  }
+
+  @Nested
+  @DisplayName("workerStep: 파티션별 reader 로 나눠 읽기")
+  class PartitionedStep {
+
+    @DisplayName("성공: 파티션들이 동시에 읽어도 모든 페이지를 한 번씩만 읽는다")
+    @Test
+    void test1000() throws Exception {
+      // given
+      when(fetchMovieUseCase.fetchFromClientForBatch(anyInt()))
+          .thenAnswer(invocation -> page(invocation.getArgument(0), TOTAL_PAGES));
+      Map<String, ExecutionContext> partitions =
+          new TmdbPagePartitioner(fetchMovieUseCase).partition(4);
+
+      // when
+      List<String> result = readPartitions(partitions);
+
+      // then
+      assertEquals(expectedNames(TOTAL_PAGES), result.stream().sorted().toList());
+      // 1페이지만 partitioner 와 reader 가 한 번씩 조회한다.
+      verify(fetchMovieUseCase, times(2)).fetchFromClientForBatch(1);
+      for (int page = 2; page <= TOTAL_PAGES; page++) {
+        verify(fetchMovieUseCase).fetchFromClientForBatch(page);
+      }
+    }
+
+    @DisplayName("성공: 전체 페이지 수를 모르면 파티션 하나가 마지막 페이지까지 읽고 멈춘다")
+    @Test
+    void test1001() throws Exception {
+      // given
+      when(fetchMovieUseCase.fetchFromClientForBatch(anyInt()))
+          .thenAnswer(invocation -> page(invocation.getArgument(0), null));
+      Map<String, ExecutionContext> partitions =
+          new TmdbPagePartitioner(fetchMovieUseCase).partition(4);
+
+      // when
+      List<String> result = readPartitions(partitions);
+
+      // then
+      assertEquals(expectedNames(TOTAL_PAGES), result.stream().sorted().toList());
+      // 마지막 페이지 뒤로는 prefetch 로 이미 나간 요청(2개)까지만 있다.
+      verify(fetchMovieUseCase, never())
+          .fetchFromClientForBatch(intThat(it -> it > TOTAL_PAGES + 2));
+    }
+  }
+
+  // step 의 파티션 실행과 같이, 파티션마다 step 범위 reader 를 만들어 동시에 읽는다.
+  private List<String> readPartitions(Map<String, ExecutionContext> partitions)
+      throws Exception {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<List<String>>> futures = new ArrayList<>();
+      for (ExecutionContext context : partitions.values()) {
+        futures.add(executor.submit(() -> read(context)));
+      }
+
+      List<String> names = new ArrayList<>();
+      for (Future<List<String>> future : futures) {
+        names.addAll(future.get());
+      }
+      return names;
+    }
+  }
+
+  private List<String> read(ExecutionContext context) throws Exception {
+    HttpPageItemReader reader =
+        sut.reader(
+            context.getInt(TmdbPagePartitioner.START_PAGE),
+            context.getInt(TmdbPagePartitioner.END_PAGE));
+    reader.open(new ExecutionContext());
+    List<String> names = new ArrayList<>();
+    try {
+      MovieResponse item;
+      while ((item = reader.read()) != null) {
+        names.add(item.movieName());
+      }
+    } finally {
+      reader.close();
+    }
+    return names;
+  }
+
+  private static PageableMovieResponse page(int page, Integer totalPages) {
+    List<MovieResponse> movies =
+        page > TOTAL_PAGES
+            ? List.of()
+            : List.of(new MovieResponse(String.format("%03d", page), false, List.of(), "", ""));
+    return new PageableMovieResponse(movies, page, page < TOTAL_PAGES, null, null, totalPages);
+  }
+
+  private static List<String> expectedNames(int totalPages) {
+    List<String> names = new ArrayList<>();
+    for (int page = 1; page <= totalPages; page++) {
+      names.add(String.format("%03d", page));
+    }
+    return names;
+  }
+}
@@ -0,0 +1,114 @@
+package com.shokoku.streamfix.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.movie.FetchMovieUseCase;
+import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class TmdbPagePartitionerTest {
+
+  @InjectMocks TmdbPagePartitioner sut;
+
+  @Mock FetchMovieUseCase fetchMovieUseCase;
+
+  @Nested
+  @DisplayName("partition: 페이지 범위 나누기")
+  class Partition {
+
+    @DisplayName("성공: 전체 페이지 수를 알 수 없으면 1페이지부터 읽는 파티션 하나만 만든다")
+    @Test
+    void test1() {
+      // given
+      stubFirstPage(null);
+
+      // when
+      Map<String, ExecutionContext> result = sut.partition(4);
+
+      // then
+      assertEquals(1, result.size());
+      assertRange(result.get("partition0"), 1, TmdbPagePartitioner.MAX_TMDB_PAGE);
+    }
+
+    @DisplayName("성공: 파티션 수보다 페이지가 적으면 페이지 수만큼만 파티션을 만든다")
+    @Test
+    void test2() {
+      // given
+      stubFirstPage(2);
+
+      // when
+      Map<String, ExecutionContext> result = sut.partition(4);
+
+      // then
+      assertEquals(2, result.size());
+      assertRange(result.get("partition0"), 1, 1);
+      assertRange(result.get("partition1"), 2, 2);
+    }
+
+    @DisplayName("성공: 연속된 구간으로 나누고 마지막 파티션은 남은 페이지만 맡는다")
+    @Test
+    void test1000() {
+      // given
+      stubFirstPage(10);
+
+      // when
+      Map<String, ExecutionContext> result = sut.partition(4);
+
+      // then
+      assertEquals(4, result.size());
+      assertRange(result.get("partition0"), 1, 3);
+      assertRange(result.get("partition1"), 4, 6);
+      assertRange(result.get("partition2"), 7, 9);
+      assertRange(result.get("partition3"), 10, 10);
+    }
+
+    @DisplayName("성공: TMDB 최대 페이지(500)를 넘는 구간은 만들지 않는다")
+    @Test
+    void test1001() {
+      // given
+      stubFirstPage(1000);
+
+      // when
+      Map<String, ExecutionContext> result = sut.partition(4);
+
+      // then
+      assertEquals(4, result.size());
+      assertRange(result.get("partition3"), 376, TmdbPagePartitioner.MAX_TMDB_PAGE);
+    }
+
+    @DisplayName("성공: gridSize 가 0 이하이면 파티션 하나로 전체를 읽는다")
+    @Test
+    void test1002() {
+      // given
+      stubFirstPage(10);
+
+      // when
+      Map<String, ExecutionContext> result = sut.partition(0);
+
+      // then
+      assertEquals(1, result.size());
+      assertRange(result.get("partition0"), 1, 10);
+    }
+  }
+
+  private void stubFirstPage(Integer totalPages) {
+    when(fetchMovieUseCase.fetchFromClientForBatch(1))
+        .thenReturn(new PageableMovieResponse(List.of(), 1, true, null, null, totalPages));
+  }
+
+  private static void assertRange(ExecutionContext context, int startPage, int endPage) {
+    assertEquals(startPage, context.getInt(TmdbPagePartitioner.START_PAGE));
+    assertEquals(endPage, context.getInt(TmdbPagePartitioner.END_PAGE));
+  }
+}
@@ -5,5 +5,4 @@ plugins {
 }
 
 dependencies {
-    implementation(project(":stream-fix-core:core-domain"))
 }
@@ -10,6 +10,8 @@ public enum ErrorCode {
   USER_DOES_NOT_EXIST("SFX2000", "사용자가 존재하지 않습니다."),
   USER_ALREADY_EXIST("SFX2001", "사용자가 이미 존재합니다."),
   INVALID_PARAMETER("SFX4000", "입력 값이 잘못 되었습니다."),
+  EXTERNAL_SERVICE_UNAVAILABLE("SFX5000", "외부 서비스를 일시적으로 사용할 수 없습니다."),
+  TMDB_RATE_LIMITED("SFX5001", "영화 정보 요청이 많아 잠시 후 다시 시도해 주세요."),
   ;
 
   private final String code;
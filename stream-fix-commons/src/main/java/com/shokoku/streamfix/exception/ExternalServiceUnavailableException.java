@@ -0,0 +1,16 @@
+package com.shokoku.streamfix.exception;
+
+import lombok.Getter;
+
+/** 외부 서비스 장애로 호출하지 않고 바로 실패시킨 경우. bulkhead 가 가득 찼거나 circuit 이 열려 있다. */
+@Getter
+public class ExternalServiceUnavailableException extends RuntimeException {
+
+  private final ErrorCode errorCode = ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE;
+  private final String service;
+
+  public ExternalServiceUnavailableException(String service, String reason) {
+    super(service + " is unavailable. reason=" + reason);
+    this.service = service;
+  }
+}
@@ -0,0 +1,16 @@
+package com.shokoku.streamfix.exception;
+
+import lombok.Getter;
+
+/** lane 별 최대 대기 시간 안에 TMDB 호출 허가를 받지 못했다. */
+@Getter
+public class TmdbRateLimitExceededException extends RuntimeException {
+
+  private final ErrorCode errorCode = ErrorCode.TMDB_RATE_LIMITED;
+  private final String lane;
+
+  public TmdbRateLimitExceededException(String lane) {
+    super("tmdb rate limit exceeded. lane=" + lane);
+    this.lane = lane;
+  }
+}
@@ -0,0 +1,88 @@
+package com.shokoku.streamfix.id;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdTest {
+
+  @Nested
+  @DisplayName("nextUuid: UUIDv7 생성")
+  class NextUuid {
+
+    @DisplayName("실패: UUIDv7 이 아닌 값의 생성 시각은 구할 수 없다")
+    @Test
+    void test1() {
+      // when & then
+      assertThrows(
+          IllegalArgumentException.class, () -> TimeOrderedId.timestamp(UUID.randomUUID()));
+    }
+
+    @DisplayName("성공: version 7, RFC 9562 variant 이고 현재 시각을 담는다")
+    @Test
+    void test1000() {
+      // given
+      long before = System.currentTimeMillis();
+
+      // when
+      UUID result = TimeOrderedId.nextUuid();
+
+      // then
+      assertEquals(7, result.version());
+      assertEquals(2, result.variant());
+      assertTrue(TimeOrderedId.timestamp(result) >= before);
+    }
+
+    @DisplayName("성공: 같은 millis 안에서 여러 번 만들어도 문자열 순서가 생성 순서와 같다")
+    @Test
+    void test1001() {
+      // when
+      List<String> result = new ArrayList<>();
+      for (int i = 0; i < 10_000; i++) {
+        result.add(TimeOrderedId.next());
+      }
+
+      // then
+      for (int i = 1; i < result.size(); i++) {
+        assertTrue(result.get(i - 1).compareTo(result.get(i)) < 0);
+      }
+    }
+
+    @DisplayName("성공: 여러 스레드에서 동시에 만들어도 겹치지 않는다")
+    @Test
+    void test1002() throws Exception {
+      // when
+      List<Future<List<UUID>>> futures = new ArrayList<>();
+      try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+        for (int i = 0; i < 8; i++) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    List<UUID> ids = new ArrayList<>();
+                    for (int j = 0; j < 10_000; j++) {
+                      ids.add(TimeOrderedId.nextUuid());
+                    }
+                    return ids;
+                  }));
+        }
+      }
+
+      // then
+      Set<UUID> result = new HashSet<>();
+      for (Future<List<UUID>> future : futures) {
+        result.addAll(future.get());
+      }
+      assertEquals(80_000, result.size());
+    }
+  }
+}
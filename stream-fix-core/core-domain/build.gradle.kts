@@ -5,4 +5,5 @@ plugins {
 }
 
 dependencies {
+    implementation(project(":stream-fix-commons"))
 }
@@ -4,4 +4,9 @@ import lombok.Builder;
 
 @Builder
 public record StreamFixMovie(
-    String movieName, Boolean isAdult, String genre, String overview, String releasedAt) {}
+    String movieId,
+    String movieName,
+    Boolean isAdult,
+    String genre,
+    String overview,
+    String releasedAt) {}
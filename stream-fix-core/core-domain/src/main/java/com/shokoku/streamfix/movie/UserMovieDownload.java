@@ -1,6 +1,6 @@
 package com.shokoku.streamfix.movie;
 
-import java.util.UUID;
+import com.shokoku.streamfix.id.TimeOrderedId;
 import lombok.Builder;
 
 @Builder
@@ -8,7 +8,7 @@ public record UserMovieDownload(String userMovieDownloadId, String userId, Strin
 
   public static UserMovieDownload newDownload(String userId, String movieId) {
     return UserMovieDownload.builder()
-        .userMovieDownloadId(UUID.randomUUID().toString())
+        .userMovieDownloadId(TimeOrderedId.next())
         .userId(userId)
         .movieId(movieId)
         .build();
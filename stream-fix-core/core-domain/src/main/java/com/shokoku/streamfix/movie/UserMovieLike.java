@@ -1,6 +1,6 @@
 package com.shokoku.streamfix.movie;
 
-import java.util.UUID;
+import com.shokoku.streamfix.id.TimeOrderedId;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -23,7 +23,7 @@ public class UserMovieLike {
 
   public static UserMovieLike newLike(String userId, String movieId) {
     return UserMovieLike.builder()
-        .userMovieLikeId(UUID.randomUUID().toString())
+        .userMovieLikeId(TimeOrderedId.next())
         .userId(userId)
         .movieId(movieId)
         .likeYn(true)
@@ -0,0 +1,37 @@
+package com.shokoku.streamfix.subscription;
+
+/**
+ * 구독 등급별 다운로드 한도
+ *
+ * <p>시간당 한도는 token bucket 으로 적용한다. burst 만큼은 한 번에 받을 수 있고, 그 뒤로는 시간당 hourlyLimit 속도로 다시 채워진다.
+ *
+ * @param dailyLimit 하루 다운로드 횟수
+ * @param hourlyLimit 시간당 다운로드 횟수
+ * @param burst 한 번에 몰아서 받을 수 있는 횟수. 0 이하면 hourlyLimit 과 같다.
+ * @param concurrentLimit 동시에 진행 중인 다운로드 수
+ */
+public record QuotaPolicy(long dailyLimit, long hourlyLimit, long burst, long concurrentLimit) {
+
+  public static final long UNLIMITED = Long.MAX_VALUE;
+
+  public static QuotaPolicy daily(long dailyLimit) {
+    return new QuotaPolicy(dailyLimit, UNLIMITED, 0, UNLIMITED);
+  }
+
+  public boolean allows(long usedToday) {
+    return usedToday < dailyLimit;
+  }
+
+  public boolean isRateLimited() {
+    return hourlyLimit != UNLIMITED;
+  }
+
+  /** 당일, 시간당, 동시 다운로드 한도가 모두 없으면 사용량을 셀 필요가 없다. */
+  public boolean isUnlimited() {
+    return dailyLimit == UNLIMITED && !isRateLimited() && concurrentLimit == UNLIMITED;
+  }
+
+  public long bucketSize() {
+    return burst > 0 ? burst : hourlyLimit;
+  }
+}
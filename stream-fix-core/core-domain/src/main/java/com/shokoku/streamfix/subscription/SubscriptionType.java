@@ -1,5 +1,10 @@
 package com.shokoku.streamfix.subscription;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Getter
@@ -10,13 +15,23 @@ public enum SubscriptionType {
   GOLD("골드 구독권"),
   ;
 
+  private static final Map<String, SubscriptionType> BY_ROLE =
+      Arrays.stream(values())
+          .collect(Collectors.toUnmodifiableMap(SubscriptionType::toRole, Function.identity()));
+
   private final String desc;
+  private final String role;
 
   SubscriptionType(String desc) {
     this.desc = desc;
+    this.role = "ROLE_" + this.name();
   }
 
   public String toRole() {
-    return "ROLE_" + this.name();
+    return role;
+  }
+
+  public static Optional<SubscriptionType> fromRole(String role) {
+    return Optional.ofNullable(role).map(BY_ROLE::get);
   }
 }
@@ -0,0 +1,3 @@
+package com.shokoku.streamfix.subscription;
+
+public record UserSubscriptionChangedEvent(String userId) {}
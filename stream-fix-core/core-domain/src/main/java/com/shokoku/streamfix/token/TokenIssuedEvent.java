@@ -0,0 +1,3 @@
+package com.shokoku.streamfix.token;
+
+public record TokenIssuedEvent(String userId, String accessToken, String refreshToken) {}
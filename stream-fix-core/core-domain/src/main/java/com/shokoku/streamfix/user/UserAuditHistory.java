@@ -0,0 +1,15 @@
+package com.shokoku.streamfix.user;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record UserAuditHistory(
+    String userId,
+    String userRole,
+    String clientIp,
+    String reqMethod,
+    String reqUrl,
+    String reqHeader,
+    String reqPayload,
+    LocalDateTime requestedAt) {}
@@ -6,4 +6,6 @@ plugins {
 
 dependencies {
     implementation(project(":stream-fix-core:core-domain"))
+
+    implementation("io.projectreactor:reactor-core:_")
 }
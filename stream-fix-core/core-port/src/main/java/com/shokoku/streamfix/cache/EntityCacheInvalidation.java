@@ -0,0 +1,9 @@
+package com.shokoku.streamfix.cache;
+
+/**
+ * 다른 인스턴스의 엔티티 캐시에서 지울 대상
+ *
+ * @param entityName 엔티티 이름
+ * @param id 엔티티 ID. null 이면 엔티티는 그대로 두고 조회 결과 캐시만 지운다.
+ */
+public record EntityCacheInvalidation(String entityName, String id) {}
@@ -0,0 +1,11 @@
+package com.shokoku.streamfix.cache;
+
+/**
+ * 엔티티 변경을 다른 인스턴스에 알린다.
+ *
+ * <p>받은 쪽에서는 {@link EntityCacheInvalidation} 을 애플리케이션 이벤트로 발행한다. 보낸 인스턴스 자신에게는 다시 전달하지 않는다.
+ */
+public interface EntityCacheInvalidationPort {
+
+  void publish(EntityCacheInvalidation invalidation);
+}
@@ -0,0 +1,14 @@
+package com.shokoku.streamfix.movie;
+
+import java.util.OptionalLong;
+
+/**
+ * 사용자별 당일 다운로드 횟수 조회
+ *
+ * <p>{@link DownloadQuotaPort} 가 쓰는 당일 사용량을 그대로 읽는다. 비어 있으면 호출 측이 DB 건수를 구해 예약에 넘기고, 카운터는
+ * 예약과 확정 스크립트 안에서 그 값으로 채워진다.
+ */
+public interface DownloadCounterPort {
+
+  OptionalLong countToday(String userId);
+}
@@ -0,0 +1,26 @@
+package com.shokoku.streamfix.movie;
+
+import com.shokoku.streamfix.subscription.QuotaPolicy;
+import java.util.Optional;
+
+public interface DownloadQuotaPort {
+
+  /**
+   * 구독 등급의 한도(당일, 시간당, 동시 다운로드) 안이면 한 건을 예약한다.
+   *
+   * @param usedToday 당일 사용량이 아직 기록되지 않았을 때 초기값으로 쓸 다운로드 횟수
+   * @return 한도를 넘으면 비어 있는 값
+   */
+  Optional<DownloadReservation> reserve(String userId, QuotaPolicy policy, long usedToday);
+
+  /** 당일 한도만 적용해 한 건을 예약한다. */
+  default Optional<DownloadReservation> reserve(String userId, long dailyLimit, long usedToday) {
+    return reserve(userId, QuotaPolicy.daily(dailyLimit), usedToday);
+  }
+
+  /** 다운로드가 저장되면 예약을 사용량으로 확정한다. */
+  void commit(DownloadReservation reservation);
+
+  /** 다운로드가 실패하면 예약을 돌려준다. */
+  void release(DownloadReservation reservation);
+}
@@ -0,0 +1,11 @@
+package com.shokoku.streamfix.movie;
+
+import java.time.LocalDate;
+
+/**
+ * 당일 한도 안에서 잡아 둔 다운로드 한 건
+ *
+ * @param usedToday 예약할 때 넘긴 당일 사용량. 확정할 때 카운터가 없으면 이 값으로 다시 채운다.
+ */
+public record DownloadReservation(
+    String userId, LocalDate day, String reservationId, long usedToday) {}
@@ -1,9 +1,14 @@
 package com.shokoku.streamfix.movie;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface LikeMoviePort {
   void save(UserMovieLike domain);
 
   Optional<UserMovieLike> findByUserIdAndMovieId(String userId, String movieId);
+
+  /** 여러 영화의 좋아요 여부를 한 번에 조회한다. 요청한 movieId 마다 값을 채워 돌려준다. */
+  Map<String, Boolean> findLikeStatus(String userId, Collection<String> movieIds);
 }
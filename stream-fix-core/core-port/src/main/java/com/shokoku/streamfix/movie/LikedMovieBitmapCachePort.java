@@ -0,0 +1,23 @@
+package com.shokoku.streamfix.movie;
+
+import java.util.Optional;
+
+/**
+ * 사용자별 좋아요 영화 집합(직렬화한 bitmap) 캐시
+ *
+ * <p>좋아요가 바뀔 때마다 사용자의 세대(generation)가 올라간다. DB 에서 다시 만든 bitmap 은 읽기 전에 받은 세대가 그대로일 때만
+ * 저장되어, 다시 만드는 사이에 지워진 값이 오래된 집합으로 되살아나지 않는다.
+ */
+public interface LikedMovieBitmapCachePort {
+
+  Optional<byte[]> find(String userId);
+
+  /** DB 에서 bitmap 을 다시 만들기 전에 읽는다. 읽지 못하면 어떤 세대와도 같지 않은 음수를 돌려준다. */
+  long generation(String userId);
+
+  /** 세대가 {@code generation} 그대로일 때만 저장한다. */
+  void save(String userId, byte[] bitmap, long generation);
+
+  /** bitmap 을 지우고 세대를 올린다. */
+  void evict(String userId);
+}
@@ -0,0 +1,18 @@
+package com.shokoku.streamfix.movie;
+
+import java.util.Optional;
+
+public interface MovieCatalogCachePort {
+
+  long currentVersion();
+
+  Optional<MovieSlice> findPage(long version, int page, int size);
+
+  void savePage(long version, int page, int size, MovieSlice slice);
+
+  Optional<Long> findCount(long version);
+
+  void saveCount(long version, long count);
+
+  void evictAll();
+}
@@ -0,0 +1,3 @@
+package com.shokoku.streamfix.movie;
+
+public record MovieCursor(String releasedAt, String movieId) {}
@@ -0,0 +1,3 @@
+package com.shokoku.streamfix.movie;
+
+public record MovieInsertResult(int inserted, int skipped) {}
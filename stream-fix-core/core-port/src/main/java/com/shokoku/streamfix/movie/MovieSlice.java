@@ -0,0 +1,10 @@
+package com.shokoku.streamfix.movie;
+
+import java.util.List;
+
+public record MovieSlice(List<StreamFixMovie> movies, MovieCursor nextCursor) {
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
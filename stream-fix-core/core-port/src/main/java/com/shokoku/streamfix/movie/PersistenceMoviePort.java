@@ -6,7 +6,15 @@ public interface PersistenceMoviePort {
 
   List<StreamFixMovie> fetchBy(int page, int size);
 
+  MovieSlice fetchSlice(int page, int size);
+
+  MovieSlice fetchAfter(MovieCursor cursor, int size);
+
+  long count();
+
   StreamFixMovie findBy(String movieName);
 
   void insert(StreamFixMovie streamFixMovie);
+
+  MovieInsertResult insertAll(List<StreamFixMovie> movies);
 }
@@ -0,0 +1,15 @@
+package com.shokoku.streamfix.movie;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 영화 목록 페이지 캐시의 non-blocking 조회
+ *
+ * <p>키와 저장 형식은 {@link MovieCatalogCachePort} 와 같다. 캐시를 읽지 못하면 에러 대신 버전 0, 빈 결과를 준다.
+ */
+public interface ReactiveMovieCatalogCachePort {
+
+  Mono<Long> currentVersion();
+
+  Mono<MovieSlice> findPage(long version, int page, int size);
+}
@@ -0,0 +1,9 @@
+package com.shokoku.streamfix.movie;
+
+import reactor.core.publisher.Mono;
+
+/** 요청 스레드를 붙잡지 않는 TMDB 영화 목록 조회 */
+public interface ReactiveTmdbMoviePort {
+
+  Mono<TmdbPageableMovies> fetchPageable(int page);
+}
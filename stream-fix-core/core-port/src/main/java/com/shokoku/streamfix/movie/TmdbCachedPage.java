@@ -0,0 +1,23 @@
+package com.shokoku.streamfix.movie;
+
+public record TmdbCachedPage(
+    TmdbPageableMovies movies,
+    String etag,
+    long fetchedAtMillis,
+    long maxAgeSeconds,
+    long staleWhileRevalidateSeconds) {
+
+  public boolean isFresh(long nowMillis) {
+    return nowMillis < fetchedAtMillis + maxAgeSeconds * 1000;
+  }
+
+  public boolean isServableStale(long nowMillis) {
+    return nowMillis < fetchedAtMillis + (maxAgeSeconds + staleWhileRevalidateSeconds) * 1000;
+  }
+
+  public TmdbCachedPage revalidated(
+      long nowMillis, long maxAgeSeconds, long staleWhileRevalidateSeconds) {
+    return new TmdbCachedPage(
+        movies, etag, nowMillis, maxAgeSeconds, staleWhileRevalidateSeconds);
+  }
+}
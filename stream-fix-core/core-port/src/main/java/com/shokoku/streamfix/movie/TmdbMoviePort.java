@@ -1,5 +1,9 @@
 package com.shokoku.streamfix.movie;
 
 public interface TmdbMoviePort {
-  TmdbPageableMovies fetchPageable(int page);
+  default TmdbPageableMovies fetchPageable(int page) {
+    return fetchPageable(page, TmdbRequestPriority.INTERACTIVE);
+  }
+
+  TmdbPageableMovies fetchPageable(int page, TmdbRequestPriority priority);
 }
@@ -0,0 +1,10 @@
+package com.shokoku.streamfix.movie;
+
+import java.util.Optional;
+
+public interface TmdbPageCachePort {
+
+  Optional<TmdbCachedPage> find(int page);
+
+  void save(int page, TmdbCachedPage cachedPage);
+}
@@ -2,4 +2,10 @@ package com.shokoku.streamfix.movie;
 
 import java.util.List;
 
-public record TmdbPageableMovies(List<TmdbMovie> tmdbMovies, int page, boolean hasNext) {}
+public record TmdbPageableMovies(
+    List<TmdbMovie> tmdbMovies, int page, boolean hasNext, int totalPages) {
+
+  public TmdbPageableMovies(List<TmdbMovie> tmdbMovies, int page, boolean hasNext) {
+    this(tmdbMovies, page, hasNext, 0);
+  }
+}
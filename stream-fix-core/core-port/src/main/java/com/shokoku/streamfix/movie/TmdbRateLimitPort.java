@@ -0,0 +1,17 @@
+package com.shokoku.streamfix.movie;
+
+import java.time.Duration;
+
+/**
+ * 여러 프로세스(app-api, app-batch)가 나눠 쓰는 TMDB 호출 한도
+ *
+ * <p>프로세스마다 따로 세면 합계가 TMDB 한도를 넘으므로 token bucket 과 429 정지 시각을 한 곳에 둔다.
+ */
+public interface TmdbRateLimitPort {
+
+  /** priority 몫의 token 을 하나 가져간다. 가져갔으면 0, 아니면 다시 시도하기 전까지 기다릴 시간을 돌려준다. */
+  Duration tryAcquire(TmdbRequestPriority priority);
+
+  /** 429 의 Retry-After 동안 모든 프로세스의 호출을 멈춘다. */
+  void pause(Duration retryAfter);
+}
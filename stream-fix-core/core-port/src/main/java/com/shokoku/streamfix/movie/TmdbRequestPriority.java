@@ -0,0 +1,7 @@
+package com.shokoku.streamfix.movie;
+
+/** TMDB 호출 우선순위. 사용자 요청(INTERACTIVE)이 배치(BATCH)보다 먼저 처리량을 가져간다. */
+public enum TmdbRequestPriority {
+  INTERACTIVE,
+  BATCH,
+}
@@ -1,13 +1,8 @@
 package com.shokoku.streamfix.user;
 
+import java.util.List;
+
 public interface UserHistoryPort {
 
-  void create(
-      String userId,
-      String userRole,
-      String clientIp,
-      String reqMethod,
-      String reqUrl,
-      String reqHeader,
-      String reqPayload);
+  void createAll(List<UserAuditHistory> histories);
 }
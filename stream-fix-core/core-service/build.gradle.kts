@@ -3,6 +3,7 @@ plugins {
     id("custom.spring-conventions")
     id("custom.library-conventions")
     id("custom.test-conventions")
+    id("me.champeau.jmh")
 }
 
 dependencies {
@@ -14,6 +15,9 @@ dependencies {
     implementation(Spring.boot.data.jpa)
 
     implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("io.micrometer:micrometer-core")
+    implementation("io.projectreactor:reactor-core")
+    implementation("com.github.ben-manes.caffeine:caffeine")
 
     implementation("io.jsonwebtoken:jjwt-api:_")
     implementation("io.jsonwebtoken:jjwt-impl:_")
@@ -22,6 +26,13 @@ dependencies {
     implementation("org.apache.commons:commons-collections4:_")
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
+
 tasks.getByName<Jar>("bootJar") {
     enabled = false
 }
@@ -0,0 +1,73 @@
+package com.shokoku.streamfix.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/** 매 요청마다 parser/key 를 새로 만드는 기존 방식과 {@link JwtCodec} 의 서명/검증 처리량 비교 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtCodecBenchmark {
+
+  private static final String SECRET =
+      "dGVzdFNlY3JldEtleUZvclRlc3RpbmdQdXJwb3NlT25seUF0TGVhc3QyNTZCaXRz";
+
+  private JwtCodec codec;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    codec = new JwtCodec(SECRET, "default", List.of());
+    token = codec.sign("benchmark-user", Duration.ofHours(3));
+  }
+
+  @Benchmark
+  public String signLegacy() {
+    Date now = new Date();
+    return Jwts.builder()
+        .claim("userId", "benchmark-user")
+        .issuedAt(now)
+        .expiration(Date.from(now.toInstant().plus(Duration.ofHours(3))))
+        .signWith(legacyKey())
+        .compact();
+  }
+
+  @Benchmark
+  public String signCodec() {
+    return codec.sign("benchmark-user", Duration.ofHours(3));
+  }
+
+  // 기존 validateToken + findUserByAccessToken 경로: key/parser 생성과 파싱이 두 번씩 일어난다.
+  @Benchmark
+  public Object verifyLegacy() {
+    Jwts.parser().verifyWith(legacyKey()).build().parseSignedClaims(token);
+    Claims claims =
+        Jwts.parser().verifyWith(legacyKey()).build().parseSignedClaims(token).getPayload();
+    return claims.get("userId");
+  }
+
+  @Benchmark
+  public Object verifyCodec() {
+    return codec.verify(token).get("userId");
+  }
+
+  private static SecretKey legacyKey() {
+    return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+  }
+}
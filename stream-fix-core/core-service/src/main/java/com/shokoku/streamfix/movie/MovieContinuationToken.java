@@ -0,0 +1,47 @@
+package com.shokoku.streamfix.movie;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.apache.commons.lang3.StringUtils;
+
+/** keyset 페이지네이션 커서(releasedAt, movieId)를 클라이언트에 노출할 불투명 토큰으로 변환한다. */
+final class MovieContinuationToken {
+
+  private static final String NULL_RELEASED_AT = "N";
+  private static final String RELEASED_AT = "V";
+  private static final String SEPARATOR = "\n";
+
+  private MovieContinuationToken() {}
+
+  static String encode(MovieCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    String releasedAt =
+        cursor.releasedAt() == null ? NULL_RELEASED_AT : RELEASED_AT + cursor.releasedAt();
+    String raw = releasedAt + SEPARATOR + cursor.movieId();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static MovieCursor decode(String token) {
+    if (StringUtils.isBlank(token)) {
+      return null;
+    }
+
+    String raw;
+    try {
+      raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("invalid continuation token", e);
+    }
+
+    String[] parts = raw.split(SEPARATOR, 2);
+    if (parts.length != 2 || parts[0].isEmpty() || parts[1].isEmpty()) {
+      throw new IllegalArgumentException("invalid continuation token");
+    }
+    String releasedAt = parts[0].startsWith(RELEASED_AT) ? parts[0].substring(1) : null;
+    return new MovieCursor(releasedAt, parts[1]);
+  }
+}
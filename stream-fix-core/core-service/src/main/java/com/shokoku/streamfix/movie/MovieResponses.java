@@ -0,0 +1,38 @@
+package com.shokoku.streamfix.movie;
+
+import com.shokoku.streamfix.movie.response.MovieResponse;
+import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** 조회 결과를 응답으로 바꾼다. blocking/non-blocking 조회가 함께 쓴다. */
+final class MovieResponses {
+
+  private MovieResponses() {}
+
+  static PageableMovieResponse fromTmdb(TmdbPageableMovies tmdbPageableMovies) {
+    return new PageableMovieResponse(
+        tmdbPageableMovies.tmdbMovies().stream()
+            .map(MovieResponses::fromTmdb)
+            .collect(Collectors.toList()),
+        tmdbPageableMovies.page(),
+        tmdbPageableMovies.hasNext(),
+        null,
+        null,
+        tmdbPageableMovies.totalPages() > 0 ? tmdbPageableMovies.totalPages() : null);
+  }
+
+  static MovieResponse fromTmdb(TmdbMovie movie) {
+    return new MovieResponse(
+        movie.movieName(), movie.isAdult(), movie.genre(), movie.overview(), movie.releaseAt());
+  }
+
+  static List<MovieResponse> fromSlice(MovieSlice slice) {
+    return slice.movies().stream()
+        .map(
+            it ->
+                new MovieResponse(
+                    it.movieName(), it.isAdult(), List.of(), it.overview(), it.releasedAt()))
+        .toList();
+  }
+}
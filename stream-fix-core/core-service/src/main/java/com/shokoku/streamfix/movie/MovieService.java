@@ -1,12 +1,25 @@
 package com.shokoku.streamfix.movie;
 
+import com.shokoku.streamfix.movie.response.AggregatedMovieResponse;
+import com.shokoku.streamfix.movie.response.InsertMovieResponse;
 import com.shokoku.streamfix.movie.response.MovieResponse;
 import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import com.shokoku.streamfix.subscription.QuotaPolicy;
+import com.shokoku.streamfix.subscription.SubscriptionType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -15,42 +28,152 @@ import org.springframework.stereotype.Service;
 public class MovieService
     implements FetchMovieUseCase, InsertMovieUseCase, DownloadMovieUseCase, LikeMovieUseCase {
 
+  private static final int PAGE_SIZE = 10;
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final TmdbMoviePort tmdbMoviePort;
   private final PersistenceMoviePort persistenceMoviePort;
   private final DownloadMoviePort downloadMoviePort;
   private final LikeMoviePort likeMoviePort;
-  private final List<UserDownloadMovieRoleValidator> validators;
+  private final QuotaPolicyRegistry quotaPolicyRegistry;
+  private final MovieCatalogCachePort movieCatalogCachePort;
+  private final DownloadCounterPort downloadCounterPort;
+  private final DownloadQuotaPort downloadQuotaPort;
+  private final SingleFlight<String, MovieSlice> catalogLoads = new SingleFlight<>();
+
+  @Value("${movie.fan-out.max-pages:10}")
+  private int fanOutMaxPages;
+
+  @Value("${movie.fan-out.deadline-millis:1500}")
+  private long fanOutDeadlineMillis;
 
   @Override
   public PageableMovieResponse fetchFromClient(int page) {
-    TmdbPageableMovies tmdbPageableMovies = tmdbMoviePort.fetchPageable(page);
-    return new PageableMovieResponse(
-        tmdbPageableMovies.tmdbMovies().stream()
-            .map(
-                movie ->
-                    new MovieResponse(
-                        movie.movieName(),
-                        movie.isAdult(),
-                        movie.genre(),
-                        movie.overview(),
-                        movie.releaseAt()))
-            .collect(Collectors.toList()),
-        tmdbPageableMovies.page(),
-        tmdbPageableMovies.hasNext());
+    return MovieResponses.fromTmdb(tmdbMoviePort.fetchPageable(page));
+  }
+
+  @Override
+  public AggregatedMovieResponse fetchFromClient(int fromPage, int toPage) {
+    if (fromPage < 1 || toPage < fromPage) {
+      throw new IllegalArgumentException("조회할 페이지 범위가 올바르지 않습니다.");
+    }
+    int lastPage = Math.min(toPage, fromPage + Math.max(1, fanOutMaxPages) - 1);
+    List<Callable<TmdbPageableMovies>> fetches =
+        IntStream.rangeClosed(fromPage, lastPage)
+            .<Callable<TmdbPageableMovies>>mapToObj(page -> () -> tmdbMoviePort.fetchPageable(page))
+            .toList();
+
+    // 스코프를 닫을 때 deadline 에 걸려 취소된 호출까지 끝나기를 기다리므로 요청 밖으로 새는 스레드가 없다.
+    List<Future<TmdbPageableMovies>> results;
+    try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+      results = scope.invokeAll(fetches, fanOutDeadlineMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("영화 목록 조회가 중단되었습니다.", e);
+    }
+    return mergePages(fromPage, lastPage, results);
+  }
+
+  private AggregatedMovieResponse mergePages(
+      int fromPage, int lastPage, List<Future<TmdbPageableMovies>> results) {
+    Map<String, MovieResponse> movies = new LinkedHashMap<>();
+    List<Integer> missingPages = new ArrayList<>();
+    RuntimeException failure = null;
+    int totalPages = 0;
+    boolean hasNext = true;
+
+    for (int i = 0; i < results.size(); i++) {
+      int page = fromPage + i;
+      Future<TmdbPageableMovies> result = results.get(i);
+      switch (result.state()) {
+        case SUCCESS -> {
+          TmdbPageableMovies pageable = result.resultNow();
+          totalPages = Math.max(totalPages, pageable.totalPages());
+          if (page == lastPage) {
+            hasNext = pageable.hasNext();
+          }
+          pageable
+              .tmdbMovies()
+              .forEach(
+                  it ->
+                      movies.putIfAbsent(
+                          it.movieName() + "|" + it.releaseAt(), MovieResponses.fromTmdb(it)));
+        }
+        case FAILED -> {
+          log.warn("tmdb page fetch failed. page={}", page, result.exceptionNow());
+          if (failure == null && result.exceptionNow() instanceof RuntimeException e) {
+            failure = e;
+          }
+          missingPages.add(page);
+        }
+        default -> missingPages.add(page);
+      }
+    }
+
+    // 한 페이지도 받지 못했으면 부분 결과 대신 원래 실패를 그대로 알린다.
+    if (missingPages.size() == results.size() && failure != null) {
+      throw failure;
+    }
+    return new AggregatedMovieResponse(
+        List.copyOf(movies.values()),
+        fromPage,
+        lastPage,
+        totalPages > 0 ? lastPage < totalPages : hasNext,
+        totalPages > 0 ? totalPages : null,
+        !missingPages.isEmpty(),
+        missingPages);
+  }
+
+  @Override
+  public PageableMovieResponse fetchFromClientForBatch(int page) {
+    return MovieResponses.fromTmdb(
+        tmdbMoviePort.fetchPageable(page, TmdbRequestPriority.BATCH));
   }
 
   @Override
   public PageableMovieResponse fetchFromDb(int page) {
-    List<StreamFixMovie> streamFixMovies = persistenceMoviePort.fetchBy(page, 10);
+    long version = movieCatalogCachePort.currentVersion();
+    MovieSlice slice =
+        movieCatalogCachePort
+            .findPage(version, page, PAGE_SIZE)
+            .orElseGet(
+                () ->
+                    catalogLoads.execute(
+                        version + ":" + page + ":" + PAGE_SIZE,
+                        () -> loadCatalogPage(version, page, PAGE_SIZE)));
+    return new PageableMovieResponse(MovieResponses.fromSlice(slice), page, slice.hasNext());
+  }
+
+  @Override
+  public PageableMovieResponse fetchFromDb(String continuationToken, int size, boolean withCount) {
+    int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    MovieSlice slice =
+        persistenceMoviePort.fetchAfter(MovieContinuationToken.decode(continuationToken), limit);
     return new PageableMovieResponse(
-        streamFixMovies.stream()
-            .map(
-                it ->
-                    new MovieResponse(
-                        it.movieName(), it.isAdult(), List.of(), it.overview(), it.releasedAt()))
-            .toList(),
-        page,
-        true);
+        MovieResponses.fromSlice(slice),
+        0,
+        slice.hasNext(),
+        MovieContinuationToken.encode(slice.nextCursor()),
+        withCount ? countCatalog() : null,
+        null);
+  }
+
+  private MovieSlice loadCatalogPage(long version, int page, int size) {
+    MovieSlice slice = persistenceMoviePort.fetchSlice(page, size);
+    movieCatalogCachePort.savePage(version, page, size, slice);
+    return slice;
+  }
+
+  private long countCatalog() {
+    long version = movieCatalogCachePort.currentVersion();
+    return movieCatalogCachePort
+        .findCount(version)
+        .orElseGet(
+            () -> {
+              long count = persistenceMoviePort.count();
+              movieCatalogCachePort.saveCount(version, count);
+              return count;
+            });
   }
 
   @Override
@@ -66,29 +189,74 @@ public class MovieService
                   .build();
           persistenceMoviePort.insert(streamFixMovie);
         });
+    movieCatalogCachePort.evictAll();
+  }
+
+  @Override
+  public InsertMovieResponse insertAll(List<MovieResponse> items) {
+    List<StreamFixMovie> movies =
+        items.stream()
+            .map(
+                it ->
+                    StreamFixMovie.builder()
+                        .movieName(it.movieName())
+                        .isAdult(it.isAdult())
+                        .overview(it.overview())
+                        .genre("genre")
+                        .releasedAt(it.releaseAt())
+                        .build())
+            .toList();
+
+    MovieInsertResult result = persistenceMoviePort.insertAll(movies);
+    if (result.inserted() > 0) {
+      movieCatalogCachePort.evictAll();
+    }
+    return new InsertMovieResponse(result.inserted(), result.skipped());
   }
 
   @Override
-  public String download(String userId, String role, String movieId) {
-    long cnt = downloadMoviePort.downloadCntToday(userId);
-    boolean validate =
-        validators.stream()
-            .filter(validator -> validator.isTarget(role))
-            .findAny()
-            .orElseThrow()
-            .validate(cnt);
-
-    if (!validate) {
+  public String download(String userId, SubscriptionType subscriptionType, String movieId) {
+    QuotaPolicy policy = quotaPolicyRegistry.policyOf(subscriptionType);
+    if (policy.isUnlimited()) {
+      // 무제한 등급은 사용량을 세지 않으므로 Redis 와 당일 건수 조회를 건너뛴다.
+      StreamFixMovie by = persistenceMoviePort.findBy(movieId);
+      downloadMoviePort.save(UserMovieDownload.newDownload(userId, movieId));
+      return by.movieName();
+    }
+
+    long cnt = downloadCntToday(userId);
+
+    if (!policy.allows(cnt)) {
       throw new RuntimeException("더 이상 다운로드를 할 수 없습니다.");
     }
 
-    StreamFixMovie by = persistenceMoviePort.findBy(movieId);
+    // 동시 요청이 위 검사를 함께 통과할 수 있으므로 한도 안에서 한 건을 원자적으로 예약한다.
+    DownloadReservation reservation =
+        downloadQuotaPort
+            .reserve(userId, policy, cnt)
+            .orElseThrow(() -> new RuntimeException("더 이상 다운로드를 할 수 없습니다."));
 
-    downloadMoviePort.save(UserMovieDownload.newDownload(userId, movieId));
+    StreamFixMovie by;
+    try {
+      by = persistenceMoviePort.findBy(movieId);
+      downloadMoviePort.save(UserMovieDownload.newDownload(userId, movieId));
+    } catch (RuntimeException e) {
+      downloadQuotaPort.release(reservation);
+      throw e;
+    }
+    // 확정하면서 당일 사용량 카운터도 함께 올라간다.
+    downloadQuotaPort.commit(reservation);
 
     return by.movieName();
   }
 
+  // 카운터가 비어 있으면 DB 건수를 쓴다. 카운터는 이 값으로 예약 스크립트 안에서 채워진다.
+  private long downloadCntToday(String userId) {
+    return downloadCounterPort
+        .countToday(userId)
+        .orElseGet(() -> downloadMoviePort.downloadCntToday(userId));
+  }
+
   @Override
   public void like(String userId, String movieId) {
     Optional<UserMovieLike> byUserIdAndMovieId =
@@ -96,10 +264,22 @@ public class MovieService
 
     if (byUserIdAndMovieId.isEmpty()) {
       likeMoviePort.save(UserMovieLike.newLike(userId, movieId));
+      return;
     }
 
     UserMovieLike userMovieLike = byUserIdAndMovieId.get();
     userMovieLike.like();
     likeMoviePort.save(userMovieLike);
   }
+
+  @Override
+  public Map<String, Boolean> likeStatus(String userId, List<String> movieIds) {
+    if (movieIds.size() > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("한 번에 조회할 수 있는 영화 수를 넘었습니다.");
+    }
+    if (movieIds.isEmpty()) {
+      return Map.of();
+    }
+    return likeMoviePort.findLikeStatus(userId, movieIds);
+  }
 }
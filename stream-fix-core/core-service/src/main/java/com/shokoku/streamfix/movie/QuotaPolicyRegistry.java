@@ -0,0 +1,103 @@
+package com.shokoku.streamfix.movie;
+
+import com.shokoku.streamfix.subscription.QuotaPolicy;
+import com.shokoku.streamfix.subscription.SubscriptionType;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구독 등급별 다운로드 한도
+ *
+ * <p>movie.download.quota.tiers.{등급} 설정으로 기본값을 덮어쓴다. 음수는 무제한이다. 시작할 때 한 번 EnumMap 으로 만들어 두고, 바꿀 때는
+ * 새 EnumMap 으로 통째로 교체하므로 다운로드 경로는 잠금 없이 읽는다.
+ *
+ * <p>{@link #override} 로 재시작 없이 한 등급의 한도를 바꾸고, {@link #reload} 로 설정값으로 되돌린다.
+ */
+@Slf4j
+@Component
+public class QuotaPolicyRegistry {
+
+  static final String PREFIX = "movie.download.quota.tiers";
+
+  private static final Map<SubscriptionType, QuotaPolicy> DEFAULTS =
+      Map.of(
+          SubscriptionType.FREE, QuotaPolicy.daily(0),
+          SubscriptionType.BRONZE, QuotaPolicy.daily(5),
+          SubscriptionType.SILVER, QuotaPolicy.daily(10),
+          SubscriptionType.GOLD, QuotaPolicy.daily(QuotaPolicy.UNLIMITED));
+
+  private final Environment environment;
+  private volatile Map<SubscriptionType, QuotaPolicy> policies;
+
+  public QuotaPolicyRegistry(Environment environment) {
+    this.environment = environment;
+    this.policies = load();
+  }
+
+  public QuotaPolicy policyOf(SubscriptionType subscriptionType) {
+    if (subscriptionType == null) {
+      throw new NoSuchElementException("구독 등급이 없는 사용자입니다.");
+    }
+    return policies.get(subscriptionType);
+  }
+
+  public Map<SubscriptionType, QuotaPolicy> policies() {
+    return policies;
+  }
+
+  public synchronized Map<SubscriptionType, QuotaPolicy> override(
+      SubscriptionType subscriptionType, QuotaPolicy policy) {
+    EnumMap<SubscriptionType, QuotaPolicy> next = new EnumMap<>(policies);
+    next.put(subscriptionType, policy);
+    log.info("download quota policy overridden. {}={}", subscriptionType, policy);
+    policies = Collections.unmodifiableMap(next);
+    return policies;
+  }
+
+  public synchronized Map<SubscriptionType, QuotaPolicy> reload() {
+    Map<SubscriptionType, QuotaPolicy> next = load();
+    log.info("download quota policies reloaded. {}", next);
+    policies = next;
+    return next;
+  }
+
+  private Map<SubscriptionType, QuotaPolicy> load() {
+    Map<SubscriptionType, Tier> tiers =
+        Binder.get(environment)
+            .bind(PREFIX, Bindable.mapOf(SubscriptionType.class, Tier.class))
+            .orElse(Map.of());
+
+    EnumMap<SubscriptionType, QuotaPolicy> loaded = new EnumMap<>(SubscriptionType.class);
+    for (SubscriptionType type : SubscriptionType.values()) {
+      QuotaPolicy base = DEFAULTS.get(type);
+      Tier tier = tiers.get(type);
+      loaded.put(type, tier == null ? base : tier.merge(base));
+    }
+    return Collections.unmodifiableMap(loaded);
+  }
+
+  record Tier(Long dailyLimit, Long hourlyLimit, Long burst, Long concurrentLimit) {
+
+    QuotaPolicy merge(QuotaPolicy base) {
+      return new QuotaPolicy(
+          limit(dailyLimit, base.dailyLimit()),
+          limit(hourlyLimit, base.hourlyLimit()),
+          burst == null ? base.burst() : Math.max(0, burst),
+          limit(concurrentLimit, base.concurrentLimit()));
+    }
+
+    private static long limit(Long value, long base) {
+      if (value == null) {
+        return base;
+      }
+      return value < 0 ? QuotaPolicy.UNLIMITED : value;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.shokoku.streamfix.movie;
+
+import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 영화 목록 non-blocking 조회
+ *
+ * <p>TMDB 호출과 캐시 조회는 요청 스레드를 붙잡지 않는다. 캐시에 없는 페이지만 blocking 인 DB 조회를 boundedElastic 에서 실행하고 캐시에
+ * 채운다.
+ *
+ * <p>TMDB 페이지는 blocking 경로(CachingTmdbMovieClient)와 같은 {@link TmdbPageCachePort} 를 먼저 확인하고,
+ * 새로 받은 페이지를 저장해 두 경로가 한 캐시를 나눠 쓴다. 응답 헤더를 보지 않으므로 ETag 없이 설정된 신선도로 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveMovieService implements ReactiveFetchMovieUseCase {
+
+  private static final int PAGE_SIZE = 10;
+
+  private final ReactiveTmdbMoviePort reactiveTmdbMoviePort;
+  private final ReactiveMovieCatalogCachePort reactiveMovieCatalogCachePort;
+  private final MovieCatalogCachePort movieCatalogCachePort;
+  private final PersistenceMoviePort persistenceMoviePort;
+  private final TmdbPageCachePort tmdbPageCachePort;
+  private final SingleFlight<String, MovieSlice> catalogLoads = new SingleFlight<>();
+
+  @Value("${tmdb.page-cache.default-max-age-seconds:60}")
+  private long defaultMaxAgeSeconds;
+
+  @Value("${tmdb.page-cache.stale-while-revalidate-seconds:300}")
+  private long defaultStaleWhileRevalidateSeconds;
+
+  @Override
+  public Mono<PageableMovieResponse> fetchFromClient(int page) {
+    return Mono.fromCallable(() -> tmdbPageCachePort.find(page))
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMap(cached -> fetchThroughCache(page, cached.orElse(null)))
+        .map(MovieResponses::fromTmdb);
+  }
+
+  @Override
+  public Mono<PageableMovieResponse> fetchFromDb(int page) {
+    return reactiveMovieCatalogCachePort
+        .currentVersion()
+        .flatMap(
+            version ->
+                reactiveMovieCatalogCachePort
+                    .findPage(version, page, PAGE_SIZE)
+                    .switchIfEmpty(
+                        Mono.fromCallable(() -> loadCatalogPage(version, page))
+                            .subscribeOn(Schedulers.boundedElastic())))
+        .map(
+            slice ->
+                new PageableMovieResponse(MovieResponses.fromSlice(slice), page, slice.hasNext()));
+  }
+
+  // fresh 가 아니면 TMDB 에서 다시 받는다. 실패하면 남아 있는 페이지라도 반환한다.
+  private Mono<TmdbPageableMovies> fetchThroughCache(int page, TmdbCachedPage cached) {
+    if (cached != null && cached.isFresh(System.currentTimeMillis())) {
+      return Mono.just(cached.movies());
+    }
+
+    Mono<TmdbPageableMovies> fetched =
+        reactiveTmdbMoviePort
+            .fetchPageable(page)
+            .flatMap(movies -> saveTmdbPage(page, movies).thenReturn(movies));
+    if (cached == null) {
+      return fetched;
+    }
+    return fetched.onErrorResume(
+        e -> {
+          log.warn("tmdb page fetch failed, serving stale page. page={}", page, e);
+          return Mono.just(cached.movies());
+        });
+  }
+
+  private Mono<Void> saveTmdbPage(int page, TmdbPageableMovies movies) {
+    return Mono.<Void>fromRunnable(
+            () ->
+                tmdbPageCachePort.save(
+                    page,
+                    new TmdbCachedPage(
+                        movies,
+                        null,
+                        System.currentTimeMillis(),
+                        defaultMaxAgeSeconds,
+                        defaultStaleWhileRevalidateSeconds)))
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  private MovieSlice loadCatalogPage(long version, int page) {
+    return catalogLoads.execute(
+        version + ":" + page + ":" + PAGE_SIZE,
+        () -> {
+          MovieSlice slice = persistenceMoviePort.fetchSlice(page, PAGE_SIZE);
+          movieCatalogCachePort.savePage(version, page, PAGE_SIZE, slice);
+          return slice;
+        });
+  }
+}
@@ -0,0 +1,111 @@
+package com.shokoku.streamfix.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명/검증 전용 컴포넌트
+ *
+ * <p>SecretKey 와 JwtParser 는 생성 시 한 번만 만들어 재사용한다. 서명은 현재 kid 의 키로 하고, 검증은 헤더의 kid 로 키를 찾는다.
+ * kid 가 없는 기존 토큰은 현재 키로 검증한다. 이전 키는 {@code jwt.previous-keys} 에 {@code kid:base64Secret} 형식으로 등록한다.
+ */
+@Component
+public class JwtCodec {
+
+  private final String activeKeyId;
+  private final SecretKey activeKey;
+  private final Map<String, SecretKey> verificationKeys;
+  private final JwtParser parser;
+
+  public JwtCodec(
+      @Value("${jwt.secret}") String secret,
+      @Value("${jwt.key-id:default}") String activeKeyId,
+      @Value("${jwt.previous-keys:}") List<String> previousKeys) {
+    this.activeKeyId = activeKeyId;
+    this.activeKey = toKey(secret);
+
+    Map<String, SecretKey> keys = new LinkedHashMap<>();
+    for (String previousKey : previousKeys) {
+      if (StringUtils.isBlank(previousKey)) {
+        continue;
+      }
+      String[] kidAndSecret = previousKey.split(":", 2);
+      if (kidAndSecret.length != 2) {
+        throw new IllegalArgumentException("jwt.previous-keys must be 'kid:secret'");
+      }
+      keys.put(kidAndSecret[0].trim(), toKey(kidAndSecret[1].trim()));
+    }
+    keys.put(activeKeyId, activeKey);
+    this.verificationKeys = Map.copyOf(keys);
+
+    this.parser = Jwts.parser().keyLocator(new KeyIdLocator()).build();
+  }
+
+  public String sign(String userId, Duration expireAt) {
+    Date now = new Date();
+    Instant instant = now.toInstant();
+    return Jwts.builder()
+        .header()
+        .keyId(activeKeyId)
+        .and()
+        .claim("userId", userId)
+        .issuedAt(now)
+        .expiration(Date.from(instant.plus(expireAt)))
+        .signWith(activeKey)
+        .compact();
+  }
+
+  public Claims verify(String token) {
+    return parser.parseSignedClaims(token).getPayload();
+  }
+
+  // 만료된 토큰도 서명이 올바르면 Claims 를 돌려준다.
+  public Claims verifyAllowExpired(String token) {
+    try {
+      return verify(token);
+    } catch (ExpiredJwtException e) {
+      return e.getClaims();
+    }
+  }
+
+  private static SecretKey toKey(String secret) {
+    if (StringUtils.isBlank(secret)) {
+      throw new IllegalArgumentException("jwt secret is empty");
+    }
+    return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+  }
+
+  private class KeyIdLocator extends LocatorAdapter<Key> {
+
+    @Override
+    protected Key locate(JwsHeader header) {
+      String keyId = header.getKeyId();
+      if (keyId == null) {
+        return activeKey;
+      }
+      Key key = verificationKeys.get(keyId);
+      if (key == null) {
+        throw new SignatureException("unknown jwt key id: " + keyId);
+      }
+      return key;
+    }
+  }
+}
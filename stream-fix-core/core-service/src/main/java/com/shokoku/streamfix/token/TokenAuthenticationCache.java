@@ -0,0 +1,106 @@
+package com.shokoku.streamfix.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.shokoku.streamfix.subscription.UserSubscriptionChangedEvent;
+import com.shokoku.streamfix.user.response.UserResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 액세스 토큰으로 조회한 사용자 정보를 토큰의 exp 시각까지 보관하는 로컬 캐시
+ *
+ * <p>원본 토큰 대신 SHA-256 해시를 키로 사용한다. 토큰 재발급이나 구독 변경 시 해당 사용자의 항목을 무효화한다.
+ */
+@Component
+public class TokenAuthenticationCache {
+
+  private final Cache<String, CachedAuthentication> cache;
+
+  public TokenAuthenticationCache(
+      @Value("${jwt.auth-cache.maximum-size:10000}") long maximumSize,
+      MeterRegistry meterRegistry) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilTokenExpiry())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.authentication");
+  }
+
+  public Optional<UserResponse> get(String accessToken) {
+    return Optional.ofNullable(cache.getIfPresent(hash(accessToken)))
+        .filter(it -> it.expiresAt().isAfter(Instant.now()))
+        .map(CachedAuthentication::user);
+  }
+
+  public void put(String accessToken, UserResponse user, Instant expiresAt) {
+    if (user == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+      return;
+    }
+    cache.put(hash(accessToken), new CachedAuthentication(user, expiresAt));
+  }
+
+  public void invalidateUser(String userId) {
+    cache
+        .asMap()
+        .values()
+        .removeIf(
+            it ->
+                Objects.equals(it.user().userId(), userId)
+                    || Objects.equals(it.user().providerId(), userId));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onSubscriptionChanged(UserSubscriptionChangedEvent event) {
+    invalidateUser(event.userId());
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static String hash(String accessToken) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record CachedAuthentication(UserResponse user, Instant expiresAt) {}
+
+  private static class UntilTokenExpiry implements Expiry<String, CachedAuthentication> {
+
+    @Override
+    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+      return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, CachedAuthentication value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, CachedAuthentication value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -4,36 +4,28 @@ import com.shokoku.streamfix.token.response.TokenResponse;
 import com.shokoku.streamfix.user.FetchUserUseCase;
 import com.shokoku.streamfix.user.response.UserResponse;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.Date;
-import javax.crypto.SecretKey;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class TokenService implements FetchTokenUseCase, CreateTokenUseCase, UpdateTokenUseCase {
 
-  @Value("${jwt.secret}")
-  private String secretKey;
-
   private final InsertTokenPort insertTokenPort;
   private final UpdateTokenPort updateTokenPort;
   private final SearchTokenPort searchTokenPort;
   private final FetchUserUseCase fetchUserUseCase;
   private final KakaoTokenPort kakaoTokenPort;
+  private final TokenAuthenticationCache tokenAuthenticationCache;
+  private final JwtCodec jwtCodec;
 
   @Override
   public TokenResponse createNewToken(String userId) {
-    String accessToken = getToken(userId, Duration.ofHours(3));
-    String refreshToken = getToken(userId, Duration.ofHours(24));
+    String accessToken = jwtCodec.sign(userId, Duration.ofHours(3));
+    String refreshToken = jwtCodec.sign(userId, Duration.ofHours(24));
 
     if (userId == null || userId.isBlank()) {
       throw new IllegalArgumentException("userId is null");
@@ -48,7 +40,7 @@ public class TokenService implements FetchTokenUseCase, CreateTokenUseCase, Upda
 
   @Override
   public Boolean validateToken(String accessToken) {
-    Jwts.parser().setSigningKey(secretKey).build().parseClaimsJws(accessToken);
+    jwtCodec.verify(accessToken);
     return true;
   }
 
@@ -58,8 +50,13 @@ public class TokenService implements FetchTokenUseCase, CreateTokenUseCase, Upda
   }
 
   @Override
-  public UserResponse findUserByAccessToken(String accessToken) {
-    Claims claims = parseClaims(accessToken);
+  public UserResponse authenticate(String accessToken) {
+    Optional<UserResponse> cached = tokenAuthenticationCache.get(accessToken);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    Claims claims = jwtCodec.verify(accessToken);
 
     Object userId = claims.get("userId");
 
@@ -67,39 +64,32 @@ public class TokenService implements FetchTokenUseCase, CreateTokenUseCase, Upda
       throw new RuntimeException();
     }
 
-    return fetchUserUseCase.findByProviderId(userId.toString());
-  }
-
-  private Claims parseClaims(String accessToken) {
-    try {
-      return Jwts.parser().setSigningKey(secretKey).build().parseClaimsJws(accessToken).getBody();
-    } catch (ExpiredJwtException e) {
-      return e.getClaims();
+    UserResponse user = fetchUserUseCase.findByProviderId(userId.toString());
+    if (claims.getExpiration() != null) {
+      tokenAuthenticationCache.put(accessToken, user, claims.getExpiration().toInstant());
     }
+    return user;
   }
 
-  private String getToken(String userId, Duration expireAt) {
-    Date now = new Date();
-    Instant instant = now.toInstant();
-    return Jwts.builder()
-        .claim("userId", userId)
-        .issuedAt(now)
-        .expiration(Date.from(instant.plus(expireAt)))
-        .signWith(getSigningKey())
-        .compact();
-  }
+  @Override
+  public UserResponse findUserByAccessToken(String accessToken) {
+    Claims claims = jwtCodec.verifyAllowExpired(accessToken);
+
+    Object userId = claims.get("userId");
+
+    if (ObjectUtils.isEmpty(userId)) {
+      throw new RuntimeException();
+    }
 
-  private SecretKey getSigningKey() {
-    byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-    return Keys.hmacShaKeyFor(keyBytes);
+    return fetchUserUseCase.findByProviderId(userId.toString());
   }
 
   @Override
   public String upsertToken(String providerId) {
     TokenPortResponse byUserId = searchTokenPort.findByUserId(providerId);
 
-    String accessToken = getToken(providerId, Duration.ofHours(3));
-    String refreshToken = getToken(providerId, Duration.ofHours(24));
+    String accessToken = jwtCodec.sign(providerId, Duration.ofHours(3));
+    String refreshToken = jwtCodec.sign(providerId, Duration.ofHours(24));
 
     if (byUserId == null) {
       insertTokenPort.create(providerId, accessToken, refreshToken);
@@ -107,6 +97,7 @@ public class TokenService implements FetchTokenUseCase, CreateTokenUseCase, Upda
     } else {
       updateTokenPort.updateToken(providerId, accessToken, refreshToken);
     }
+    tokenAuthenticationCache.invalidateUser(providerId);
     return accessToken;
   }
 }
@@ -0,0 +1,7 @@
+package com.shokoku.streamfix.user;
+
+public enum AuditBackpressurePolicy {
+  DROP,
+  BLOCK,
+  SAMPLE,
+}
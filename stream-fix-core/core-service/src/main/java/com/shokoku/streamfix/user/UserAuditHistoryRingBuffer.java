@@ -0,0 +1,96 @@
+package com.shokoku.streamfix.user;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 감사 이력 적재용 고정 크기 lock-free 링 버퍼
+ *
+ * <p>슬롯마다 시퀀스를 두어 다수의 요청 스레드가 CAS 로 동시에 적재하고, 단일 writer 스레드가 꺼내 간다. 용량은 2의 거듭제곱으로 올림된다.
+ */
+class UserAuditHistoryRingBuffer {
+
+  private final int mask;
+  private final AtomicReferenceArray<UserAuditHistory> slots;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  UserAuditHistoryRingBuffer(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    int size = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(2, capacity) - 1));
+    this.mask = size - 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  boolean offer(UserAuditHistory history) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long diff = sequences.get(index) - position;
+      if (diff == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          slots.lazySet(index, history);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (diff < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  UserAuditHistory poll() {
+    long position = head.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long diff = sequences.get(index) - (position + 1);
+      if (diff == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          UserAuditHistory history = slots.get(index);
+          slots.lazySet(index, null);
+          sequences.set(index, position + mask + 1);
+          return history;
+        }
+        position = head.get();
+      } else if (diff < 0) {
+        return null;
+      } else {
+        position = head.get();
+      }
+    }
+  }
+
+  int drainTo(List<UserAuditHistory> sink, int maxElements) {
+    int drained = 0;
+    while (drained < maxElements) {
+      UserAuditHistory history = poll();
+      if (history == null) {
+        break;
+      }
+      sink.add(history);
+      drained++;
+    }
+    return drained;
+  }
+
+  int size() {
+    long size = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+}
@@ -0,0 +1,181 @@
+package com.shokoku.streamfix.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class UserAuditHistoryWriter implements SmartLifecycle {
+
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+  private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+  private final UserHistoryPort userHistoryPort;
+  private final UserAuditHistoryRingBuffer buffer;
+  private final int batchSize;
+  private final long lingerNanos;
+  private final AuditBackpressurePolicy backpressure;
+  private final int sampleRate;
+  private final long blockTimeoutNanos;
+
+  private final AtomicLong sampleSequence = new AtomicLong();
+  private final Counter droppedByFull;
+  private final Counter droppedBySampling;
+  private final Counter flushed;
+  private final Counter failed;
+  private final Timer flushTimer;
+
+  // 가상 스레드 모드에서는 writer 도 가상 스레드로 띄워 전용 OS 스레드를 두지 않는다.
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
+  private volatile boolean running;
+  private volatile Thread writerThread;
+
+  public UserAuditHistoryWriter(
+      UserHistoryPort userHistoryPort,
+      MeterRegistry meterRegistry,
+      @Value("${audit.history.capacity:8192}") int capacity,
+      @Value("${audit.history.batch-size:200}") int batchSize,
+      @Value("${audit.history.linger-ms:200}") long lingerMs,
+      @Value("${audit.history.backpressure:DROP}") AuditBackpressurePolicy backpressure,
+      @Value("${audit.history.sample-rate:10}") int sampleRate,
+      @Value("${audit.history.block-timeout-ms:50}") long blockTimeoutMs) {
+    this.userHistoryPort = userHistoryPort;
+    this.buffer = new UserAuditHistoryRingBuffer(capacity);
+    this.batchSize = Math.max(1, batchSize);
+    this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+    this.backpressure = backpressure;
+    this.sampleRate = Math.max(1, sampleRate);
+    this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+
+    Gauge.builder("streamfix.audit.queue.depth", buffer, UserAuditHistoryRingBuffer::size)
+        .register(meterRegistry);
+    this.droppedByFull =
+        Counter.builder("streamfix.audit.dropped").tag("reason", "full").register(meterRegistry);
+    this.droppedBySampling =
+        Counter.builder("streamfix.audit.dropped")
+            .tag("reason", "sampled")
+            .register(meterRegistry);
+    this.flushed = Counter.builder("streamfix.audit.flushed").register(meterRegistry);
+    this.failed = Counter.builder("streamfix.audit.failed").register(meterRegistry);
+    this.flushTimer = Timer.builder("streamfix.audit.flush").register(meterRegistry);
+  }
+
+  public void enqueue(UserAuditHistory history) {
+    boolean accepted =
+        switch (backpressure) {
+          case DROP -> buffer.offer(history);
+          case BLOCK -> offerBlocking(history);
+          case SAMPLE -> {
+            if (isSampledOut()) {
+              droppedBySampling.increment();
+              yield true;
+            }
+            yield buffer.offer(history);
+          }
+        };
+
+    if (!accepted) {
+      droppedByFull.increment();
+    }
+
+    if (buffer.size() >= batchSize) {
+      LockSupport.unpark(writerThread);
+    }
+  }
+
+  // 버퍼가 절반 이상 찼을 때부터 sampleRate 건당 1건만 받는다.
+  private boolean isSampledOut() {
+    if (buffer.size() < buffer.capacity() / 2) {
+      return false;
+    }
+    return sampleSequence.getAndIncrement() % sampleRate != 0;
+  }
+
+  private boolean offerBlocking(UserAuditHistory history) {
+    long deadline = System.nanoTime() + blockTimeoutNanos;
+    while (!buffer.offer(history)) {
+      if (!running || System.nanoTime() - deadline >= 0) {
+        return false;
+      }
+      LockSupport.unpark(writerThread);
+      LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+    }
+    return true;
+  }
+
+  private void drainLoop() {
+    List<UserAuditHistory> batch = new ArrayList<>(batchSize);
+    while (running || buffer.size() > 0) {
+      buffer.drainTo(batch, batchSize);
+
+      long deadline = System.nanoTime() + lingerNanos;
+      while (running && batch.size() < batchSize) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          break;
+        }
+        LockSupport.parkNanos(this, remaining);
+        buffer.drainTo(batch, batchSize - batch.size());
+      }
+
+      if (!batch.isEmpty()) {
+        flush(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<UserAuditHistory> batch) {
+    long start = System.nanoTime();
+    try {
+      userHistoryPort.createAll(List.copyOf(batch));
+      flushed.increment(batch.size());
+    } catch (Exception e) {
+      failed.increment(batch.size());
+      log.error("audit history flush failed. size={}", batch.size(), e);
+    } finally {
+      flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    Thread.Builder builder =
+        virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+    writerThread = builder.name("audit-history-writer").start(this::drainLoop);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    Thread thread = writerThread;
+    if (thread == null) {
+      return;
+    }
+    LockSupport.unpark(thread);
+    try {
+      thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+}
@@ -1,5 +1,6 @@
 package com.shokoku.streamfix.user;
 
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -7,7 +8,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserHistoryService implements LogUserAuditHistoryCase {
 
-  private final UserHistoryPort userHistoryPort;
+  private final UserAuditHistoryWriter userAuditHistoryWriter;
 
   @Override
   public void log(
@@ -18,6 +19,16 @@ public class UserHistoryService implements LogUserAuditHistoryCase {
       String reqUrl,
       String reqHeader,
       String reqPayload) {
-    userHistoryPort.create(userId, userRole, clientIp, reqMethod, reqUrl, reqHeader, reqPayload);
+    userAuditHistoryWriter.enqueue(
+        UserAuditHistory.builder()
+            .userId(userId)
+            .userRole(userRole)
+            .clientIp(clientIp)
+            .reqMethod(reqMethod)
+            .reqUrl(reqUrl)
+            .reqHeader(reqHeader)
+            .reqPayload(reqPayload)
+            .requestedAt(LocalDateTime.now())
+            .build());
   }
 }
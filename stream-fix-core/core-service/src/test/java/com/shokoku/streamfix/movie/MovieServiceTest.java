@@ -6,13 +6,21 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.doThrow;
 
+import com.shokoku.streamfix.movie.response.AggregatedMovieResponse;
+import com.shokoku.streamfix.movie.response.InsertMovieResponse;
 import com.shokoku.streamfix.movie.response.MovieResponse;
 import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import com.shokoku.streamfix.subscription.QuotaPolicy;
+import com.shokoku.streamfix.subscription.SubscriptionType;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -23,6 +31,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class MovieServiceTest {
@@ -33,7 +42,10 @@ class MovieServiceTest {
   @Mock PersistenceMoviePort persistenceMoviePort;
   @Mock DownloadMoviePort downloadMoviePort;
   @Mock LikeMoviePort likeMoviePort;
-  @Mock List<UserDownloadMovieRoleValidator> validators;
+  @Mock QuotaPolicyRegistry quotaPolicyRegistry;
+  @Mock MovieCatalogCachePort movieCatalogCachePort;
+  @Mock DownloadCounterPort downloadCounterPort;
+  @Mock DownloadQuotaPort downloadQuotaPort;
 
   @Nested
   @DisplayName("fetchFromClient: 외부 클라이언트에서 영화 조회")
@@ -184,6 +196,148 @@ class MovieServiceTest {
       assertEquals(DEFAULT_MOVIE_NAME, movieResponse.movieName());
       assertEquals(customGenres, movieResponse.genre());
     }
+
+    @DisplayName("성공: TMDB 가 알려준 전체 페이지 수를 함께 반환한다")
+    @Test
+    void test1006() {
+      // given
+      int page = 1;
+      TmdbPageableMovies pageableMovies =
+          new TmdbPageableMovies(List.of(aTmdbMovie()), page, true, 42);
+      when(tmdbMoviePort.fetchPageable(page)).thenReturn(pageableMovies);
+
+      // when
+      PageableMovieResponse result = sut.fetchFromClient(page);
+
+      // then
+      assertEquals(42, result.totalPages());
+    }
+
+    @DisplayName("성공: 전체 페이지 수를 모르면 null 을 반환한다")
+    @Test
+    void test1007() {
+      // given
+      int page = 1;
+      when(tmdbMoviePort.fetchPageable(page)).thenReturn(aTmdbPageableMovies());
+
+      // when
+      PageableMovieResponse result = sut.fetchFromClient(page);
+
+      // then
+      assertNull(result.totalPages());
+    }
+
+    @DisplayName("성공: 배치용 조회는 BATCH 우선순위로 TMDB 를 호출한다")
+    @Test
+    void test1008() {
+      // given
+      int page = 3;
+      when(tmdbMoviePort.fetchPageable(page, TmdbRequestPriority.BATCH))
+          .thenReturn(aTmdbPageableMoviesWithPage(page));
+
+      // when
+      PageableMovieResponse result = sut.fetchFromClientForBatch(page);
+
+      // then
+      assertEquals(page, result.page());
+      verify(tmdbMoviePort).fetchPageable(page, TmdbRequestPriority.BATCH);
+      verify(tmdbMoviePort, never()).fetchPageable(page);
+    }
+  }
+
+  @Nested
+  @DisplayName("fetchFromClient(fromPage, toPage): 여러 TMDB 페이지 동시 조회")
+  class FetchFromClientRange {
+
+    @BeforeEach
+    void setUp() {
+      ReflectionTestUtils.setField(sut, "fanOutMaxPages", 3);
+      ReflectionTestUtils.setField(sut, "fanOutDeadlineMillis", 500L);
+    }
+
+    @DisplayName("실패: 페이지 범위가 올바르지 않으면 IllegalArgumentException 을 던진다")
+    @Test
+    void test1() {
+      // when & then
+      assertThrows(IllegalArgumentException.class, () -> sut.fetchFromClient(0, 2));
+      assertThrows(IllegalArgumentException.class, () -> sut.fetchFromClient(3, 2));
+      verifyNoInteractions(tmdbMoviePort);
+    }
+
+    @DisplayName("실패: 모든 페이지 조회가 실패하면 원래 예외를 던진다")
+    @Test
+    void test2() {
+      // given
+      when(tmdbMoviePort.fetchPageable(anyInt())).thenThrow(new RuntimeException("TMDB 오류"));
+
+      // when & then
+      RuntimeException e = assertThrows(RuntimeException.class, () -> sut.fetchFromClient(1, 2));
+      assertEquals("TMDB 오류", e.getMessage());
+    }
+
+    @DisplayName("성공: 페이지 순서대로 합치고 여러 페이지에 나온 영화는 한 번만 담는다")
+    @Test
+    void test1000() {
+      // given
+      when(tmdbMoviePort.fetchPageable(1))
+          .thenReturn(
+              new TmdbPageableMovies(
+                  List.of(aTmdbMovieWithName("A"), aTmdbMovieWithName("B")), 1, true, 5));
+      when(tmdbMoviePort.fetchPageable(2))
+          .thenReturn(
+              new TmdbPageableMovies(
+                  List.of(aTmdbMovieWithName("B"), aTmdbMovieWithName("C")), 2, true, 5));
+
+      // when
+      AggregatedMovieResponse result = sut.fetchFromClient(1, 2);
+
+      // then
+      assertEquals(
+          List.of("A", "B", "C"),
+          result.movieResponses().stream().map(MovieResponse::movieName).toList());
+      assertFalse(result.partial());
+      assertTrue(result.missingPages().isEmpty());
+      assertTrue(result.hasNext());
+      assertEquals(5, result.totalPages());
+    }
+
+    @DisplayName("성공: deadline 을 넘긴 페이지는 빼고 partial 로 응답한다")
+    @Test
+    void test1001() {
+      // given
+      when(tmdbMoviePort.fetchPageable(1))
+          .thenReturn(new TmdbPageableMovies(List.of(aTmdbMovieWithName("A")), 1, true, 5));
+      when(tmdbMoviePort.fetchPageable(2))
+          .thenAnswer(
+              it -> {
+                Thread.sleep(5_000);
+                return aTmdbPageableMoviesWithPage(2);
+              });
+
+      // when
+      long startedAt = System.nanoTime();
+      AggregatedMovieResponse result = sut.fetchFromClient(1, 2);
+
+      // then
+      assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(3));
+      assertTrue(result.partial());
+      assertEquals(List.of(2), result.missingPages());
+      assertEquals(1, result.movieResponses().size());
+    }
+
+    @DisplayName("성공: 한 번에 조회하는 페이지 수는 maxPages 로 자른다")
+    @Test
+    void test1002() {
+      // given
+      when(tmdbMoviePort.fetchPageable(anyInt())).thenReturn(anEmptyTmdbPageableMovies());
+
+      // when
+      AggregatedMovieResponse result = sut.fetchFromClient(1, 10);
+
+      // then
+      assertEquals(3, result.toPage());
+      verify(tmdbMoviePort, times(3)).fetchPageable(anyInt());
+    }
   }
 
   @Nested
@@ -195,12 +349,12 @@ class MovieServiceTest {
     void test1() {
       // given
       int invalidPage = -1;
-      when(persistenceMoviePort.fetchBy(invalidPage, 10))
+      when(persistenceMoviePort.fetchSlice(invalidPage, 10))
           .thenThrow(new RuntimeException("Invalid page number"));
 
       // when & then
       assertThrows(RuntimeException.class, () -> sut.fetchFromDb(invalidPage));
-      verify(persistenceMoviePort).fetchBy(invalidPage, 10);
+      verify(persistenceMoviePort).fetchSlice(invalidPage, 10);
     }
 
     @DisplayName("실패: DB 조회 중 오류가 발생하면 관련 Exception을 던진다")
@@ -208,12 +362,12 @@ class MovieServiceTest {
     void test2() {
       // given
       int page = 1;
-      when(persistenceMoviePort.fetchBy(page, 10))
+      when(persistenceMoviePort.fetchSlice(page, 10))
           .thenThrow(new RuntimeException("Database connection failed"));
 
       // when & then
       assertThrows(RuntimeException.class, () -> sut.fetchFromDb(page));
-      verify(persistenceMoviePort).fetchBy(page, 10);
+      verify(persistenceMoviePort).fetchSlice(page, 10);
     }
 
     @DisplayName("성공: 데이터베이스에서 영화 목록을 성공적으로 가져온다")
@@ -222,7 +376,8 @@ class MovieServiceTest {
       // given
       int page = 1;
       StreamFixMovie streamFixMovie = aStreamFixMovie();
-      when(persistenceMoviePort.fetchBy(page, 10)).thenReturn(List.of(streamFixMovie));
+      when(persistenceMoviePort.fetchSlice(page, 10))
+          .thenReturn(new MovieSlice(List.of(streamFixMovie), null));
 
       // when
       PageableMovieResponse result = sut.fetchFromDb(page);
@@ -230,7 +385,7 @@ class MovieServiceTest {
       // then
       assertNotNull(result);
       assertEquals(page, result.page());
-      assertTrue(result.hasNext()); // 현재 구현에서는 항상 true
+      assertFalse(result.hasNext());
       assertEquals(1, result.movieResponses().size());
 
       MovieResponse movieResponse = result.movieResponses().get(0);
@@ -240,7 +395,7 @@ class MovieServiceTest {
       assertEquals(DEFAULT_OVERVIEW, movieResponse.overview());
       assertEquals(DEFAULT_RELEASE_DATE, movieResponse.releaseAt());
 
-      verify(persistenceMoviePort).fetchBy(page, 10);
+      verify(persistenceMoviePort).fetchSlice(page, 10);
     }
 
     @DisplayName("성공: 빈 영화 목록도 정상적으로 반환한다")
@@ -248,7 +403,8 @@ class MovieServiceTest {
     void test1001() {
       // given
       int page = 1;
-      when(persistenceMoviePort.fetchBy(page, 10)).thenReturn(Collections.emptyList());
+      when(persistenceMoviePort.fetchSlice(page, 10))
+          .thenReturn(new MovieSlice(Collections.emptyList(), null));
 
       // when
       PageableMovieResponse result = sut.fetchFromDb(page);
@@ -256,7 +412,7 @@ class MovieServiceTest {
       // then
       assertNotNull(result);
       assertEquals(page, result.page());
-      assertTrue(result.hasNext()); // 현재 구현에서는 항상 true
+      assertFalse(result.hasNext());
       assertTrue(result.movieResponses().isEmpty());
     }
 
@@ -265,7 +421,8 @@ class MovieServiceTest {
     @ValueSource(ints = {1, 2, 5, 10})
     void test1002(int page) {
       // given
-      when(persistenceMoviePort.fetchBy(page, 10)).thenReturn(Collections.emptyList());
+      when(persistenceMoviePort.fetchSlice(page, 10))
+          .thenReturn(new MovieSlice(Collections.emptyList(), null));
 
       // when
       PageableMovieResponse result = sut.fetchFromDb(page);
@@ -273,7 +430,7 @@ class MovieServiceTest {
       // then
       assertNotNull(result);
       assertEquals(page, result.page());
-      verify(persistenceMoviePort).fetchBy(page, 10);
+      verify(persistenceMoviePort).fetchSlice(page, 10);
     }
 
     @DisplayName("성공: 여러 영화를 조회할 수 있다")
@@ -283,7 +440,7 @@ class MovieServiceTest {
       int page = 1;
       List<StreamFixMovie> movies =
           streamFixMoviesWithNames("DB Movie 1", "DB Movie 2", "DB Movie 3");
-      when(persistenceMoviePort.fetchBy(page, 10)).thenReturn(movies);
+      when(persistenceMoviePort.fetchSlice(page, 10)).thenReturn(new MovieSlice(movies, null));
 
       // when
       PageableMovieResponse result = sut.fetchFromDb(page);
@@ -303,7 +460,8 @@ class MovieServiceTest {
       int page = 1;
       String customMovieName = "Custom DB Movie";
       StreamFixMovie customMovie = aStreamFixMovieWithName(customMovieName);
-      when(persistenceMoviePort.fetchBy(page, 10)).thenReturn(List.of(customMovie));
+      when(persistenceMoviePort.fetchSlice(page, 10))
+          .thenReturn(new MovieSlice(List.of(customMovie), null));
 
       // when
       PageableMovieResponse result = sut.fetchFromDb(page);
@@ -320,7 +478,8 @@ class MovieServiceTest {
       // given
       int page = 1;
       StreamFixMovie adultMovie = anAdultStreamFixMovie();
-      when(persistenceMoviePort.fetchBy(page, 10)).thenReturn(List.of(adultMovie));
+      when(persistenceMoviePort.fetchSlice(page, 10))
+          .thenReturn(new MovieSlice(List.of(adultMovie), null));
 
       // when
       PageableMovieResponse result = sut.fetchFromDb(page);
@@ -340,7 +499,8 @@ class MovieServiceTest {
       int page = 1;
       String customGenre = "Mystery,Thriller,Crime";
       StreamFixMovie mysteryMovie = aStreamFixMovieWithGenre(customGenre);
-      when(persistenceMoviePort.fetchBy(page, 10)).thenReturn(List.of(mysteryMovie));
+      when(persistenceMoviePort.fetchSlice(page, 10))
+          .thenReturn(new MovieSlice(List.of(mysteryMovie), null));
 
       // when
       PageableMovieResponse result = sut.fetchFromDb(page);
@@ -352,6 +512,136 @@ class MovieServiceTest {
       assertEquals(DEFAULT_MOVIE_NAME, movieResponse.movieName());
       // DB에서는 장르가 빈 리스트로 반환되지만, 데이터는 저장됨을 확인
     }
+
+    @DisplayName("성공: 캐시에 페이지가 있으면 DB를 조회하지 않는다")
+    @Test
+    void test1007() {
+      // given
+      int page = 1;
+      when(movieCatalogCachePort.currentVersion()).thenReturn(3L);
+      when(movieCatalogCachePort.findPage(3L, page, 10))
+          .thenReturn(Optional.of(new MovieSlice(List.of(aStreamFixMovie()), null)));
+
+      // when
+      PageableMovieResponse result = sut.fetchFromDb(page);
+
+      // then
+      assertEquals(1, result.movieResponses().size());
+      verify(persistenceMoviePort, never()).fetchSlice(anyInt(), anyInt());
+      verify(movieCatalogCachePort, never()).savePage(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    @DisplayName("성공: 캐시 미스면 DB에서 조회한 페이지를 현재 버전으로 캐시에 저장한다")
+    @Test
+    void test1008() {
+      // given
+      int page = 1;
+      MovieSlice slice = new MovieSlice(List.of(aStreamFixMovie()), null);
+      when(movieCatalogCachePort.currentVersion()).thenReturn(3L);
+      when(persistenceMoviePort.fetchSlice(page, 10)).thenReturn(slice);
+
+      // when
+      sut.fetchFromDb(page);
+
+      // then
+      verify(movieCatalogCachePort).savePage(3L, page, 10, slice);
+    }
+
+    @DisplayName("성공: 다음 행이 있으면 hasNext 가 true 이다")
+    @Test
+    void test1009() {
+      // given
+      int page = 1;
+      when(persistenceMoviePort.fetchSlice(page, 10))
+          .thenReturn(
+              new MovieSlice(
+                  List.of(aStreamFixMovie()), new MovieCursor(DEFAULT_RELEASE_DATE, "movie-1")));
+
+      // when
+      PageableMovieResponse result = sut.fetchFromDb(page);
+
+      // then
+      assertTrue(result.hasNext());
+    }
+  }
+
+  @Nested
+  @DisplayName("fetchFromDb(continuationToken): keyset 페이지네이션 영화 조회")
+  class FetchFromDbByCursor {
+
+    @DisplayName("실패: 잘못된 continuationToken 이면 IllegalArgumentException을 던진다")
+    @Test
+    void test1() {
+      assertThrows(
+          IllegalArgumentException.class, () -> sut.fetchFromDb("!!invalid!!", 10, false));
+      verify(persistenceMoviePort, never()).fetchAfter(any(), anyInt());
+    }
+
+    @DisplayName("성공: 토큰이 없으면 첫 페이지를 조회하고 다음 커서를 토큰으로 돌려준다")
+    @Test
+    void test1000() {
+      // given
+      MovieCursor next = new MovieCursor(DEFAULT_RELEASE_DATE, "movie-10");
+      when(persistenceMoviePort.fetchAfter(null, 10))
+          .thenReturn(new MovieSlice(List.of(aStreamFixMovie()), next));
+
+      // when
+      PageableMovieResponse result = sut.fetchFromDb(null, 10, false);
+
+      // then
+      assertTrue(result.hasNext());
+      assertNotNull(result.continuationToken());
+      assertNull(result.totalCount());
+      verify(persistenceMoviePort, never()).count();
+    }
+
+    @DisplayName("성공: 돌려받은 토큰으로 요청하면 같은 커서 다음부터 조회한다")
+    @Test
+    void test1001() {
+      // given
+      MovieCursor next = new MovieCursor(null, "movie-10");
+      when(persistenceMoviePort.fetchAfter(null, 10))
+          .thenReturn(new MovieSlice(List.of(aStreamFixMovie()), next));
+      when(persistenceMoviePort.fetchAfter(next, 10)).thenReturn(new MovieSlice(List.of(), null));
+      String token = sut.fetchFromDb(null, 10, false).continuationToken();
+
+      // when
+      PageableMovieResponse result = sut.fetchFromDb(token, 10, false);
+
+      // then
+      assertFalse(result.hasNext());
+      assertNull(result.continuationToken());
+      verify(persistenceMoviePort).fetchAfter(next, 10);
+    }
+
+    @DisplayName("성공: withCount 이면 캐시된 전체 건수를 사용하고 없으면 DB에서 세어 저장한다")
+    @Test
+    void test1002() {
+      // given
+      when(persistenceMoviePort.fetchAfter(null, 10)).thenReturn(new MovieSlice(List.of(), null));
+      when(movieCatalogCachePort.currentVersion()).thenReturn(2L);
+      when(persistenceMoviePort.count()).thenReturn(42L);
+
+      // when
+      PageableMovieResponse result = sut.fetchFromDb(null, 10, true);
+
+      // then
+      assertEquals(42L, result.totalCount());
+      verify(movieCatalogCachePort).saveCount(2L, 42L);
+    }
+
+    @DisplayName("성공: size 는 1 ~ 100 범위로 보정된다")
+    @Test
+    void test1003() {
+      // given
+      when(persistenceMoviePort.fetchAfter(null, 100)).thenReturn(new MovieSlice(List.of(), null));
+
+      // when
+      sut.fetchFromDb(null, 1_000, false);
+
+      // then
+      verify(persistenceMoviePort).fetchAfter(null, 100);
+    }
   }
 
   @Nested
@@ -436,6 +726,56 @@ class MovieServiceTest {
       // then
       verify(persistenceMoviePort, times(2)).insert(any(StreamFixMovie.class));
     }
+
+    @DisplayName("성공: 영화를 저장하면 카탈로그 캐시를 무효화한다")
+    @Test
+    void test1004() {
+      // given
+      List<MovieResponse> movies = movieResponsesWithNames("Movie 1", "Movie 2");
+
+      // when
+      sut.insert(movies);
+
+      // then
+      verify(movieCatalogCachePort, times(1)).evictAll();
+    }
+  }
+
+  @Nested
+  @DisplayName("insertAll: 영화 일괄 저장")
+  class InsertAll {
+
+    @DisplayName("성공: 목록을 한 번에 저장하고 저장/중복 건수를 반환한다")
+    @Test
+    void test1000() {
+      // given
+      List<MovieResponse> movies = movieResponsesWithNames("Movie 1", "Movie 2", "Movie 1");
+      when(persistenceMoviePort.insertAll(anyList())).thenReturn(new MovieInsertResult(2, 1));
+
+      // when
+      InsertMovieResponse result = sut.insertAll(movies);
+
+      // then
+      assertEquals(2, result.inserted());
+      assertEquals(1, result.skipped());
+      verify(persistenceMoviePort).insertAll(argThat(it -> it.size() == 3));
+      verify(persistenceMoviePort, never()).insert(any(StreamFixMovie.class));
+      verify(movieCatalogCachePort).evictAll();
+    }
+
+    @DisplayName("성공: 새로 저장된 영화가 없으면 카탈로그 캐시를 유지한다")
+    @Test
+    void test1001() {
+      // given
+      List<MovieResponse> movies = movieResponsesWithNames("Movie 1");
+      when(persistenceMoviePort.insertAll(anyList())).thenReturn(new MovieInsertResult(0, 1));
+
+      // when
+      sut.insertAll(movies);
+
+      // then
+      verify(movieCatalogCachePort, never()).evictAll();
+    }
   }
 
   @Nested
@@ -443,7 +783,18 @@ class MovieServiceTest {
   class Download {
     final String userId = "user123";
     final String movieId = "movie123";
-    final String role = "ROLE_BRONZE";
+    final SubscriptionType type = SubscriptionType.BRONZE;
+    final QuotaPolicy policy = QuotaPolicy.daily(5);
+    final DownloadReservation reservation =
+        new DownloadReservation(userId, LocalDate.now(), "reservation-1", 0L);
+
+    @BeforeEach
+    void setUp() {
+      lenient().when(quotaPolicyRegistry.policyOf(type)).thenReturn(policy);
+      lenient()
+          .when(downloadQuotaPort.reserve(anyString(), any(QuotaPolicy.class), anyLong()))
+          .thenReturn(Optional.of(reservation));
+    }
 
     @DisplayName("실패: userId가 null이거나 빈 값이면 적절히 처리한다")
     @ParameterizedTest
@@ -455,41 +806,33 @@ class MovieServiceTest {
 
       // when & then
       assertThrows(
-          IllegalArgumentException.class, () -> sut.download(invalidUserId, role, movieId));
+          IllegalArgumentException.class, () -> sut.download(invalidUserId, type, movieId));
     }
 
-    @DisplayName("실패: 해당 role의 validator가 없으면 NoSuchElementException을 던진다")
+    @DisplayName("실패: 구독 등급이 없으면 NoSuchElementException을 던진다")
     @Test
     void test2() {
       // given
-      String unknownRole = "ROLE_UNKNOWN";
-      when(downloadMoviePort.downloadCntToday(userId)).thenReturn(0L);
-      when(validators.stream()).thenReturn(Stream.empty());
+      when(quotaPolicyRegistry.policyOf(null)).thenThrow(new NoSuchElementException());
 
       // when & then
-      assertThrows(NoSuchElementException.class, () -> sut.download(userId, unknownRole, movieId));
-      verify(downloadMoviePort).downloadCntToday(userId);
+      assertThrows(NoSuchElementException.class, () -> sut.download(userId, null, movieId));
+      verifyNoInteractions(downloadMoviePort);
     }
 
     @DisplayName("실패: 다운로드 횟수 제한에 걸리면 RuntimeException을 던진다")
     @Test
     void test3() {
       // given
-      UserDownloadMovieRoleValidator validator = mock(UserDownloadMovieRoleValidator.class);
-      when(validator.isTarget(role)).thenReturn(true);
-      when(validator.validate(5L)).thenReturn(false);
-
       when(downloadMoviePort.downloadCntToday(userId)).thenReturn(5L);
-      when(validators.stream()).thenReturn(Stream.of(validator));
 
       // when & then
       RuntimeException exception =
-          assertThrows(RuntimeException.class, () -> sut.download(userId, role, movieId));
+          assertThrows(RuntimeException.class, () -> sut.download(userId, type, movieId));
       assertEquals("더 이상 다운로드를 할 수 없습니다.", exception.getMessage());
 
       verify(downloadMoviePort).downloadCntToday(userId);
-      verify(validator).isTarget(role);
-      verify(validator).validate(5L);
+      verify(downloadQuotaPort, never()).reserve(anyString(), any(QuotaPolicy.class), anyLong());
       verify(persistenceMoviePort, never()).findBy(movieId);
     }
 
@@ -497,16 +840,11 @@ class MovieServiceTest {
     @Test
     void test4() {
       // given
-      UserDownloadMovieRoleValidator validator = mock(UserDownloadMovieRoleValidator.class);
-      when(validator.isTarget(role)).thenReturn(true);
-      when(validator.validate(0L)).thenReturn(true);
-
       when(downloadMoviePort.downloadCntToday(userId)).thenReturn(0L);
-      when(validators.stream()).thenReturn(Stream.of(validator));
       when(persistenceMoviePort.findBy(movieId)).thenThrow(new RuntimeException("Movie not found"));
 
       // when & then
-      assertThrows(RuntimeException.class, () -> sut.download(userId, role, movieId));
+      assertThrows(RuntimeException.class, () -> sut.download(userId, type, movieId));
       verify(persistenceMoviePort).findBy(movieId);
     }
 
@@ -514,113 +852,122 @@ class MovieServiceTest {
     @Test
     void test5() {
       // given
-      UserDownloadMovieRoleValidator validator = mock(UserDownloadMovieRoleValidator.class);
-      when(validator.isTarget(role)).thenReturn(true);
-      when(validator.validate(0L)).thenReturn(true);
-
       StreamFixMovie movie = aStreamFixMovie();
 
       when(downloadMoviePort.downloadCntToday(userId)).thenReturn(0L);
-      when(validators.stream()).thenReturn(Stream.of(validator));
       when(persistenceMoviePort.findBy(movieId)).thenReturn(movie);
       doThrow(new RuntimeException("Save failed"))
           .when(downloadMoviePort)
           .save(any(UserMovieDownload.class));
 
       // when & then
-      assertThrows(RuntimeException.class, () -> sut.download(userId, role, movieId));
+      assertThrows(RuntimeException.class, () -> sut.download(userId, type, movieId));
       verify(downloadMoviePort).save(any(UserMovieDownload.class));
     }
 
-    @DisplayName("성공: BRONZE 역할로 영화를 성공적으로 다운로드한다")
+    @DisplayName("실패: 동시 요청이나 시간당/동시 다운로드 한도로 예약에 실패하면 저장하지 않고 RuntimeException을 던진다")
     @Test
-    void test1000() {
+    void test6() {
       // given
-      UserDownloadMovieRoleValidator validator = mock(UserDownloadMovieRoleValidator.class);
-      when(validator.isTarget(role)).thenReturn(true);
-      when(validator.validate(2L)).thenReturn(true); // BRONZE는 5개 미만
+      when(downloadMoviePort.downloadCntToday(userId)).thenReturn(4L);
+      when(downloadQuotaPort.reserve(userId, policy, 4L)).thenReturn(Optional.empty());
 
+      // when & then
+      RuntimeException exception =
+          assertThrows(RuntimeException.class, () -> sut.download(userId, type, movieId));
+      assertEquals("더 이상 다운로드를 할 수 없습니다.", exception.getMessage());
+      verify(persistenceMoviePort, never()).findBy(movieId);
+      verify(downloadMoviePort, never()).save(any(UserMovieDownload.class));
+    }
+
+    @DisplayName("실패: 다운로드 저장에 실패하면 예약을 돌려준다")
+    @Test
+    void test7() {
+      // given
+      when(downloadMoviePort.downloadCntToday(userId)).thenReturn(0L);
+      when(persistenceMoviePort.findBy(movieId)).thenReturn(aStreamFixMovie());
+      doThrow(new RuntimeException("Save failed"))
+          .when(downloadMoviePort)
+          .save(any(UserMovieDownload.class));
+
+      // when & then
+      assertThrows(RuntimeException.class, () -> sut.download(userId, type, movieId));
+      verify(downloadQuotaPort).release(reservation);
+      verify(downloadQuotaPort, never()).commit(any());
+    }
+
+    @DisplayName("성공: BRONZE 등급으로 영화를 성공적으로 다운로드한다")
+    @Test
+    void test1000() {
+      // given
       StreamFixMovie movie = aStreamFixMovie();
 
       when(downloadMoviePort.downloadCntToday(userId)).thenReturn(2L);
-      when(validators.stream()).thenReturn(Stream.of(validator));
       when(persistenceMoviePort.findBy(movieId)).thenReturn(movie);
 
       // when
-      String result = sut.download(userId, role, movieId);
+      String result = sut.download(userId, type, movieId);
 
       // then
       assertEquals(DEFAULT_MOVIE_NAME, result);
       verify(downloadMoviePort).downloadCntToday(userId);
-      verify(validator).isTarget(role);
-      verify(validator).validate(2L);
+      verify(quotaPolicyRegistry).policyOf(type);
       verify(persistenceMoviePort).findBy(movieId);
       verify(downloadMoviePort).save(any(UserMovieDownload.class));
     }
 
-    @DisplayName("성공: SILVER 역할로 영화를 성공적으로 다운로드한다")
+    @DisplayName("성공: SILVER 등급은 SILVER 한도로 다운로드한다")
     @Test
     void test1001() {
       // given
-      String silverRole = "ROLE_SILVER";
-      UserDownloadMovieRoleValidator validator = mock(UserDownloadMovieRoleValidator.class);
-      when(validator.isTarget(silverRole)).thenReturn(true);
-      when(validator.validate(8L)).thenReturn(true); // SILVER는 10개 미만
+      QuotaPolicy silverPolicy = QuotaPolicy.daily(10);
+      when(quotaPolicyRegistry.policyOf(SubscriptionType.SILVER)).thenReturn(silverPolicy);
 
       StreamFixMovie movie = aStreamFixMovieWithName("Silver Movie");
 
       when(downloadMoviePort.downloadCntToday(userId)).thenReturn(8L);
-      when(validators.stream()).thenReturn(Stream.of(validator));
       when(persistenceMoviePort.findBy(movieId)).thenReturn(movie);
 
       // when
-      String result = sut.download(userId, silverRole, movieId);
+      String result = sut.download(userId, SubscriptionType.SILVER, movieId);
 
       // then
       assertEquals("Silver Movie", result);
-      verify(validator).isTarget(silverRole);
-      verify(validator).validate(8L);
+      verify(downloadQuotaPort).reserve(userId, silverPolicy, 8L);
     }
 
-    @DisplayName("성공: GOLD 역할로 무제한 다운로드가 가능하다")
+    @DisplayName("성공: GOLD 등급은 무제한이라 사용량을 세지 않고 Redis 도 거치지 않는다")
     @Test
     void test1002() {
       // given
-      String goldRole = "ROLE_GOLD";
-      UserDownloadMovieRoleValidator validator = mock(UserDownloadMovieRoleValidator.class);
-      when(validator.isTarget(goldRole)).thenReturn(true);
-      when(validator.validate(anyLong())).thenReturn(true); // GOLD는 무제한
+      when(quotaPolicyRegistry.policyOf(SubscriptionType.GOLD))
+          .thenReturn(QuotaPolicy.daily(QuotaPolicy.UNLIMITED));
 
       StreamFixMovie movie = aStreamFixMovieWithName("Gold Movie");
 
-      when(downloadMoviePort.downloadCntToday(userId)).thenReturn(100L); // 많은 다운로드 수
-      when(validators.stream()).thenReturn(Stream.of(validator));
       when(persistenceMoviePort.findBy(movieId)).thenReturn(movie);
 
       // when
-      String result = sut.download(userId, goldRole, movieId);
+      String result = sut.download(userId, SubscriptionType.GOLD, movieId);
 
       // then
       assertEquals("Gold Movie", result);
-      verify(validator).validate(100L);
+      verify(downloadMoviePort).save(any(UserMovieDownload.class));
+      verify(downloadMoviePort, never()).downloadCntToday(userId);
+      verifyNoInteractions(downloadCounterPort, downloadQuotaPort);
     }
 
     @DisplayName("성공: 성인 영화도 다운로드할 수 있다")
     @Test
     void test1003() {
       // given
-      UserDownloadMovieRoleValidator validator = mock(UserDownloadMovieRoleValidator.class);
-      when(validator.isTarget(role)).thenReturn(true);
-      when(validator.validate(1L)).thenReturn(true);
-
       StreamFixMovie adultMovie = anAdultStreamFixMovie();
 
       when(downloadMoviePort.downloadCntToday(userId)).thenReturn(1L);
-      when(validators.stream()).thenReturn(Stream.of(validator));
       when(persistenceMoviePort.findBy(movieId)).thenReturn(adultMovie);
 
       // when
-      String result = sut.download(userId, role, movieId);
+      String result = sut.download(userId, type, movieId);
 
       // then
       assertEquals(ADULT_MOVIE_NAME, result);
@@ -630,19 +977,14 @@ class MovieServiceTest {
     @Test
     void test1004() {
       // given
-      UserDownloadMovieRoleValidator validator = mock(UserDownloadMovieRoleValidator.class);
-      when(validator.isTarget(role)).thenReturn(true);
-      when(validator.validate(3L)).thenReturn(true);
-
       String customGenre = "Sci-Fi,Action,Adventure";
       StreamFixMovie sciFiMovie = aStreamFixMovieWithGenre(customGenre);
 
       when(downloadMoviePort.downloadCntToday(userId)).thenReturn(3L);
-      when(validators.stream()).thenReturn(Stream.of(validator));
       when(persistenceMoviePort.findBy(movieId)).thenReturn(sciFiMovie);
 
       // when
-      String result = sut.download(userId, role, movieId);
+      String result = sut.download(userId, type, movieId);
 
       // then
       assertEquals(DEFAULT_MOVIE_NAME, result);
@@ -650,6 +992,98 @@ class MovieServiceTest {
       verify(persistenceMoviePort).findBy(movieId);
       verify(downloadMoviePort).save(any(UserMovieDownload.class));
     }
+
+    @DisplayName("성공: 카운터에 당일 횟수가 있으면 DB 를 조회하지 않고, 카운터는 예약 확정으로만 올린다")
+    @Test
+    void test1005() {
+      // given
+      when(downloadCounterPort.countToday(userId)).thenReturn(OptionalLong.of(4L));
+      when(persistenceMoviePort.findBy(movieId)).thenReturn(aStreamFixMovie());
+
+      // when
+      sut.download(userId, type, movieId);
+
+      // then
+      verify(downloadMoviePort, never()).downloadCntToday(userId);
+      verify(downloadMoviePort).save(any(UserMovieDownload.class));
+      verify(downloadQuotaPort).commit(reservation);
+    }
+
+    @DisplayName("성공: 카운터에 당일 횟수가 없으면 DB 건수를 예약에 넘겨 카운터를 채우게 한다")
+    @Test
+    void test1006() {
+      // given
+      when(downloadCounterPort.countToday(userId)).thenReturn(OptionalLong.empty());
+      when(downloadMoviePort.downloadCntToday(userId)).thenReturn(2L);
+      when(persistenceMoviePort.findBy(movieId)).thenReturn(aStreamFixMovie());
+
+      // when
+      sut.download(userId, type, movieId);
+
+      // then
+      verify(downloadQuotaPort).reserve(userId, policy, 2L);
+    }
+
+    @DisplayName("성공: 등급별 한도로 예약하고 저장 후 예약을 확정한다")
+    @Test
+    void test1007() {
+      // given
+      when(downloadMoviePort.downloadCntToday(userId)).thenReturn(1L);
+      when(persistenceMoviePort.findBy(movieId)).thenReturn(aStreamFixMovie());
+
+      // when
+      sut.download(userId, type, movieId);
+
+      // then
+      verify(downloadQuotaPort).reserve(userId, policy, 1L);
+      verify(downloadQuotaPort).commit(reservation);
+      verify(downloadQuotaPort, never()).release(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("likeStatus: 영화 좋아요 여부 일괄 조회")
+  class LikeStatus {
+    final String userId = "user123";
+
+    @DisplayName("실패: 한 번에 조회할 수 있는 영화 수를 넘으면 IllegalArgumentException을 던진다")
+    @Test
+    void test1() {
+      // given
+      List<String> movieIds = Collections.nCopies(101, "movie123");
+
+      // when & then
+      assertThrows(IllegalArgumentException.class, () -> sut.likeStatus(userId, movieIds));
+      verifyNoInteractions(likeMoviePort);
+    }
+
+    @DisplayName("성공: 한 번의 포트 호출로 모든 영화의 좋아요 여부를 돌려준다")
+    @Test
+    void test1000() {
+      // given
+      List<String> movieIds = List.of("movie1", "movie2");
+      when(likeMoviePort.findLikeStatus(userId, movieIds))
+          .thenReturn(Map.of("movie1", true, "movie2", false));
+
+      // when
+      Map<String, Boolean> result = sut.likeStatus(userId, movieIds);
+
+      // then
+      assertEquals(Map.of("movie1", true, "movie2", false), result);
+      verify(likeMoviePort).findLikeStatus(userId, movieIds);
+      verify(likeMoviePort, never()).findByUserIdAndMovieId(anyString(), anyString());
+    }
+
+    @DisplayName("성공: 빈 목록이면 조회하지 않는다")
+    @Test
+    void test1001() {
+      // when
+      Map<String, Boolean> result = sut.likeStatus(userId, List.of());
+
+      // then
+      assertTrue(result.isEmpty());
+      verifyNoInteractions(likeMoviePort);
+    }
   }
 
   @Nested
@@ -694,23 +1128,9 @@ class MovieServiceTest {
       verify(likeMoviePort).findByUserIdAndMovieId(userId, movieId);
     }
 
-    @DisplayName("실패: 현재 구현 버그 - 처음 좋아요를 누르면 NoSuchElementException이 발생한다")
-    @Test
-    void test4() {
-      // given - 현재 구현의 버그를 테스트
-      when(likeMoviePort.findByUserIdAndMovieId(userId, movieId)).thenReturn(Optional.empty());
-
-      // when & then
-      // 현재 구현에서는 empty일 때도 get()을 호출하므로 예외가 발생함
-      assertThrows(NoSuchElementException.class, () -> sut.like(userId, movieId));
-
-      verify(likeMoviePort).findByUserIdAndMovieId(userId, movieId);
-      verify(likeMoviePort).save(any(UserMovieLike.class)); // 새 좋아요는 저장됨
-    }
-
     @DisplayName("실패: 좋아요 저장 중 DB 오류가 발생하면 관련 Exception을 던진다")
     @Test
-    void test5() {
+    void test4() {
       // given
       UserMovieLike existingLike = mock(UserMovieLike.class);
       when(likeMoviePort.findByUserIdAndMovieId(userId, movieId))
@@ -758,6 +1178,26 @@ class MovieServiceTest {
       verify(existingLike).like();
       verify(likeMoviePort).save(existingLike);
     }
+
+    @DisplayName("성공: 처음 좋아요를 누르면 새 좋아요를 한 번만 저장한다")
+    @Test
+    void test1002() {
+      // given
+      when(likeMoviePort.findByUserIdAndMovieId(userId, movieId)).thenReturn(Optional.empty());
+
+      // when
+      sut.like(userId, movieId);
+
+      // then
+      verify(likeMoviePort, times(1)).save(any(UserMovieLike.class));
+      verify(likeMoviePort)
+          .save(
+              argThat(
+                  like ->
+                      userId.equals(like.getUserId())
+                          && movieId.equals(like.getMovieId())
+                          && Boolean.TRUE.equals(like.getLikeYn())));
+    }
   }
 
   @Nested
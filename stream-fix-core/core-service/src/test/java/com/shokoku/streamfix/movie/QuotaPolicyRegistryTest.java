@@ -0,0 +1,96 @@
+package com.shokoku.streamfix.movie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shokoku.streamfix.subscription.QuotaPolicy;
+import com.shokoku.streamfix.subscription.SubscriptionType;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class QuotaPolicyRegistryTest {
+
+  private MockEnvironment environment;
+
+  @BeforeEach
+  void setUp() {
+    environment = new MockEnvironment();
+  }
+
+  @Nested
+  @DisplayName("policyOf: 등급별 한도 조회")
+  class PolicyOf {
+
+    @DisplayName("실패: 구독 등급이 없으면 NoSuchElementException을 던진다")
+    @Test
+    void test1() {
+      // given
+      QuotaPolicyRegistry sut = new QuotaPolicyRegistry(environment);
+
+      // when & then
+      assertThrows(NoSuchElementException.class, () -> sut.policyOf(null));
+    }
+
+    @DisplayName("성공: 설정이 없으면 기존 등급별 당일 한도를 쓴다")
+    @Test
+    void test1000() {
+      // given
+      QuotaPolicyRegistry sut = new QuotaPolicyRegistry(environment);
+
+      // when & then
+      assertEquals(0, sut.policyOf(SubscriptionType.FREE).dailyLimit());
+      assertEquals(5, sut.policyOf(SubscriptionType.BRONZE).dailyLimit());
+      assertEquals(10, sut.policyOf(SubscriptionType.SILVER).dailyLimit());
+      assertEquals(QuotaPolicy.UNLIMITED, sut.policyOf(SubscriptionType.GOLD).dailyLimit());
+      assertFalse(sut.policyOf(SubscriptionType.BRONZE).isRateLimited());
+    }
+
+    @DisplayName("성공: 설정한 항목만 덮어쓰고 음수는 무제한으로 본다")
+    @Test
+    void test1001() {
+      // given
+      environment
+          .withProperty(QuotaPolicyRegistry.PREFIX + ".bronze.hourly-limit", "2")
+          .withProperty(QuotaPolicyRegistry.PREFIX + ".bronze.burst", "3")
+          .withProperty(QuotaPolicyRegistry.PREFIX + ".silver.daily-limit", "-1");
+
+      // when
+      QuotaPolicyRegistry sut = new QuotaPolicyRegistry(environment);
+
+      // then
+      assertEquals(
+          new QuotaPolicy(5, 2, 3, QuotaPolicy.UNLIMITED), sut.policyOf(SubscriptionType.BRONZE));
+      assertEquals(QuotaPolicy.UNLIMITED, sut.policyOf(SubscriptionType.SILVER).dailyLimit());
+    }
+  }
+
+  @Nested
+  @DisplayName("override/reload: 재시작 없이 한도 변경")
+  class OverrideAndReload {
+
+    @DisplayName("성공: override 한 한도는 바로 적용되고 reload 하면 설정값으로 돌아간다")
+    @Test
+    void test1000() {
+      // given
+      QuotaPolicyRegistry sut = new QuotaPolicyRegistry(environment);
+      QuotaPolicy overridden = new QuotaPolicy(1, 1, 1, 1);
+
+      // when
+      sut.override(SubscriptionType.BRONZE, overridden);
+
+      // then
+      assertEquals(overridden, sut.policyOf(SubscriptionType.BRONZE));
+      assertEquals(10, sut.policyOf(SubscriptionType.SILVER).dailyLimit());
+
+      // when
+      environment.setProperty(QuotaPolicyRegistry.PREFIX + ".bronze.daily-limit", "7");
+      sut.reload();
+
+      // then
+      assertEquals(7, sut.policyOf(SubscriptionType.BRONZE).dailyLimit());
+    }
+  }
+}
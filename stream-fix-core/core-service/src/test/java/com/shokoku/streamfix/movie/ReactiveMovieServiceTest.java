@@ -0,0 +1,184 @@
+package com.shokoku.streamfix.movie;
+
+import static com.shokoku.streamfix.fixtures.MovieFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveMovieServiceTest {
+
+  @InjectMocks ReactiveMovieService sut;
+
+  @Mock ReactiveTmdbMoviePort reactiveTmdbMoviePort;
+  @Mock ReactiveMovieCatalogCachePort reactiveMovieCatalogCachePort;
+  @Mock MovieCatalogCachePort movieCatalogCachePort;
+  @Mock PersistenceMoviePort persistenceMoviePort;
+  @Mock TmdbPageCachePort tmdbPageCachePort;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(sut, "defaultMaxAgeSeconds", 60L);
+    ReflectionTestUtils.setField(sut, "defaultStaleWhileRevalidateSeconds", 300L);
+  }
+
+  @Nested
+  @DisplayName("fetchFromClient: 외부 클라이언트에서 영화 조회")
+  class FetchFromClient {
+
+    @DisplayName("실패: 외부 API 호출 중 오류가 발생하면 에러 신호를 그대로 전달한다")
+    @Test
+    void test1() {
+      // given
+      when(reactiveTmdbMoviePort.fetchPageable(1))
+          .thenReturn(Mono.error(new RuntimeException("TMDB API 서버 오류")));
+
+      // when & then
+      assertThrows(RuntimeException.class, () -> sut.fetchFromClient(1).block());
+    }
+
+    @DisplayName("성공: 외부 클라이언트에서 가져온 영화 목록을 응답으로 변환한다")
+    @Test
+    void test1000() {
+      // given
+      when(reactiveTmdbMoviePort.fetchPageable(1)).thenReturn(Mono.just(aTmdbPageableMovies()));
+
+      // when
+      PageableMovieResponse result = sut.fetchFromClient(1).block();
+
+      // then
+      assertNotNull(result);
+      assertEquals(1, result.movieResponses().size());
+      assertEquals(DEFAULT_MOVIE_NAME, result.movieResponses().get(0).movieName());
+      assertEquals(DEFAULT_PAGE, result.page());
+    }
+
+    @DisplayName("성공: 캐시된 페이지가 fresh 면 TMDB 를 호출하지 않는다")
+    @Test
+    void test1001() {
+      // given
+      when(tmdbPageCachePort.find(1))
+          .thenReturn(Optional.of(cachedPage(System.currentTimeMillis())));
+
+      // when
+      PageableMovieResponse result = sut.fetchFromClient(1).block();
+
+      // then
+      assertNotNull(result);
+      assertEquals(DEFAULT_MOVIE_NAME, result.movieResponses().get(0).movieName());
+      verifyNoInteractions(reactiveTmdbMoviePort);
+    }
+
+    @DisplayName("성공: TMDB 에서 받은 페이지를 blocking 경로와 같은 페이지 캐시에 저장한다")
+    @Test
+    void test1002() {
+      // given
+      TmdbPageableMovies movies = aTmdbPageableMovies();
+      when(reactiveTmdbMoviePort.fetchPageable(1)).thenReturn(Mono.just(movies));
+
+      // when
+      sut.fetchFromClient(1).block();
+
+      // then
+      verify(tmdbPageCachePort)
+          .save(
+              eq(1),
+              argThat(
+                  cached ->
+                      cached.movies() == movies
+                          && cached.etag() == null
+                          && cached.isFresh(System.currentTimeMillis())));
+    }
+
+    @DisplayName("성공: 캐시된 페이지가 stale 이고 TMDB 호출이 실패하면 남아 있는 페이지를 반환한다")
+    @Test
+    void test1003() {
+      // given
+      long twoMinutesAgo = System.currentTimeMillis() - 120_000;
+      when(tmdbPageCachePort.find(1)).thenReturn(Optional.of(cachedPage(twoMinutesAgo)));
+      when(reactiveTmdbMoviePort.fetchPageable(1))
+          .thenReturn(Mono.error(new RuntimeException("TMDB API 서버 오류")));
+
+      // when
+      PageableMovieResponse result = sut.fetchFromClient(1).block();
+
+      // then
+      assertNotNull(result);
+      assertEquals(DEFAULT_MOVIE_NAME, result.movieResponses().get(0).movieName());
+      verify(tmdbPageCachePort, never()).save(anyInt(), any());
+    }
+  }
+
+  @Nested
+  @DisplayName("fetchFromDb: DB 영화 목록 조회")
+  class FetchFromDb {
+
+    @DisplayName("실패: 캐시에 없고 DB 조회도 실패하면 캐시에 저장하지 않는다")
+    @Test
+    void test1() {
+      // given
+      when(reactiveMovieCatalogCachePort.currentVersion()).thenReturn(Mono.just(3L));
+      when(reactiveMovieCatalogCachePort.findPage(3L, 1, 10)).thenReturn(Mono.empty());
+      when(persistenceMoviePort.fetchSlice(1, 10)).thenThrow(new RuntimeException("DB 오류"));
+
+      // when & then
+      assertThrows(RuntimeException.class, () -> sut.fetchFromDb(1).block());
+      verify(movieCatalogCachePort, never()).savePage(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    @DisplayName("성공: 캐시에 있으면 DB 를 조회하지 않는다")
+    @Test
+    void test1000() {
+      // given
+      MovieSlice cached = new MovieSlice(List.of(aStreamFixMovie()), null);
+      when(reactiveMovieCatalogCachePort.currentVersion()).thenReturn(Mono.just(3L));
+      when(reactiveMovieCatalogCachePort.findPage(3L, 1, 10)).thenReturn(Mono.just(cached));
+
+      // when
+      PageableMovieResponse result = sut.fetchFromDb(1).block();
+
+      // then
+      assertNotNull(result);
+      assertEquals(1, result.movieResponses().size());
+      assertFalse(result.hasNext());
+      verifyNoInteractions(persistenceMoviePort);
+    }
+
+    @DisplayName("성공: 캐시에 없으면 DB 에서 읽어 같은 버전으로 캐시에 채운다")
+    @Test
+    void test1001() {
+      // given
+      MovieSlice slice =
+          new MovieSlice(List.of(aStreamFixMovie()), new MovieCursor("2024-01-01", "movie-1"));
+      when(reactiveMovieCatalogCachePort.currentVersion()).thenReturn(Mono.just(3L));
+      when(reactiveMovieCatalogCachePort.findPage(3L, 1, 10)).thenReturn(Mono.empty());
+      when(persistenceMoviePort.fetchSlice(1, 10)).thenReturn(slice);
+
+      // when
+      PageableMovieResponse result = sut.fetchFromDb(1).block();
+
+      // then
+      assertNotNull(result);
+      assertTrue(result.hasNext());
+      verify(movieCatalogCachePort).savePage(3L, 1, 10, slice);
+    }
+  }
+
+  private static TmdbCachedPage cachedPage(long fetchedAtMillis) {
+    return new TmdbCachedPage(aTmdbPageableMovies(), "\"etag-1\"", fetchedAtMillis, 60, 300);
+  }
+}
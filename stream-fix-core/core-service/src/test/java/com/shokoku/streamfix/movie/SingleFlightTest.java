@@ -0,0 +1,84 @@
+package com.shokoku.streamfix.movie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  @Nested
+  @DisplayName("execute: 동일 키 로딩 병합")
+  class Execute {
+
+    @DisplayName("실패: loader 에서 발생한 예외를 그대로 던지고 다음 호출은 다시 loader 를 실행한다")
+    @Test
+    void test1() {
+      // given
+      SingleFlight<String, String> sut = new SingleFlight<>();
+
+      // when & then
+      assertThrows(
+          IllegalStateException.class,
+          () ->
+              sut.execute(
+                  "key",
+                  () -> {
+                    throw new IllegalStateException("DB 조회 실패");
+                  }));
+      assertEquals("value", sut.execute("key", () -> "value"));
+    }
+
+    @DisplayName("성공: 같은 키로 동시에 호출하면 loader 는 한 번만 실행된다")
+    @Test
+    void test1000() throws Exception {
+      // given
+      SingleFlight<String, String> sut = new SingleFlight<>();
+      AtomicInteger loads = new AtomicInteger();
+      CountDownLatch release = new CountDownLatch(1);
+      int callers = 8;
+
+      // when
+      List<Future<String>> results = new ArrayList<>();
+      try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+        for (int i = 0; i < callers; i++) {
+          results.add(
+              executor.submit(
+                  () ->
+                      sut.execute(
+                          "page:1",
+                          () -> {
+                            loads.incrementAndGet();
+                            await(release);
+                            return "movies";
+                          })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+          assertEquals("movies", result.get(5, TimeUnit.SECONDS));
+        }
+      }
+      assertEquals(1, loads.get());
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
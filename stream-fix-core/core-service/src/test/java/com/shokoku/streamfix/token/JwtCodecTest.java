@@ -0,0 +1,102 @@
+package com.shokoku.streamfix.token;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shokoku.streamfix.support.JwtTestHelper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class JwtCodecTest {
+
+  static final String OLD_SECRET = JwtTestHelper.TEST_SECRET;
+  static final String NEW_SECRET =
+      "bmV3U2VjcmV0S2V5Rm9yVGVzdGluZ1B1cnBvc2VPbmx5QXRMZWFzdDI1NkJpdHM=";
+
+  @Nested
+  @DisplayName("verify: 토큰 서명 검증")
+  class Verify {
+
+    @DisplayName("실패: 등록되지 않은 kid 로 서명된 토큰이면 SignatureException을 던진다")
+    @Test
+    void test1() {
+      // given
+      String token = new JwtCodec(OLD_SECRET, "k1", List.of()).sign("user", Duration.ofHours(1));
+      JwtCodec sut = new JwtCodec(NEW_SECRET, "k2", List.of());
+
+      // when & then
+      assertThrows(SignatureException.class, () -> sut.verify(token));
+    }
+
+    @DisplayName("실패: previous-keys 형식이 잘못되면 IllegalArgumentException을 던진다")
+    @Test
+    void test2() {
+      assertThrows(
+          IllegalArgumentException.class, () -> new JwtCodec(NEW_SECRET, "k2", List.of(OLD_SECRET)));
+    }
+
+    @DisplayName("실패: 만료된 토큰이면 verify는 ExpiredJwtException을 던지고 verifyAllowExpired는 Claims를 반환한다")
+    @Test
+    void test3() {
+      // given
+      JwtCodec sut = new JwtCodec(OLD_SECRET, "default", List.of());
+      String expiredToken = JwtTestHelper.generateExpiredToken("user");
+
+      // when & then
+      assertThrows(ExpiredJwtException.class, () -> sut.verify(expiredToken));
+      assertEquals("user", sut.verifyAllowExpired(expiredToken).get("userId"));
+    }
+
+    @DisplayName("성공: 키 교체 후에도 이전 kid 로 서명된 토큰을 검증한다")
+    @Test
+    void test1000() {
+      // given
+      String token = new JwtCodec(OLD_SECRET, "k1", List.of()).sign("user", Duration.ofHours(1));
+      JwtCodec sut = new JwtCodec(NEW_SECRET, "k2", List.of("k1:" + OLD_SECRET));
+
+      // when
+      Claims claims = sut.verify(token);
+
+      // then
+      assertEquals("user", claims.get("userId"));
+    }
+
+    @DisplayName("성공: kid 가 없는 기존 토큰은 현재 키로 검증한다")
+    @Test
+    void test1001() {
+      // given
+      JwtCodec sut = new JwtCodec(OLD_SECRET, "k1", List.of());
+      String legacyToken = JwtTestHelper.generateValidToken("user");
+
+      // when
+      Claims claims = sut.verify(legacyToken);
+
+      // then
+      assertEquals("user", claims.get("userId"));
+    }
+  }
+
+  @Nested
+  @DisplayName("sign: 토큰 서명")
+  class Sign {
+
+    @DisplayName("성공: 현재 kid 를 헤더에 담아 서명한다")
+    @Test
+    void test1000() {
+      // given
+      JwtCodec sut = new JwtCodec(NEW_SECRET, "k2", List.of());
+
+      // when
+      String token = sut.sign("user", Duration.ofHours(3));
+
+      // then
+      assertEquals("user", sut.verify(token).get("userId"));
+      assertNotNull(sut.verify(token).getExpiration());
+    }
+  }
+}
@@ -7,11 +7,15 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 import com.shokoku.streamfix.fixtures.UserFixtures;
+import com.shokoku.streamfix.subscription.UserSubscriptionChangedEvent;
 import com.shokoku.streamfix.support.JwtTestHelper;
 import com.shokoku.streamfix.user.FetchUserUseCase;
 import com.shokoku.streamfix.user.response.UserResponse;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -33,10 +37,12 @@ class TokenServiceTest {
   @Mock UpdateTokenPort updateTokenPort;
   @Mock SearchTokenPort searchTokenPort;
   @Mock KakaoTokenPort kakaoTokenPort;
+  @Mock TokenAuthenticationCache tokenAuthenticationCache;
 
   @BeforeEach
   void setUp() {
-    ReflectionTestUtils.setField(sut, "secretKey", JwtTestHelper.TEST_SECRET);
+    ReflectionTestUtils.setField(
+        sut, "jwtCodec", new JwtCodec(JwtTestHelper.TEST_SECRET, "default", List.of()));
   }
 
   @Nested
@@ -52,14 +58,10 @@ class TokenServiceTest {
       assertThrows(IllegalArgumentException.class, () -> sut.createNewToken(invalidUserId));
     }
 
-    @DisplayName("실패: secretKey가 설정되지 않으면 IllegalArgumentException을 던진다")
+    @DisplayName("실패: secretKey가 설정되지 않으면 JwtCodec 생성 시 IllegalArgumentException을 던진다")
     @Test
     void test2() {
-      // given
-      ReflectionTestUtils.setField(sut, "secretKey", null);
-
-      // when & then
-      assertThrows(IllegalArgumentException.class, () -> sut.createNewToken(userId));
+      assertThrows(IllegalArgumentException.class, () -> new JwtCodec(null, "default", List.of()));
     }
 
     @DisplayName("실패: 토큰 저장 중 DB 오류가 발생하면 관련 Exception을 던진다")
@@ -287,6 +289,93 @@ class TokenServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("authenticate: 토큰 검증 후 사용자 조회 (캐시)")
+  class Authenticate {
+
+    @Mock private FetchUserUseCase fetchUserUseCase;
+
+    TokenAuthenticationCache cache;
+
+    @BeforeEach
+    void setUpCache() {
+      cache = new TokenAuthenticationCache(100, new SimpleMeterRegistry());
+      ReflectionTestUtils.setField(sut, "fetchUserUseCase", fetchUserUseCase);
+      ReflectionTestUtils.setField(sut, "tokenAuthenticationCache", cache);
+    }
+
+    @DisplayName("실패: 토큰이 만료되었으면 ExpiredJwtException을 던지고 캐시하지 않는다")
+    @Test
+    void test1() {
+      String expiredToken = anExpiredJwtTokenForUser(DEFAULT_PROVIDER_ID);
+
+      assertThrows(ExpiredJwtException.class, () -> sut.authenticate(expiredToken));
+      assertTrue(cache.get(expiredToken).isEmpty());
+      verifyNoInteractions(fetchUserUseCase);
+    }
+
+    @DisplayName("실패: 서명이 잘못되었으면 SignatureException을 던진다")
+    @Test
+    void test2() {
+      String wrongSignatureToken = JwtTestHelper.generateTokenWithWrongSecret(DEFAULT_PROVIDER_ID);
+
+      assertThrows(SignatureException.class, () -> sut.authenticate(wrongSignatureToken));
+    }
+
+    @DisplayName("성공: 같은 토큰으로 다시 요청하면 사용자 조회 없이 캐시에서 반환한다")
+    @Test
+    void test1000() {
+      // given
+      String validToken = aValidJwtTokenForUser(DEFAULT_PROVIDER_ID);
+      UserResponse mockUser = UserFixtures.aUserResponseWithProviderId(DEFAULT_PROVIDER_ID);
+      when(fetchUserUseCase.findByProviderId(DEFAULT_PROVIDER_ID)).thenReturn(mockUser);
+
+      // when
+      UserResponse first = sut.authenticate(validToken);
+      UserResponse second = sut.authenticate(validToken);
+
+      // then
+      assertEquals(mockUser, first);
+      assertEquals(mockUser, second);
+      verify(fetchUserUseCase, times(1)).findByProviderId(DEFAULT_PROVIDER_ID);
+    }
+
+    @DisplayName("성공: 토큰이 재발급되면 캐시가 무효화되어 사용자를 다시 조회한다")
+    @Test
+    void test1001() {
+      // given
+      String validToken = aValidJwtTokenForUser(DEFAULT_PROVIDER_ID);
+      UserResponse mockUser = UserFixtures.aUserResponseWithProviderId(DEFAULT_PROVIDER_ID);
+      when(fetchUserUseCase.findByProviderId(DEFAULT_PROVIDER_ID)).thenReturn(mockUser);
+      when(searchTokenPort.findByUserId(DEFAULT_PROVIDER_ID))
+          .thenReturn(aTokenPortResponseWith("oldAccessToken", "oldRefreshToken"));
+      sut.authenticate(validToken);
+
+      // when
+      sut.upsertToken(DEFAULT_PROVIDER_ID);
+      sut.authenticate(validToken);
+
+      // then
+      verify(fetchUserUseCase, times(2)).findByProviderId(DEFAULT_PROVIDER_ID);
+    }
+
+    @DisplayName("성공: 구독이 변경되면 해당 사용자의 캐시가 무효화된다")
+    @Test
+    void test1002() {
+      // given
+      String validToken = aValidJwtTokenForUser(DEFAULT_PROVIDER_ID);
+      UserResponse mockUser = UserFixtures.aUserResponseWithProviderId(DEFAULT_PROVIDER_ID);
+      when(fetchUserUseCase.findByProviderId(DEFAULT_PROVIDER_ID)).thenReturn(mockUser);
+      sut.authenticate(validToken);
+
+      // when
+      cache.onSubscriptionChanged(new UserSubscriptionChangedEvent(mockUser.userId()));
+
+      // then
+      assertTrue(cache.get(validToken).isEmpty());
+    }
+  }
+
   @Nested
   @DisplayName("upsertToken: 토큰 생성 또는 업데이트")
   class UpsertToken {
@@ -0,0 +1,205 @@
+package com.shokoku.streamfix.user;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserAuditHistoryWriterTest {
+
+  @Mock UserHistoryPort userHistoryPort;
+
+  static UserAuditHistory aHistory(String userId) {
+    return UserAuditHistory.builder()
+        .userId(userId)
+        .userRole("ROLE_FREE")
+        .clientIp("127.0.0.1")
+        .reqMethod("GET")
+        .reqUrl("/api/v1/movie/search")
+        .reqHeader("{}")
+        .reqPayload("payload")
+        .requestedAt(LocalDateTime.now())
+        .build();
+  }
+
+  @Nested
+  @DisplayName("UserAuditHistoryRingBuffer: 링 버퍼 적재/소비")
+  class RingBuffer {
+
+    @DisplayName("실패: 용량이 0 이하이면 IllegalArgumentException을 던진다")
+    @Test
+    void test1() {
+      assertThrows(IllegalArgumentException.class, () -> new UserAuditHistoryRingBuffer(0));
+    }
+
+    @DisplayName("실패: 버퍼가 가득 차면 offer가 false를 반환한다")
+    @Test
+    void test2() {
+      UserAuditHistoryRingBuffer buffer = new UserAuditHistoryRingBuffer(4);
+
+      for (int i = 0; i < 4; i++) {
+        assertTrue(buffer.offer(aHistory("user" + i)));
+      }
+
+      assertFalse(buffer.offer(aHistory("overflow")));
+      assertEquals(4, buffer.size());
+    }
+
+    @DisplayName("성공: 용량은 2의 거듭제곱으로 올림된다")
+    @Test
+    void test1000() {
+      assertEquals(8, new UserAuditHistoryRingBuffer(5).capacity());
+      assertEquals(1024, new UserAuditHistoryRingBuffer(1000).capacity());
+    }
+
+    @DisplayName("성공: 적재한 순서대로 꺼내고 비면 null을 반환한다")
+    @Test
+    void test1001() {
+      UserAuditHistoryRingBuffer buffer = new UserAuditHistoryRingBuffer(4);
+      buffer.offer(aHistory("first"));
+      buffer.offer(aHistory("second"));
+
+      assertEquals("first", buffer.poll().userId());
+      assertEquals("second", buffer.poll().userId());
+      assertNull(buffer.poll());
+    }
+
+    @DisplayName("성공: 여러 스레드가 동시에 적재해도 유실 없이 모두 꺼낼 수 있다")
+    @Test
+    void test1002() throws InterruptedException {
+      int producers = 8;
+      int perProducer = 1_000;
+      UserAuditHistoryRingBuffer buffer = new UserAuditHistoryRingBuffer(producers * perProducer);
+      CountDownLatch latch = new CountDownLatch(producers);
+
+      try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+        for (int p = 0; p < producers; p++) {
+          executor.submit(
+              () -> {
+                for (int i = 0; i < perProducer; i++) {
+                  buffer.offer(aHistory("user"));
+                }
+                latch.countDown();
+              });
+        }
+        latch.await();
+      }
+
+      List<UserAuditHistory> drained = new ArrayList<>();
+      buffer.drainTo(drained, Integer.MAX_VALUE);
+      assertEquals(producers * perProducer, drained.size());
+    }
+  }
+
+  @Nested
+  @DisplayName("enqueue: 감사 이력 비동기 배치 적재")
+  class Enqueue {
+
+    @DisplayName("실패: DROP 정책에서 버퍼가 가득 차면 이력을 버리고 dropped 메트릭을 올린다")
+    @Test
+    void test1() {
+      SimpleMeterRegistry registry = new SimpleMeterRegistry();
+      UserAuditHistoryWriter sut =
+          new UserAuditHistoryWriter(
+              userHistoryPort, registry, 2, 10, 10, AuditBackpressurePolicy.DROP, 10, 0);
+
+      for (int i = 0; i < 3; i++) {
+        sut.enqueue(aHistory("user" + i));
+      }
+
+      assertEquals(
+          1.0, registry.get("streamfix.audit.dropped").tag("reason", "full").counter().count());
+      assertEquals(2.0, registry.get("streamfix.audit.queue.depth").gauge().value());
+      verifyNoInteractions(userHistoryPort);
+    }
+
+    @DisplayName("성공: writer 스레드가 batch-size 단위로 묶어 저장하고 종료 시 남은 이력을 flush 한다")
+    @Test
+    void test1000() {
+      SimpleMeterRegistry registry = new SimpleMeterRegistry();
+      AtomicInteger saved = new AtomicInteger();
+      List<Integer> batchSizes = new ArrayList<>();
+      doAnswer(
+              invocation -> {
+                List<UserAuditHistory> histories = invocation.getArgument(0);
+                batchSizes.add(histories.size());
+                saved.addAndGet(histories.size());
+                return null;
+              })
+          .when(userHistoryPort)
+          .createAll(anyList());
+
+      UserAuditHistoryWriter sut =
+          new UserAuditHistoryWriter(
+              userHistoryPort, registry, 64, 5, 10, AuditBackpressurePolicy.BLOCK, 10, 50);
+      sut.start();
+      for (int i = 0; i < 12; i++) {
+        sut.enqueue(aHistory("user" + i));
+      }
+      sut.stop();
+
+      assertEquals(12, saved.get());
+      assertTrue(batchSizes.stream().allMatch(size -> size <= 5));
+      assertEquals(12.0, registry.get("streamfix.audit.flushed").counter().count());
+      assertFalse(sut.isRunning());
+    }
+
+    @DisplayName("성공: 저장 중 예외가 발생해도 writer는 멈추지 않고 failed 메트릭을 올린다")
+    @Test
+    void test1001() {
+      SimpleMeterRegistry registry = new SimpleMeterRegistry();
+      doThrow(new RuntimeException("DB 저장 실패")).when(userHistoryPort).createAll(anyList());
+
+      UserAuditHistoryWriter sut =
+          new UserAuditHistoryWriter(
+              userHistoryPort, registry, 64, 2, 10, AuditBackpressurePolicy.DROP, 10, 0);
+      sut.start();
+      sut.enqueue(aHistory("user1"));
+      sut.enqueue(aHistory("user2"));
+      sut.stop();
+
+      assertEquals(2.0, registry.get("streamfix.audit.failed").counter().count());
+    }
+
+    @DisplayName("성공: 가상 스레드 모드면 writer 를 가상 스레드로 띄운다")
+    @Test
+    void test1002() {
+      SimpleMeterRegistry registry = new SimpleMeterRegistry();
+      List<Boolean> flushedOnVirtualThread = new ArrayList<>();
+      doAnswer(
+              invocation -> {
+                flushedOnVirtualThread.add(Thread.currentThread().isVirtual());
+                return null;
+              })
+          .when(userHistoryPort)
+          .createAll(anyList());
+
+      UserAuditHistoryWriter sut =
+          new UserAuditHistoryWriter(
+              userHistoryPort, registry, 64, 2, 10, AuditBackpressurePolicy.DROP, 10, 0);
+      ReflectionTestUtils.setField(sut, "virtualThreads", true);
+      sut.start();
+      sut.enqueue(aHistory("user1"));
+      sut.enqueue(aHistory("user2"));
+      sut.stop();
+
+      assertEquals(List.of(true), flushedOnVirtualThread);
+    }
+  }
+}
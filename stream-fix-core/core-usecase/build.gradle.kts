@@ -7,4 +7,6 @@ plugins {
 dependencies {
     implementation(project(":stream-fix-core:core-domain"))
     implementation(project(":stream-fix-core:core-port"))
+
+    implementation("io.projectreactor:reactor-core:_")
 }
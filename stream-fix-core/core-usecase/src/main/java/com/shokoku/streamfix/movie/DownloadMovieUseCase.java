@@ -1,6 +1,8 @@
 package com.shokoku.streamfix.movie;
 
+import com.shokoku.streamfix.subscription.SubscriptionType;
+
 public interface DownloadMovieUseCase {
 
-  String download(String userId, String role, String movieId);
+  String download(String userId, SubscriptionType subscriptionType, String movieId);
 }
@@ -1,10 +1,23 @@
 package com.shokoku.streamfix.movie;
 
+import com.shokoku.streamfix.movie.response.AggregatedMovieResponse;
 import com.shokoku.streamfix.movie.response.PageableMovieResponse;
 
 public interface FetchMovieUseCase {
 
   PageableMovieResponse fetchFromClient(int page);
 
+  /**
+   * fromPage 부터 toPage 까지의 TMDB 페이지를 동시에 조회해 합친다. 같은 영화는 한 번만 담는다.
+   *
+   * <p>deadline 을 넘긴 페이지는 기다리지 않고 나머지로 응답한다.
+   */
+  AggregatedMovieResponse fetchFromClient(int fromPage, int toPage);
+
+  /** 배치용 조회. TMDB 호출 시 사용자 요청보다 낮은 우선순위로 처리량을 나눠 쓴다. */
+  PageableMovieResponse fetchFromClientForBatch(int page);
+
   PageableMovieResponse fetchFromDb(int page);
+
+  PageableMovieResponse fetchFromDb(String continuationToken, int size, boolean withCount);
 }
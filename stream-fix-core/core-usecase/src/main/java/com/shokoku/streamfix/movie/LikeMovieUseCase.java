@@ -1,5 +1,11 @@
 package com.shokoku.streamfix.movie;
 
+import java.util.List;
+import java.util.Map;
+
 public interface LikeMovieUseCase {
   void like(String userId, String movieId);
+
+  /** 목록 한 페이지 분량의 영화에 대해 사용자의 좋아요 여부를 한 번에 조회한다. */
+  Map<String, Boolean> likeStatus(String userId, List<String> movieIds);
 }
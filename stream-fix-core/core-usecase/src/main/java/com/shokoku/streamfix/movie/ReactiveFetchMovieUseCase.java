@@ -0,0 +1,12 @@
+package com.shokoku.streamfix.movie;
+
+import com.shokoku.streamfix.movie.response.PageableMovieResponse;
+import reactor.core.publisher.Mono;
+
+/** {@link FetchMovieUseCase} 의 non-blocking 버전. 영화 목록 조회만 제공한다. */
+public interface ReactiveFetchMovieUseCase {
+
+  Mono<PageableMovieResponse> fetchFromClient(int page);
+
+  Mono<PageableMovieResponse> fetchFromDb(int page);
+}
@@ -0,0 +1,17 @@
+package com.shokoku.streamfix.movie.response;
+
+import java.util.List;
+
+/**
+ * 여러 TMDB 페이지를 합친 영화 목록
+ *
+ * <p>deadline 안에 받지 못했거나 실패한 페이지는 missingPages 에 담고 partial 을 true 로 둔다.
+ */
+public record AggregatedMovieResponse(
+    List<MovieResponse> movieResponses,
+    int fromPage,
+    int toPage,
+    boolean hasNext,
+    Integer totalPages,
+    boolean partial,
+    List<Integer> missingPages) {}
@@ -0,0 +1,3 @@
+package com.shokoku.streamfix.movie.response;
+
+public record InsertMovieResponse(int inserted, int skipped) {}
@@ -3,4 +3,14 @@ package com.shokoku.streamfix.movie.response;
 import java.util.List;
 
 public record PageableMovieResponse(
-    List<MovieResponse> movieResponses, int page, boolean hasNext) {}
+    List<MovieResponse> movieResponses,
+    int page,
+    boolean hasNext,
+    String continuationToken,
+    Long totalCount,
+    Integer totalPages) {
+
+  public PageableMovieResponse(List<MovieResponse> movieResponses, int page, boolean hasNext) {
+    this(movieResponses, page, hasNext, null, null, null);
+  }
+}
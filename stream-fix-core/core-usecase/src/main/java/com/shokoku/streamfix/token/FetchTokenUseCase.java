@@ -8,5 +8,7 @@ public interface FetchTokenUseCase {
 
   String getTokenFromKakao(String code);
 
+  UserResponse authenticate(String accessToken);
+
   UserResponse findUserByAccessToken(String accessToken);
 }